@@ -0,0 +1,97 @@
+package com.greenkawsay.datagen;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Writes rows in the PostgreSQL COPY text format: tab separated, \N for NULL, backslash escapes
+ */
+final class CopyRows implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Writer out;
+    private boolean rowStarted;
+    private long rows;
+
+    CopyRows(OutputStream copyStream) {
+        this.out = new BufferedWriter(new OutputStreamWriter(copyStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    CopyRows add(String value) throws IOException {
+        separate();
+        if (value == null) {
+            out.write("\\N");
+            return this;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> out.write("\\\\");
+                case '\t' -> out.write("\\t");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                default -> out.write(c);
+            }
+        }
+        return this;
+    }
+
+    CopyRows add(UUID value) throws IOException {
+        return raw(value == null ? "\\N" : value.toString());
+    }
+
+    CopyRows add(long value) throws IOException {
+        return raw(Long.toString(value));
+    }
+
+    CopyRows add(boolean value) throws IOException {
+        return raw(value ? "t" : "f");
+    }
+
+    CopyRows add(LocalDateTime value) throws IOException {
+        return raw(value.toString());
+    }
+
+    /**
+     * A DECIMAL(10,2) value given in hundredths
+     */
+    CopyRows addCents(long cents) throws IOException {
+        return raw(cents / 100 + "." + (cents % 100 < 10 ? "0" : "") + cents % 100);
+    }
+
+    void endRow() throws IOException {
+        out.write('\n');
+        rowStarted = false;
+        rows++;
+    }
+
+    long rows() {
+        return rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private CopyRows raw(String value) throws IOException {
+        separate();
+        out.write(value);
+        return this;
+    }
+
+    private void separate() throws IOException {
+        if (rowStarted) {
+            out.write('\t');
+        }
+        rowStarted = true;
+    }
+}
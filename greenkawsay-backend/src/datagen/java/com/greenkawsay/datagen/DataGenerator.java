@@ -0,0 +1,151 @@
+package com.greenkawsay.datagen;
+
+import com.greenkawsay.datagen.DatasetTables.Table;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fills a Flyway-migrated schema with a large, skewed and reproducible dataset
+ * Chunks are streamed through COPY on parallel connections, each in its own transaction;
+ * the schema must already exist, run the application once or Flyway migrate first
+ * mvn -Pdatagen verify -Ddatagen.args="scale=0.1 truncate"
+ */
+public final class DataGenerator {
+
+    private static final int COPY_BUFFER_SIZE = 1 << 16;
+
+    private final DatasetSpec spec;
+    private final DatasetTables tables;
+
+    DataGenerator(DatasetSpec spec) {
+        this.spec = spec;
+        this.tables = new DatasetTables(spec);
+    }
+
+    public static void main(String[] args) {
+        DatasetSpec spec = DatasetSpec.parse(args);
+        try {
+            new DataGenerator(spec).run();
+        } catch (Exception ex) {
+            System.err.println("Data generation failed: " + ex.getMessage());
+            ex.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    void run() throws SQLException, InterruptedException, ExecutionException {
+        System.out.printf("Generating seed=%d categories=%d users=%d products=%d wishlists=%d "
+                        + "wishlist-items~%d reviews~%d with %d threads%n",
+                spec.seed(), spec.categories(), spec.users(), spec.products(), spec.wishlists(),
+                spec.wishlistItems(), spec.reviews(), spec.threads());
+        long started = System.nanoTime();
+        if (spec.truncate()) {
+            truncate();
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(spec.threads());
+        try {
+            for (List<Table> phase : tables.phases()) {
+                load(phase, executor);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        analyze();
+        System.out.printf("Done in %d s%n", (System.nanoTime() - started) / 1_000_000_000L);
+    }
+
+    /**
+     * Load every chunk of the phase's tables and wait for all of them before the next phase
+     */
+    private void load(List<Table> phase, ExecutorService executor) throws InterruptedException, ExecutionException {
+        long started = System.nanoTime();
+        Map<Table, AtomicLong> rows = new LinkedHashMap<>();
+        List<Future<?>> chunks = new ArrayList<>();
+        for (Table table : phase) {
+            AtomicLong tableRows = new AtomicLong();
+            rows.put(table, tableRows);
+            long chunkCount = (table.drivingRows() + spec.chunkRows() - 1) / spec.chunkRows();
+            for (long chunk = 0; chunk < chunkCount; chunk++) {
+                long index = chunk;
+                chunks.add(executor.submit(() -> {
+                    tableRows.addAndGet(copyChunk(table, index));
+                    return null;
+                }));
+            }
+        }
+        try {
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+        } catch (ExecutionException ex) {
+            chunks.forEach(chunk -> chunk.cancel(true));
+            throw ex;
+        }
+        long millis = (System.nanoTime() - started) / 1_000_000L;
+        rows.forEach((table, count) -> System.out.printf("  %-15s %,12d rows%n", table.name(), count.get()));
+        System.out.printf("  phase loaded in %,d ms%n", millis);
+    }
+
+    private long copyChunk(Table table, long chunk) throws SQLException, IOException {
+        long from = chunk * spec.chunkRows();
+        long to = Math.min(table.drivingRows(), from + spec.chunkRows());
+        SplittableRandom random = new SplittableRandom(tables.ids().chunkSeed(table.entity(), chunk));
+        try (Connection connection = connect()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET LOCAL synchronous_commit = off");
+            }
+            PGCopyOutputStream copy = new PGCopyOutputStream(connection.unwrap(PGConnection.class),
+                    table.copySql(), COPY_BUFFER_SIZE);
+            CopyRows rows = new CopyRows(copy);
+            try {
+                table.writer().write(from, to, random, rows);
+                rows.close();
+            } catch (IOException | RuntimeException ex) {
+                if (copy.isActive()) {
+                    copy.cancelCopy();
+                }
+                throw ex;
+            }
+            connection.commit();
+            return rows.rows();
+        }
+    }
+
+    private void truncate() throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE wishlist_items, reviews, wishlists, addresses, product_images, products, "
+                    + "user_profiles, categories CASCADE");
+        }
+    }
+
+    private void analyze() throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            for (List<Table> phase : tables.phases()) {
+                for (Table table : phase) {
+                    statement.execute("ANALYZE " + table.name());
+                }
+            }
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(spec.url(), spec.username(), spec.password());
+    }
+}
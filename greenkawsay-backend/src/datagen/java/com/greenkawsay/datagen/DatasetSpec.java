@@ -0,0 +1,118 @@
+package com.greenkawsay.datagen;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sizes and shape of the generated dataset, read from name=value arguments (a leading -- is optional)
+ * The same seed, sizes and chunk rows always produce the same rows, whatever the thread count
+ */
+public record DatasetSpec(
+        String url,
+        String username,
+        String password,
+        long seed,
+        int categories,
+        int categoryDepth,
+        int users,
+        int vendorEvery,
+        int products,
+        double wishlistsPerUser,
+        long wishlistItems,
+        long reviews,
+        int maxReviewsPerProduct,
+        double zipfExponent,
+        int threads,
+        int chunkRows,
+        LocalDateTime epoch,
+        boolean truncate) {
+
+    private static final int FULL_CATEGORIES = 2_000;
+    private static final int FULL_USERS = 500_000;
+    private static final int FULL_PRODUCTS = 1_000_000;
+    private static final long FULL_WISHLIST_ITEMS = 5_000_000;
+    private static final long FULL_REVIEWS = 2_000_000;
+
+    public DatasetSpec {
+        if (categories < 1 || users < vendorEvery || products < 1 || vendorEvery < 1) {
+            throw new IllegalArgumentException("Dataset needs at least one category, product and vendor");
+        }
+        if (categoryDepth < 1 || threads < 1 || chunkRows < 1 || wishlistsPerUser < 1) {
+            throw new IllegalArgumentException("category-depth, threads, chunk-rows and wishlists-per-user must be positive");
+        }
+    }
+
+    /**
+     * Defaults give the 1M products / 500k users / 5M wishlist items dataset; scale shrinks or grows
+     * every count at once and explicit counts override it
+     */
+    public static DatasetSpec parse(String[] args) {
+        Map<String, String> options = options(args);
+        double scale = Double.parseDouble(options.getOrDefault("scale", "1"));
+        return new DatasetSpec(
+                options.getOrDefault("url", env("SPRING_DATASOURCE_URL", "jdbc:postgresql://localhost:5432/greenkawsay")),
+                options.getOrDefault("username", env("SPRING_DATASOURCE_USERNAME", "postgres")),
+                options.getOrDefault("password", env("SPRING_DATASOURCE_PASSWORD", "postgres")),
+                Long.parseLong(options.getOrDefault("seed", "42")),
+                intOption(options, "categories", Math.max(1, (int) (FULL_CATEGORIES * Math.sqrt(scale)))),
+                intOption(options, "category-depth", 6),
+                intOption(options, "users", (int) Math.max(25, FULL_USERS * scale)),
+                intOption(options, "vendor-every", 25),
+                intOption(options, "products", (int) Math.max(1, FULL_PRODUCTS * scale)),
+                Double.parseDouble(options.getOrDefault("wishlists-per-user", "1.4")),
+                longOption(options, "wishlist-items", (long) (FULL_WISHLIST_ITEMS * scale)),
+                longOption(options, "reviews", (long) (FULL_REVIEWS * scale)),
+                intOption(options, "max-reviews-per-product", 5_000),
+                Double.parseDouble(options.getOrDefault("zipf-exponent", "1.07")),
+                intOption(options, "threads", Runtime.getRuntime().availableProcessors()),
+                intOption(options, "chunk-rows", 50_000),
+                LocalDateTime.parse(options.getOrDefault("epoch", "2025-01-01T00:00:00")),
+                Boolean.parseBoolean(options.getOrDefault("truncate", "false")));
+    }
+
+    /**
+     * name=value arguments by name; a bare name is a true flag
+     */
+    public static Map<String, String> options(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String option = arg.startsWith("--") ? arg.substring(2) : arg;
+            int split = option.indexOf('=');
+            options.put(split < 0 ? option : option.substring(0, split), split < 0 ? "true" : option.substring(split + 1));
+        }
+        return options;
+    }
+
+    public int vendors() {
+        return users / vendorEvery;
+    }
+
+    /**
+     * The last user of every block of vendor-every users is a vendor, so user 0 stays free for the admin
+     */
+    public int vendorUser(int vendor) {
+        return vendor * vendorEvery + vendorEvery - 1;
+    }
+
+    public boolean isVendor(long user) {
+        return user % vendorEvery == vendorEvery - 1;
+    }
+
+    public long wishlists() {
+        return (long) (users * wishlistsPerUser);
+    }
+
+    private static int intOption(Map<String, String> options, String name, int fallback) {
+        return options.containsKey(name) ? Integer.parseInt(options.get(name)) : fallback;
+    }
+
+    private static long longOption(Map<String, String> options, String name, long fallback) {
+        return options.containsKey(name) ? Long.parseLong(options.get(name)) : fallback;
+    }
+
+    private static String env(String name, String fallback) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? fallback : value;
+    }
+}
@@ -0,0 +1,375 @@
+package com.greenkawsay.datagen;
+
+import com.greenkawsay.datagen.DeterministicIds.Entity;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Row generators for every table, grouped in phases that respect the foreign keys
+ * Each table is generated in chunks of its driving entity (a product's images, a wishlist's items),
+ * so rows with a uniqueness constraint on the driving key never span two chunks
+ */
+final class DatasetTables {
+
+    private static final int MAX_IMAGES_PER_PRODUCT = 4;
+    private static final int MAX_ADDRESSES_PER_USER = 3;
+    private static final int MAX_ITEMS_PER_WISHLIST = 500;
+    private static final long REVIEW_SLOTS_PER_PRODUCT = 1L << 24;
+    private static final int DAYS_OF_HISTORY = 3 * 365;
+    // Unhappy buyers make the tail of the rating distribution J-shaped rather than normal
+    private static final int ONE_STAR_PERCENT = 7;
+    private static final double CATEGORY_BRANCHING = 3.0;
+    private static final String CDN = "https://cdn.greenkawsay.test/products/";
+
+    private static final String[] ADJECTIVES = {"Organic", "Bamboo", "Recycled", "Handwoven", "Compostable",
+            "Reusable", "Fair Trade", "Andean", "Solar", "Upcycled", "Natural", "Biodegradable", "Local", "Alpaca",
+            "Vegan", "Zero Waste"};
+    private static final String[] NOUNS = {"Tote Bag", "Toothbrush", "Water Bottle", "Coffee", "Quinoa", "Soap Bar",
+            "Notebook", "Scarf", "Lunch Box", "Straw Set", "Backpack", "Candle", "Shampoo Bar", "Beeswax Wrap",
+            "Chocolate", "Hat", "Blanket", "Planter", "Cutlery Set", "Tea"};
+    private static final String[] BRANDS = {"Inti", "Killa", "Sumaq", "Pachamama", "Wayra", "Yaku", "Tika", "Munay",
+            "Ayni", "Qori", "Sacha", "Kawsay", "Allpa", "Nina", "Chaska", "Urpi"};
+    private static final String[] CATEGORY_WORDS = {"Kitchen", "Personal Care", "Home", "Fashion", "Food",
+            "Garden", "Office", "Kids", "Travel", "Cleaning", "Pets", "Beauty", "Textiles", "Crafts", "Energy"};
+    private static final String[] FIRST_NAMES = {"Lucia", "Mateo", "Valeria", "Santiago", "Camila", "Diego", "Sofia",
+            "Joaquin", "Ximena", "Rodrigo", "Daniela", "Alonso", "Mariana", "Sebastian", "Fernanda", "Gabriel"};
+    private static final String[] LAST_NAMES = {"Quispe", "Flores", "Huaman", "Rojas", "Mamani", "Garcia", "Chavez",
+            "Torres", "Ramos", "Vargas", "Castillo", "Mendoza", "Condori", "Espinoza", "Gutierrez", "Salazar"};
+    private static final String[] STREETS = {"Av. Larco", "Jr. de la Union", "Av. Arequipa", "Calle Los Pinos",
+            "Av. Brasil", "Jr. Puno", "Av. Grau", "Calle Real", "Av. El Sol", "Jr. Junin"};
+    // City, region and zip prefix, most populous first so the Zipf ranks follow population
+    private static final String[][] CITIES = {{"Lima", "Lima", "15"}, {"Arequipa", "Arequipa", "04"},
+            {"Trujillo", "La Libertad", "13"}, {"Chiclayo", "Lambayeque", "14"}, {"Piura", "Piura", "20"},
+            {"Iquitos", "Loreto", "16"}, {"Cusco", "Cusco", "08"}, {"Huancayo", "Junin", "12"},
+            {"Tacna", "Tacna", "23"}, {"Pucallpa", "Ucayali", "25"}, {"Ica", "Ica", "11"},
+            {"Juliaca", "Puno", "21"}, {"Cajamarca", "Cajamarca", "06"}, {"Ayacucho", "Ayacucho", "05"},
+            {"Huaraz", "Ancash", "02"}, {"Puno", "Puno", "21"}};
+    private static final String[] POSITIVE_COMMENTS = {"Great quality, will buy again", "Exactly as described",
+            "Lovely packaging and no plastic", "Fast delivery and excellent product"};
+    private static final String[] NEUTRAL_COMMENTS = {"Decent for the price", "Good, but smaller than expected",
+            "Works fine"};
+    private static final String[] NEGATIVE_COMMENTS = {"Broke after a week", "Not worth the price",
+            "Arrived damaged"};
+
+    /**
+     * A table generated in chunks of its driving entity, from row [from, to) of that entity
+     */
+    record Table(String name, Entity entity, String columns, long drivingRows, ChunkWriter writer) {
+
+        String copySql() {
+            return "COPY " + name + " (" + columns + ") FROM STDIN";
+        }
+    }
+
+    @FunctionalInterface
+    interface ChunkWriter {
+        void write(long from, long to, SplittableRandom random, CopyRows rows) throws IOException;
+    }
+
+    private final DatasetSpec spec;
+    private final DeterministicIds ids;
+    private final int[] categoryLevelStart;
+    private final ZipfPopularity categoryPopularity;
+    private final ZipfPopularity vendorPopularity;
+    private final ZipfPopularity productPopularity;
+    private final ZipfPopularity userPopularity;
+    private final ZipfPopularity cityPopularity;
+
+    DatasetTables(DatasetSpec spec) {
+        this.spec = spec;
+        this.ids = new DeterministicIds(spec.seed());
+        this.categoryLevelStart = categoryLevels(spec.categories(), spec.categoryDepth());
+        this.categoryPopularity = new ZipfPopularity(spec.categories(), 0.8);
+        this.vendorPopularity = new ZipfPopularity(spec.vendors(), spec.zipfExponent());
+        this.productPopularity = new ZipfPopularity(spec.products(), spec.zipfExponent());
+        this.userPopularity = new ZipfPopularity(spec.users(), 0.9);
+        this.cityPopularity = new ZipfPopularity(CITIES.length, 1.2);
+    }
+
+    DeterministicIds ids() {
+        return ids;
+    }
+
+    /**
+     * Tables in load order; the tables of a phase only reference tables of earlier phases
+     */
+    List<List<Table>> phases() {
+        return List.of(
+                List.of(categories(), userProfiles()),
+                List.of(products(), addresses(), wishlists()),
+                List.of(productImages(), wishlistItems(), reviews()));
+    }
+
+    private Table categories() {
+        return new Table("categories", Entity.CATEGORY,
+                "id, name, slug, description, parent_id, created_at, updated_at",
+                spec.categories(), (from, to, random, rows) -> {
+                    for (int i = (int) from; i < to; i++) {
+                        int level = levelOf(i);
+                        UUID parent = level == 0 ? null : ids.id(Entity.CATEGORY, categoryLevelStart[level - 1]
+                                + random.nextInt(categoryLevelStart[level] - categoryLevelStart[level - 1]));
+                        String word = CATEGORY_WORDS[i % CATEGORY_WORDS.length];
+                        LocalDateTime created = before(spec.epoch(), random);
+                        rows.add(ids.id(Entity.CATEGORY, i))
+                                .add(word + " " + (i / CATEGORY_WORDS.length + 1))
+                                .add("gen-" + i)
+                                .add(word + " products, level " + level)
+                                .add(parent)
+                                .add(created)
+                                .add(created)
+                                .endRow();
+                    }
+                });
+    }
+
+    private Table userProfiles() {
+        return new Table("user_profiles", Entity.USER,
+                "id, keycloak_id, email, first_name, last_name, avatar_url, role, impact_score_total, is_active, "
+                        + "created_at, updated_at",
+                spec.users(), (from, to, random, rows) -> {
+                    for (long i = from; i < to; i++) {
+                        LocalDateTime created = before(spec.epoch(), random);
+                        rows.add(ids.id(Entity.USER, i))
+                                .add(ids.id(Entity.KEYCLOAK_USER, i).toString())
+                                .add("user" + i + "@greenkawsay.test")
+                                .add(pick(FIRST_NAMES, random))
+                                .add(pick(LAST_NAMES, random))
+                                .add(random.nextInt(4) == 0 ? "https://cdn.greenkawsay.test/avatars/" + i + ".jpg" : null)
+                                .add(spec.isVendor(i) ? "vendor" : i == 0 ? "admin" : "customer")
+                                .addCents((long) (Math.pow(random.nextDouble(), 3) * 50_000))
+                                .add(random.nextInt(50) != 0)
+                                .add(created)
+                                .add(created)
+                                .endRow();
+                    }
+                });
+    }
+
+    private Table products() {
+        return new Table("products", Entity.PRODUCT,
+                "id, name, description, price, category_id, user_id, stock_quantity, is_active, created_by, "
+                        + "updated_by, created_at, updated_at",
+                spec.products(), (from, to, random, rows) -> {
+                    for (long i = from; i < to; i++) {
+                        UUID vendor = ids.id(Entity.USER, spec.vendorUser(vendorPopularity.sample(random)));
+                        String noun = pick(NOUNS, random);
+                        LocalDateTime created = before(spec.epoch(), random);
+                        rows.add(ids.id(Entity.PRODUCT, i))
+                                .add(pick(ADJECTIVES, random) + " " + noun + " " + pick(BRANDS, random))
+                                .add(random.nextInt(10) == 0 ? null : "Sustainable " + noun.toLowerCase() + " made in Peru")
+                                .addCents(price(random))
+                                .add(ids.id(Entity.CATEGORY, categoryPopularity.sample(random)))
+                                .add(vendor)
+                                .add(stock(random))
+                                .add(random.nextInt(25) != 0)
+                                .add(vendor)
+                                .add(vendor)
+                                .add(created)
+                                .add(created.plusSeconds(random.nextLong(30L * 86_400)))
+                                .endRow();
+                    }
+                });
+    }
+
+    private Table productImages() {
+        return new Table("product_images", Entity.PRODUCT_IMAGE,
+                "id, product_id, image_url, thumbnail_url, webp_url, is_primary, created_at, updated_at",
+                spec.products(), (from, to, random, rows) -> {
+                    for (long product = from; product < to; product++) {
+                        UUID productId = ids.id(Entity.PRODUCT, product);
+                        int images = 1 + random.nextInt(MAX_IMAGES_PER_PRODUCT);
+                        LocalDateTime created = before(spec.epoch(), random);
+                        for (int k = 0; k < images; k++) {
+                            String base = CDN + productId + "/" + k;
+                            rows.add(ids.id(Entity.PRODUCT_IMAGE, product * MAX_IMAGES_PER_PRODUCT + k))
+                                    .add(productId)
+                                    .add(base + ".jpg")
+                                    .add(base + "-thumb.jpg")
+                                    .add(base + ".webp")
+                                    .add(k == 0)
+                                    .add(created.plusMinutes(k))
+                                    .add(created.plusMinutes(k))
+                                    .endRow();
+                        }
+                    }
+                });
+    }
+
+    private Table addresses() {
+        return new Table("addresses", Entity.ADDRESS,
+                "id, user_id, street, city, state, zip_code, country, is_default, created_at, updated_at",
+                spec.users(), (from, to, random, rows) -> {
+                    for (long user = from; user < to; user++) {
+                        int addresses = 1 + (random.nextInt(10) < 3 ? 1 : 0) + (random.nextInt(20) == 0 ? 1 : 0);
+                        for (int k = 0; k < addresses; k++) {
+                            String[] city = CITIES[cityPopularity.sampleRank(random)];
+                            LocalDateTime created = before(spec.epoch(), random);
+                            rows.add(ids.id(Entity.ADDRESS, user * MAX_ADDRESSES_PER_USER + k))
+                                    .add(ids.id(Entity.USER, user))
+                                    .add(pick(STREETS, random) + " " + (100 + random.nextInt(2_900)))
+                                    .add(city[0])
+                                    .add(city[1])
+                                    .add(city[2] + String.format("%03d", random.nextInt(100)))
+                                    .add("Peru")
+                                    .add(k == 0)
+                                    .add(created)
+                                    .add(created)
+                                    .endRow();
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Every user has a default wishlist; the extra ones go to Zipf-distributed power users
+     */
+    private Table wishlists() {
+        return new Table("wishlists", Entity.WISHLIST,
+                "id, user_id, name, description, is_public, created_at, updated_at",
+                spec.wishlists(), (from, to, random, rows) -> {
+                    for (long w = from; w < to; w++) {
+                        boolean first = w < spec.users();
+                        long owner = first ? w : userPopularity.sample(random);
+                        LocalDateTime created = before(spec.epoch(), random);
+                        rows.add(ids.id(Entity.WISHLIST, w))
+                                .add(ids.id(Entity.USER, owner))
+                                .add(first ? "Favorites" : "List " + (w - spec.users()))
+                                .add((String) null)
+                                .add(random.nextInt(7) == 0)
+                                .add(created)
+                                .add(created)
+                                .endRow();
+                    }
+                });
+    }
+
+    /**
+     * Wishlist sizes are geometric around the requested mean; products follow the Zipf popularity
+     */
+    private Table wishlistItems() {
+        double mean = (double) spec.wishlistItems() / spec.wishlists();
+        double logContinue = Math.log(mean / (mean + 1));
+        int cap = Math.min(MAX_ITEMS_PER_WISHLIST, spec.products());
+        return new Table("wishlist_items", Entity.WISHLIST_ITEM,
+                "id, wishlist_id, product_id, added_at, created_at, updated_at",
+                spec.wishlists(), (from, to, random, rows) -> {
+                    Set<Integer> chosen = new HashSet<>();
+                    for (long w = from; w < to; w++) {
+                        int items = mean <= 0 ? 0 : Math.min(cap, (int) (Math.log(1 - random.nextDouble()) / logContinue));
+                        UUID wishlistId = ids.id(Entity.WISHLIST, w);
+                        chosen.clear();
+                        for (int attempt = 0; chosen.size() < items && attempt < items * 4; attempt++) {
+                            int product = productPopularity.sample(random);
+                            if (chosen.add(product)) {
+                                LocalDateTime added = before(spec.epoch(), random);
+                                rows.add(ids.id(Entity.WISHLIST_ITEM, w * MAX_ITEMS_PER_WISHLIST + chosen.size()))
+                                        .add(wishlistId)
+                                        .add(ids.id(Entity.PRODUCT, product))
+                                        .add(added)
+                                        .add(added)
+                                        .add(added)
+                                        .endRow();
+                            }
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Review counts follow product popularity; ratings are J-shaped and shifted by a per-product quality
+     */
+    private Table reviews() {
+        return new Table("reviews", Entity.REVIEW,
+                "id, user_id, product_id, rating, comment, created_by, created_at, updated_at",
+                spec.products(), (from, to, random, rows) -> {
+                    Set<Integer> reviewers = new HashSet<>();
+                    int cap = Math.min(spec.maxReviewsPerProduct(), spec.users() / 2);
+                    for (long product = from; product < to; product++) {
+                        double expected = spec.reviews() * productPopularity.share((int) product);
+                        int count = (int) Math.min(cap, Math.floor(expected) + (random.nextDouble() < expected % 1 ? 1 : 0));
+                        double quality = random.nextGaussian() * 0.6;
+                        UUID productId = ids.id(Entity.PRODUCT, product);
+                        reviewers.clear();
+                        while (reviewers.size() < count) {
+                            int user = random.nextInt(spec.users());
+                            if (!reviewers.add(user)) {
+                                continue;
+                            }
+                            int rating = random.nextInt(100) < ONE_STAR_PERCENT ? 1
+                                    : (int) Math.max(1, Math.min(5, Math.round(4.1 + quality + random.nextGaussian() * 1.1)));
+                            UUID userId = ids.id(Entity.USER, user);
+                            LocalDateTime created = before(spec.epoch(), random);
+                            rows.add(ids.id(Entity.REVIEW, product * REVIEW_SLOTS_PER_PRODUCT + reviewers.size()))
+                                    .add(userId)
+                                    .add(productId)
+                                    .add(rating)
+                                    .add(random.nextInt(100) < 35 ? comment(rating, random) : null)
+                                    .add(userId)
+                                    .add(created)
+                                    .add(created)
+                                    .endRow();
+                        }
+                    }
+                });
+    }
+
+    /**
+     * First index of every tree level; level sizes grow geometrically so most categories are deep leaves
+     */
+    private static int[] categoryLevels(int categories, int requestedDepth) {
+        int depth = Math.min(requestedDepth, categories);
+        double weights = 0;
+        for (int level = 0; level < depth; level++) {
+            weights += Math.pow(CATEGORY_BRANCHING, level);
+        }
+        int[] start = new int[depth + 1];
+        for (int level = 0; level < depth; level++) {
+            int size = Math.max(1, (int) (categories * Math.pow(CATEGORY_BRANCHING, level) / weights));
+            start[level + 1] = Math.min(categories - (depth - level - 1), start[level] + size);
+        }
+        start[depth] = categories;
+        return start;
+    }
+
+    private int levelOf(int category) {
+        int level = 0;
+        while (category >= categoryLevelStart[level + 1]) {
+            level++;
+        }
+        return level;
+    }
+
+    private LocalDateTime before(LocalDateTime epoch, SplittableRandom random) {
+        return epoch.minusSeconds(random.nextLong(DAYS_OF_HISTORY * 86_400L));
+    }
+
+    /**
+     * Log-normal prices in hundredths, median around 20.00
+     */
+    private static long price(SplittableRandom random) {
+        double value = Math.exp(3.0 + random.nextGaussian() * 0.8);
+        return Math.max(50, Math.min(999_999, Math.round(value * 100)));
+    }
+
+    private static int stock(SplittableRandom random) {
+        int bucket = random.nextInt(100);
+        if (bucket < 4) {
+            return 0;
+        }
+        return bucket < 12 ? 1 + random.nextInt(9) : 10 + random.nextInt(491);
+    }
+
+    private static String comment(int rating, SplittableRandom random) {
+        return pick(rating >= 4 ? POSITIVE_COMMENTS : rating == 3 ? NEUTRAL_COMMENTS : NEGATIVE_COMMENTS, random);
+    }
+
+    private static String pick(String[] values, SplittableRandom random) {
+        return values[random.nextInt(values.length)];
+    }
+}
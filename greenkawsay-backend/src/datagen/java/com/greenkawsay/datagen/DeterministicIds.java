@@ -0,0 +1,51 @@
+package com.greenkawsay.datagen;
+
+import java.util.UUID;
+
+/**
+ * Version 4 style UUIDs derived from (seed, entity, index), so any table can reference
+ * a row of another by index without keeping the generated keys around
+ */
+public final class DeterministicIds {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    public enum Entity {
+        CATEGORY, USER, KEYCLOAK_USER, PRODUCT, PRODUCT_IMAGE, ADDRESS, WISHLIST, WISHLIST_ITEM, REVIEW;
+
+        long salt() {
+            return mix((ordinal() + 1) * GOLDEN_GAMMA);
+        }
+    }
+
+    private final long seed;
+
+    public DeterministicIds(long seed) {
+        this.seed = seed;
+    }
+
+    public UUID id(Entity entity, long index) {
+        long high = mix(seed ^ entity.salt() ^ (index * GOLDEN_GAMMA));
+        long low = mix(high ^ index);
+        high = (high & ~0xF000L) | 0x4000L;
+        low = (low & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        return new UUID(high, low);
+    }
+
+    /**
+     * Seed for the random stream of one chunk of a table, independent of which thread writes it
+     */
+    long chunkSeed(Entity entity, long chunk) {
+        return mix(seed ^ entity.salt() ^ mix(chunk + GOLDEN_GAMMA));
+    }
+
+    /**
+     * SplitMix64 finalizer
+     */
+    static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,78 @@
+package com.greenkawsay.datagen;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Zipf distribution over n items, sampled by binary search on a precomputed CDF
+ * Ranks are scattered over item indexes by a fixed modular permutation, so the most popular
+ * products are not simply the first ones generated and do not share a category chunk
+ */
+public final class ZipfPopularity {
+
+    private static final long SCATTER_STRIDE = 2_654_435_761L;
+
+    private final int size;
+    private final double[] cdf;
+    private final long stride;
+    private final long inverseStride;
+
+    public ZipfPopularity(int size, double exponent) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Zipf distribution needs at least one item");
+        }
+        this.size = size;
+        this.cdf = new double[size];
+        double total = 0;
+        for (int rank = 0; rank < size; rank++) {
+            total += 1.0 / Math.pow(rank + 1, exponent);
+            cdf[rank] = total;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cdf[rank] /= total;
+        }
+        cdf[size - 1] = 1.0;
+        long candidate = SCATTER_STRIDE % size;
+        while (BigInteger.valueOf(candidate).gcd(BigInteger.valueOf(size)).intValue() != 1) {
+            candidate++;
+        }
+        this.stride = candidate;
+        this.inverseStride = BigInteger.valueOf(candidate).modInverse(BigInteger.valueOf(size)).longValue();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Draw a rank, 0 being the most popular
+     */
+    public int sampleRank(SplittableRandom random) {
+        int found = Arrays.binarySearch(cdf, random.nextDouble());
+        return Math.min(found >= 0 ? found : -found - 1, size - 1);
+    }
+
+    /**
+     * Draw an item index, with popularity scattered over the index space
+     */
+    public int sample(SplittableRandom random) {
+        return indexOf(sampleRank(random));
+    }
+
+    /**
+     * Probability mass of the item at the given index
+     */
+    double share(int index) {
+        int rank = rankOf(index);
+        return rank == 0 ? cdf[0] : cdf[rank] - cdf[rank - 1];
+    }
+
+    int indexOf(int rank) {
+        return (int) ((rank * stride) % size);
+    }
+
+    int rankOf(int index) {
+        return (int) ((index * inverseStride) % size);
+    }
+}
@@ -0,0 +1,70 @@
+package com.greenkawsay.catalog.infrastructure.adapters.in.web.commons;
+
+import com.greenkawsay.catalog.domain.exceptions.ProductNotFoundException;
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.shared.domain.exceptions.DomainException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of GET /products/{id} for unknown IDs, from the throw in the service
+ * to the ErrorResponse built by GlobalExceptionHandler, with and without stack trace capture
+ * The throw happens under a call stack as deep as a request through the servlet filter chain
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(1)
+public class ProductNotFoundBenchmark {
+
+    private static final int REQUEST_STACK_DEPTH = 120;
+
+    @Param({"true", "false"})
+    public boolean stackTraces;
+
+    private GlobalExceptionHandler handler;
+    private MockHttpServletRequest request;
+    private ProductId productId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DomainException.setStackTracesEnabled(stackTraces);
+        handler = new GlobalExceptionHandler();
+        productId = ProductId.generate();
+        request = new MockHttpServletRequest("GET", "/api/v1/products/" + productId.getValue());
+    }
+
+    @Benchmark
+    public ResponseEntity<GlobalExceptionHandler.ErrorResponse> unknownProduct() {
+        try {
+            return dispatch(REQUEST_STACK_DEPTH);
+        } catch (ProductNotFoundException ex) {
+            return handler.handleDomainException(ex, request);
+        }
+    }
+
+    private ResponseEntity<GlobalExceptionHandler.ErrorResponse> dispatch(int depth) {
+        if (depth == 0) {
+            throw new ProductNotFoundException(productId);
+        }
+        return dispatch(depth - 1);
+    }
+}
@@ -0,0 +1,155 @@
+package com.greenkawsay.shared.infrastructure.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the log statements issued while serving one wishlist request,
+ * with the levels and appenders of application.yml versus the prod profile of logback-spring.xml
+ * Both configurations write to /dev/null so every event still pays for encoding and the write call
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(8)
+public class LoggingConfigurationBenchmark {
+
+    private static final String CONSOLE_PATTERN =
+            "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%15.15t] %-40.40logger{39} : %m%n";
+
+    @Param({"current", "prod"})
+    public String configuration;
+
+    private LoggerContext context;
+    private Logger service;
+    private Logger security;
+    private Logger sql;
+    private Logger binder;
+    private UUID wishlistId;
+    private UUID productId;
+
+    @Setup(org.openjdk.jmh.annotations.Level.Trial)
+    public void setUp() throws FileNotFoundException {
+        context = new LoggerContext();
+        context.putObject(Environment.class.getName(), new StandardEnvironment());
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+
+        if ("prod".equals(configuration)) {
+            LogSamplingTurboFilter sampling = new LogSamplingTurboFilter();
+            sampling.setContext(context);
+            sampling.addLogger("com.greenkawsay.users.application.services");
+            sampling.setLevel("INFO");
+            sampling.setRate(100);
+            sampling.start();
+            context.addTurboFilter(sampling);
+
+            StructuredLogEncoder encoder = new StructuredLogEncoder();
+            encoder.setContext(context);
+            encoder.setFormat("ecs");
+            encoder.start();
+
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(1638);
+            async.setNeverBlock(true);
+            async.setIncludeCallerData(false);
+            async.addAppender(sink(encoder));
+            async.start();
+            root.addAppender(async);
+
+            context.getLogger("com.greenkawsay").setLevel(Level.INFO);
+            context.getLogger("org.springframework.security").setLevel(Level.WARN);
+            context.getLogger("org.hibernate.SQL").setLevel(Level.WARN);
+            context.getLogger("org.hibernate.type.descriptor.sql.BasicBinder").setLevel(Level.WARN);
+        } else {
+            PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+            encoder.setContext(context);
+            encoder.setPattern(CONSOLE_PATTERN);
+            encoder.start();
+            root.addAppender(sink(encoder));
+
+            context.getLogger("com.greenkawsay").setLevel(Level.DEBUG);
+            context.getLogger("org.springframework.security").setLevel(Level.DEBUG);
+            context.getLogger("org.hibernate.SQL").setLevel(Level.DEBUG);
+            context.getLogger("org.hibernate.type.descriptor.sql.BasicBinder").setLevel(Level.TRACE);
+        }
+
+        service = context.getLogger("com.greenkawsay.users.application.services.WishlistApplicationService");
+        security = context.getLogger("org.springframework.security.web.FilterChainProxy");
+        sql = context.getLogger("org.hibernate.SQL");
+        binder = context.getLogger("org.hibernate.type.descriptor.sql.BasicBinder");
+        wishlistId = UUID.randomUUID();
+        productId = UUID.randomUUID();
+    }
+
+    @TearDown(org.openjdk.jmh.annotations.Level.Trial)
+    public void tearDown() {
+        context.stop();
+    }
+
+    /**
+     * Mirrors POST /wishlists/{id}/items: security filter chain, service logs and one insert with bound parameters
+     */
+    @Benchmark
+    public void addItemToWishlistRequest() {
+        security.debug("Securing POST /api/v1/wishlists/{}/items", wishlistId);
+        security.debug("Secured POST /api/v1/wishlists/{}/items", wishlistId);
+        service.info("Adding item to wishlist with ID: {}", wishlistId);
+        sql.debug("select w1_0.id,w1_0.user_id,w1_0.name from wishlists w1_0 where w1_0.id=?");
+        binder.trace("binding parameter [{}] as [{}] - [{}]", 1, "UUID", wishlistId);
+        sql.debug("insert into wishlist_items (wishlist_id,product_id,added_at) values (?,?,?)");
+        binder.trace("binding parameter [{}] as [{}] - [{}]", 1, "UUID", wishlistId);
+        binder.trace("binding parameter [{}] as [{}] - [{}]", 2, "UUID", productId);
+        service.info("Item added to wishlist successfully");
+    }
+
+    private Appender<ILoggingEvent> sink(Encoder<ILoggingEvent> encoder) throws FileNotFoundException {
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setName("SINK");
+        appender.setEncoder(encoder);
+        appender.setOutputStream(devNull());
+        appender.start();
+        return appender;
+    }
+
+    private static OutputStream devNull() throws FileNotFoundException {
+        File devNull = new File("/dev/null");
+        return devNull.exists() ? new FileOutputStream(devNull) : OutputStream.nullOutputStream();
+    }
+}
@@ -0,0 +1,146 @@
+package com.greenkawsay.shared.infrastructure.security;
+
+import com.greenkawsay.shared.infrastructure.configuration.JwtSecurityConfig;
+import com.greenkawsay.shared.infrastructure.configuration.JwtSecurityProperties;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of authenticating one request in BearerTokenAuthenticationFilter, with the auto-configured
+ * Nimbus decoder (signature check on every request) versus the decoder of JwtSecurityConfig
+ * The JWK set is served by a local HTTP stand-in for Keycloak; every request carries one of
+ * a pool of live access tokens, as many users replaying their token across page loads would
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(8)
+public class BearerTokenFilterBenchmark {
+
+    private static final String ISSUER = "http://localhost/realms/greenkawsay";
+
+    @Param({"nimbus", "cached"})
+    public String decoder;
+
+    @Param({"1000"})
+    public int activeTokens;
+
+    private HttpServer jwksServer;
+    private String[] authorizations;
+    private BearerTokenAuthenticationFilter filter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        RSAKey signingKey = new RSAKeyGenerator(2048).keyID("bench").generate();
+        byte[] jwks = new JWKSet(signingKey.toPublicJWK()).toString().getBytes(StandardCharsets.UTF_8);
+        jwksServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        jwksServer.createContext("/certs", exchange -> {
+            exchange.getResponseHeaders().add(HttpHeaders.CONTENT_TYPE, "application/json");
+            exchange.sendResponseHeaders(200, jwks.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(jwks);
+            }
+        });
+        jwksServer.start();
+        String jwkSetUri = "http://127.0.0.1:" + jwksServer.getAddress().getPort() + "/certs";
+
+        authorizations = new String[activeTokens];
+        for (int i = 0; i < activeTokens; i++) {
+            authorizations[i] = "Bearer " + sign(signingKey);
+        }
+
+        JwtDecoder jwtDecoder;
+        if ("cached".equals(decoder)) {
+            JwtSecurityProperties properties = new JwtSecurityProperties(true, ISSUER, jwkSetUri, List.of("RS256"),
+                    Duration.ofMinutes(15), Duration.ofMinutes(1), Duration.ofSeconds(15), true,
+                    100_000, Duration.ofMinutes(5));
+            JwtSecurityConfig config = new JwtSecurityConfig();
+            jwtDecoder = config.jwtDecoder(config.jwkSource(properties), properties, new SimpleMeterRegistry());
+        } else {
+            NimbusJwtDecoder nimbus = NimbusJwtDecoder.withJwkSetUri(jwkSetUri).build();
+            nimbus.setJwtValidator(JwtValidators.createDefaultWithIssuer(ISSUER));
+            jwtDecoder = nimbus;
+        }
+        filter = new BearerTokenAuthenticationFilter(new ProviderManager(new JwtAuthenticationProvider(jwtDecoder)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jwksServer.stop(0);
+    }
+
+    @Benchmark
+    public int authenticatedRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/me");
+        request.addHeader(HttpHeaders.AUTHORIZATION,
+                authorizations[ThreadLocalRandom.current().nextInt(authorizations.length)]);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        SecurityContextHolder.clearContext();
+        return response.getStatus();
+    }
+
+    private static String sign(RSAKey signingKey) throws JOSEException {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(ISSUER)
+                .subject(UUID.randomUUID().toString())
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(Duration.ofHours(1))))
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(signingKey.getKeyID()).build(),
+                claims);
+        jwt.sign(new RSASSASigner(signingKey));
+        return jwt.serialize();
+    }
+}
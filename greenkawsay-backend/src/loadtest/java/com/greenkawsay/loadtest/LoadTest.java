@@ -0,0 +1,95 @@
+package com.greenkawsay.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model HTTP load test of the traffic mix against a running backend
+ * Requests are issued at a fixed rate and latency is measured from each request's scheduled start,
+ * so a stalled server shows up in the percentiles instead of slowing the load down (coordinated omission)
+ * Start the backend with greenkawsay.rate-limit.enabled=false, on a database filled by the datagen profile
+ * mvn -Pload-test verify -Dloadtest.args="scale=0.1 rate=300 label=$(git rev-parse --short HEAD)"
+ */
+public final class LoadTest {
+
+    private static final long START_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final LoadTestSpec spec;
+    private final TrafficModel traffic;
+
+    LoadTest(LoadTestSpec spec) {
+        this.spec = spec;
+        this.traffic = new TrafficModel(spec);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSpec spec = LoadTestSpec.parse(args);
+        Instant startedAt = Instant.now();
+        Map<Scenario, ScenarioStats> stats = new LoadTest(spec).run();
+        LoadTestReport reporter = new LoadTestReport(spec);
+        LoadTestReport.Report report = reporter.build(startedAt, stats);
+        reporter.write(report, stats);
+        reporter.print(report, System.out);
+        System.exit(report.passed() ? 0 : 1);
+    }
+
+    Map<Scenario, ScenarioStats> run() throws InterruptedException {
+        Map<Scenario, ScenarioStats> stats = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : traffic.scenarios()) {
+            stats.put(scenario, new ScenarioStats());
+        }
+        ExecutorService responses = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(spec.requestTimeout())
+                .executor(responses)
+                .build();
+        Semaphore inFlight = new Semaphore(spec.maxInFlight());
+        SplittableRandom random = new SplittableRandom(spec.dataset().seed());
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / spec.requestsPerSecond());
+        long start = System.nanoTime() + START_DELAY_NANOS;
+        long measureFrom = start + spec.warmUp().toNanos();
+        long end = measureFrom + spec.duration().toNanos();
+        System.out.printf("Sending %.0f req/s to %s: %d s warm-up, %d s measured%n", spec.requestsPerSecond(),
+                spec.baseUrl(), spec.warmUp().toSeconds(), spec.duration().toSeconds());
+        try {
+            for (long i = 0; ; i++) {
+                long scheduled = start + i * interval;
+                if (scheduled >= end) {
+                    break;
+                }
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Scenario scenario = traffic.pick(random);
+                HttpRequest request = traffic.request(scenario, random);
+                // Waiting for a slot counts towards the latency of the scheduled request
+                inFlight.acquire();
+                client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+                    long completed = System.nanoTime();
+                    inFlight.release();
+                    if (scheduled >= measureFrom) {
+                        stats.get(scenario).record(completed - scheduled, failure != null || response.statusCode() >= 400);
+                    }
+                });
+            }
+            if (!inFlight.tryAcquire(spec.maxInFlight(), spec.requestTimeout().toSeconds() + 1, TimeUnit.SECONDS)) {
+                System.out.println("Some requests did not complete before the timeout");
+            }
+        } finally {
+            responses.shutdownNow();
+        }
+        return stats;
+    }
+}
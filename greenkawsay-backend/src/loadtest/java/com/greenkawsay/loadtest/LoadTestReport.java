@@ -0,0 +1,114 @@
+package com.greenkawsay.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-scenario percentiles checked against the p99 budgets and, when given, a baseline report
+ * Written as label.json plus one HdrHistogram percentile file per scenario, so runs of
+ * two commits can be diffed or plotted together
+ */
+final class LoadTestReport {
+
+    private static final double MICROS_PER_MILLI = 1_000.0;
+
+    record ScenarioResult(String scenario, long requests, long errors, double p50Millis, double p90Millis,
+                          double p99Millis, double p999Millis, double maxMillis, long p99BudgetMillis,
+                          Double baselineP99Millis, List<String> violations) {
+    }
+
+    record Report(String label, String startedAt, double requestsPerSecond, long durationSeconds, long seed,
+                  List<ScenarioResult> scenarios, boolean passed) {
+    }
+
+    private final LoadTestSpec spec;
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    LoadTestReport(LoadTestSpec spec) {
+        this.spec = spec;
+    }
+
+    Report build(Instant startedAt, Map<Scenario, ScenarioStats> stats) throws IOException {
+        Map<String, Double> baseline = readBaseline();
+        List<ScenarioResult> results = new ArrayList<>();
+        for (Map.Entry<Scenario, ScenarioStats> entry : stats.entrySet()) {
+            Scenario scenario = entry.getKey();
+            ScenarioStats scenarioStats = entry.getValue();
+            Histogram latencies = scenarioStats.latencies();
+            double p99 = millis(latencies.getValueAtPercentile(99.0));
+            long budget = spec.p99BudgetMillis().get(scenario);
+            Double baselineP99 = baseline.get(scenario.key());
+            List<String> violations = new ArrayList<>();
+            if (scenarioStats.requests() == 0) {
+                violations.add("no requests completed");
+            }
+            if (p99 > budget) {
+                violations.add(String.format("p99 %.1f ms over budget %d ms", p99, budget));
+            }
+            double errorRate = scenarioStats.requests() == 0 ? 0 : (double) scenarioStats.errors() / scenarioStats.requests();
+            if (errorRate > spec.maxErrorRate()) {
+                violations.add(String.format("error rate %.2f%% over %.2f%%", errorRate * 100, spec.maxErrorRate() * 100));
+            }
+            if (baselineP99 != null && p99 > baselineP99 * (1 + spec.maxRegression())) {
+                violations.add(String.format("p99 %.1f ms regressed from baseline %.1f ms", p99, baselineP99));
+            }
+            results.add(new ScenarioResult(scenario.key(), scenarioStats.requests(), scenarioStats.errors(),
+                    millis(latencies.getValueAtPercentile(50.0)), millis(latencies.getValueAtPercentile(90.0)), p99,
+                    millis(latencies.getValueAtPercentile(99.9)), millis(latencies.getMaxValue()), budget, baselineP99,
+                    violations));
+        }
+        boolean passed = results.stream().allMatch(result -> result.violations().isEmpty());
+        return new Report(spec.label(), startedAt.toString(), spec.requestsPerSecond(), spec.duration().toSeconds(),
+                spec.dataset().seed(), results, passed);
+    }
+
+    void write(Report report, Map<Scenario, ScenarioStats> stats) throws IOException {
+        Path directory = spec.outputDirectory();
+        Files.createDirectories(directory);
+        objectMapper.writeValue(directory.resolve(spec.label() + ".json").toFile(), report);
+        for (Map.Entry<Scenario, ScenarioStats> entry : stats.entrySet()) {
+            Path file = directory.resolve(spec.label() + "-" + entry.getKey().key() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                entry.getValue().latencies().outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+    }
+
+    void print(Report report, PrintStream out) {
+        out.printf("%-18s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "scenario", "requests", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "budget");
+        for (ScenarioResult result : report.scenarios()) {
+            out.printf("%-18s %9d %7d %9.2f %9.2f %9.2f %9.2f %9.2f %9d%n", result.scenario(), result.requests(),
+                    result.errors(), result.p50Millis(), result.p90Millis(), result.p99Millis(), result.p999Millis(),
+                    result.maxMillis(), result.p99BudgetMillis());
+            result.violations().forEach(violation -> out.println("  FAILED: " + violation));
+        }
+        out.println(report.passed() ? "All latency budgets met" : "Latency budgets violated");
+    }
+
+    private Map<String, Double> readBaseline() throws IOException {
+        Map<String, Double> p99s = new HashMap<>();
+        if (spec.baseline() != null) {
+            for (JsonNode scenario : objectMapper.readTree(spec.baseline().toFile()).path("scenarios")) {
+                p99s.put(scenario.path("scenario").asText(), scenario.path("p99Millis").asDouble());
+            }
+        }
+        return p99s;
+    }
+
+    private static double millis(long micros) {
+        return micros / MICROS_PER_MILLI;
+    }
+}
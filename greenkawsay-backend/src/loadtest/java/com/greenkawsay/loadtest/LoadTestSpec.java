@@ -0,0 +1,60 @@
+package com.greenkawsay.loadtest;
+
+import com.greenkawsay.datagen.DatasetSpec;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from the same name=value arguments as the dataset generator
+ * The dataset options (seed, scale, counts) must match the generator run that filled the database
+ */
+record LoadTestSpec(
+        DatasetSpec dataset,
+        URI baseUrl,
+        String token,
+        double requestsPerSecond,
+        Duration warmUp,
+        Duration duration,
+        int maxInFlight,
+        Duration requestTimeout,
+        Map<Scenario, Integer> weights,
+        Map<Scenario, Long> p99BudgetMillis,
+        double maxErrorRate,
+        Path outputDirectory,
+        String label,
+        Path baseline,
+        double maxRegression) {
+
+    static LoadTestSpec parse(String[] args) {
+        Map<String, String> options = DatasetSpec.options(args);
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        Map<Scenario, Long> budgets = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            weights.put(scenario, Integer.parseInt(options.getOrDefault("weight." + scenario.key(),
+                    String.valueOf(scenario.defaultWeight()))));
+            budgets.put(scenario, Long.parseLong(options.getOrDefault("p99." + scenario.key(),
+                    String.valueOf(scenario.defaultP99Millis()))));
+        }
+        String baseline = options.get("baseline");
+        return new LoadTestSpec(
+                DatasetSpec.parse(args),
+                URI.create(options.getOrDefault("base-url", "http://localhost:8081/api")),
+                options.get("token"),
+                Double.parseDouble(options.getOrDefault("rate", "200")),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("warm-up-seconds", "30"))),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration-seconds", "120"))),
+                Integer.parseInt(options.getOrDefault("max-in-flight", "256")),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("timeout-seconds", "10"))),
+                weights,
+                budgets,
+                Double.parseDouble(options.getOrDefault("max-error-rate", "0.01")),
+                Path.of(options.getOrDefault("output", "target/loadtest")),
+                options.getOrDefault("label", "local"),
+                baseline == null ? null : Path.of(baseline),
+                Double.parseDouble(options.getOrDefault("max-regression", "0.2")));
+    }
+}
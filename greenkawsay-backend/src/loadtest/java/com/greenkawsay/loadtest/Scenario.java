@@ -0,0 +1,36 @@
+package com.greenkawsay.loadtest;
+
+/**
+ * Endpoint groups of the traffic mix, with their default share of requests and p99 budget
+ * The shares follow production traffic: mostly product pages and listings, few writes
+ */
+enum Scenario {
+    BROWSE_CATEGORIES("browse-categories", 10, 50),
+    LIST_PRODUCTS("list-products", 25, 120),
+    SEARCH_PRODUCTS("search-products", 15, 200),
+    PRODUCT_DETAIL("product-detail", 35, 50),
+    WISHLIST_ADD("wishlist-add", 5, 150),
+    PROFILE_LOOKUP("profile-lookup", 10, 40);
+
+    private final String key;
+    private final int defaultWeight;
+    private final long defaultP99Millis;
+
+    Scenario(String key, int defaultWeight, long defaultP99Millis) {
+        this.key = key;
+        this.defaultWeight = defaultWeight;
+        this.defaultP99Millis = defaultP99Millis;
+    }
+
+    String key() {
+        return key;
+    }
+
+    int defaultWeight() {
+        return defaultWeight;
+    }
+
+    long defaultP99Millis() {
+        return defaultP99Millis;
+    }
+}
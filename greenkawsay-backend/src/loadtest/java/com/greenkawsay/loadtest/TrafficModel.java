@@ -0,0 +1,114 @@
+package com.greenkawsay.loadtest;
+
+import com.greenkawsay.datagen.DatasetSpec;
+import com.greenkawsay.datagen.DeterministicIds;
+import com.greenkawsay.datagen.DeterministicIds.Entity;
+import com.greenkawsay.datagen.ZipfPopularity;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.StringJoiner;
+
+/**
+ * Builds the requests of each scenario against the generated dataset
+ * Keys come from the generator's deterministic ids and are drawn with the same Zipf skew,
+ * so hot products and power users get the share of traffic they get in production
+ */
+final class TrafficModel {
+
+    private static final String[] SEARCH_TERMS = {"bamboo", "organic", "recycled", "quinoa", "tote", "coffee",
+            "soap", "alpaca", "reusable", "chocolate", "candle", "wrap", "andean", "tea"};
+    private static final int PAGE_SIZE = 20;
+    private static final int MAX_WISHLIST_BATCH = 3;
+
+    private final LoadTestSpec spec;
+    private final DeterministicIds ids;
+    private final ZipfPopularity categories;
+    private final ZipfPopularity products;
+    private final ZipfPopularity users;
+    private final Scenario[] scenarios;
+    private final int[] cumulativeWeights;
+
+    TrafficModel(LoadTestSpec spec) {
+        DatasetSpec dataset = spec.dataset();
+        this.spec = spec;
+        this.ids = new DeterministicIds(dataset.seed());
+        this.categories = new ZipfPopularity(dataset.categories(), 0.8);
+        this.products = new ZipfPopularity(dataset.products(), dataset.zipfExponent());
+        this.users = new ZipfPopularity(dataset.users(), 0.9);
+        Map<Scenario, Integer> active = new EnumMap<>(Scenario.class);
+        spec.weights().forEach((scenario, weight) -> {
+            if (weight > 0) {
+                active.put(scenario, weight);
+            }
+        });
+        if (active.isEmpty()) {
+            throw new IllegalArgumentException("At least one scenario needs a positive weight");
+        }
+        this.scenarios = active.keySet().toArray(Scenario[]::new);
+        this.cumulativeWeights = new int[scenarios.length];
+        int total = 0;
+        for (int i = 0; i < scenarios.length; i++) {
+            total += active.get(scenarios[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    Scenario[] scenarios() {
+        return scenarios.clone();
+    }
+
+    Scenario pick(SplittableRandom random) {
+        int draw = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int i = 0;
+        while (draw >= cumulativeWeights[i]) {
+            i++;
+        }
+        return scenarios[i];
+    }
+
+    HttpRequest request(Scenario scenario, SplittableRandom random) {
+        return switch (scenario) {
+            case BROWSE_CATEGORIES -> random.nextInt(5) == 0
+                    ? get("/api/v1/categories/roots")
+                    : get("/api/v1/categories/" + ids.id(Entity.CATEGORY, categories.sample(random)) + "/subcategories");
+            case LIST_PRODUCTS -> get("/api/v1/products/category/" + ids.id(Entity.CATEGORY, categories.sample(random))
+                    + "?size=" + PAGE_SIZE + "&page=" + (random.nextInt(10) < 7 ? 0 : 1 + random.nextInt(4)));
+            case SEARCH_PRODUCTS -> get("/api/v1/products/search?size=" + PAGE_SIZE + "&q="
+                    + SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)]);
+            case PRODUCT_DETAIL -> get("/api/v1/products/" + ids.id(Entity.PRODUCT, products.sample(random)));
+            case WISHLIST_ADD -> wishlistAdd(random);
+            case PROFILE_LOOKUP -> get("/api/v1/users/keycloak/" + ids.id(Entity.KEYCLOAK_USER, users.sample(random)));
+        };
+    }
+
+    private HttpRequest wishlistAdd(SplittableRandom random) {
+        long wishlist = random.nextLong(spec.dataset().wishlists());
+        StringJoiner productIds = new StringJoiner("\",\"", "{\"productIds\":[\"", "\"]}");
+        int count = 1 + random.nextInt(MAX_WISHLIST_BATCH);
+        for (int i = 0; i < count; i++) {
+            productIds.add(ids.id(Entity.PRODUCT, products.sample(random)).toString());
+        }
+        return builder("/api/v1/wishlists/" + ids.id(Entity.WISHLIST, wishlist) + "/items/batch")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(productIds.toString()))
+                .build();
+    }
+
+    private HttpRequest get(String path) {
+        return builder(path).GET().build();
+    }
+
+    private HttpRequest.Builder builder(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(spec.baseUrl() + path))
+                .timeout(spec.requestTimeout())
+                .header("Accept", "application/json");
+        if (spec.token() != null) {
+            builder.header("Authorization", "Bearer " + spec.token());
+        }
+        return builder;
+    }
+}
@@ -2,16 +2,20 @@ package com.greenkawsay;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 @SpringBootApplication
-@EnableJpaRepositories
 @EnableCaching
 public class GreenkawsayBackendApplication {
 
+    private static final int STARTUP_STEPS_CAPACITY = 8192;
+
     public static void main(String[] args) {
-        SpringApplication.run(GreenkawsayBackendApplication.class, args);
+        SpringApplication application = new SpringApplication(GreenkawsayBackendApplication.class);
+        // Startup steps are exposed on /actuator/startup
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS_CAPACITY));
+        application.run(args);
     }
 
 }
@@ -0,0 +1,68 @@
+package com.greenkawsay.catalog.application.commands;
+
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+/**
+ * Command DTO for uploading a product image
+ * The content is consumed as a stream and never held in memory as a whole
+ */
+public class UploadProductImageCommand {
+    
+    @NotNull(message = "Product ID is required")
+    private final ProductId productId;
+    
+    @NotBlank(message = "Content type is required")
+    private final String contentType;
+    
+    @Positive(message = "Image cannot be empty")
+    private final long contentLength;
+    
+    @NotNull(message = "Image content is required")
+    private final InputStream content;
+    
+    private final boolean primary;
+    
+    @NotNull(message = "User ID is required")
+    private final UUID userId;
+
+    public UploadProductImageCommand(ProductId productId, String contentType, long contentLength,
+                                     InputStream content, boolean primary, UUID userId) {
+        this.productId = productId;
+        this.contentType = contentType;
+        this.contentLength = contentLength;
+        this.content = content;
+        this.primary = primary;
+        this.userId = userId;
+    }
+
+    // Getters
+    public ProductId getProductId() {
+        return productId;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    public InputStream getContent() {
+        return content;
+    }
+
+    public boolean isPrimary() {
+        return primary;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+}
@@ -0,0 +1,39 @@
+package com.greenkawsay.catalog.application.ports.in;
+
+import com.greenkawsay.catalog.application.commands.UploadProductImageCommand;
+import com.greenkawsay.catalog.domain.models.ProductImage;
+import com.greenkawsay.catalog.domain.valueobjects.PrimaryImageUrls;
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Input port for product image use cases
+ * Defines the contract for product image application services
+ */
+public interface ProductImageServicePort {
+    
+    /**
+     * Stream an uploaded image to object storage and register it for the product
+     * Thumbnail and WebP variants are generated asynchronously afterwards
+     * @param command The upload command
+     * @return The registered product image (variants not yet attached)
+     */
+    ProductImage uploadImage(UploadProductImageCommand command);
+    
+    /**
+     * Get all images of a product ordered by creation date
+     * @param productId The product ID
+     * @return List of product images
+     */
+    List<ProductImage> getProductImages(ProductId productId);
+    
+    /**
+     * Resolve the primary image URLs of several products at once, e.g. for a listing page
+     * @param productIds The product IDs
+     * @return Primary image URLs keyed by product; products without images are absent
+     */
+    Map<ProductId, PrimaryImageUrls> getPrimaryImageUrls(Collection<ProductId> productIds);
+}
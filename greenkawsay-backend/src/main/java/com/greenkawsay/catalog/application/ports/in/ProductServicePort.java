@@ -79,6 +79,22 @@ public interface ProductServicePort {
      * @return The updated product
      */
     Product updateStock(UUID productId, int quantity, UUID userId);
+
+    /**
+     * Set the stock level at or below which a product is reported as low stock
+     * @param productId The product ID
+     * @param threshold New low-stock threshold, zero to report only sold-out products
+     * @param userId User ID performing the update
+     * @return The updated product
+     */
+    Product updateLowStockThreshold(UUID productId, int threshold, UUID userId);
+
+    /**
+     * Get a vendor's active products at or below their low-stock threshold, lowest stock first
+     * @param vendorId The vendor's user ID
+     * @return The vendor's low-stock products
+     */
+    List<Product> getLowStockProducts(UUID vendorId);
     
     /**
      * Delete product by ID
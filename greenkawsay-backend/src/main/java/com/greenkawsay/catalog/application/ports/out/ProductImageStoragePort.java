@@ -0,0 +1,29 @@
+package com.greenkawsay.catalog.application.ports.out;
+
+import java.io.InputStream;
+
+/**
+ * Output port for binary product image storage
+ */
+public interface ProductImageStoragePort {
+    
+    /**
+     * Stream content into storage under the given key
+     * @param key The object key
+     * @param content The content stream; read once and not closed by the implementation
+     * @param contentLength Exact length of the content in bytes
+     * @param contentType The MIME type
+     * @return Public URL of the stored object
+     */
+    String store(String key, InputStream content, long contentLength, String contentType);
+    
+    /**
+     * Open a stored object for reading; the caller must close the stream
+     */
+    InputStream open(String key);
+    
+    /**
+     * Delete a stored object, ignoring missing keys
+     */
+    void delete(String key);
+}
@@ -48,6 +48,7 @@ public class CategoryApplicationService implements CategoryServicePort {
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<Category> getCategoryTree() {
         // Get all categories
         List<Category> allCategories = categoryRepository.findActiveCategories();
@@ -57,12 +58,14 @@ public class CategoryApplicationService implements CategoryServicePort {
     }
     
     @Override
+    @Transactional(readOnly = true)
     public Category getCategoryById(CategoryId categoryId) {
         return categoryRepository.findById(categoryId)
             .orElseThrow(() -> new CategoryNotFoundException(categoryId));
     }
     
     @Override
+    @Transactional(readOnly = true)
     public Category getCategoryBySlug(String slug) {
         return categoryRepository.findBySlug(slug)
             .orElseThrow(() -> new CategoryNotFoundException(slug));
@@ -110,11 +113,13 @@ public class CategoryApplicationService implements CategoryServicePort {
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<Category> getAllActiveCategories() {
         return categoryRepository.findActiveCategories();
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<Category> getSubcategories(CategoryId parentId) {
         // Validate parent exists
         if (!categoryRepository.findById(parentId).isPresent()) {
@@ -125,6 +130,7 @@ public class CategoryApplicationService implements CategoryServicePort {
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<Category> getRootCategories() {
         return categoryRepository.findRootCategories();
     }
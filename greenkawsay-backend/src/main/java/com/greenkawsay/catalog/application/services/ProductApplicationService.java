@@ -4,6 +4,9 @@ import com.greenkawsay.catalog.application.commands.CreateProductCommand;
 import com.greenkawsay.catalog.application.commands.UpdateProductCommand;
 import com.greenkawsay.catalog.application.commands.UpdateStockCommand;
 import com.greenkawsay.catalog.application.ports.in.ProductServicePort;
+import com.greenkawsay.catalog.domain.events.ProductBackInStockEvent;
+import com.greenkawsay.catalog.domain.events.ProductLowStockEvent;
+import com.greenkawsay.catalog.domain.events.ProductPriceChangedEvent;
 import com.greenkawsay.catalog.domain.exceptions.CategoryNotFoundException;
 import com.greenkawsay.catalog.domain.exceptions.DuplicateProductException;
 import com.greenkawsay.catalog.domain.exceptions.InvalidStockQuantityException;
@@ -15,6 +18,7 @@ import com.greenkawsay.catalog.domain.valueobjects.CategoryId;
 import com.greenkawsay.catalog.domain.valueobjects.ProductId;
 import com.greenkawsay.shared.domain.valueobjects.Money;
 import com.greenkawsay.catalog.domain.valueobjects.StockQuantity;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -34,11 +38,14 @@ public class ProductApplicationService implements ProductServicePort {
     
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     public ProductApplicationService(ProductRepository productRepository, 
-                                   CategoryRepository categoryRepository) {
+                                   CategoryRepository categoryRepository,
+                                   ApplicationEventPublisher eventPublisher) {
         this.productRepository = productRepository;
         this.categoryRepository = categoryRepository;
+        this.eventPublisher = eventPublisher;
     }
     
     @Override
@@ -62,22 +69,26 @@ public class ProductApplicationService implements ProductServicePort {
     }
     
     @Override
+    @Transactional(readOnly = true)
     public Page<Product> getAllProducts(Pageable pageable) {
         return productRepository.findAll(pageable);
     }
     
     @Override
+    @Transactional(readOnly = true)
     public Page<Product> getProductsByCategory(UUID categoryId, Pageable pageable) {
         CategoryId catId = CategoryId.fromString(categoryId.toString());
         return productRepository.findByCategoryId(catId, pageable);
     }
     
     @Override
+    @Transactional(readOnly = true)
     public Page<Product> searchProductsByName(String searchTerm, Pageable pageable) {
         return productRepository.findByNameContaining(searchTerm, pageable);
     }
     
     @Override
+    @Transactional(readOnly = true)
     public Page<Product> searchProductsByCategoryAndName(UUID categoryId, String searchTerm, Pageable pageable) {
         CategoryId catId = CategoryId.fromString(categoryId.toString());
         return productRepository.findByCategoryIdAndNameContaining(catId, searchTerm, pageable);
@@ -89,10 +100,39 @@ public class ProductApplicationService implements ProductServicePort {
         Product product = productRepository.findById(prodId)
             .orElseThrow(() -> new ProductNotFoundException(prodId));
         
+        Money previousPrice = product.getPrice();
+        boolean wasOutOfStock = !product.getStockQuantity().isPositive();
+        boolean wasLowStock = product.isLowStock();
         StockQuantity stockQuantity = new StockQuantity(quantity);
         product.updateStock(stockQuantity, userId);
         
-        return productRepository.save(product);
+        Product savedProduct = productRepository.save(product);
+        publishWatchedChanges(savedProduct, previousPrice, wasOutOfStock);
+        publishLowStock(savedProduct, wasLowStock);
+        return savedProduct;
+    }
+    
+    @Override
+    public Product updateLowStockThreshold(UUID productId, int threshold, UUID userId) {
+        ProductId prodId = ProductId.fromString(productId.toString());
+        Product product = productRepository.findById(prodId)
+            .orElseThrow(() -> new ProductNotFoundException(prodId));
+        if (threshold < 0) {
+            throw new InvalidStockQuantityException("Low stock threshold cannot be negative");
+        }
+        
+        boolean wasLowStock = product.isLowStock();
+        product.updateLowStockThreshold(threshold, userId);
+        
+        Product savedProduct = productRepository.save(product);
+        publishLowStock(savedProduct, wasLowStock);
+        return savedProduct;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<Product> getLowStockProducts(UUID vendorId) {
+        return productRepository.findLowStockProductsByUserId(vendorId);
     }
     
     @Override
@@ -106,6 +146,7 @@ public class ProductApplicationService implements ProductServicePort {
     
     
     @Override
+    @Transactional(readOnly = true)
     public Product getProductById(ProductId productId) {
         return productRepository.findById(productId)
             .orElseThrow(() -> new ProductNotFoundException(productId));
@@ -122,6 +163,10 @@ public class ProductApplicationService implements ProductServicePort {
             throw new CategoryNotFoundException(command.getCategoryId());
         }
         
+        Money previousPrice = product.getPrice();
+        boolean wasOutOfStock = !product.getStockQuantity().isPositive();
+        boolean wasLowStock = product.isLowStock();
+        
         // Update product information
         product.updateName(command.getName(), product.getUserId());
         product.updateDescription(command.getDescription(), product.getUserId());
@@ -137,16 +182,21 @@ public class ProductApplicationService implements ProductServicePort {
         }
         
         // Save and return
-        return productRepository.save(product);
+        Product savedProduct = productRepository.save(product);
+        publishWatchedChanges(savedProduct, previousPrice, wasOutOfStock);
+        publishLowStock(savedProduct, wasLowStock);
+        return savedProduct;
     }
     
     
     @Override
+    @Transactional(readOnly = true)
     public List<Product> getAllActiveProducts() {
         return productRepository.findActiveProducts();
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<Product> getProductsByCategory(String categoryId) {
         CategoryId catId = CategoryId.fromString(categoryId);
         return productRepository.findActiveProductsByCategory(catId);
@@ -171,4 +221,30 @@ public class ProductApplicationService implements ProductServicePort {
             throw new InvalidStockQuantityException("Stock quantity cannot be negative");
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * Publish the changes wishlist watchers care about; listeners run after commit and off the vendor request
+     */
+    private void publishWatchedChanges(Product product, Money previousPrice, boolean wasOutOfStock) {
+        Money price = product.getPrice();
+        if (price.getCurrency().equals(previousPrice.getCurrency()) && !price.isEqualTo(previousPrice)) {
+            eventPublisher.publishEvent(new ProductPriceChangedEvent(product.getId().getValue(), product.getName(),
+                previousPrice.getAmount(), price.getAmount(), price.getCurrencyCode()));
+        }
+        if (wasOutOfStock && product.getStockQuantity().isPositive()) {
+            eventPublisher.publishEvent(new ProductBackInStockEvent(product.getId().getValue(), product.getName(),
+                product.getStockQuantity().getValue()));
+        }
+    }
+    
+    /**
+     * Publish a low-stock alert only when the product crosses into low stock, so a run of sales
+     * below the threshold raises one alert rather than one per sale
+     */
+    private void publishLowStock(Product product, boolean wasLowStock) {
+        if (!wasLowStock && product.isLowStock()) {
+            eventPublisher.publishEvent(new ProductLowStockEvent(product.getId().getValue(), product.getUserId(),
+                product.getName(), product.getStockQuantity().getValue(), product.getLowStockThreshold()));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.greenkawsay.catalog.application.services;
+
+import com.greenkawsay.catalog.application.commands.UploadProductImageCommand;
+import com.greenkawsay.catalog.application.ports.in.ProductImageServicePort;
+import com.greenkawsay.catalog.application.ports.out.ProductImageStoragePort;
+import com.greenkawsay.catalog.domain.events.ProductImageUploadedEvent;
+import com.greenkawsay.catalog.domain.exceptions.InvalidProductImageException;
+import com.greenkawsay.catalog.domain.exceptions.ProductNotFoundException;
+import com.greenkawsay.catalog.domain.models.ProductImage;
+import com.greenkawsay.catalog.domain.repositories.ProductImageRepository;
+import com.greenkawsay.catalog.domain.repositories.ProductRepository;
+import com.greenkawsay.catalog.domain.valueobjects.PrimaryImageUrls;
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Application service for product image use cases
+ * Implements the ProductImageServicePort interface
+ */
+@Service
+public class ProductImageApplicationService implements ProductImageServicePort {
+    
+    private static final Map<String, String> EXTENSIONS = Map.of(
+        "image/jpeg", "jpg",
+        "image/png", "png",
+        "image/webp", "webp"
+    );
+    
+    private final ProductRepository productRepository;
+    private final ProductImageRepository productImageRepository;
+    private final ProductImageRecorder productImageRecorder;
+    private final ProductImageStoragePort productImageStorage;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    public ProductImageApplicationService(ProductRepository productRepository,
+                                          ProductImageRepository productImageRepository,
+                                          ProductImageRecorder productImageRecorder,
+                                          ProductImageStoragePort productImageStorage,
+                                          ApplicationEventPublisher eventPublisher) {
+        this.productRepository = productRepository;
+        this.productImageRepository = productImageRepository;
+        this.productImageRecorder = productImageRecorder;
+        this.productImageStorage = productImageStorage;
+        this.eventPublisher = eventPublisher;
+    }
+    
+    // Deliberately not transactional: the upload to object storage must not pin a database connection
+    @Override
+    public ProductImage uploadImage(UploadProductImageCommand command) {
+        ProductId productId = command.getProductId();
+        String extension = validateUpload(command);
+        if (productRepository.findById(productId).isEmpty()) {
+            throw new ProductNotFoundException(productId);
+        }
+        
+        String storageKey = "products/" + productId.getValueAsString() + "/" + UUID.randomUUID() + "." + extension;
+        String imageUrl = productImageStorage.store(
+            storageKey, command.getContent(), command.getContentLength(), command.getContentType());
+        
+        ProductImage saved;
+        try {
+            saved = record(productId, imageUrl, command);
+        } catch (RuntimeException e) {
+            // Compensate so no orphaned object is left in the bucket
+            productImageStorage.delete(storageKey);
+            throw e;
+        }
+        
+        eventPublisher.publishEvent(
+            new ProductImageUploadedEvent(saved.getId(), productId.getValue(), storageKey, command.getUserId()));
+        return saved;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductImage> getProductImages(ProductId productId) {
+        return productImageRepository.findByProductIdOrderByCreatedAt(productId);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Map<ProductId, PrimaryImageUrls> getPrimaryImageUrls(Collection<ProductId> productIds) {
+        return productImageRepository.findPrimaryImageUrlsByProductIds(productIds);
+    }
+    
+    // Losing a race for the primary slot is retried once, in a new transaction that sees the winner
+    private ProductImage record(ProductId productId, String imageUrl, UploadProductImageCommand command) {
+        try {
+            return productImageRecorder.record(productId, imageUrl, command.isPrimary(), command.getUserId());
+        } catch (DataIntegrityViolationException e) {
+            return productImageRecorder.record(productId, imageUrl, command.isPrimary(), command.getUserId());
+        }
+    }
+    
+    private String validateUpload(UploadProductImageCommand command) {
+        if (command.getContentLength() <= 0) {
+            throw new InvalidProductImageException("Image cannot be empty");
+        }
+        String contentType = command.getContentType();
+        String extension = contentType != null ? EXTENSIONS.get(contentType.toLowerCase()) : null;
+        if (extension == null) {
+            throw new InvalidProductImageException("Unsupported image type: " + contentType
+                + ". Allowed types are " + EXTENSIONS.keySet());
+        }
+        return extension;
+    }
+}
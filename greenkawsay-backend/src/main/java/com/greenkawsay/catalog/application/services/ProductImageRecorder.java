@@ -0,0 +1,37 @@
+package com.greenkawsay.catalog.application.services;
+
+import com.greenkawsay.catalog.domain.models.ProductImage;
+import com.greenkawsay.catalog.domain.repositories.ProductImageRepository;
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Records an uploaded product image once its object is in storage
+ * Demoting the current primary image and inserting the new one commit or roll back together,
+ * so a failed insert never leaves the product without a primary image
+ */
+@Service
+public class ProductImageRecorder {
+
+    private final ProductImageRepository productImageRepository;
+
+    public ProductImageRecorder(ProductImageRepository productImageRepository) {
+        this.productImageRepository = productImageRepository;
+    }
+
+    /**
+     * The first image of a product becomes primary even when not requested;
+     * a concurrent upload doing the same fails on uq_product_images_primary and rolls back whole
+     */
+    @Transactional
+    public ProductImage record(ProductId productId, String imageUrl, boolean requestedPrimary, UUID userId) {
+        boolean primary = requestedPrimary || !productImageRepository.hasPrimaryImage(productId);
+        if (primary) {
+            productImageRepository.demotePrimaryImage(productId, userId);
+        }
+        return productImageRepository.save(new ProductImage(productId.getValue(), imageUrl, primary, userId));
+    }
+}
@@ -0,0 +1,15 @@
+package com.greenkawsay.catalog.domain.events;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Domain event published when a product's stock has moved from zero to positive
+ */
+public record ProductBackInStockEvent(UUID productId, String productName, int stockQuantity) {
+
+    public ProductBackInStockEvent {
+        Objects.requireNonNull(productId, "Product ID cannot be null");
+        Objects.requireNonNull(productName, "Product name cannot be null");
+    }
+}
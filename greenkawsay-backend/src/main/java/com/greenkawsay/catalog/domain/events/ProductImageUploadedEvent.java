@@ -0,0 +1,18 @@
+package com.greenkawsay.catalog.domain.events;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Domain event published when an original product image has been stored
+ * Triggers asynchronous generation of the thumbnail and WebP variants
+ */
+public record ProductImageUploadedEvent(UUID imageId, UUID productId, String storageKey, UUID uploadedBy) {
+
+    public ProductImageUploadedEvent {
+        Objects.requireNonNull(imageId, "Image ID cannot be null");
+        Objects.requireNonNull(productId, "Product ID cannot be null");
+        Objects.requireNonNull(storageKey, "Storage key cannot be null");
+        Objects.requireNonNull(uploadedBy, "Uploaded by cannot be null");
+    }
+}
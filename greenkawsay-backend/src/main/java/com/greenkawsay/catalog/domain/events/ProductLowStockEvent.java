@@ -0,0 +1,18 @@
+package com.greenkawsay.catalog.domain.events;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Domain event published when an active product's stock has dropped to or below its low-stock threshold
+ * Published once per crossing; the product has to be restocked above the threshold before it fires again
+ */
+public record ProductLowStockEvent(UUID productId, UUID vendorId, String productName, int stockQuantity,
+                                   int lowStockThreshold) {
+
+    public ProductLowStockEvent {
+        Objects.requireNonNull(productId, "Product ID cannot be null");
+        Objects.requireNonNull(vendorId, "Vendor ID cannot be null");
+        Objects.requireNonNull(productName, "Product name cannot be null");
+    }
+}
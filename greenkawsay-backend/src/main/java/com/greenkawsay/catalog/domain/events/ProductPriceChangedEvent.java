@@ -0,0 +1,20 @@
+package com.greenkawsay.catalog.domain.events;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Domain event published when a product's price has changed
+ */
+public record ProductPriceChangedEvent(UUID productId, String productName, BigDecimal oldPrice,
+                                       BigDecimal newPrice, String currencyCode) {
+
+    public ProductPriceChangedEvent {
+        Objects.requireNonNull(productId, "Product ID cannot be null");
+        Objects.requireNonNull(productName, "Product name cannot be null");
+        Objects.requireNonNull(oldPrice, "Old price cannot be null");
+        Objects.requireNonNull(newPrice, "New price cannot be null");
+        Objects.requireNonNull(currencyCode, "Currency code cannot be null");
+    }
+}
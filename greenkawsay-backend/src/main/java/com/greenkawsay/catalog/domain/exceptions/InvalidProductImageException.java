@@ -0,0 +1,13 @@
+package com.greenkawsay.catalog.domain.exceptions;
+
+import com.greenkawsay.shared.domain.exceptions.DomainException;
+
+/**
+ * Exception thrown when an uploaded product image is rejected
+ */
+public class InvalidProductImageException extends DomainException {
+    
+    public InvalidProductImageException(String message) {
+        super(message, "INVALID_PRODUCT_IMAGE");
+    }
+}
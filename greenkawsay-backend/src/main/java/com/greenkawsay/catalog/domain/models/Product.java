@@ -17,12 +17,19 @@ import java.util.UUID;
  * Contains business logic for product management, stock control, and pricing
  */
 public class Product {
+
+    /**
+     * Stock level at or below which a product counts as low stock, unless the vendor sets its own
+     */
+    public static final int DEFAULT_LOW_STOCK_THRESHOLD = 5;
+
     private final ProductId id;
     private String name;
     private String description;
     private Money price;
     private CategoryId categoryId;
     private StockQuantity stockQuantity;
+    private int lowStockThreshold;
     private boolean isActive;
     
     // Cross-context reference (Users context)
@@ -43,6 +50,7 @@ public class Product {
         this.price = Objects.requireNonNull(price, "Price cannot be null");
         this.categoryId = Objects.requireNonNull(categoryId, "Category ID cannot be null");
         this.stockQuantity = Objects.requireNonNull(stockQuantity, "Stock quantity cannot be null");
+        this.lowStockThreshold = DEFAULT_LOW_STOCK_THRESHOLD;
         this.userId = Objects.requireNonNull(userId, "User ID cannot be null");
         this.isActive = true;
         this.createdAt = LocalDateTime.now();
@@ -56,12 +64,21 @@ public class Product {
     public Product(ProductId id, String name, String description, Money price, CategoryId categoryId,
                    StockQuantity stockQuantity, boolean isActive, UUID userId,
                    LocalDateTime createdAt, LocalDateTime updatedAt, UUID createdBy, UUID updatedBy) {
+        this(id, name, description, price, categoryId, stockQuantity, DEFAULT_LOW_STOCK_THRESHOLD, isActive, userId,
+                createdAt, updatedAt, createdBy, updatedBy);
+    }
+
+    // Constructor for loading existing product with its low-stock threshold
+    public Product(ProductId id, String name, String description, Money price, CategoryId categoryId,
+                   StockQuantity stockQuantity, int lowStockThreshold, boolean isActive, UUID userId,
+                   LocalDateTime createdAt, LocalDateTime updatedAt, UUID createdBy, UUID updatedBy) {
         this.id = Objects.requireNonNull(id, "ID cannot be null");
         this.name = Objects.requireNonNull(name, "Name cannot be null").trim();
         this.description = description != null ? description.trim() : null;
         this.price = Objects.requireNonNull(price, "Price cannot be null");
         this.categoryId = Objects.requireNonNull(categoryId, "Category ID cannot be null");
         this.stockQuantity = Objects.requireNonNull(stockQuantity, "Stock quantity cannot be null");
+        this.lowStockThreshold = lowStockThreshold;
         this.isActive = isActive;
         this.userId = Objects.requireNonNull(userId, "User ID cannot be null");
         this.createdAt = Objects.requireNonNull(createdAt, "Created at cannot be null");
@@ -87,6 +104,9 @@ public class Product {
         if (price.isLessThan(Money.zero(price.getCurrencyCode()))) {
             throw new IllegalArgumentException("Product price cannot be negative");
         }
+        if (lowStockThreshold < 0) {
+            throw new IllegalArgumentException("Low stock threshold cannot be negative");
+        }
     }
 
     // Business methods
@@ -144,6 +164,15 @@ public class Product {
         this.updatedBy = Objects.requireNonNull(updatedBy, "Updated by cannot be null");
     }
 
+    public void updateLowStockThreshold(int lowStockThreshold, UUID updatedBy) {
+        if (lowStockThreshold < 0) {
+            throw new IllegalArgumentException("Low stock threshold cannot be negative");
+        }
+        this.lowStockThreshold = lowStockThreshold;
+        this.updatedAt = LocalDateTime.now();
+        this.updatedBy = Objects.requireNonNull(updatedBy, "Updated by cannot be null");
+    }
+
     public void activate(UUID updatedBy) {
         this.isActive = true;
         this.updatedAt = LocalDateTime.now();
@@ -168,6 +197,13 @@ public class Product {
         return stockQuantity.getValue() >= quantity;
     }
 
+    /**
+     * Active and at or below its threshold, the predicate of the vendor low-stock index
+     */
+    public boolean isLowStock() {
+        return isActive && stockQuantity.getValue() <= lowStockThreshold;
+    }
+
     // Getters
     public ProductId getId() {
         return id;
@@ -193,6 +229,10 @@ public class Product {
         return stockQuantity;
     }
 
+    public int getLowStockThreshold() {
+        return lowStockThreshold;
+    }
+
     public boolean isActive() {
         return isActive;
     }
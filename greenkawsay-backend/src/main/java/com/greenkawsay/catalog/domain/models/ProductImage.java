@@ -13,6 +13,9 @@ public class ProductImage {
     private final UUID productId;
     private String imageUrl;
     private boolean isPrimary;
+    // Derived variants, generated asynchronously after upload
+    private String thumbnailUrl;
+    private String webpUrl;
     
     // Audit fields
     private final LocalDateTime createdAt;
@@ -36,10 +39,19 @@ public class ProductImage {
     // Constructor for loading existing product image
     public ProductImage(UUID id, UUID productId, String imageUrl, boolean isPrimary,
                        LocalDateTime createdAt, LocalDateTime updatedAt, UUID createdBy, UUID updatedBy) {
+        this(id, productId, imageUrl, isPrimary, null, null, createdAt, updatedAt, createdBy, updatedBy);
+    }
+
+    // Constructor for loading existing product image with derived variants
+    public ProductImage(UUID id, UUID productId, String imageUrl, boolean isPrimary,
+                       String thumbnailUrl, String webpUrl,
+                       LocalDateTime createdAt, LocalDateTime updatedAt, UUID createdBy, UUID updatedBy) {
         this.id = Objects.requireNonNull(id, "ID cannot be null");
         this.productId = Objects.requireNonNull(productId, "Product ID cannot be null");
         this.imageUrl = Objects.requireNonNull(imageUrl, "Image URL cannot be null").trim();
         this.isPrimary = isPrimary;
+        this.thumbnailUrl = thumbnailUrl != null ? thumbnailUrl.trim() : null;
+        this.webpUrl = webpUrl != null ? webpUrl.trim() : null;
         this.createdAt = Objects.requireNonNull(createdAt, "Created at cannot be null");
         this.updatedAt = Objects.requireNonNull(updatedAt, "Updated at cannot be null");
         this.createdBy = Objects.requireNonNull(createdBy, "Created by cannot be null");
@@ -58,6 +70,20 @@ public class ProductImage {
         if (!imageUrl.matches("^https?://.+")) {
             throw new IllegalArgumentException("Image URL must be a valid HTTP/HTTPS URL");
         }
+        validateVariantUrl(thumbnailUrl, "Thumbnail URL");
+        validateVariantUrl(webpUrl, "WebP URL");
+    }
+
+    private static void validateVariantUrl(String url, String label) {
+        if (url == null) {
+            return;
+        }
+        if (url.length() > 500) {
+            throw new IllegalArgumentException(label + " cannot exceed 500 characters");
+        }
+        if (!url.matches("^https?://.+")) {
+            throw new IllegalArgumentException(label + " must be a valid HTTP/HTTPS URL");
+        }
     }
 
     // Business methods
@@ -80,6 +106,18 @@ public class ProductImage {
         this.updatedBy = Objects.requireNonNull(updatedBy, "Updated by cannot be null");
     }
 
+    public void attachVariants(String thumbnailUrl, String webpUrl, UUID updatedBy) {
+        this.thumbnailUrl = thumbnailUrl != null ? thumbnailUrl.trim() : null;
+        this.webpUrl = webpUrl != null ? webpUrl.trim() : null;
+        this.updatedAt = LocalDateTime.now();
+        this.updatedBy = Objects.requireNonNull(updatedBy, "Updated by cannot be null");
+        validate();
+    }
+
+    public boolean hasVariants() {
+        return thumbnailUrl != null;
+    }
+
     public boolean isPrimary() {
         return isPrimary;
     }
@@ -97,6 +135,14 @@ public class ProductImage {
         return imageUrl;
     }
 
+    public String getThumbnailUrl() {
+        return thumbnailUrl;
+    }
+
+    public String getWebpUrl() {
+        return webpUrl;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -1,10 +1,14 @@
 package com.greenkawsay.catalog.domain.repositories;
 
 import com.greenkawsay.catalog.domain.models.ProductImage;
+import com.greenkawsay.catalog.domain.valueobjects.PrimaryImageUrls;
 import com.greenkawsay.catalog.domain.valueobjects.ProductId;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Domain repository interface for ProductImage operations
@@ -37,6 +41,12 @@ public interface ProductImageRepository {
      */
     List<ProductImage> findPrimaryImagesByProductIds(List<ProductId> productIds);
     
+    /**
+     * Find primary image URLs for multiple products in a single lookup
+     * Products without a primary image are absent from the result
+     */
+    Map<ProductId, PrimaryImageUrls> findPrimaryImageUrlsByProductIds(Collection<ProductId> productIds);
+    
     /**
      * Count images for a product
      */
@@ -52,6 +62,17 @@ public interface ProductImageRepository {
      */
     boolean hasPrimaryImage(ProductId productId);
     
+    /**
+     * Demote the current primary image of a product, if any, with a single UPDATE
+     */
+    void demotePrimaryImage(ProductId productId, UUID updatedBy);
+    
+    /**
+     * Set the variant URLs of an image with a single UPDATE, leaving its primary flag untouched
+     * Returns false when the image no longer exists
+     */
+    boolean attachVariants(ProductId productId, String imageId, String thumbnailUrl, String webpUrl, UUID updatedBy);
+    
     /**
      * Find all images by product ordered by creation date
      */
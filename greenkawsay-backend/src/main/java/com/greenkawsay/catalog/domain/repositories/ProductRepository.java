@@ -9,6 +9,7 @@ import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Domain repository interface for Product operations
@@ -21,6 +22,11 @@ public interface ProductRepository {
      */
     Product save(Product product);
     
+    /**
+     * Save several products at once
+     */
+    List<Product> saveAll(List<Product> products);
+    
     /**
      * Find product by ID
      */
@@ -115,6 +121,12 @@ public interface ProductRepository {
      * Find products with low stock (below threshold)
      */
     List<Product> findLowStockProducts(int threshold);
+
+    /**
+     * Find a vendor's active products at or below their own low-stock threshold, lowest stock first
+     * Implementations keep these products indexed, so the cost follows the result rather than the catalog
+     */
+    List<Product> findLowStockProductsByUserId(UUID userId);
     
     /**
      * Delete product by ID
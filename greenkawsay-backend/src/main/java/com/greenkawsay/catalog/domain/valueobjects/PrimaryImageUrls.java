@@ -0,0 +1,68 @@
+package com.greenkawsay.catalog.domain.valueobjects;
+
+import java.util.Objects;
+
+/**
+ * Value object holding the URLs of a product's primary image
+ * Lightweight read model used by listings instead of full ProductImage aggregates
+ */
+public final class PrimaryImageUrls {
+    private final ProductId productId;
+    private final String imageUrl;
+    private final String thumbnailUrl;
+    private final String webpUrl;
+
+    public PrimaryImageUrls(ProductId productId, String imageUrl, String thumbnailUrl, String webpUrl) {
+        this.productId = Objects.requireNonNull(productId, "Product ID cannot be null");
+        this.imageUrl = Objects.requireNonNull(imageUrl, "Image URL cannot be null");
+        this.thumbnailUrl = thumbnailUrl;
+        this.webpUrl = webpUrl;
+    }
+
+    /**
+     * URL best suited for listing cards: the thumbnail when generated, the original otherwise
+     */
+    public String getListingUrl() {
+        return thumbnailUrl != null ? thumbnailUrl : imageUrl;
+    }
+
+    public ProductId getProductId() {
+        return productId;
+    }
+
+    public String getImageUrl() {
+        return imageUrl;
+    }
+
+    public String getThumbnailUrl() {
+        return thumbnailUrl;
+    }
+
+    public String getWebpUrl() {
+        return webpUrl;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PrimaryImageUrls that = (PrimaryImageUrls) o;
+        return productId.equals(that.productId)
+                && imageUrl.equals(that.imageUrl)
+                && Objects.equals(thumbnailUrl, that.thumbnailUrl)
+                && Objects.equals(webpUrl, that.webpUrl);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(productId, imageUrl, thumbnailUrl, webpUrl);
+    }
+
+    @Override
+    public String toString() {
+        return "PrimaryImageUrls{" +
+                "productId=" + productId +
+                ", imageUrl='" + imageUrl + '\'' +
+                '}';
+    }
+}
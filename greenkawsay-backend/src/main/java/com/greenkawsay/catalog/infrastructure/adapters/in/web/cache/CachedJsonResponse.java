@@ -0,0 +1,25 @@
+package com.greenkawsay.catalog.infrastructure.adapters.in.web.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a GET endpoint whose serialized body is served from the JsonResponseCache
+ * The body must depend only on the request URI and on the catalog data of the given scope;
+ * PRODUCTS endpoints carry the product in an id path variable
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CachedJsonResponse {
+
+    Scope value();
+
+    enum Scope {
+        CATEGORIES,
+        PRODUCTS
+    }
+}
@@ -0,0 +1,90 @@
+package com.greenkawsay.catalog.infrastructure.adapters.in.web.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized response bodies keyed by request URI and catalog version
+ * Entries of older versions are never read again and age out of the weight-bounded cache,
+ * so writes to the catalog need no eviction here; expireAfterWrite bounds how long a body
+ * rendered from a lagging replica can outlive the version it was stored under
+ */
+public class JsonResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final int gzipMinSize;
+    private final Cache<Key, Entry> entries;
+
+    public JsonResponseCache(ObjectMapper objectMapper, long maximumBytes, Duration expireAfterWrite, int gzipMinSize,
+                             MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.gzipMinSize = gzipMinSize;
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((Key key, Entry entry) -> entry.weight())
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "catalogJsonResponses");
+    }
+
+    public Entry get(String uri, String version) {
+        return entries.getIfPresent(new Key(uri, version));
+    }
+
+    public Entry put(String uri, String version, Object body) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize cached response for " + uri, e);
+        }
+        Entry entry = new Entry(json, json.length >= gzipMinSize ? gzip(json) : null, etag(json));
+        entries.put(new Key(uri, version), entry);
+        return entry;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] compressed = buffer.toByteArray();
+        return compressed.length < json.length ? compressed : null;
+    }
+
+    /**
+     * Content-based, so ETags stay valid across restarts; weak because the gzip variant shares it
+     */
+    private static String etag(byte[] json) {
+        CRC32 crc = new CRC32();
+        crc.update(json);
+        return "W/\"" + Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(json.length) + "\"";
+    }
+
+    private record Key(String uri, String version) {
+    }
+
+    /**
+     * Identity and, when worth it, gzip encodings of one response body
+     */
+    public record Entry(byte[] json, byte[] gzip, String etag) {
+
+        int weight() {
+            return json.length + (gzip != null ? gzip.length : 0) + 64;
+        }
+    }
+}
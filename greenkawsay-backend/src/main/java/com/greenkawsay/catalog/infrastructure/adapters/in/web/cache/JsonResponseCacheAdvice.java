@@ -0,0 +1,58 @@
+package com.greenkawsay.catalog.infrastructure.adapters.in.web.cache;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Stores the body of a @CachedJsonResponse endpoint after a cache miss
+ * Only successful responses are stored; error bodies come from exception handlers,
+ * which carry no @CachedJsonResponse and are not supported here
+ * Does nothing when greenkawsay.catalog.response-cache is disabled and no cache is defined
+ */
+@ControllerAdvice
+public class JsonResponseCacheAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ObjectProvider<JsonResponseCache> cache;
+
+    public JsonResponseCacheAdvice(ObjectProvider<JsonResponseCache> cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(CachedJsonResponse.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || !MediaType.APPLICATION_JSON.isCompatibleWith(selectedContentType)
+                || !(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)) {
+            return body;
+        }
+        JsonResponseCache responseCache = cache.getIfAvailable();
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        HttpServletResponse httpResponse = servletResponse.getServletResponse();
+        if (responseCache != null
+                && httpRequest.getAttribute(JsonResponseCacheInterceptor.PENDING_VERSION_ATTRIBUTE) instanceof String version
+                && httpResponse.getStatus() == HttpServletResponse.SC_OK) {
+            JsonResponseCache.Entry entry = responseCache.put(httpRequest.getRequestURI(), version, body);
+            response.getHeaders().set(HttpHeaders.ETAG, entry.etag());
+            response.getHeaders().set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        return body;
+    }
+}
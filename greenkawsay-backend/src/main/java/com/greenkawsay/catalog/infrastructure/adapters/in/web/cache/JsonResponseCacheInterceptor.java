@@ -0,0 +1,103 @@
+package com.greenkawsay.catalog.infrastructure.adapters.in.web.cache;
+
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.CatalogVersion;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Serves @CachedJsonResponse endpoints from the JsonResponseCache before the controller runs
+ * A hit writes the stored bytes (gzip when accepted) straight to the servlet output stream,
+ * skipping the service call, the MapStruct mapping and Jackson; a miss records the version
+ * read up front so JsonResponseCacheAdvice stores the body under it
+ * Product details are versioned per product, taken from the id path variable
+ * Every request, hit or miss, first asks CatalogVersion; the configured one remembers each version
+ * for versionTtl, so only the first request in that interval pays the version query
+ */
+public class JsonResponseCacheInterceptor implements HandlerInterceptor {
+
+    static final String PENDING_VERSION_ATTRIBUTE = JsonResponseCacheInterceptor.class.getName() + ".version";
+
+    private final JsonResponseCache cache;
+    private final CatalogVersion catalogVersion;
+
+    public JsonResponseCacheInterceptor(JsonResponseCache cache, CatalogVersion catalogVersion) {
+        this.cache = cache;
+        this.catalogVersion = catalogVersion;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (!"GET".equals(request.getMethod()) || request.getQueryString() != null
+                || !(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+        CachedJsonResponse cached = method.getMethodAnnotation(CachedJsonResponse.class);
+        if (cached == null) {
+            return true;
+        }
+        String version = version(cached.value(), request);
+        if (version == null) {
+            return true;
+        }
+        JsonResponseCache.Entry entry = cache.get(request.getRequestURI(), version);
+        if (entry == null) {
+            request.setAttribute(PENDING_VERSION_ATTRIBUTE, version);
+            return true;
+        }
+        write(entry, request, response);
+        return false;
+    }
+
+    /**
+     * Null when the endpoint has no valid product id or the product does not exist,
+     * the controller then answers as it would without the cache
+     */
+    private String version(CachedJsonResponse.Scope scope, HttpServletRequest request) {
+        if (scope == CachedJsonResponse.Scope.CATEGORIES) {
+            return catalogVersion.categories();
+        }
+        if (!(request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE) instanceof Map<?, ?> variables)
+                || !(variables.get("id") instanceof String id)) {
+            return null;
+        }
+        try {
+            return catalogVersion.product(UUID.fromString(id));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void write(JsonResponseCache.Entry entry, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        response.setHeader(HttpHeaders.ETAG, entry.etag());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (entry.etag().equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        byte[] body = entry.json();
+        if (entry.gzip() != null && acceptsGzip(request)) {
+            body = entry.gzip();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.contains("gzip");
+    }
+}
@@ -4,6 +4,7 @@ import com.greenkawsay.catalog.domain.exceptions.CategoryNotFoundException;
 import com.greenkawsay.catalog.domain.exceptions.ProductNotFoundException;
 import com.greenkawsay.shared.domain.exceptions.DomainException;
 import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -11,9 +12,10 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
-import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -27,9 +29,10 @@ public class GlobalExceptionHandler {
 
     /**
      * Handles domain-specific exceptions
+     * Hot path for probes of unknown IDs: no stack trace, no string rewriting of the request description
      */
     @ExceptionHandler(DomainException.class)
-    public ResponseEntity<ErrorResponse> handleDomainException(DomainException ex, WebRequest request) {
+    public ResponseEntity<ErrorResponse> handleDomainException(DomainException ex, HttpServletRequest request) {
         HttpStatus status = determineHttpStatus(ex);
         
         ErrorResponse errorResponse = ErrorResponse.builder()
@@ -38,7 +41,7 @@ public class GlobalExceptionHandler {
                 .error(status.getReasonPhrase())
                 .message(ex.getMessage())
                 .errorCode(ex.getErrorCode())
-                .path(request.getDescription(false).replace("uri=", ""))
+                .path(request.getRequestURI())
                 .build();
                 
         return new ResponseEntity<>(errorResponse, status);
@@ -50,7 +53,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ResponseEntity<ErrorResponse> handleValidationExceptions(
-            MethodArgumentNotValidException ex, WebRequest request) {
+            MethodArgumentNotValidException ex, HttpServletRequest request) {
         
         Map<String, String> errors = new HashMap<>();
         ex.getBindingResult().getAllErrors().forEach((error) -> {
@@ -66,25 +69,43 @@ public class GlobalExceptionHandler {
                 .message("Validation failed")
                 .errorCode("VALIDATION_ERROR")
                 .details(errors)
-                .path(request.getDescription(false).replace("uri=", ""))
+                .path(request.getRequestURI())
                 .build();
                 
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handles multipart uploads that exceed the configured size limits
+     */
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<ErrorResponse> handleMaxUploadSizeExceeded(
+            MaxUploadSizeExceededException ex, HttpServletRequest request) {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.PAYLOAD_TOO_LARGE.value())
+                .error(HttpStatus.PAYLOAD_TOO_LARGE.getReasonPhrase())
+                .message("Uploaded file exceeds the maximum allowed size")
+                .errorCode("PAYLOAD_TOO_LARGE")
+                .path(request.getRequestURI())
+                .build();
+                
+        return new ResponseEntity<>(errorResponse, HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
     /**
      * Handles all other exceptions
      */
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
-    public ResponseEntity<ErrorResponse> handleGenericException(Exception ex, WebRequest request) {
+    public ResponseEntity<ErrorResponse> handleGenericException(Exception ex, HttpServletRequest request) {
         ErrorResponse errorResponse = ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
                 .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
                 .error(HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase())
                 .message("An unexpected error occurred")
                 .errorCode("INTERNAL_ERROR")
-                .path(request.getDescription(false).replace("uri=", ""))
+                .path(request.getRequestURI())
                 .build();
                 
         return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
@@ -104,6 +125,10 @@ public class GlobalExceptionHandler {
             case "PRODUCT_ALREADY_EXISTS":
             case "CATEGORY_ALREADY_EXISTS":
                 return HttpStatus.CONFLICT;
+            case "USER_PROFILE_NOT_FOUND":
+            case "LEADERBOARD_ENTRY_NOT_FOUND":
+            case "WISHLIST_NOT_FOUND":
+                return HttpStatus.NOT_FOUND;
             case "INVALID_STOCK_QUANTITY":
             case "INVALID_PRICE":
                 return HttpStatus.BAD_REQUEST;
@@ -153,7 +178,7 @@ public class GlobalExceptionHandler {
             private String error;
             private String message;
             private String errorCode;
-            private Map<String, String> details = new HashMap<>();
+            private Map<String, String> details = Collections.emptyMap();
             private String path;
 
             public Builder timestamp(LocalDateTime timestamp) {
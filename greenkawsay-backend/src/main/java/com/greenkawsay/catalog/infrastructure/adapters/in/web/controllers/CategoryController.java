@@ -2,6 +2,7 @@ package com.greenkawsay.catalog.infrastructure.adapters.in.web.controllers;
 
 import com.greenkawsay.catalog.application.ports.in.CategoryServicePort;
 import com.greenkawsay.catalog.domain.valueobjects.CategoryId;
+import com.greenkawsay.catalog.infrastructure.adapters.in.web.cache.CachedJsonResponse;
 import com.greenkawsay.catalog.infrastructure.adapters.in.web.dto.request.CreateCategoryRequest;
 import com.greenkawsay.catalog.infrastructure.adapters.in.web.dto.request.UpdateCategoryRequest;
 import com.greenkawsay.catalog.infrastructure.adapters.in.web.dto.response.CategoryResponse;
@@ -99,6 +100,7 @@ public class CategoryController {
         @ApiResponse(responseCode = "200", description = "Category tree retrieved successfully",
                     content = @Content(schema = @Schema(implementation = CategoryTreeResponse.class)))
     })
+    @CachedJsonResponse(CachedJsonResponse.Scope.CATEGORIES)
     public ResponseEntity<List<CategoryTreeResponse>> getCategoryTree() {
         
         var categoryTree = categoryService.getCategoryTree();
@@ -127,6 +129,7 @@ public class CategoryController {
         @ApiResponse(responseCode = "200", description = "Root categories retrieved successfully",
                     content = @Content(schema = @Schema(implementation = CategoryResponse.class)))
     })
+    @CachedJsonResponse(CachedJsonResponse.Scope.CATEGORIES)
     public ResponseEntity<List<CategoryResponse>> getRootCategories() {
         
         var categories = categoryService.getRootCategories();
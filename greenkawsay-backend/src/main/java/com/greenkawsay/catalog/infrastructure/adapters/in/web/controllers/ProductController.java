@@ -1,7 +1,11 @@
 package com.greenkawsay.catalog.infrastructure.adapters.in.web.controllers;
 
+import com.greenkawsay.catalog.application.ports.in.ProductImageServicePort;
 import com.greenkawsay.catalog.application.ports.in.ProductServicePort;
+import com.greenkawsay.catalog.domain.models.Product;
+import com.greenkawsay.catalog.domain.valueobjects.PrimaryImageUrls;
 import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.catalog.infrastructure.adapters.in.web.cache.CachedJsonResponse;
 import com.greenkawsay.catalog.infrastructure.adapters.in.web.dto.request.CreateProductRequest;
 import com.greenkawsay.catalog.infrastructure.adapters.in.web.dto.request.UpdateProductRequest;
 import com.greenkawsay.catalog.infrastructure.adapters.in.web.dto.response.ProductListResponse;
@@ -23,6 +27,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -35,10 +41,13 @@ import java.util.UUID;
 public class ProductController {
 
     private final ProductServicePort productService;
+    private final ProductImageServicePort productImageService;
     private final ProductMapper productMapper;
 
-    public ProductController(ProductServicePort productService, ProductMapper productMapper) {
+    public ProductController(ProductServicePort productService, ProductImageServicePort productImageService,
+                             ProductMapper productMapper) {
         this.productService = productService;
+        this.productImageService = productImageService;
         this.productMapper = productMapper;
     }
 
@@ -70,12 +79,15 @@ public class ProductController {
         @ApiResponse(responseCode = "404", description = "Product not found"),
         @ApiResponse(responseCode = "400", description = "Invalid product ID format")
     })
+    @CachedJsonResponse(CachedJsonResponse.Scope.PRODUCTS)
     public ResponseEntity<ProductResponse> getProductById(
             @Parameter(description = "Product ID") @PathVariable UUID id) {
         
         ProductId productId = ProductId.fromString(id.toString());
         var product = productService.getProductById(productId);
         var response = productMapper.toProductResponse(product);
+        productMapper.applyPrimaryImage(response,
+            productImageService.getPrimaryImageUrls(List.of(productId)).get(productId));
         
         return ResponseEntity.ok(response);
     }
@@ -101,17 +113,13 @@ public class ProductController {
         Page<ProductResponse> productsPage;
         
         if (categoryId != null && search != null) {
-            productsPage = productService.searchProductsByCategoryAndName(categoryId, search, pageable)
-                .map(productMapper::toProductResponse);
+            productsPage = toResponsePage(productService.searchProductsByCategoryAndName(categoryId, search, pageable));
         } else if (categoryId != null) {
-            productsPage = productService.getProductsByCategory(categoryId, pageable)
-                .map(productMapper::toProductResponse);
+            productsPage = toResponsePage(productService.getProductsByCategory(categoryId, pageable));
         } else if (search != null) {
-            productsPage = productService.searchProductsByName(search, pageable)
-                .map(productMapper::toProductResponse);
+            productsPage = toResponsePage(productService.searchProductsByName(search, pageable));
         } else {
-            productsPage = productService.getAllProducts(pageable)
-                .map(productMapper::toProductResponse);
+            productsPage = toResponsePage(productService.getAllProducts(pageable));
         }
         
         var response = new ProductListResponse(
@@ -168,6 +176,41 @@ public class ProductController {
         return ResponseEntity.ok(response);
     }
 
+    @PatchMapping("/{id}/low-stock-threshold")
+    @Operation(summary = "Update low-stock threshold", description = "Sets the stock level at or below which the product is reported as low stock")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Threshold updated successfully",
+                    content = @Content(schema = @Schema(implementation = ProductResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid threshold"),
+        @ApiResponse(responseCode = "404", description = "Product not found")
+    })
+    public ResponseEntity<ProductResponse> updateLowStockThreshold(
+            @Parameter(description = "Product ID") @PathVariable UUID id,
+            @Parameter(description = "New low-stock threshold") @RequestParam int threshold,
+            @Parameter(description = "User ID updating the threshold") @RequestHeader("X-User-Id") UUID userId) {
+        
+        var product = productService.updateLowStockThreshold(id, threshold, userId);
+        var response = productMapper.toProductResponse(product);
+        
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/low-stock")
+    @Operation(summary = "Get low-stock products", description = "Retrieves the vendor's active products at or below their low-stock threshold, lowest stock first")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Low-stock products retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = ProductResponse.class)))
+    })
+    public ResponseEntity<List<ProductResponse>> getLowStockProducts(
+            @Parameter(description = "Vendor user ID") @RequestHeader("X-User-Id") UUID userId) {
+        
+        var response = productService.getLowStockProducts(userId).stream()
+            .map(productMapper::toProductResponse)
+            .toList();
+        
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete product", description = "Deletes a product by its ID")
     @ApiResponses({
@@ -196,8 +239,7 @@ public class ProductController {
             @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
         
         Pageable pageable = PageRequest.of(page, size, Sort.by("name"));
-        var productsPage = productService.getProductsByCategory(categoryId, pageable)
-            .map(productMapper::toProductResponse);
+        var productsPage = toResponsePage(productService.getProductsByCategory(categoryId, pageable));
         
         var response = new ProductListResponse(
             productsPage.getContent(),
@@ -225,8 +267,7 @@ public class ProductController {
             @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
         
         Pageable pageable = PageRequest.of(page, size, Sort.by("name"));
-        var productsPage = productService.searchProductsByName(q, pageable)
-            .map(productMapper::toProductResponse);
+        var productsPage = toResponsePage(productService.searchProductsByName(q, pageable));
         
         var response = new ProductListResponse(
             productsPage.getContent(),
@@ -240,4 +281,17 @@ public class ProductController {
         
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    /**
+     * Maps a page of products, resolving all primary images with a single batched lookup
+     */
+    private Page<ProductResponse> toResponsePage(Page<Product> products) {
+        List<ProductId> productIds = products.getContent().stream().map(Product::getId).toList();
+        Map<ProductId, PrimaryImageUrls> primaryImages = productImageService.getPrimaryImageUrls(productIds);
+        return products.map(product -> {
+            ProductResponse response = productMapper.toProductResponse(product);
+            productMapper.applyPrimaryImage(response, primaryImages.get(product.getId()));
+            return response;
+        });
+    }
+}
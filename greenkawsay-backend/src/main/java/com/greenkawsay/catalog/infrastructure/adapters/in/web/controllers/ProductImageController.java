@@ -0,0 +1,79 @@
+package com.greenkawsay.catalog.infrastructure.adapters.in.web.controllers;
+
+import com.greenkawsay.catalog.application.commands.UploadProductImageCommand;
+import com.greenkawsay.catalog.application.ports.in.ProductImageServicePort;
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.catalog.infrastructure.adapters.in.web.dto.response.ProductImageResponse;
+import com.greenkawsay.catalog.infrastructure.adapters.in.web.mappers.ProductImageMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST Controller for Product Image operations
+ * Uploads are streamed from the spooled multipart part straight to object storage
+ */
+@RestController
+@RequestMapping("/api/v1/products/{productId}/images")
+@Tag(name = "Product Images", description = "Product image management API")
+public class ProductImageController {
+
+    private final ProductImageServicePort productImageService;
+    private final ProductImageMapper productImageMapper;
+
+    public ProductImageController(ProductImageServicePort productImageService,
+                                  ProductImageMapper productImageMapper) {
+        this.productImageService = productImageService;
+        this.productImageMapper = productImageMapper;
+    }
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Upload a product image",
+               description = "Uploads a JPEG, PNG or WebP image; thumbnail and WebP variants are generated asynchronously")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "Image uploaded successfully",
+                    content = @Content(schema = @Schema(implementation = ProductImageResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Empty file or unsupported image type"),
+        @ApiResponse(responseCode = "404", description = "Product not found"),
+        @ApiResponse(responseCode = "413", description = "File exceeds the maximum upload size")
+    })
+    public ResponseEntity<ProductImageResponse> uploadImage(
+            @Parameter(description = "Product ID") @PathVariable UUID productId,
+            @Parameter(description = "Image file") @RequestPart("file") MultipartFile file,
+            @Parameter(description = "Make this the primary image") @RequestParam(defaultValue = "false") boolean primary,
+            @Parameter(description = "User ID uploading the image") @RequestHeader("X-User-Id") UUID userId) throws IOException {
+        
+        try (InputStream content = file.getInputStream()) {
+            var command = new UploadProductImageCommand(
+                new ProductId(productId), file.getContentType(), file.getSize(), content, primary, userId);
+            var image = productImageService.uploadImage(command);
+            var response = productImageMapper.toProductImageResponse(image);
+            
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        }
+    }
+
+    @GetMapping
+    @Operation(summary = "List product images", description = "Retrieves all images of a product ordered by upload date")
+    @ApiResponse(responseCode = "200", description = "Images retrieved successfully")
+    public ResponseEntity<List<ProductImageResponse>> getProductImages(
+            @Parameter(description = "Product ID") @PathVariable UUID productId) {
+        
+        var images = productImageService.getProductImages(new ProductId(productId));
+        return ResponseEntity.ok(productImageMapper.toProductImageResponseList(images));
+    }
+}
@@ -0,0 +1,95 @@
+package com.greenkawsay.catalog.infrastructure.adapters.in.web.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Response DTO for product image operations
+ */
+@Schema(description = "Product image response data")
+public class ProductImageResponse {
+
+    @Schema(description = "Image ID", example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID id;
+
+    @Schema(description = "Product ID", example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID productId;
+
+    @Schema(description = "URL of the original image", example = "https://cdn.greenkawsay.com/products/123/image.jpg")
+    private String imageUrl;
+
+    @Schema(description = "URL of the thumbnail variant (null until generated)", example = "https://cdn.greenkawsay.com/products/123/image-thumb.jpg")
+    private String thumbnailUrl;
+
+    @Schema(description = "URL of the WebP variant (null until generated)", example = "https://cdn.greenkawsay.com/products/123/image-web.webp")
+    private String webpUrl;
+
+    @Schema(description = "Whether this is the primary product image", example = "true")
+    private boolean primary;
+
+    @Schema(description = "Creation timestamp")
+    private LocalDateTime createdAt;
+
+    // Default constructor for JSON serialization
+    public ProductImageResponse() {
+    }
+
+    // Getters and setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getProductId() {
+        return productId;
+    }
+
+    public void setProductId(UUID productId) {
+        this.productId = productId;
+    }
+
+    public String getImageUrl() {
+        return imageUrl;
+    }
+
+    public void setImageUrl(String imageUrl) {
+        this.imageUrl = imageUrl;
+    }
+
+    public String getThumbnailUrl() {
+        return thumbnailUrl;
+    }
+
+    public void setThumbnailUrl(String thumbnailUrl) {
+        this.thumbnailUrl = thumbnailUrl;
+    }
+
+    public String getWebpUrl() {
+        return webpUrl;
+    }
+
+    public void setWebpUrl(String webpUrl) {
+        this.webpUrl = webpUrl;
+    }
+
+    public boolean isPrimary() {
+        return primary;
+    }
+
+    public void setPrimary(boolean primary) {
+        this.primary = primary;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
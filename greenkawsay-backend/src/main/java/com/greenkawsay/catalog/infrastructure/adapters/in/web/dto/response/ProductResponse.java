@@ -36,6 +36,15 @@ public class ProductResponse {
     @Schema(description = "Stock quantity", example = "100")
     private Integer stockQuantity;
 
+    @Schema(description = "Stock level at or below which the product is reported as low stock", example = "5")
+    private Integer lowStockThreshold;
+
+    @Schema(description = "Primary image URL (null when the product has no images)", example = "https://cdn.greenkawsay.com/products/123/image.jpg")
+    private String imageUrl;
+
+    @Schema(description = "Primary image URL sized for listings, falling back to the original", example = "https://cdn.greenkawsay.com/products/123/image-thumb.jpg")
+    private String thumbnailUrl;
+
     @Schema(description = "Creation timestamp")
     private LocalDateTime createdAt;
 
@@ -126,6 +135,14 @@ public class ProductResponse {
         this.stockQuantity = stockQuantity;
     }
 
+    public Integer getLowStockThreshold() {
+        return lowStockThreshold;
+    }
+
+    public void setLowStockThreshold(Integer lowStockThreshold) {
+        this.lowStockThreshold = lowStockThreshold;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -141,4 +158,20 @@ public class ProductResponse {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
-}
\ No newline at end of file
+
+    public String getImageUrl() {
+        return imageUrl;
+    }
+
+    public void setImageUrl(String imageUrl) {
+        this.imageUrl = imageUrl;
+    }
+
+    public String getThumbnailUrl() {
+        return thumbnailUrl;
+    }
+
+    public void setThumbnailUrl(String thumbnailUrl) {
+        this.thumbnailUrl = thumbnailUrl;
+    }
+}
@@ -0,0 +1,27 @@
+package com.greenkawsay.catalog.infrastructure.adapters.in.web.mappers;
+
+import com.greenkawsay.catalog.domain.models.ProductImage;
+import com.greenkawsay.catalog.infrastructure.adapters.in.web.dto.response.ProductImageResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+import java.util.List;
+
+/**
+ * MapStruct mapper for ProductImage-related DTOs
+ */
+@Mapper(componentModel = "spring")
+public interface ProductImageMapper {
+
+    ProductImageMapper INSTANCE = Mappers.getMapper(ProductImageMapper.class);
+
+    /**
+     * Maps ProductImage domain model to ProductImageResponse
+     */
+    ProductImageResponse toProductImageResponse(ProductImage productImage);
+
+    /**
+     * Maps list of ProductImage domain models to list of ProductImageResponse
+     */
+    List<ProductImageResponse> toProductImageResponseList(List<ProductImage> productImages);
+}
@@ -5,6 +5,7 @@ import com.greenkawsay.catalog.application.commands.UpdateProductCommand;
 import com.greenkawsay.catalog.application.commands.UpdateStockCommand;
 import com.greenkawsay.catalog.domain.models.Product;
 import com.greenkawsay.catalog.domain.valueobjects.CategoryId;
+import com.greenkawsay.catalog.domain.valueobjects.PrimaryImageUrls;
 import com.greenkawsay.catalog.domain.valueobjects.ProductId;
 import com.greenkawsay.catalog.domain.valueobjects.StockQuantity;
 import com.greenkawsay.shared.domain.valueobjects.Money;
@@ -54,8 +55,21 @@ public interface ProductMapper {
     @Mapping(source = "price.amount", target = "price")
     @Mapping(source = "stockQuantity.value", target = "stockQuantity")
     @Mapping(target = "categoryName", ignore = true) // Will be set in controller
+    @Mapping(target = "imageUrl", ignore = true) // Will be set in controller
+    @Mapping(target = "thumbnailUrl", ignore = true) // Will be set in controller
     ProductResponse toProductResponse(Product product);
 
+    /**
+     * Copies the primary image URLs onto a ProductResponse
+     */
+    default void applyPrimaryImage(ProductResponse response, PrimaryImageUrls primaryImage) {
+        if (response == null || primaryImage == null) {
+            return;
+        }
+        response.setImageUrl(primaryImage.getImageUrl());
+        response.setThumbnailUrl(primaryImage.getListingUrl());
+    }
+
     /**
      * Maps list of Product domain models to list of ProductResponse
      */
@@ -0,0 +1,115 @@
+package com.greenkawsay.catalog.infrastructure.adapters.in.web.warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.greenkawsay.catalog.application.ports.in.CategoryServicePort;
+import com.greenkawsay.catalog.application.ports.in.ProductImageServicePort;
+import com.greenkawsay.catalog.application.ports.in.ProductServicePort;
+import com.greenkawsay.catalog.domain.models.Product;
+import com.greenkawsay.catalog.domain.valueobjects.PrimaryImageUrls;
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.catalog.infrastructure.adapters.in.web.cache.JsonResponseCache;
+import com.greenkawsay.catalog.infrastructure.adapters.in.web.dto.response.ProductResponse;
+import com.greenkawsay.catalog.infrastructure.adapters.in.web.mappers.CategoryMapper;
+import com.greenkawsay.catalog.infrastructure.adapters.in.web.mappers.ProductMapper;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.CatalogVersion;
+import com.greenkawsay.shared.infrastructure.startup.WarmUpTask;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replays the storefront read paths through the service ports, the web mappers and Jackson,
+ * then stores the category tree, the root categories and the first product page in the JSON response cache
+ * Reads only, so it is safe against a live database
+ */
+public class CatalogWarmUp implements WarmUpTask {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "name"));
+    private static final String SEARCH_TERM = "eco";
+
+    private final ProductServicePort productService;
+    private final CategoryServicePort categoryService;
+    private final ProductImageServicePort productImageService;
+    private final ProductMapper productMapper;
+    private final CategoryMapper categoryMapper;
+    private final ObjectMapper objectMapper;
+    private final JsonResponseCache responseCache;
+    private final CatalogVersion catalogVersion;
+    private final String contextPath;
+
+    public CatalogWarmUp(ProductServicePort productService, CategoryServicePort categoryService,
+                         ProductImageServicePort productImageService, ProductMapper productMapper,
+                         CategoryMapper categoryMapper, ObjectMapper objectMapper,
+                         JsonResponseCache responseCache, CatalogVersion catalogVersion, String contextPath) {
+        this.productService = productService;
+        this.categoryService = categoryService;
+        this.productImageService = productImageService;
+        this.productMapper = productMapper;
+        this.categoryMapper = categoryMapper;
+        this.objectMapper = objectMapper;
+        this.responseCache = responseCache;
+        this.catalogVersion = catalogVersion;
+        this.contextPath = contextPath != null ? contextPath : "";
+    }
+
+    @Override
+    public String name() {
+        return "catalog";
+    }
+
+    @Override
+    public void warmUp(int iterations) throws JsonProcessingException {
+        for (int i = 0; i < iterations; i++) {
+            List<Product> products = productService.getAllProducts(FIRST_PAGE).getContent();
+            objectMapper.writeValueAsBytes(toResponses(products));
+            if (!products.isEmpty()) {
+                objectMapper.writeValueAsBytes(
+                        productMapper.toProductResponse(productService.getProductById(products.get(0).getId())));
+            }
+            objectMapper.writeValueAsBytes(toResponses(productService.searchProductsByName(SEARCH_TERM, FIRST_PAGE)
+                    .getContent()));
+            objectMapper.writeValueAsBytes(categoryMapper.toCategoryTreeResponseList(categoryService.getCategoryTree()));
+            objectMapper.writeValueAsBytes(categoryMapper.toCategoryResponseList(categoryService.getRootCategories()));
+        }
+        if (responseCache != null) {
+            primeResponseCache();
+        }
+    }
+
+    /**
+     * Versions are read before the data, as the cache interceptor does, so a concurrent write
+     * leaves the primed entries unreachable rather than stale
+     */
+    private void primeResponseCache() {
+        String categories = contextPath + "/api/v1/categories";
+        String categoriesVersion = catalogVersion.categories();
+        responseCache.put(categories + "/tree", categoriesVersion,
+                categoryMapper.toCategoryTreeResponseList(categoryService.getCategoryTree()));
+        responseCache.put(categories + "/roots", categoriesVersion,
+                categoryMapper.toCategoryResponseList(categoryService.getRootCategories()));
+
+        for (Product listed : productService.getAllProducts(FIRST_PAGE).getContent()) {
+            String productVersion = catalogVersion.product(listed.getId().getValue());
+            if (productVersion == null) {
+                continue;
+            }
+            Product product = productService.getProductById(listed.getId());
+            responseCache.put(contextPath + "/api/v1/products/" + product.getId().getValue(), productVersion,
+                    toResponses(List.of(product)).get(0));
+        }
+    }
+
+    private List<ProductResponse> toResponses(List<Product> products) {
+        List<ProductId> productIds = products.stream().map(Product::getId).toList();
+        Map<ProductId, PrimaryImageUrls> primaryImages = productImageService.getPrimaryImageUrls(productIds);
+        return products.stream().map(product -> {
+            ProductResponse response = productMapper.toProductResponse(product);
+            productMapper.applyPrimaryImage(response, primaryImages.get(product.getId()));
+            return response;
+        }).toList();
+    }
+}
@@ -0,0 +1,167 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.images;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Optional;
+
+/**
+ * Produces downscaled product image variants using the JDK ImageIO stack
+ * WebP output is only available when a WebP ImageIO writer is on the classpath;
+ * images declaring more than maxPixels are rejected before their raster is decoded
+ */
+public class ImageVariantGenerator {
+
+    private static final float JPEG_QUALITY = 0.85f;
+    private static final float WEBP_QUALITY = 0.80f;
+
+    private final int thumbnailSize;
+    private final int webpMaxSize;
+    private final long maxPixels;
+
+    public ImageVariantGenerator(int thumbnailSize, int webpMaxSize, long maxPixels) {
+        this.thumbnailSize = thumbnailSize;
+        this.webpMaxSize = webpMaxSize;
+        this.maxPixels = maxPixels;
+    }
+
+    /**
+     * Encoded variant ready to be stored
+     */
+    public record GeneratedVariant(byte[] content, String contentType, String extension) {
+    }
+
+    /**
+     * Checks the dimensions from the image header first, since a few kilobytes can declare a raster
+     * far larger than the heap
+     */
+    public BufferedImage decode(InputStream content) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(content)) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("Unsupported or corrupt image content");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new IOException("Image of " + width + "x" + height + " exceeds " + maxPixels + " pixels");
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    public GeneratedVariant thumbnail(BufferedImage source) throws IOException {
+        BufferedImage scaled = toOpaqueRgb(scaleToFit(source, thumbnailSize));
+        return new GeneratedVariant(encode(scaled, "image/jpeg", JPEG_QUALITY), "image/jpeg", "jpg");
+    }
+
+    public Optional<GeneratedVariant> webp(BufferedImage source) throws IOException {
+        if (!supportsWebp()) {
+            return Optional.empty();
+        }
+        BufferedImage scaled = scaleToFit(source, webpMaxSize);
+        return Optional.of(new GeneratedVariant(encode(scaled, "image/webp", WEBP_QUALITY), "image/webp", "webp"));
+    }
+
+    public boolean supportsWebp() {
+        return ImageIO.getImageWritersByMIMEType("image/webp").hasNext();
+    }
+
+    /**
+     * Downscale so the longest edge fits maxEdge, halving first to keep quality with bilinear filtering
+     */
+    static BufferedImage scaleToFit(BufferedImage source, int maxEdge) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        int longest = Math.max(width, height);
+        if (longest <= maxEdge) {
+            return source;
+        }
+        double ratio = (double) maxEdge / longest;
+        int targetWidth = Math.max(1, (int) Math.round(width * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(height * ratio));
+
+        BufferedImage current = source;
+        int currentWidth = width;
+        int currentHeight = height;
+        do {
+            currentWidth = Math.max(targetWidth, currentWidth / 2);
+            currentHeight = Math.max(targetHeight, currentHeight / 2);
+            current = resize(current, currentWidth, currentHeight);
+        } while (currentWidth != targetWidth || currentHeight != targetHeight);
+        return current;
+    }
+
+    private static BufferedImage resize(BufferedImage source, int width, int height) {
+        int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage target = new BufferedImage(width, height, type);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static BufferedImage toOpaqueRgb(BufferedImage source) {
+        if (source.getType() == BufferedImage.TYPE_INT_RGB) {
+            return source;
+        }
+        BufferedImage target = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, source.getWidth(), source.getHeight());
+            graphics.drawImage(source, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] encode(BufferedImage image, String mimeType, float quality) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByMIMEType(mimeType);
+        if (!writers.hasNext()) {
+            throw new IOException("No ImageIO writer available for " + mimeType);
+        }
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(16 * 1024);
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(buffer)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                String[] types = param.getCompressionTypes();
+                if (types != null && types.length > 0 && param.getCompressionType() == null) {
+                    param.setCompressionType(types[0]);
+                }
+                param.setCompressionQuality(quality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,109 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.images;
+
+import com.greenkawsay.catalog.application.ports.out.ProductImageStoragePort;
+import com.greenkawsay.catalog.domain.events.ProductImageUploadedEvent;
+import com.greenkawsay.catalog.domain.repositories.ProductImageRepository;
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.catalog.infrastructure.adapters.out.images.ImageVariantGenerator.GeneratedVariant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates thumbnail and WebP variants for uploaded product images off the request thread
+ * Work runs on a bounded pool; when the queue is full the image simply keeps serving the original
+ */
+@Slf4j
+public class ProductImageVariantWorker implements DisposableBean {
+
+    private final ProductImageStoragePort storage;
+    private final ProductImageRepository productImageRepository;
+    private final ImageVariantGenerator generator;
+    private final ThreadPoolExecutor executor;
+
+    public ProductImageVariantWorker(ProductImageStoragePort storage,
+                                     ProductImageRepository productImageRepository,
+                                     ImageVariantGenerator generator,
+                                     int workers,
+                                     int queueCapacity) {
+        this.storage = storage;
+        this.productImageRepository = productImageRepository;
+        this.generator = generator;
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variants-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onImageUploaded(ProductImageUploadedEvent event) {
+        try {
+            executor.execute(() -> process(event));
+        } catch (RejectedExecutionException e) {
+            log.warn("Variant queue full, image {} will be served without variants", event.imageId());
+        }
+    }
+
+    void process(ProductImageUploadedEvent event) {
+        try {
+            BufferedImage original;
+            try (InputStream content = storage.open(event.storageKey())) {
+                original = generator.decode(content);
+            }
+            String baseKey = stripExtension(event.storageKey());
+
+            String thumbnailUrl = store(baseKey + "-thumb", generator.thumbnail(original));
+            Optional<GeneratedVariant> webp = generator.webp(original);
+            String webpUrl = webp.isPresent() ? store(baseKey + "-web", webp.get()) : null;
+
+            boolean attached = productImageRepository.attachVariants(new ProductId(event.productId()),
+                    event.imageId().toString(), thumbnailUrl, webpUrl, event.uploadedBy());
+            if (!attached) {
+                log.debug("Image {} deleted before its variants were ready", event.imageId());
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to generate variants for image {}: {}", event.imageId(), e.getMessage());
+        }
+    }
+
+    int pendingCount() {
+        return executor.getQueue().size() + executor.getActiveCount();
+    }
+
+    private String store(String baseKey, GeneratedVariant variant) {
+        String key = baseKey + "." + variant.extension();
+        byte[] content = variant.content();
+        return storage.store(key, new ByteArrayInputStream(content), content.length, variant.contentType());
+    }
+
+    private static String stripExtension(String key) {
+        int dot = key.lastIndexOf('.');
+        int slash = key.lastIndexOf('/');
+        return dot > slash ? key.substring(0, dot) : key;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
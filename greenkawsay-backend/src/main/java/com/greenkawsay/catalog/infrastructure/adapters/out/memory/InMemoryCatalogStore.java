@@ -0,0 +1,107 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.memory;
+
+import com.greenkawsay.catalog.domain.models.Category;
+import com.greenkawsay.catalog.domain.models.Product;
+import com.greenkawsay.catalog.domain.models.ProductImage;
+import com.greenkawsay.catalog.domain.models.Review;
+import com.greenkawsay.shared.infrastructure.persistence.memory.MemoryIndex;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Tables and secondary indexes of the catalog for the memory profile, shared by the in-memory adapters
+ * the way the catalog tables are shared by the JPA adapters
+ * Rows and indexes change together under the single write lock, reads go to the concurrent maps directly
+ */
+public class InMemoryCatalogStore {
+
+    final Object writeLock = new Object();
+
+    final ConcurrentHashMap<UUID, ProductRow> products = new ConcurrentHashMap<>();
+    final MemoryIndex<UUID, UUID> productsByCategory = new MemoryIndex<>();
+    final MemoryIndex<UUID, UUID> productsByUser = new MemoryIndex<>();
+    final MemoryIndex<UUID, UUID> lowStockProductsByUser = new MemoryIndex<>();
+
+    final ConcurrentHashMap<UUID, Category> categories = new ConcurrentHashMap<>();
+    final ConcurrentHashMap<String, UUID> categoriesBySlug = new ConcurrentHashMap<>();
+    final MemoryIndex<UUID, UUID> categoriesByParent = new MemoryIndex<>();
+
+    final ConcurrentHashMap<UUID, ProductImage> images = new ConcurrentHashMap<>();
+    final MemoryIndex<UUID, UUID> imagesByProduct = new MemoryIndex<>();
+
+    final ConcurrentHashMap<UUID, Review> reviews = new ConcurrentHashMap<>();
+    final MemoryIndex<UUID, UUID> reviewsByProduct = new MemoryIndex<>();
+    final MemoryIndex<UUID, UUID> reviewsByUser = new MemoryIndex<>();
+
+    /**
+     * Stored product with its lower-cased name, so "contains" searches do not lower-case on every read
+     */
+    record ProductRow(Product product, String nameKey) {
+
+        static ProductRow of(Product product) {
+            return new ProductRow(product, InMemoryCatalogStore.nameKey(product.getName()));
+        }
+    }
+
+    static String nameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The category and all of its descendants, the equivalent of the recursive subtree CTE
+     */
+    Set<UUID> categorySubtree(UUID categoryId) {
+        Set<UUID> subtree = new LinkedHashSet<>();
+        Deque<UUID> pending = new ArrayDeque<>();
+        pending.push(categoryId);
+        while (!pending.isEmpty()) {
+            UUID current = pending.pop();
+            if (categories.containsKey(current) && subtree.add(current)) {
+                categoriesByParent.get(current).forEach(pending::push);
+            }
+        }
+        return subtree;
+    }
+
+    /**
+     * Cascade of the product_images foreign key, called under the write lock
+     */
+    void deleteImagesOf(UUID productId) {
+        for (UUID imageId : List.copyOf(imagesByProduct.get(productId))) {
+            images.remove(imageId);
+            imagesByProduct.remove(productId, imageId);
+        }
+    }
+
+    /**
+     * Stored reviews are handed out without copying, the action must not modify them
+     */
+    public void forEachReview(Consumer<Review> action) {
+        reviews.values().forEach(action);
+    }
+
+    public void clear() {
+        synchronized (writeLock) {
+            products.clear();
+            productsByCategory.clear();
+            productsByUser.clear();
+            lowStockProductsByUser.clear();
+            categories.clear();
+            categoriesBySlug.clear();
+            categoriesByParent.clear();
+            images.clear();
+            imagesByProduct.clear();
+            reviews.clear();
+            reviewsByProduct.clear();
+            reviewsByUser.clear();
+        }
+    }
+}
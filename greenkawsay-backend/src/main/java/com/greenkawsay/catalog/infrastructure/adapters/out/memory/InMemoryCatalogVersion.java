@@ -0,0 +1,54 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.memory;
+
+import com.greenkawsay.catalog.domain.models.Category;
+import com.greenkawsay.catalog.domain.models.ProductImage;
+import com.greenkawsay.catalog.infrastructure.adapters.out.memory.InMemoryCatalogStore.ProductRow;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.CatalogVersion;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * CatalogVersion for the memory profile, derived from the stored rows like the JDBC version
+ * is derived from the updated_at columns and row counts
+ */
+public class InMemoryCatalogVersion implements CatalogVersion {
+
+    private final InMemoryCatalogStore store;
+
+    public InMemoryCatalogVersion(InMemoryCatalogStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public String categories() {
+        synchronized (store.writeLock) {
+            LocalDateTime latest = store.categories.values().stream()
+                    .map(Category::getUpdatedAt)
+                    .max(Comparator.naturalOrder())
+                    .orElse(null);
+            return store.categories.size() + "/" + latest + "/";
+        }
+    }
+
+    @Override
+    public String product(UUID productId) {
+        synchronized (store.writeLock) {
+            ProductRow row = store.products.get(productId);
+            if (row == null) {
+                return null;
+            }
+            Set<UUID> imageIds = store.imagesByProduct.get(productId);
+            LocalDateTime latestImage = imageIds.stream()
+                    .map(store.images::get)
+                    .filter(Objects::nonNull)
+                    .map(ProductImage::getUpdatedAt)
+                    .max(Comparator.naturalOrder())
+                    .orElse(null);
+            return row.product().getUpdatedAt() + "/" + imageIds.size() + "/" + latestImage + "/";
+        }
+    }
+}
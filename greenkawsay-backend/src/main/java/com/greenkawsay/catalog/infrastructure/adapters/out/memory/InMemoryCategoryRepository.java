@@ -0,0 +1,138 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.memory;
+
+import com.greenkawsay.catalog.domain.models.Category;
+import com.greenkawsay.catalog.domain.repositories.CategoryRepository;
+import com.greenkawsay.catalog.domain.valueobjects.CategoryId;
+import com.greenkawsay.shared.infrastructure.persistence.memory.MemoryPages;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import static com.greenkawsay.catalog.infrastructure.adapters.out.memory.InMemoryCatalogStore.nameKey;
+
+/**
+ * In-memory implementation of the CategoryRepository domain port for the memory profile
+ * Slugs are unique like the slug column, a duplicate fails with the exception the JPA adapter raises;
+ * listings are ordered by name as in the JPA adapter, every category is active
+ */
+public class InMemoryCategoryRepository implements CategoryRepository {
+
+    private static final Comparator<Category> BY_NAME = Comparator.comparing(Category::getName)
+            .thenComparing(category -> category.getId().getValue(), MemoryPages.UUID_ORDER);
+
+    private final InMemoryCatalogStore store;
+
+    public InMemoryCategoryRepository(InMemoryCatalogStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Category save(Category category) {
+        Category stored = copy(category);
+        UUID id = stored.getId().getValue();
+        synchronized (store.writeLock) {
+            UUID slugOwner = store.categoriesBySlug.get(stored.getSlug());
+            if (slugOwner != null && !slugOwner.equals(id)) {
+                throw new DataIntegrityViolationException("Duplicate category slug: " + stored.getSlug());
+            }
+            Category previous = store.categories.put(id, stored);
+            if (previous != null) {
+                store.categoriesBySlug.remove(previous.getSlug(), id);
+            }
+            store.categoriesBySlug.put(stored.getSlug(), id);
+            store.categoriesByParent.move(previous != null ? parentOf(previous) : null, parentOf(stored), id);
+        }
+        return copy(stored);
+    }
+
+    @Override
+    public Optional<Category> findById(CategoryId categoryId) {
+        return Optional.ofNullable(store.categories.get(categoryId.getValue())).map(InMemoryCategoryRepository::copy);
+    }
+
+    @Override
+    public Optional<Category> findBySlug(String slug) {
+        return Optional.ofNullable(store.categoriesBySlug.get(slug))
+                .map(store.categories::get)
+                .map(InMemoryCategoryRepository::copy);
+    }
+
+    @Override
+    public List<Category> findRootCategories() {
+        return sorted(store.categories.values(), Category::isRootCategory);
+    }
+
+    @Override
+    public List<Category> findByParentId(CategoryId parentId) {
+        return sorted(store.categoriesByParent.get(parentId.getValue()).stream()
+                .map(store.categories::get)
+                .filter(Objects::nonNull)
+                .toList(), category -> true);
+    }
+
+    @Override
+    public List<Category> findByNameContaining(String name) {
+        String term = nameKey(name);
+        return sorted(store.categories.values(), category -> nameKey(category.getName()).contains(term));
+    }
+
+    @Override
+    public boolean existsBySlug(String slug) {
+        return store.categoriesBySlug.containsKey(slug);
+    }
+
+    @Override
+    public List<Category> findActiveCategories() {
+        return sorted(store.categories.values(), category -> true);
+    }
+
+    @Override
+    public List<Category> findActiveCategoriesByParent(CategoryId parentId) {
+        return findByParentId(parentId);
+    }
+
+    @Override
+    public void deleteById(CategoryId categoryId) {
+        UUID id = categoryId.getValue();
+        synchronized (store.writeLock) {
+            Category removed = store.categories.remove(id);
+            if (removed != null) {
+                store.categoriesBySlug.remove(removed.getSlug(), id);
+                store.categoriesByParent.remove(parentOf(removed), id);
+            }
+        }
+    }
+
+    @Override
+    public Long countProductsInCategory(CategoryId categoryId) {
+        long count = 0;
+        for (UUID id : store.categorySubtree(categoryId.getValue())) {
+            count += store.productsByCategory.count(id);
+        }
+        return count;
+    }
+
+    private static UUID parentOf(Category category) {
+        return category.getParentId() != null ? category.getParentId().getValue() : null;
+    }
+
+    private static List<Category> sorted(Collection<Category> categories, Predicate<Category> filter) {
+        return categories.stream()
+                .filter(filter)
+                .sorted(BY_NAME)
+                .map(InMemoryCategoryRepository::copy)
+                .toList();
+    }
+
+    static Category copy(Category category) {
+        return new Category(category.getId(), category.getName(), category.getSlug(), category.getDescription(),
+                category.getParentId(), category.getCreatedAt(), category.getUpdatedAt(),
+                category.getCreatedBy(), category.getUpdatedBy());
+    }
+}
@@ -0,0 +1,178 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.memory;
+
+import com.greenkawsay.catalog.domain.models.ProductImage;
+import com.greenkawsay.catalog.domain.repositories.ProductImageRepository;
+import com.greenkawsay.catalog.domain.valueobjects.PrimaryImageUrls;
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.shared.infrastructure.persistence.memory.MemoryPages;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * In-memory implementation of the ProductImageRepository domain port for the memory profile
+ * A product has at most one primary image, as enforced by uq_product_images_primary;
+ * images of a product are listed oldest first
+ */
+public class InMemoryProductImageRepository implements ProductImageRepository {
+
+    private static final Comparator<ProductImage> BY_CREATED_AT = Comparator.comparing(ProductImage::getCreatedAt)
+            .thenComparing(ProductImage::getId, MemoryPages.UUID_ORDER);
+
+    private final InMemoryCatalogStore store;
+
+    public InMemoryProductImageRepository(InMemoryCatalogStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public ProductImage save(ProductImage productImage) {
+        ProductImage stored = copy(productImage);
+        synchronized (store.writeLock) {
+            if (stored.isPrimary() && primaryOf(stored.getProductId())
+                    .anyMatch(image -> !image.getId().equals(stored.getId()))) {
+                throw new DataIntegrityViolationException("Product already has a primary image: " + stored.getProductId());
+            }
+            ProductImage previous = store.images.put(stored.getId(), stored);
+            store.imagesByProduct.move(previous != null ? previous.getProductId() : null, stored.getProductId(),
+                    stored.getId());
+        }
+        return copy(stored);
+    }
+
+    @Override
+    public Optional<ProductImage> findById(String imageId) {
+        return Optional.ofNullable(store.images.get(UUID.fromString(imageId))).map(InMemoryProductImageRepository::copy);
+    }
+
+    @Override
+    public List<ProductImage> findByProductId(ProductId productId) {
+        return findByProductIdOrderByCreatedAt(productId);
+    }
+
+    @Override
+    public Optional<ProductImage> findPrimaryImageByProductId(ProductId productId) {
+        return primaryOf(productId.getValue()).findFirst().map(InMemoryProductImageRepository::copy);
+    }
+
+    @Override
+    public List<ProductImage> findPrimaryImagesByProductIds(List<ProductId> productIds) {
+        return productIds.stream()
+                .map(ProductId::getValue)
+                .distinct()
+                .flatMap(this::primaryOf)
+                .map(InMemoryProductImageRepository::copy)
+                .toList();
+    }
+
+    @Override
+    public Map<ProductId, PrimaryImageUrls> findPrimaryImageUrlsByProductIds(Collection<ProductId> productIds) {
+        Map<ProductId, PrimaryImageUrls> result = new HashMap<>(productIds.size() * 2);
+        for (ProductId productId : productIds) {
+            primaryOf(productId.getValue()).findFirst().ifPresent(image -> result.put(productId,
+                    new PrimaryImageUrls(productId, image.getImageUrl(), image.getThumbnailUrl(), image.getWebpUrl())));
+        }
+        return result;
+    }
+
+    @Override
+    public Long countByProductId(ProductId productId) {
+        return (long) store.imagesByProduct.count(productId.getValue());
+    }
+
+    @Override
+    public boolean existsByProductId(ProductId productId) {
+        return store.imagesByProduct.count(productId.getValue()) > 0;
+    }
+
+    @Override
+    public boolean hasPrimaryImage(ProductId productId) {
+        return primaryOf(productId.getValue()).findAny().isPresent();
+    }
+
+    @Override
+    public void demotePrimaryImage(ProductId productId, UUID updatedBy) {
+        synchronized (store.writeLock) {
+            primaryOf(productId.getValue()).toList().forEach(image -> {
+                ProductImage demoted = copy(image);
+                demoted.setAsSecondary(updatedBy);
+                store.images.put(demoted.getId(), demoted);
+            });
+        }
+    }
+
+    @Override
+    public boolean attachVariants(ProductId productId, String imageId, String thumbnailUrl, String webpUrl,
+                                  UUID updatedBy) {
+        synchronized (store.writeLock) {
+            ProductImage image = store.images.get(UUID.fromString(imageId));
+            if (image == null || !image.getProductId().equals(productId.getValue())) {
+                return false;
+            }
+            ProductImage updated = copy(image);
+            updated.attachVariants(thumbnailUrl, webpUrl, updatedBy);
+            store.images.put(updated.getId(), updated);
+            return true;
+        }
+    }
+
+    @Override
+    public List<ProductImage> findByProductIdOrderByCreatedAt(ProductId productId) {
+        return imagesOf(productId.getValue())
+                .sorted(BY_CREATED_AT)
+                .map(InMemoryProductImageRepository::copy)
+                .toList();
+    }
+
+    @Override
+    public void deleteByProductId(ProductId productId) {
+        synchronized (store.writeLock) {
+            store.deleteImagesOf(productId.getValue());
+        }
+    }
+
+    @Override
+    public void deleteByProductIdAndImageId(ProductId productId, String imageId) {
+        UUID id = UUID.fromString(imageId);
+        synchronized (store.writeLock) {
+            ProductImage image = store.images.get(id);
+            if (image != null && image.getProductId().equals(productId.getValue())) {
+                store.images.remove(id);
+                store.imagesByProduct.remove(image.getProductId(), id);
+            }
+        }
+    }
+
+    @Override
+    public void deleteById(String imageId) {
+        UUID id = UUID.fromString(imageId);
+        synchronized (store.writeLock) {
+            ProductImage removed = store.images.remove(id);
+            if (removed != null) {
+                store.imagesByProduct.remove(removed.getProductId(), id);
+            }
+        }
+    }
+
+    private Stream<ProductImage> imagesOf(UUID productId) {
+        return store.imagesByProduct.get(productId).stream().map(store.images::get).filter(Objects::nonNull);
+    }
+
+    private Stream<ProductImage> primaryOf(UUID productId) {
+        return imagesOf(productId).filter(ProductImage::isPrimary);
+    }
+
+    static ProductImage copy(ProductImage image) {
+        return new ProductImage(image.getId(), image.getProductId(), image.getImageUrl(), image.isPrimary(),
+                image.getThumbnailUrl(), image.getWebpUrl(), image.getCreatedAt(), image.getUpdatedAt(),
+                image.getCreatedBy(), image.getUpdatedBy());
+    }
+}
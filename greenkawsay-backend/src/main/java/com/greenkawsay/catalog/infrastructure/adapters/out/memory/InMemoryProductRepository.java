@@ -0,0 +1,333 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.memory;
+
+import com.greenkawsay.catalog.domain.models.Product;
+import com.greenkawsay.catalog.domain.repositories.ProductRepository;
+import com.greenkawsay.catalog.domain.valueobjects.CategoryId;
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.catalog.infrastructure.adapters.out.memory.InMemoryCatalogStore.ProductRow;
+import com.greenkawsay.shared.domain.valueobjects.Money;
+import com.greenkawsay.shared.infrastructure.persistence.memory.MemoryPages;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static com.greenkawsay.catalog.infrastructure.adapters.out.memory.InMemoryCatalogStore.nameKey;
+
+/**
+ * In-memory implementation of the ProductRepository domain port for the memory profile
+ * Products are copied on the way in and out, so callers mutating a loaded product never touch the stored row;
+ * category and owner lookups go through secondary indexes, like the vendor low-stock set, which is
+ * updated on every save the way the partial low-stock index is; the other filters scan the table
+ */
+public class InMemoryProductRepository implements ProductRepository {
+
+    /**
+     * Same limit as the JPA adapter, the newest available products are featured
+     */
+    private static final int FEATURED_PRODUCTS_LIMIT = 12;
+
+    private static final Comparator<Product> BY_ID =
+            Comparator.comparing(product -> product.getId().getValue(), MemoryPages.UUID_ORDER);
+
+    /**
+     * Sortable properties, named after the ProductEntity fields a Pageable refers to in the JPA adapter
+     */
+    private static final Map<String, Function<Product, ? extends Comparable<?>>> SORTABLE = Map.ofEntries(
+            // The text form of a UUID sorts like the unsigned bytes PostgreSQL compares
+            Map.entry("id", product -> product.getId().getValueAsString()),
+            Map.entry("name", Product::getName),
+            Map.entry("description", Product::getDescription),
+            Map.entry("price", product -> product.getPrice().getAmount()),
+            Map.entry("categoryId", product -> product.getCategoryId().getValueAsString()),
+            Map.entry("userId", product -> product.getUserId().toString()),
+            Map.entry("stockQuantity", product -> product.getStockQuantity().getValue()),
+            Map.entry("active", Product::isActive),
+            Map.entry("createdAt", Product::getCreatedAt),
+            Map.entry("updatedAt", Product::getUpdatedAt));
+
+    private final InMemoryCatalogStore store;
+
+    public InMemoryProductRepository(InMemoryCatalogStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Product save(Product product) {
+        Product stored = copy(product);
+        synchronized (store.writeLock) {
+            put(stored);
+        }
+        return copy(stored);
+    }
+
+    @Override
+    public List<Product> saveAll(List<Product> products) {
+        if (products.isEmpty()) {
+            return List.of();
+        }
+        List<Product> stored = products.stream().map(InMemoryProductRepository::copy).toList();
+        synchronized (store.writeLock) {
+            stored.forEach(this::put);
+        }
+        return stored.stream().map(InMemoryProductRepository::copy).toList();
+    }
+
+    private void put(Product product) {
+        UUID id = product.getId().getValue();
+        ProductRow previous = store.products.put(id, ProductRow.of(product));
+        if (previous == null) {
+            store.productsByCategory.add(product.getCategoryId().getValue(), id);
+            store.productsByUser.add(product.getUserId(), id);
+        } else {
+            store.productsByCategory.move(previous.product().getCategoryId().getValue(),
+                    product.getCategoryId().getValue(), id);
+        }
+        if (product.isLowStock()) {
+            store.lowStockProductsByUser.add(product.getUserId(), id);
+        } else if (previous != null && previous.product().isLowStock()) {
+            store.lowStockProductsByUser.remove(product.getUserId(), id);
+        }
+    }
+
+    @Override
+    public Optional<Product> findById(ProductId productId) {
+        return Optional.ofNullable(store.products.get(productId.getValue())).map(row -> copy(row.product()));
+    }
+
+    @Override
+    public List<Product> findByCategoryId(CategoryId categoryId) {
+        return list(byCategory(categoryId.getValue()), row -> true);
+    }
+
+    @Override
+    public List<Product> findByCategoryAndSubcategories(CategoryId categoryId) {
+        return list(byCategories(store.categorySubtree(categoryId.getValue())), row -> true);
+    }
+
+    @Override
+    public List<Product> findByUserId(String userId) {
+        return list(ids(store.productsByUser.get(UUID.fromString(userId))), row -> true);
+    }
+
+    @Override
+    public List<Product> findActiveProducts() {
+        return list(all(), active());
+    }
+
+    @Override
+    public List<Product> findActiveProductsByCategory(CategoryId categoryId) {
+        return list(byCategory(categoryId.getValue()), active());
+    }
+
+    @Override
+    public List<Product> findByNameContaining(String name) {
+        return list(all(), nameContains(name));
+    }
+
+    @Override
+    public List<Product> findActiveProductsByNameContaining(String name) {
+        return list(all(), active().and(nameContains(name)));
+    }
+
+    @Override
+    public List<Product> findByPriceRange(Money minPrice, Money maxPrice) {
+        return list(all(), priceBetween(minPrice, maxPrice));
+    }
+
+    @Override
+    public List<Product> findActiveProductsByPriceRange(Money minPrice, Money maxPrice) {
+        return list(all(), active().and(priceBetween(minPrice, maxPrice)));
+    }
+
+    @Override
+    public List<Product> findProductsWithStock() {
+        return list(all(), inStock());
+    }
+
+    @Override
+    public List<Product> findActiveProductsWithStock() {
+        return list(all(), active().and(inStock()));
+    }
+
+    @Override
+    public List<Product> findByCategoryIds(List<CategoryId> categoryIds) {
+        return list(byCategories(toUuids(categoryIds)), row -> true);
+    }
+
+    @Override
+    public List<Product> findActiveProductsByCategoryIds(List<CategoryId> categoryIds) {
+        return list(byCategories(toUuids(categoryIds)), active());
+    }
+
+    @Override
+    public boolean existsByName(String name) {
+        return all().anyMatch(row -> row.product().getName().equals(name));
+    }
+
+    @Override
+    public Long countByCategoryId(CategoryId categoryId) {
+        return (long) store.productsByCategory.count(categoryId.getValue());
+    }
+
+    @Override
+    public Long countActiveProductsByCategoryId(CategoryId categoryId) {
+        return byCategory(categoryId.getValue()).filter(active()).count();
+    }
+
+    @Override
+    public List<Product> findFeaturedProducts() {
+        return all().filter(active().and(inStock()))
+                .map(ProductRow::product)
+                .sorted(Comparator.comparing(Product::getCreatedAt).reversed().thenComparing(BY_ID))
+                .limit(FEATURED_PRODUCTS_LIMIT)
+                .map(InMemoryProductRepository::copy)
+                .toList();
+    }
+
+    @Override
+    public List<Product> findLowStockProducts(int threshold) {
+        return all().filter(row -> row.product().getStockQuantity().getValue() < threshold)
+                .map(ProductRow::product)
+                .sorted(Comparator.comparingInt((Product product) -> product.getStockQuantity().getValue())
+                        .thenComparing(BY_ID))
+                .map(InMemoryProductRepository::copy)
+                .toList();
+    }
+
+    @Override
+    public List<Product> findLowStockProductsByUserId(UUID userId) {
+        return store.lowStockProductsByUser.get(userId).stream()
+                .map(store.products::get)
+                .filter(Objects::nonNull)
+                .map(ProductRow::product)
+                .sorted(Comparator.comparingInt((Product product) -> product.getStockQuantity().getValue())
+                        .thenComparing(BY_ID))
+                .map(InMemoryProductRepository::copy)
+                .toList();
+    }
+
+    @Override
+    public void deleteById(ProductId productId) {
+        synchronized (store.writeLock) {
+            ProductRow removed = store.products.remove(productId.getValue());
+            if (removed != null) {
+                store.productsByCategory.remove(removed.product().getCategoryId().getValue(), productId.getValue());
+                store.productsByUser.remove(removed.product().getUserId(), productId.getValue());
+                store.lowStockProductsByUser.remove(removed.product().getUserId(), productId.getValue());
+                store.deleteImagesOf(productId.getValue());
+            }
+        }
+    }
+
+    @Override
+    public Page<Product> findAll(Pageable pageable) {
+        return page(all(), row -> true, pageable);
+    }
+
+    @Override
+    public Page<Product> findByCategoryId(CategoryId categoryId, Pageable pageable) {
+        return page(byCategory(categoryId.getValue()), row -> true, pageable);
+    }
+
+    @Override
+    public Page<Product> findActiveProductsByCategory(CategoryId categoryId, Pageable pageable) {
+        return page(byCategory(categoryId.getValue()), active(), pageable);
+    }
+
+    @Override
+    public Page<Product> findByNameContaining(String name, Pageable pageable) {
+        return page(all(), nameContains(name), pageable);
+    }
+
+    @Override
+    public Page<Product> findActiveProductsByNameContaining(String name, Pageable pageable) {
+        return page(all(), active().and(nameContains(name)), pageable);
+    }
+
+    @Override
+    public Page<Product> findByCategoryIdAndNameContaining(CategoryId categoryId, String name, Pageable pageable) {
+        return page(byCategory(categoryId.getValue()), nameContains(name), pageable);
+    }
+
+    @Override
+    public Page<Product> findActiveProductsByCategoryAndNameContaining(CategoryId categoryId, String name, Pageable pageable) {
+        return page(byCategory(categoryId.getValue()), active().and(nameContains(name)), pageable);
+    }
+
+    private Stream<ProductRow> all() {
+        return store.products.values().stream();
+    }
+
+    private Stream<ProductRow> byCategory(UUID categoryId) {
+        return ids(store.productsByCategory.get(categoryId));
+    }
+
+    private Stream<ProductRow> byCategories(Collection<UUID> categoryIds) {
+        return ids(categoryIds.stream()
+                .flatMap(categoryId -> store.productsByCategory.get(categoryId).stream())
+                .toList());
+    }
+
+    // A row removed after the index was read is skipped, like a row deleted by a concurrent transaction
+    private Stream<ProductRow> ids(Collection<UUID> ids) {
+        return ids.stream().map(store.products::get).filter(Objects::nonNull);
+    }
+
+    private static List<Product> list(Stream<ProductRow> rows, Predicate<ProductRow> filter) {
+        return rows.filter(filter).map(row -> copy(row.product())).toList();
+    }
+
+    private static Page<Product> page(Stream<ProductRow> rows, Predicate<ProductRow> filter, Pageable pageable) {
+        List<Product> matches = rows.filter(filter).map(ProductRow::product).toList();
+        return MemoryPages.page(matches, pageable, Product.class, SORTABLE, BY_ID)
+                .map(InMemoryProductRepository::copy);
+    }
+
+    private static Predicate<ProductRow> active() {
+        return row -> row.product().isActive();
+    }
+
+    private static Predicate<ProductRow> inStock() {
+        return row -> row.product().getStockQuantity().getValue() > 0;
+    }
+
+    private static Predicate<ProductRow> nameContains(String name) {
+        String term = nameKey(name);
+        return row -> row.nameKey().contains(term);
+    }
+
+    private static Predicate<ProductRow> priceBetween(Money minPrice, Money maxPrice) {
+        BigDecimal min = minPrice.getAmount();
+        BigDecimal max = maxPrice.getAmount();
+        return row -> {
+            BigDecimal price = row.product().getPrice().getAmount();
+            return price.compareTo(min) >= 0 && price.compareTo(max) <= 0;
+        };
+    }
+
+    private static Set<UUID> toUuids(List<CategoryId> categoryIds) {
+        Set<UUID> ids = new LinkedHashSet<>();
+        categoryIds.forEach(categoryId -> ids.add(categoryId.getValue()));
+        return ids;
+    }
+
+    static Product copy(Product product) {
+        return new Product(product.getId(), product.getName(), product.getDescription(), product.getPrice(),
+                product.getCategoryId(), product.getStockQuantity(), product.getLowStockThreshold(), product.isActive(),
+                product.getUserId(), product.getCreatedAt(), product.getUpdatedAt(), product.getCreatedBy(),
+                product.getUpdatedBy());
+    }
+}
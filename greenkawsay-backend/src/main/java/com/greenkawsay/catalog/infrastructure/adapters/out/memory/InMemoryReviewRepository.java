@@ -0,0 +1,193 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.memory;
+
+import com.greenkawsay.catalog.domain.models.Review;
+import com.greenkawsay.catalog.domain.repositories.ReviewRepository;
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.shared.infrastructure.persistence.memory.MemoryPages;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * In-memory implementation of the ReviewRepository domain port for the memory profile
+ * A user reviews a product at most once, as enforced by UNIQUE(user_id, product_id);
+ * lookups by product and by user go through secondary indexes
+ */
+public class InMemoryReviewRepository implements ReviewRepository {
+
+    private static final int LATEST_REVIEWS_LIMIT = 10;
+
+    private static final Comparator<Review> NEWEST_FIRST = Comparator.comparing(Review::getCreatedAt).reversed()
+            .thenComparing(Review::getId, MemoryPages.UUID_ORDER);
+
+    private final InMemoryCatalogStore store;
+
+    public InMemoryReviewRepository(InMemoryCatalogStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Review save(Review review) {
+        Review stored = copy(review);
+        synchronized (store.writeLock) {
+            if (reviewsOf(store.reviewsByUser.get(stored.getUserId()))
+                    .anyMatch(other -> other.getProductId().equals(stored.getProductId())
+                            && !other.getId().equals(stored.getId()))) {
+                throw new DataIntegrityViolationException(
+                        "User " + stored.getUserId() + " already reviewed product " + stored.getProductId());
+            }
+            Review previous = store.reviews.put(stored.getId(), stored);
+            if (previous == null) {
+                store.reviewsByProduct.add(stored.getProductId(), stored.getId());
+                store.reviewsByUser.add(stored.getUserId(), stored.getId());
+            }
+        }
+        return copy(stored);
+    }
+
+    @Override
+    public Optional<Review> findById(String reviewId) {
+        return Optional.ofNullable(store.reviews.get(UUID.fromString(reviewId))).map(InMemoryReviewRepository::copy);
+    }
+
+    @Override
+    public List<Review> findByProductId(ProductId productId) {
+        return list(byProduct(productId), review -> true);
+    }
+
+    @Override
+    public List<Review> findByUserId(String userId) {
+        return list(reviewsOf(store.reviewsByUser.get(UUID.fromString(userId))), review -> true);
+    }
+
+    @Override
+    public Optional<Review> findByUserIdAndProductId(String userId, ProductId productId) {
+        return reviewsOf(store.reviewsByUser.get(UUID.fromString(userId)))
+                .filter(review -> review.getProductId().equals(productId.getValue()))
+                .findFirst()
+                .map(InMemoryReviewRepository::copy);
+    }
+
+    @Override
+    public List<Review> findByRating(int rating) {
+        return list(all(), review -> review.getRating() == rating);
+    }
+
+    @Override
+    public List<Review> findByRatingBetween(int minRating, int maxRating) {
+        return list(all(), review -> review.getRating() >= minRating && review.getRating() <= maxRating);
+    }
+
+    @Override
+    public List<Review> findReviewsWithComments() {
+        return list(all(), Review::hasComment);
+    }
+
+    @Override
+    public List<Review> findReviewsWithCommentsByProductId(ProductId productId) {
+        return list(byProduct(productId), Review::hasComment);
+    }
+
+    /**
+     * Null for a product without reviews, like AVG over no rows
+     */
+    @Override
+    public Double calculateAverageRatingByProductId(ProductId productId) {
+        OptionalDouble average = byProduct(productId).mapToInt(Review::getRating).average();
+        return average.isPresent() ? average.getAsDouble() : null;
+    }
+
+    @Override
+    public Long countByProductId(ProductId productId) {
+        return (long) store.reviewsByProduct.count(productId.getValue());
+    }
+
+    @Override
+    public Long countByProductIdAndRating(ProductId productId, int rating) {
+        return byProduct(productId).filter(review -> review.getRating() == rating).count();
+    }
+
+    @Override
+    public List<Review> findLatestReviews() {
+        return latest(all());
+    }
+
+    @Override
+    public List<Review> findLatestReviewsByProductId(ProductId productId) {
+        return latest(byProduct(productId));
+    }
+
+    @Override
+    public List<Review> findByProductIds(List<ProductId> productIds) {
+        return list(productIds.stream().map(ProductId::getValue).distinct()
+                .flatMap(productId -> reviewsOf(store.reviewsByProduct.get(productId))), review -> true);
+    }
+
+    @Override
+    public boolean existsByUserIdAndProductId(String userId, ProductId productId) {
+        return findByUserIdAndProductId(userId, productId).isPresent();
+    }
+
+    @Override
+    public void deleteByProductId(ProductId productId) {
+        synchronized (store.writeLock) {
+            List.copyOf(store.reviewsByProduct.get(productId.getValue())).forEach(this::remove);
+        }
+    }
+
+    @Override
+    public void deleteByUserId(String userId) {
+        synchronized (store.writeLock) {
+            List.copyOf(store.reviewsByUser.get(UUID.fromString(userId))).forEach(this::remove);
+        }
+    }
+
+    @Override
+    public void deleteById(String reviewId) {
+        synchronized (store.writeLock) {
+            remove(UUID.fromString(reviewId));
+        }
+    }
+
+    private void remove(UUID reviewId) {
+        Review removed = store.reviews.remove(reviewId);
+        if (removed != null) {
+            store.reviewsByProduct.remove(removed.getProductId(), reviewId);
+            store.reviewsByUser.remove(removed.getUserId(), reviewId);
+        }
+    }
+
+    private Stream<Review> all() {
+        return store.reviews.values().stream();
+    }
+
+    private Stream<Review> byProduct(ProductId productId) {
+        return reviewsOf(store.reviewsByProduct.get(productId.getValue()));
+    }
+
+    private Stream<Review> reviewsOf(Collection<UUID> ids) {
+        return ids.stream().map(store.reviews::get).filter(Objects::nonNull);
+    }
+
+    private static List<Review> list(Stream<Review> reviews, Predicate<Review> filter) {
+        return reviews.filter(filter).map(InMemoryReviewRepository::copy).toList();
+    }
+
+    private static List<Review> latest(Stream<Review> reviews) {
+        return reviews.sorted(NEWEST_FIRST).limit(LATEST_REVIEWS_LIMIT).map(InMemoryReviewRepository::copy).toList();
+    }
+
+    static Review copy(Review review) {
+        return new Review(review.getId(), review.getProductId(), review.getUserId(), review.getRating(),
+                review.getComment(), review.getCreatedAt(), review.getUpdatedAt(),
+                review.getCreatedBy(), review.getUpdatedBy());
+    }
+}
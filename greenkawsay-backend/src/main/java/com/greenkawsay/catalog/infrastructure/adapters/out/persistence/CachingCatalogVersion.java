@@ -0,0 +1,46 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * CatalogVersion decorator remembering each fetched version for a short time
+ * Response cache hits inside that time cost no query at all; a write is noticed once the version
+ * read before it expires, so expireAfterWrite bounds how long a cached response can trail the database
+ */
+public class CachingCatalogVersion implements CatalogVersion {
+
+    private static final String CATEGORIES_KEY = "categories";
+
+    private final CatalogVersion delegate;
+    private final Cache<String, Optional<String>> versions;
+
+    public CachingCatalogVersion(CatalogVersion delegate, long maximumSize, Duration expireAfterWrite) {
+        this(delegate, maximumSize, expireAfterWrite, Ticker.systemTicker());
+    }
+
+    CachingCatalogVersion(CatalogVersion delegate, long maximumSize, Duration expireAfterWrite, Ticker ticker) {
+        this.delegate = delegate;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .ticker(ticker)
+                .build();
+    }
+
+    @Override
+    public String categories() {
+        return versions.get(CATEGORIES_KEY, key -> Optional.ofNullable(delegate.categories())).orElse(null);
+    }
+
+    @Override
+    public String product(UUID productId) {
+        return versions.get("product:" + productId, key -> Optional.ofNullable(delegate.product(productId)))
+                .orElse(null);
+    }
+}
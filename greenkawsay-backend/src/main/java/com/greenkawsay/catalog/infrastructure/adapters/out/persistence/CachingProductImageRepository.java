@@ -0,0 +1,164 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.greenkawsay.catalog.domain.models.ProductImage;
+import com.greenkawsay.catalog.domain.repositories.ProductImageRepository;
+import com.greenkawsay.catalog.domain.valueobjects.PrimaryImageUrls;
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.shared.infrastructure.persistence.PrimaryReads;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * ProductImageRepository decorator keeping primary image URLs in a bounded in-memory cache
+ * Misses of a batch are loaded together, so a listing costs one query or none;
+ * products without a primary image are cached as well to avoid repeated misses; misses are loaded from the primary
+ */
+public class CachingProductImageRepository implements ProductImageRepository {
+
+    private final ProductImageRepository delegate;
+    private final Cache<UUID, Optional<PrimaryImageUrls>> primaryImageUrls;
+    private final PrimaryReads primaryReads;
+
+    public CachingProductImageRepository(ProductImageRepository delegate, long maximumSize, Duration expireAfterWrite,
+                                         PrimaryReads primaryReads) {
+        this.delegate = delegate;
+        this.primaryReads = primaryReads;
+        this.primaryImageUrls = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    @Override
+    public Map<ProductId, PrimaryImageUrls> findPrimaryImageUrlsByProductIds(Collection<ProductId> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        List<UUID> keys = productIds.stream().map(ProductId::getValue).toList();
+        Map<UUID, Optional<PrimaryImageUrls>> cached = primaryImageUrls.getAll(keys, this::loadPrimaryImageUrls);
+
+        Map<ProductId, PrimaryImageUrls> result = new HashMap<>(cached.size() * 2);
+        cached.values().forEach(urls -> urls.ifPresent(value -> result.put(value.getProductId(), value)));
+        return result;
+    }
+
+    private Map<UUID, Optional<PrimaryImageUrls>> loadPrimaryImageUrls(Set<? extends UUID> missing) {
+        List<ProductId> productIds = missing.stream().map(ProductId::new).toList();
+        Map<ProductId, PrimaryImageUrls> loaded =
+                primaryReads.load(() -> delegate.findPrimaryImageUrlsByProductIds(productIds));
+
+        Map<UUID, Optional<PrimaryImageUrls>> entries = new HashMap<>(missing.size() * 2);
+        for (UUID productId : missing) {
+            entries.put(productId, Optional.ofNullable(loaded.get(new ProductId(productId))));
+        }
+        return entries;
+    }
+
+    /**
+     * Evict immediately and again once the surrounding transaction completes,
+     * so a concurrent reader cannot re-cache the pre-commit state
+     */
+    private void evict(UUID productId) {
+        primaryImageUrls.invalidate(productId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    primaryImageUrls.invalidate(productId);
+                }
+            });
+        }
+    }
+
+    @Override
+    public ProductImage save(ProductImage productImage) {
+        ProductImage saved = delegate.save(productImage);
+        evict(saved.getProductId());
+        return saved;
+    }
+
+    @Override
+    public void demotePrimaryImage(ProductId productId, UUID updatedBy) {
+        delegate.demotePrimaryImage(productId, updatedBy);
+        evict(productId.getValue());
+    }
+
+    @Override
+    public boolean attachVariants(ProductId productId, String imageId, String thumbnailUrl, String webpUrl,
+                                  UUID updatedBy) {
+        boolean attached = delegate.attachVariants(productId, imageId, thumbnailUrl, webpUrl, updatedBy);
+        evict(productId.getValue());
+        return attached;
+    }
+
+    @Override
+    public void deleteByProductId(ProductId productId) {
+        delegate.deleteByProductId(productId);
+        evict(productId.getValue());
+    }
+
+    @Override
+    public void deleteByProductIdAndImageId(ProductId productId, String imageId) {
+        delegate.deleteByProductIdAndImageId(productId, imageId);
+        evict(productId.getValue());
+    }
+
+    @Override
+    public void deleteById(String imageId) {
+        Optional<ProductImage> image = delegate.findById(imageId);
+        delegate.deleteById(imageId);
+        image.ifPresent(value -> evict(value.getProductId()));
+    }
+
+    // Read-through delegation
+    @Override
+    public Optional<ProductImage> findById(String imageId) {
+        return delegate.findById(imageId);
+    }
+
+    @Override
+    public List<ProductImage> findByProductId(ProductId productId) {
+        return delegate.findByProductId(productId);
+    }
+
+    @Override
+    public Optional<ProductImage> findPrimaryImageByProductId(ProductId productId) {
+        return delegate.findPrimaryImageByProductId(productId);
+    }
+
+    @Override
+    public List<ProductImage> findPrimaryImagesByProductIds(List<ProductId> productIds) {
+        return delegate.findPrimaryImagesByProductIds(productIds);
+    }
+
+    @Override
+    public Long countByProductId(ProductId productId) {
+        return delegate.countByProductId(productId);
+    }
+
+    @Override
+    public boolean existsByProductId(ProductId productId) {
+        return delegate.existsByProductId(productId);
+    }
+
+    @Override
+    public boolean hasPrimaryImage(ProductId productId) {
+        return delegate.hasPrimaryImage(productId);
+    }
+
+    @Override
+    public List<ProductImage> findByProductIdOrderByCreatedAt(ProductId productId) {
+        return delegate.findByProductIdOrderByCreatedAt(productId);
+    }
+}
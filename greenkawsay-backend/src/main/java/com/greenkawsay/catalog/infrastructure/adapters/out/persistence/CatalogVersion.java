@@ -0,0 +1,21 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.persistence;
+
+import java.util.UUID;
+
+/**
+ * Versions of the category tree and of single products, derived from the stored rows themselves
+ * Every instance reading the same database sees the same versions, so caches keyed by them
+ * need no cross-instance invalidation; a write to one product moves only that product's version
+ */
+public interface CatalogVersion {
+
+    /**
+     * Changes with any insert, update or delete of a category
+     */
+    String categories();
+
+    /**
+     * Changes with any write to the product or to its images, null when the product does not exist
+     */
+    String product(UUID productId);
+}
@@ -0,0 +1,97 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.persistence;
+
+import com.greenkawsay.catalog.domain.models.Category;
+import com.greenkawsay.catalog.domain.repositories.CategoryRepository;
+import com.greenkawsay.catalog.domain.valueobjects.CategoryId;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.entities.CategoryEntity;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.mappers.CategoryPersistenceMapper;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.repositories.CategoryJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.greenkawsay.catalog.infrastructure.adapters.out.persistence.JpaPersistenceSupport.containsPattern;
+import static com.greenkawsay.catalog.infrastructure.adapters.out.persistence.JpaPersistenceSupport.isManaged;
+
+/**
+ * JPA-backed implementation of the CategoryRepository domain port
+ * Listings are read as projections in read-only transactions, see ProductPersistenceAdapter
+ * The schema has no active flag on categories, so every category is active
+ */
+@Transactional(readOnly = true)
+public class CategoryPersistenceAdapter implements CategoryRepository {
+
+    private final CategoryJpaRepository jpaRepository;
+    private final CategoryPersistenceMapper mapper;
+    private final EntityManager entityManager;
+
+    public CategoryPersistenceAdapter(CategoryJpaRepository jpaRepository,
+                                      CategoryPersistenceMapper mapper,
+                                      EntityManager entityManager) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional
+    public Category save(Category category) {
+        CategoryEntity entity = mapper.toEntity(category);
+        entity.markNew(!isManaged(entityManager, CategoryEntity.class, entity.getId())
+                && !jpaRepository.existsById(entity.getId()));
+        return mapper.toDomain(jpaRepository.save(entity));
+    }
+
+    @Override
+    public Optional<Category> findById(CategoryId categoryId) {
+        return jpaRepository.findById(categoryId.getValue()).map(mapper::toDomain);
+    }
+
+    @Override
+    public Optional<Category> findBySlug(String slug) {
+        return jpaRepository.findProjectedBySlug(slug).map(mapper::toDomain);
+    }
+
+    @Override
+    public List<Category> findRootCategories() {
+        return mapper.toDomainList(jpaRepository.findProjectedRoots());
+    }
+
+    @Override
+    public List<Category> findByParentId(CategoryId parentId) {
+        return mapper.toDomainList(jpaRepository.findProjectedByParentId(parentId.getValue()));
+    }
+
+    @Override
+    public List<Category> findByNameContaining(String name) {
+        return mapper.toDomainList(jpaRepository.findProjectedByNameLike(containsPattern(name)));
+    }
+
+    @Override
+    public boolean existsBySlug(String slug) {
+        return jpaRepository.existsBySlug(slug);
+    }
+
+    @Override
+    public List<Category> findActiveCategories() {
+        return mapper.toDomainList(jpaRepository.findProjectedAll());
+    }
+
+    @Override
+    public List<Category> findActiveCategoriesByParent(CategoryId parentId) {
+        return findByParentId(parentId);
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(CategoryId categoryId) {
+        jpaRepository.deleteCategoryById(categoryId.getValue());
+    }
+
+    @Override
+    public Long countProductsInCategory(CategoryId categoryId) {
+        return jpaRepository.countProductsInSubtree(categoryId.getValue());
+    }
+}
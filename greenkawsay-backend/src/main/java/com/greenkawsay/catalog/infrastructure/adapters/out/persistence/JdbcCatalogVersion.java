@@ -0,0 +1,56 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.persistence;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+/**
+ * CatalogVersion read from the updated_at columns and row counts of the catalog tables
+ * The queries run in a read-only transaction, so they are routed like the reads that render the response;
+ * a version read before those reads is never newer than the data, even from a lagging replica
+ */
+public class JdbcCatalogVersion implements CatalogVersion {
+
+    private static final String CATEGORIES_SQL = "SELECT COUNT(*), MAX(updated_at) FROM categories";
+
+    private static final String PRODUCT_SQL = """
+            SELECT p.updated_at,
+                   (SELECT COUNT(*) FROM product_images i WHERE i.product_id = p.id),
+                   (SELECT MAX(i.updated_at) FROM product_images i WHERE i.product_id = p.id)
+            FROM products p
+            WHERE p.id = ?
+            """;
+
+    private static final RowMapper<String> FINGERPRINT = (rs, rowNum) -> {
+        StringBuilder fingerprint = new StringBuilder();
+        for (int column = 1; column <= rs.getMetaData().getColumnCount(); column++) {
+            fingerprint.append(rs.getString(column)).append('/');
+        }
+        return fingerprint.toString();
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnly;
+
+    public JdbcCatalogVersion(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+
+    @Override
+    public String categories() {
+        return readOnly.execute(status -> jdbcTemplate.queryForObject(CATEGORIES_SQL, FINGERPRINT));
+    }
+
+    @Override
+    public String product(UUID productId) {
+        return readOnly.execute(status -> jdbcTemplate.query(PRODUCT_SQL, FINGERPRINT, productId)
+                .stream()
+                .findFirst()
+                .orElse(null));
+    }
+}
@@ -0,0 +1,40 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.persistence;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.util.Locale;
+
+/**
+ * Helpers shared by the catalog JPA adapters
+ */
+final class JpaPersistenceSupport {
+
+    private JpaPersistenceSupport() {
+    }
+
+    /**
+     * Whether the row is already managed by the current persistence context, without touching the database
+     * Updates always follow a findById in the same transaction, so a managed row is merged in memory
+     */
+    static boolean isManaged(EntityManager entityManager, Class<?> entityClass, Object id) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(entityClass);
+        return session.getPersistenceContextInternal().containsEntity(session.generateEntityKey(id, persister));
+    }
+
+    /**
+     * Case-insensitive "contains" LIKE pattern with the wildcards of the search term escaped by '\'
+     */
+    static String containsPattern(String term) {
+        StringBuilder pattern = new StringBuilder(term.length() + 2).append('%');
+        for (char c : term.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (c == '%' || c == '_' || c == '\\') {
+                pattern.append('\\');
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+}
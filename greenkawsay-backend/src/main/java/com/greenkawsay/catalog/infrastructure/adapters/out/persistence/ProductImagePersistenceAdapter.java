@@ -0,0 +1,129 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.persistence;
+
+import com.greenkawsay.catalog.domain.models.ProductImage;
+import com.greenkawsay.catalog.domain.repositories.ProductImageRepository;
+import com.greenkawsay.catalog.domain.valueobjects.PrimaryImageUrls;
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.mappers.ProductImagePersistenceMapper;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.projections.PrimaryImageUrlsProjection;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.repositories.ProductImageJpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JPA-backed implementation of the ProductImageRepository domain port
+ */
+public class ProductImagePersistenceAdapter implements ProductImageRepository {
+
+    private final ProductImageJpaRepository jpaRepository;
+    private final ProductImagePersistenceMapper mapper;
+
+    public ProductImagePersistenceAdapter(ProductImageJpaRepository jpaRepository,
+                                          ProductImagePersistenceMapper mapper) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public ProductImage save(ProductImage productImage) {
+        return mapper.toDomain(jpaRepository.save(mapper.toEntity(productImage)));
+    }
+
+    @Override
+    public Optional<ProductImage> findById(String imageId) {
+        return jpaRepository.findById(UUID.fromString(imageId)).map(mapper::toDomain);
+    }
+
+    @Override
+    public List<ProductImage> findByProductId(ProductId productId) {
+        return mapper.toDomainList(jpaRepository.findByProductId(productId.getValue()));
+    }
+
+    @Override
+    public Optional<ProductImage> findPrimaryImageByProductId(ProductId productId) {
+        return jpaRepository.findFirstByProductIdAndPrimaryTrue(productId.getValue()).map(mapper::toDomain);
+    }
+
+    @Override
+    public List<ProductImage> findPrimaryImagesByProductIds(List<ProductId> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> ids = productIds.stream().map(ProductId::getValue).toList();
+        return mapper.toDomainList(jpaRepository.findByProductIdInAndPrimaryTrue(ids));
+    }
+
+    @Override
+    public Map<ProductId, PrimaryImageUrls> findPrimaryImageUrlsByProductIds(Collection<ProductId> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        List<UUID> ids = productIds.stream().map(ProductId::getValue).distinct().toList();
+        List<PrimaryImageUrlsProjection> rows = jpaRepository.findPrimaryImageUrlsByProductIdIn(ids);
+        Map<ProductId, PrimaryImageUrls> result = new HashMap<>(rows.size() * 2);
+        for (PrimaryImageUrlsProjection row : rows) {
+            ProductId productId = new ProductId(row.getProductId());
+            result.put(productId, new PrimaryImageUrls(productId, row.getImageUrl(), row.getThumbnailUrl(), row.getWebpUrl()));
+        }
+        return result;
+    }
+
+    @Override
+    public Long countByProductId(ProductId productId) {
+        return jpaRepository.countByProductId(productId.getValue());
+    }
+
+    @Override
+    public boolean existsByProductId(ProductId productId) {
+        return jpaRepository.existsByProductId(productId.getValue());
+    }
+
+    @Override
+    public boolean hasPrimaryImage(ProductId productId) {
+        return jpaRepository.existsByProductIdAndPrimaryTrue(productId.getValue());
+    }
+
+    @Override
+    @Transactional
+    public void demotePrimaryImage(ProductId productId, UUID updatedBy) {
+        jpaRepository.demotePrimaryByProductId(productId.getValue(), updatedBy, LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional
+    public boolean attachVariants(ProductId productId, String imageId, String thumbnailUrl, String webpUrl,
+                                  UUID updatedBy) {
+        return jpaRepository.attachVariants(productId.getValue(), UUID.fromString(imageId), thumbnailUrl, webpUrl,
+                updatedBy, LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    public List<ProductImage> findByProductIdOrderByCreatedAt(ProductId productId) {
+        return mapper.toDomainList(jpaRepository.findByProductIdOrderByCreatedAtAsc(productId.getValue()));
+    }
+
+    @Override
+    @Transactional
+    public void deleteByProductId(ProductId productId) {
+        jpaRepository.deleteAllByProductId(productId.getValue());
+    }
+
+    @Override
+    @Transactional
+    public void deleteByProductIdAndImageId(ProductId productId, String imageId) {
+        jpaRepository.deleteByProductIdAndImageId(productId.getValue(), UUID.fromString(imageId));
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(String imageId) {
+        jpaRepository.deleteById(UUID.fromString(imageId));
+    }
+}
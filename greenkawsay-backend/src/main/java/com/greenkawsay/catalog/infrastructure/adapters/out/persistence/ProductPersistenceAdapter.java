@@ -0,0 +1,237 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.persistence;
+
+import com.greenkawsay.catalog.domain.models.Product;
+import com.greenkawsay.catalog.domain.repositories.ProductRepository;
+import com.greenkawsay.catalog.domain.valueobjects.CategoryId;
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.entities.ProductEntity;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.mappers.ProductPersistenceMapper;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.repositories.ProductJpaRepository;
+import com.greenkawsay.shared.domain.valueobjects.Money;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.greenkawsay.catalog.infrastructure.adapters.out.persistence.JpaPersistenceSupport.containsPattern;
+import static com.greenkawsay.catalog.infrastructure.adapters.out.persistence.JpaPersistenceSupport.isManaged;
+
+/**
+ * JPA-backed implementation of the ProductRepository domain port
+ * Listings are read as projections in read-only transactions; findById is the only read
+ * returning a managed entity, so the load-modify-save flow of the services needs no extra select
+ */
+@Transactional(readOnly = true)
+public class ProductPersistenceAdapter implements ProductRepository {
+
+    /**
+     * The schema has no featured flag, the newest available products are featured
+     */
+    private static final int FEATURED_PRODUCTS_LIMIT = 12;
+
+    /**
+     * Keeps the existing-id lookup of saveAll well below bind parameter limits
+     */
+    private static final int EXISTING_IDS_CHUNK = 1000;
+
+    private final ProductJpaRepository jpaRepository;
+    private final ProductPersistenceMapper mapper;
+    private final EntityManager entityManager;
+
+    public ProductPersistenceAdapter(ProductJpaRepository jpaRepository,
+                                     ProductPersistenceMapper mapper,
+                                     EntityManager entityManager) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional
+    public Product save(Product product) {
+        ProductEntity entity = mapper.toEntity(product);
+        entity.markNew(!isManaged(entityManager, ProductEntity.class, entity.getId())
+                && !jpaRepository.existsById(entity.getId()));
+        return mapper.toDomain(jpaRepository.save(entity));
+    }
+
+    /**
+     * New products are persisted without a select each, so Hibernate sends them as JDBC batches
+     */
+    @Override
+    @Transactional
+    public List<Product> saveAll(List<Product> products) {
+        if (products.isEmpty()) {
+            return List.of();
+        }
+        List<ProductEntity> entities = products.stream().map(mapper::toEntity).toList();
+        List<UUID> ids = entities.stream().map(ProductEntity::getId).toList();
+        Set<UUID> existing = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += EXISTING_IDS_CHUNK) {
+            existing.addAll(jpaRepository.findExistingIds(ids.subList(from, Math.min(from + EXISTING_IDS_CHUNK, ids.size()))));
+        }
+        entities.forEach(entity -> entity.markNew(!existing.contains(entity.getId())));
+        return mapper.entitiesToDomainList(jpaRepository.saveAll(entities));
+    }
+
+    @Override
+    public Optional<Product> findById(ProductId productId) {
+        return jpaRepository.findById(productId.getValue()).map(mapper::toDomain);
+    }
+
+    @Override
+    public List<Product> findByCategoryId(CategoryId categoryId) {
+        return mapper.toDomainList(jpaRepository.findProjectedByCategoryId(categoryId.getValue()));
+    }
+
+    @Override
+    public List<Product> findByCategoryAndSubcategories(CategoryId categoryId) {
+        return mapper.entitiesToDomainList(jpaRepository.findReadOnlyByCategorySubtree(categoryId.getValue()));
+    }
+
+    @Override
+    public List<Product> findByUserId(String userId) {
+        return mapper.toDomainList(jpaRepository.findProjectedByUserId(UUID.fromString(userId)));
+    }
+
+    @Override
+    public List<Product> findActiveProducts() {
+        return mapper.toDomainList(jpaRepository.findProjectedActive());
+    }
+
+    @Override
+    public List<Product> findActiveProductsByCategory(CategoryId categoryId) {
+        return mapper.toDomainList(jpaRepository.findProjectedActiveByCategoryId(categoryId.getValue()));
+    }
+
+    @Override
+    public List<Product> findByNameContaining(String name) {
+        return mapper.toDomainList(jpaRepository.findProjectedByNameLike(containsPattern(name)));
+    }
+
+    @Override
+    public List<Product> findActiveProductsByNameContaining(String name) {
+        return mapper.toDomainList(jpaRepository.findProjectedActiveByNameLike(containsPattern(name)));
+    }
+
+    @Override
+    public List<Product> findByPriceRange(Money minPrice, Money maxPrice) {
+        return mapper.toDomainList(jpaRepository.findProjectedByPriceBetween(minPrice.getAmount(), maxPrice.getAmount()));
+    }
+
+    @Override
+    public List<Product> findActiveProductsByPriceRange(Money minPrice, Money maxPrice) {
+        return mapper.toDomainList(
+                jpaRepository.findProjectedActiveByPriceBetween(minPrice.getAmount(), maxPrice.getAmount()));
+    }
+
+    @Override
+    public List<Product> findProductsWithStock() {
+        return mapper.toDomainList(jpaRepository.findProjectedInStock());
+    }
+
+    @Override
+    public List<Product> findActiveProductsWithStock() {
+        return mapper.toDomainList(jpaRepository.findProjectedActiveInStock());
+    }
+
+    @Override
+    public List<Product> findByCategoryIds(List<CategoryId> categoryIds) {
+        if (categoryIds.isEmpty()) {
+            return List.of();
+        }
+        return mapper.toDomainList(jpaRepository.findProjectedByCategoryIdIn(toUuids(categoryIds)));
+    }
+
+    @Override
+    public List<Product> findActiveProductsByCategoryIds(List<CategoryId> categoryIds) {
+        if (categoryIds.isEmpty()) {
+            return List.of();
+        }
+        return mapper.toDomainList(jpaRepository.findProjectedActiveByCategoryIdIn(toUuids(categoryIds)));
+    }
+
+    @Override
+    public boolean existsByName(String name) {
+        return jpaRepository.existsByName(name);
+    }
+
+    @Override
+    public Long countByCategoryId(CategoryId categoryId) {
+        return jpaRepository.countByCategoryId(categoryId.getValue());
+    }
+
+    @Override
+    public Long countActiveProductsByCategoryId(CategoryId categoryId) {
+        return jpaRepository.countByCategoryIdAndActiveTrue(categoryId.getValue());
+    }
+
+    @Override
+    public List<Product> findFeaturedProducts() {
+        return mapper.toDomainList(jpaRepository.findProjectedNewestInStock(PageRequest.of(0, FEATURED_PRODUCTS_LIMIT)));
+    }
+
+    @Override
+    public List<Product> findLowStockProducts(int threshold) {
+        return mapper.toDomainList(jpaRepository.findProjectedByStockQuantityLessThan(threshold));
+    }
+
+    @Override
+    public List<Product> findLowStockProductsByUserId(UUID userId) {
+        return mapper.toDomainList(jpaRepository.findProjectedLowStockByUserId(userId));
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(ProductId productId) {
+        jpaRepository.deleteProductById(productId.getValue());
+    }
+
+    @Override
+    public Page<Product> findAll(Pageable pageable) {
+        return jpaRepository.findProjectedPage(pageable).map(mapper::toDomain);
+    }
+
+    @Override
+    public Page<Product> findByCategoryId(CategoryId categoryId, Pageable pageable) {
+        return jpaRepository.findProjectedPageByCategoryId(categoryId.getValue(), pageable).map(mapper::toDomain);
+    }
+
+    @Override
+    public Page<Product> findActiveProductsByCategory(CategoryId categoryId, Pageable pageable) {
+        return jpaRepository.findProjectedActivePageByCategoryId(categoryId.getValue(), pageable).map(mapper::toDomain);
+    }
+
+    @Override
+    public Page<Product> findByNameContaining(String name, Pageable pageable) {
+        return jpaRepository.findProjectedPageByNameLike(containsPattern(name), pageable).map(mapper::toDomain);
+    }
+
+    @Override
+    public Page<Product> findActiveProductsByNameContaining(String name, Pageable pageable) {
+        return jpaRepository.findProjectedActivePageByNameLike(containsPattern(name), pageable).map(mapper::toDomain);
+    }
+
+    @Override
+    public Page<Product> findByCategoryIdAndNameContaining(CategoryId categoryId, String name, Pageable pageable) {
+        return jpaRepository.findProjectedPageByCategoryIdAndNameLike(categoryId.getValue(), containsPattern(name), pageable)
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public Page<Product> findActiveProductsByCategoryAndNameContaining(CategoryId categoryId, String name, Pageable pageable) {
+        return jpaRepository.findProjectedActivePageByCategoryIdAndNameLike(categoryId.getValue(), containsPattern(name), pageable)
+                .map(mapper::toDomain);
+    }
+
+    private static List<UUID> toUuids(List<CategoryId> categoryIds) {
+        return categoryIds.stream().map(CategoryId::getValue).distinct().toList();
+    }
+}
@@ -0,0 +1,72 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.persistence.mappers;
+
+import com.greenkawsay.catalog.domain.models.Category;
+import com.greenkawsay.catalog.domain.valueobjects.CategoryId;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.entities.CategoryEntity;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.projections.CategoryProjection;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+import java.util.List;
+
+/**
+ * MapStruct mapper between Category domain models, JPA entities and projections
+ */
+@Mapper(componentModel = "spring")
+public interface CategoryPersistenceMapper {
+
+    CategoryPersistenceMapper INSTANCE = Mappers.getMapper(CategoryPersistenceMapper.class);
+
+    /**
+     * Maps Category domain model to CategoryEntity
+     */
+    @Mapping(target = "id", source = "id.value")
+    @Mapping(target = "parentId", source = "parentId.value")
+    CategoryEntity toEntity(Category category);
+
+    /**
+     * Maps CategoryEntity to Category domain model
+     */
+    default Category toDomain(CategoryEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        return new Category(
+            new CategoryId(entity.getId()),
+            entity.getName(),
+            entity.getSlug(),
+            entity.getDescription(),
+            entity.getParentId() != null ? new CategoryId(entity.getParentId()) : null,
+            entity.getCreatedAt(),
+            entity.getUpdatedAt(),
+            entity.getCreatedBy(),
+            entity.getUpdatedBy()
+        );
+    }
+
+    /**
+     * Maps CategoryProjection to Category domain model
+     */
+    default Category toDomain(CategoryProjection projection) {
+        if (projection == null) {
+            return null;
+        }
+        return new Category(
+            new CategoryId(projection.id()),
+            projection.name(),
+            projection.slug(),
+            projection.description(),
+            projection.parentId() != null ? new CategoryId(projection.parentId()) : null,
+            projection.createdAt(),
+            projection.updatedAt(),
+            projection.createdBy(),
+            projection.updatedBy()
+        );
+    }
+
+    /**
+     * Maps list of CategoryProjection to list of Category domain models
+     */
+    List<Category> toDomainList(List<CategoryProjection> projections);
+}
@@ -0,0 +1,48 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.persistence.mappers;
+
+import com.greenkawsay.catalog.domain.models.ProductImage;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.entities.ProductImageEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+import java.util.List;
+
+/**
+ * MapStruct mapper between ProductImage domain models and JPA entities
+ */
+@Mapper(componentModel = "spring")
+public interface ProductImagePersistenceMapper {
+
+    ProductImagePersistenceMapper INSTANCE = Mappers.getMapper(ProductImagePersistenceMapper.class);
+
+    /**
+     * Maps ProductImage domain model to ProductImageEntity
+     */
+    ProductImageEntity toEntity(ProductImage productImage);
+
+    /**
+     * Maps ProductImageEntity to ProductImage domain model
+     */
+    default ProductImage toDomain(ProductImageEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        return new ProductImage(
+            entity.getId(),
+            entity.getProductId(),
+            entity.getImageUrl(),
+            entity.isPrimary(),
+            entity.getThumbnailUrl(),
+            entity.getWebpUrl(),
+            entity.getCreatedAt(),
+            entity.getUpdatedAt(),
+            entity.getCreatedBy(),
+            entity.getUpdatedBy()
+        );
+    }
+
+    /**
+     * Maps list of ProductImageEntity to list of ProductImage domain models
+     */
+    List<ProductImage> toDomainList(List<ProductImageEntity> entities);
+}
@@ -0,0 +1,95 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.persistence.mappers;
+
+import com.greenkawsay.catalog.domain.models.Product;
+import com.greenkawsay.catalog.domain.valueobjects.CategoryId;
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.catalog.domain.valueobjects.StockQuantity;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.entities.ProductEntity;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.projections.ProductProjection;
+import com.greenkawsay.shared.domain.valueobjects.Money;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+import java.util.List;
+
+/**
+ * MapStruct mapper between Product domain models, JPA entities and projections
+ */
+@Mapper(componentModel = "spring")
+public interface ProductPersistenceMapper {
+
+    ProductPersistenceMapper INSTANCE = Mappers.getMapper(ProductPersistenceMapper.class);
+
+    /**
+     * Prices are stored without a currency; the catalog is priced in USD like the web mapper
+     */
+    String CURRENCY_CODE = "USD";
+
+    /**
+     * Maps Product domain model to ProductEntity
+     */
+    @Mapping(target = "id", source = "id.value")
+    @Mapping(target = "price", source = "price.amount")
+    @Mapping(target = "categoryId", source = "categoryId.value")
+    @Mapping(target = "stockQuantity", source = "stockQuantity.value")
+    ProductEntity toEntity(Product product);
+
+    /**
+     * Maps ProductEntity to Product domain model
+     */
+    default Product toDomain(ProductEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        return new Product(
+            new ProductId(entity.getId()),
+            entity.getName(),
+            entity.getDescription(),
+            new Money(entity.getPrice(), CURRENCY_CODE),
+            new CategoryId(entity.getCategoryId()),
+            StockQuantity.of(entity.getStockQuantity()),
+            entity.getLowStockThreshold(),
+            entity.isActive(),
+            entity.getUserId(),
+            entity.getCreatedAt(),
+            entity.getUpdatedAt(),
+            entity.getCreatedBy(),
+            entity.getUpdatedBy()
+        );
+    }
+
+    /**
+     * Maps ProductProjection to Product domain model
+     */
+    default Product toDomain(ProductProjection projection) {
+        if (projection == null) {
+            return null;
+        }
+        return new Product(
+            new ProductId(projection.id()),
+            projection.name(),
+            projection.description(),
+            new Money(projection.price(), CURRENCY_CODE),
+            new CategoryId(projection.categoryId()),
+            StockQuantity.of(projection.stockQuantity()),
+            projection.lowStockThreshold(),
+            projection.active(),
+            projection.userId(),
+            projection.createdAt(),
+            projection.updatedAt(),
+            projection.createdBy(),
+            projection.updatedBy()
+        );
+    }
+
+    /**
+     * Maps list of ProductProjection to list of Product domain models
+     */
+    List<Product> toDomainList(List<ProductProjection> projections);
+
+    /**
+     * Maps list of ProductEntity to list of Product domain models
+     */
+    List<Product> entitiesToDomainList(List<ProductEntity> entities);
+}
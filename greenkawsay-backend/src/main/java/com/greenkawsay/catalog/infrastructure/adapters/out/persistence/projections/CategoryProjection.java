@@ -0,0 +1,19 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.persistence.projections;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO projection of a categories row, see ProductProjection
+ */
+public record CategoryProjection(
+        UUID id,
+        String name,
+        String slug,
+        String description,
+        UUID parentId,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        UUID createdBy,
+        UUID updatedBy) {
+}
@@ -0,0 +1,17 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.persistence.projections;
+
+import java.util.UUID;
+
+/**
+ * Interface projection selecting only the URL columns of primary product images
+ */
+public interface PrimaryImageUrlsProjection {
+
+    UUID getProductId();
+
+    String getImageUrl();
+
+    String getThumbnailUrl();
+
+    String getWebpUrl();
+}
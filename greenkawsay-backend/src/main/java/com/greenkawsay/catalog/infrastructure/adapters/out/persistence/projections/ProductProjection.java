@@ -0,0 +1,25 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.persistence.projections;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO projection of a products row, selected with a JPQL constructor expression
+ * so listings never register managed entities or dirty-checking snapshots
+ */
+public record ProductProjection(
+        UUID id,
+        String name,
+        String description,
+        BigDecimal price,
+        UUID categoryId,
+        UUID userId,
+        int stockQuantity,
+        int lowStockThreshold,
+        boolean active,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        UUID createdBy,
+        UUID updatedBy) {
+}
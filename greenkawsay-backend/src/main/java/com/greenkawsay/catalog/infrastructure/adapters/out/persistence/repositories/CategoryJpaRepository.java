@@ -0,0 +1,53 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.persistence.repositories;
+
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.entities.CategoryEntity;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.projections.CategoryProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for categories
+ * Listings select CategoryProjection rows ordered by name
+ */
+public interface CategoryJpaRepository extends JpaRepository<CategoryEntity, UUID> {
+
+    String PROJECTION = "select new com.greenkawsay.catalog.infrastructure.adapters.out.persistence.projections.CategoryProjection("
+            + "c.id, c.name, c.slug, c.description, c.parentId, c.createdAt, c.updatedAt, c.createdBy, c.updatedBy) "
+            + "from CategoryEntity c ";
+
+    @Query(PROJECTION + "where c.slug = :slug")
+    Optional<CategoryProjection> findProjectedBySlug(@Param("slug") String slug);
+
+    @Query(PROJECTION + "where c.parentId is null order by c.name")
+    List<CategoryProjection> findProjectedRoots();
+
+    @Query(PROJECTION + "where c.parentId = :parentId order by c.name")
+    List<CategoryProjection> findProjectedByParentId(@Param("parentId") UUID parentId);
+
+    @Query(PROJECTION + "where lower(c.name) like :pattern escape '\\' order by c.name")
+    List<CategoryProjection> findProjectedByNameLike(@Param("pattern") String pattern);
+
+    @Query(PROJECTION + "order by c.name")
+    List<CategoryProjection> findProjectedAll();
+
+    boolean existsBySlug(String slug);
+
+    @Modifying
+    @Query("delete from CategoryEntity c where c.id = :id")
+    int deleteCategoryById(@Param("id") UUID id);
+
+    /**
+     * Counts the products of a category and all of its descendants in one round trip
+     */
+    @Query(nativeQuery = true, value = "with recursive subtree(id) as ("
+            + "select c.id from categories c where c.id = :categoryId "
+            + "union all select c.id from categories c join subtree s on c.parent_id = s.id) "
+            + "select count(*) from products p where p.category_id in (select s.id from subtree s)")
+    long countProductsInSubtree(@Param("categoryId") UUID categoryId);
+}
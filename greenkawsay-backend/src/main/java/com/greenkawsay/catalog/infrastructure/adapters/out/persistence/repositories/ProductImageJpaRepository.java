@@ -0,0 +1,68 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.persistence.repositories;
+
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.entities.ProductImageEntity;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.projections.PrimaryImageUrlsProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for product images
+ */
+public interface ProductImageJpaRepository extends JpaRepository<ProductImageEntity, UUID> {
+
+    List<ProductImageEntity> findByProductId(UUID productId);
+
+    List<ProductImageEntity> findByProductIdOrderByCreatedAtAsc(UUID productId);
+
+    Optional<ProductImageEntity> findFirstByProductIdAndPrimaryTrue(UUID productId);
+
+    List<ProductImageEntity> findByProductIdInAndPrimaryTrue(Collection<UUID> productIds);
+
+    /**
+     * Served by the partial unique index uq_product_images_primary
+     */
+    @Query("select i.productId as productId, i.imageUrl as imageUrl, i.thumbnailUrl as thumbnailUrl, i.webpUrl as webpUrl "
+            + "from ProductImageEntity i where i.primary = true and i.productId in :productIds")
+    List<PrimaryImageUrlsProjection> findPrimaryImageUrlsByProductIdIn(@Param("productIds") Collection<UUID> productIds);
+
+    long countByProductId(UUID productId);
+
+    boolean existsByProductId(UUID productId);
+
+    boolean existsByProductIdAndPrimaryTrue(UUID productId);
+
+    /**
+     * Runs immediately rather than at flush, so the demotion precedes the insert of the new primary image
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update ProductImageEntity i set i.primary = false, i.updatedAt = :updatedAt, i.updatedBy = :updatedBy "
+            + "where i.productId = :productId and i.primary = true")
+    int demotePrimaryByProductId(@Param("productId") UUID productId, @Param("updatedBy") UUID updatedBy,
+                                 @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Touches the variant and audit columns only, so a concurrent change of the primary image is kept
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update ProductImageEntity i set i.thumbnailUrl = :thumbnailUrl, i.webpUrl = :webpUrl, "
+            + "i.updatedAt = :updatedAt, i.updatedBy = :updatedBy where i.id = :imageId and i.productId = :productId")
+    int attachVariants(@Param("productId") UUID productId, @Param("imageId") UUID imageId,
+                       @Param("thumbnailUrl") String thumbnailUrl, @Param("webpUrl") String webpUrl,
+                       @Param("updatedBy") UUID updatedBy, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("delete from ProductImageEntity i where i.productId = :productId")
+    int deleteAllByProductId(@Param("productId") UUID productId);
+
+    @Modifying
+    @Query("delete from ProductImageEntity i where i.productId = :productId and i.id = :imageId")
+    int deleteByProductIdAndImageId(@Param("productId") UUID productId, @Param("imageId") UUID imageId);
+}
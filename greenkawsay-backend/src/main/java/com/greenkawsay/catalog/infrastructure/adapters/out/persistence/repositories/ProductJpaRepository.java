@@ -0,0 +1,142 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.persistence.repositories;
+
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.entities.ProductEntity;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.projections.ProductProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for products
+ * Listings select ProductProjection rows; page queries carry their own count query
+ * so counting never joins, sorts or builds the projection
+ */
+public interface ProductJpaRepository extends JpaRepository<ProductEntity, UUID> {
+
+    String PROJECTION = "select new com.greenkawsay.catalog.infrastructure.adapters.out.persistence.projections.ProductProjection("
+            + "p.id, p.name, p.description, p.price, p.categoryId, p.userId, p.stockQuantity, p.lowStockThreshold, p.active, "
+            + "p.createdAt, p.updatedAt, p.createdBy, p.updatedBy) from ProductEntity p ";
+
+    String NAME_MATCHES = "lower(p.name) like :pattern escape '\\' ";
+
+    @Query(PROJECTION + "where p.categoryId = :categoryId")
+    List<ProductProjection> findProjectedByCategoryId(@Param("categoryId") UUID categoryId);
+
+    @Query(PROJECTION + "where p.categoryId in :categoryIds")
+    List<ProductProjection> findProjectedByCategoryIdIn(@Param("categoryIds") Collection<UUID> categoryIds);
+
+    @Query(PROJECTION + "where p.active = true and p.categoryId in :categoryIds")
+    List<ProductProjection> findProjectedActiveByCategoryIdIn(@Param("categoryIds") Collection<UUID> categoryIds);
+
+    @Query(PROJECTION + "where p.userId = :userId")
+    List<ProductProjection> findProjectedByUserId(@Param("userId") UUID userId);
+
+    @Query(PROJECTION + "where p.active = true")
+    List<ProductProjection> findProjectedActive();
+
+    @Query(PROJECTION + "where p.active = true and p.categoryId = :categoryId")
+    List<ProductProjection> findProjectedActiveByCategoryId(@Param("categoryId") UUID categoryId);
+
+    @Query(PROJECTION + "where " + NAME_MATCHES)
+    List<ProductProjection> findProjectedByNameLike(@Param("pattern") String pattern);
+
+    @Query(PROJECTION + "where p.active = true and " + NAME_MATCHES)
+    List<ProductProjection> findProjectedActiveByNameLike(@Param("pattern") String pattern);
+
+    @Query(PROJECTION + "where p.price between :minPrice and :maxPrice")
+    List<ProductProjection> findProjectedByPriceBetween(@Param("minPrice") BigDecimal minPrice,
+                                                        @Param("maxPrice") BigDecimal maxPrice);
+
+    @Query(PROJECTION + "where p.active = true and p.price between :minPrice and :maxPrice")
+    List<ProductProjection> findProjectedActiveByPriceBetween(@Param("minPrice") BigDecimal minPrice,
+                                                              @Param("maxPrice") BigDecimal maxPrice);
+
+    @Query(PROJECTION + "where p.stockQuantity > 0")
+    List<ProductProjection> findProjectedInStock();
+
+    @Query(PROJECTION + "where p.active = true and p.stockQuantity > 0")
+    List<ProductProjection> findProjectedActiveInStock();
+
+    @Query(PROJECTION + "where p.active = true and p.stockQuantity > 0 order by p.createdAt desc, p.id")
+    List<ProductProjection> findProjectedNewestInStock(Pageable limit);
+
+    @Query(PROJECTION + "where p.stockQuantity < :threshold order by p.stockQuantity, p.id")
+    List<ProductProjection> findProjectedByStockQuantityLessThan(@Param("threshold") int threshold);
+
+    /**
+     * Matches the predicate of the partial idx_products_low_stock index, so only the vendor's
+     * low-stock rows are read
+     */
+    @Query(PROJECTION + "where p.userId = :userId and p.active = true and p.stockQuantity <= p.lowStockThreshold "
+            + "order by p.stockQuantity, p.id")
+    List<ProductProjection> findProjectedLowStockByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Products of a category and all of its descendants in one round trip, loaded read-only
+     */
+    @Query(nativeQuery = true, value = "with recursive subtree(id) as ("
+            + "select c.id from categories c where c.id = :categoryId "
+            + "union all select c.id from categories c join subtree s on c.parent_id = s.id) "
+            + "select p.* from products p where p.category_id in (select s.id from subtree s)")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<ProductEntity> findReadOnlyByCategorySubtree(@Param("categoryId") UUID categoryId);
+
+    @Query("select p.id from ProductEntity p where p.id in :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    boolean existsByName(String name);
+
+    long countByCategoryId(UUID categoryId);
+
+    long countByCategoryIdAndActiveTrue(UUID categoryId);
+
+    @Modifying
+    @Query("delete from ProductEntity p where p.id = :id")
+    int deleteProductById(@Param("id") UUID id);
+
+    // Pagination
+
+    @Query(value = PROJECTION,
+            countQuery = "select count(p.id) from ProductEntity p")
+    Page<ProductProjection> findProjectedPage(Pageable pageable);
+
+    @Query(value = PROJECTION + "where p.categoryId = :categoryId",
+            countQuery = "select count(p.id) from ProductEntity p where p.categoryId = :categoryId")
+    Page<ProductProjection> findProjectedPageByCategoryId(@Param("categoryId") UUID categoryId, Pageable pageable);
+
+    @Query(value = PROJECTION + "where p.active = true and p.categoryId = :categoryId",
+            countQuery = "select count(p.id) from ProductEntity p where p.active = true and p.categoryId = :categoryId")
+    Page<ProductProjection> findProjectedActivePageByCategoryId(@Param("categoryId") UUID categoryId, Pageable pageable);
+
+    @Query(value = PROJECTION + "where " + NAME_MATCHES,
+            countQuery = "select count(p.id) from ProductEntity p where " + NAME_MATCHES)
+    Page<ProductProjection> findProjectedPageByNameLike(@Param("pattern") String pattern, Pageable pageable);
+
+    @Query(value = PROJECTION + "where p.active = true and " + NAME_MATCHES,
+            countQuery = "select count(p.id) from ProductEntity p where p.active = true and " + NAME_MATCHES)
+    Page<ProductProjection> findProjectedActivePageByNameLike(@Param("pattern") String pattern, Pageable pageable);
+
+    @Query(value = PROJECTION + "where p.categoryId = :categoryId and " + NAME_MATCHES,
+            countQuery = "select count(p.id) from ProductEntity p where p.categoryId = :categoryId and " + NAME_MATCHES)
+    Page<ProductProjection> findProjectedPageByCategoryIdAndNameLike(@Param("categoryId") UUID categoryId,
+                                                                     @Param("pattern") String pattern,
+                                                                     Pageable pageable);
+
+    @Query(value = PROJECTION + "where p.active = true and p.categoryId = :categoryId and " + NAME_MATCHES,
+            countQuery = "select count(p.id) from ProductEntity p "
+                    + "where p.active = true and p.categoryId = :categoryId and " + NAME_MATCHES)
+    Page<ProductProjection> findProjectedActivePageByCategoryIdAndNameLike(@Param("categoryId") UUID categoryId,
+                                                                           @Param("pattern") String pattern,
+                                                                           Pageable pageable);
+}
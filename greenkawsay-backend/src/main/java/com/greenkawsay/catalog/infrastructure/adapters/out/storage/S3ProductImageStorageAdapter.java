@@ -0,0 +1,68 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.storage;
+
+import com.greenkawsay.catalog.application.ports.out.ProductImageStoragePort;
+import com.greenkawsay.catalog.infrastructure.configuration.S3StorageProperties;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetUrlRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.io.InputStream;
+
+/**
+ * S3 implementation of the product image storage port
+ * Uploads are streamed with a known content length, so the SDK never buffers the body in memory
+ */
+public class S3ProductImageStorageAdapter implements ProductImageStoragePort {
+
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final S3Client s3Client;
+    private final S3StorageProperties properties;
+
+    public S3ProductImageStorageAdapter(S3Client s3Client, S3StorageProperties properties) {
+        this.s3Client = s3Client;
+        this.properties = properties;
+    }
+
+    @Override
+    public String store(String key, InputStream content, long contentLength, String contentType) {
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(properties.bucket())
+                .key(key)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .cacheControl(CACHE_CONTROL)
+                .build();
+        s3Client.putObject(request, RequestBody.fromInputStream(content, contentLength));
+        return urlFor(key);
+    }
+
+    @Override
+    public InputStream open(String key) {
+        return s3Client.getObject(GetObjectRequest.builder()
+                .bucket(properties.bucket())
+                .key(key)
+                .build());
+    }
+
+    @Override
+    public void delete(String key) {
+        s3Client.deleteObject(DeleteObjectRequest.builder()
+                .bucket(properties.bucket())
+                .key(key)
+                .build());
+    }
+
+    private String urlFor(String key) {
+        if (properties.hasPublicBaseUrl()) {
+            String base = properties.publicBaseUrl();
+            return (base.endsWith("/") ? base : base + "/") + key;
+        }
+        return s3Client.utilities()
+                .getUrl(GetUrlRequest.builder().bucket(properties.bucket()).key(key).build())
+                .toExternalForm();
+    }
+}
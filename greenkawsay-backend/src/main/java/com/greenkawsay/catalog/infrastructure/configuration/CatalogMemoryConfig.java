@@ -0,0 +1,51 @@
+package com.greenkawsay.catalog.infrastructure.configuration;
+
+import com.greenkawsay.catalog.infrastructure.adapters.out.memory.InMemoryCatalogStore;
+import com.greenkawsay.catalog.infrastructure.adapters.out.memory.InMemoryCatalogVersion;
+import com.greenkawsay.catalog.infrastructure.adapters.out.memory.InMemoryCategoryRepository;
+import com.greenkawsay.catalog.infrastructure.adapters.out.memory.InMemoryProductImageRepository;
+import com.greenkawsay.catalog.infrastructure.adapters.out.memory.InMemoryProductRepository;
+import com.greenkawsay.catalog.infrastructure.adapters.out.memory.InMemoryReviewRepository;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.CatalogVersion;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * In-memory persistence for Catalog Context, active with the memory profile
+ * Replaces CatalogPersistenceConfig so controllers can be exercised without a database
+ */
+@Configuration
+@Profile("memory")
+public class CatalogMemoryConfig {
+
+    @Bean
+    public InMemoryCatalogStore inMemoryCatalogStore() {
+        return new InMemoryCatalogStore();
+    }
+
+    @Bean
+    public CatalogVersion catalogVersion(InMemoryCatalogStore store) {
+        return new InMemoryCatalogVersion(store);
+    }
+
+    @Bean
+    public InMemoryProductRepository inMemoryProductRepository(InMemoryCatalogStore store) {
+        return new InMemoryProductRepository(store);
+    }
+
+    @Bean
+    public InMemoryCategoryRepository inMemoryCategoryRepository(InMemoryCatalogStore store) {
+        return new InMemoryCategoryRepository(store);
+    }
+
+    @Bean
+    public InMemoryProductImageRepository inMemoryProductImageRepository(InMemoryCatalogStore store) {
+        return new InMemoryProductImageRepository(store);
+    }
+
+    @Bean
+    public InMemoryReviewRepository inMemoryReviewRepository(InMemoryCatalogStore store) {
+        return new InMemoryReviewRepository(store);
+    }
+}
@@ -1,19 +1,34 @@
 package com.greenkawsay.catalog.infrastructure.configuration;
 
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.CachingProductImageRepository;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.CatalogVersion;
 import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.ProductPersistenceAdapter;
 import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.CategoryPersistenceAdapter;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.JdbcCatalogVersion;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.ProductImagePersistenceAdapter;
 import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.mappers.ProductPersistenceMapper;
 import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.mappers.CategoryPersistenceMapper;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.mappers.ProductImagePersistenceMapper;
 import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.repositories.ProductJpaRepository;
 import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.repositories.CategoryJpaRepository;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.repositories.ProductImageJpaRepository;
+import com.greenkawsay.shared.infrastructure.persistence.PrimaryReads;
+import jakarta.persistence.EntityManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
 
 /**
  * Persistence Configuration for Catalog Context
- * Configures JPA repositories and persistence adapters
+ * Configures JPA repositories and persistence adapters; the memory profile uses CatalogMemoryConfig instead
  */
 @Configuration
+@Profile("!memory")
 public class CatalogPersistenceConfig {
 
     @Bean
@@ -26,17 +41,49 @@ public class CatalogPersistenceConfig {
         return CategoryPersistenceMapper.INSTANCE;
     }
 
+    @Bean
+    public ProductImagePersistenceMapper productImagePersistenceMapper() {
+        return ProductImagePersistenceMapper.INSTANCE;
+    }
+
+    @Bean
+    public CatalogVersion catalogVersion(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        return new JdbcCatalogVersion(new JdbcTemplate(dataSource), transactionManager);
+    }
+
     @Bean
     public ProductPersistenceAdapter productPersistenceAdapter(
             ProductJpaRepository productJpaRepository,
-            ProductPersistenceMapper productPersistenceMapper) {
-        return new ProductPersistenceAdapter(productJpaRepository, productPersistenceMapper);
+            ProductPersistenceMapper productPersistenceMapper,
+            EntityManager entityManager) {
+        return new ProductPersistenceAdapter(productJpaRepository, productPersistenceMapper, entityManager);
     }
 
     @Bean
     public CategoryPersistenceAdapter categoryPersistenceAdapter(
             CategoryJpaRepository categoryJpaRepository,
-            CategoryPersistenceMapper categoryPersistenceMapper) {
-        return new CategoryPersistenceAdapter(categoryJpaRepository, categoryPersistenceMapper);
+            CategoryPersistenceMapper categoryPersistenceMapper,
+            EntityManager entityManager) {
+        return new CategoryPersistenceAdapter(categoryJpaRepository, categoryPersistenceMapper, entityManager);
+    }
+
+    @Bean
+    public ProductImagePersistenceAdapter productImagePersistenceAdapter(
+            ProductImageJpaRepository productImageJpaRepository,
+            ProductImagePersistenceMapper productImagePersistenceMapper) {
+        return new ProductImagePersistenceAdapter(productImageJpaRepository, productImagePersistenceMapper);
+    }
+
+    @Bean
+    @Primary
+    public CachingProductImageRepository cachingProductImageRepository(
+            ProductImagePersistenceAdapter productImagePersistenceAdapter,
+            ProductImageProperties productImageProperties,
+            PlatformTransactionManager transactionManager) {
+        return new CachingProductImageRepository(
+                productImagePersistenceAdapter,
+                productImageProperties.primaryUrlCacheSize(),
+                productImageProperties.primaryUrlCacheTtl(),
+                new PrimaryReads(transactionManager));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,37 @@
+package com.greenkawsay.catalog.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Sizing of the serialized response cache for the category tree, root categories and product details
+ * versionTtl is how long a fetched catalog version is reused, the most a cached response can trail a write
+ */
+@ConfigurationProperties(prefix = "greenkawsay.catalog.response-cache")
+public record CatalogResponseCacheProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("64MB") DataSize maximumSize,
+    @DefaultValue("5m") Duration ttl,
+    @DefaultValue("1s") Duration versionTtl,
+    @DefaultValue("50000") long versionCacheSize,
+    @DefaultValue("1KB") DataSize gzipMinSize
+) {
+
+    public CatalogResponseCacheProperties {
+        if (maximumSize.toBytes() <= 0) {
+            throw new IllegalArgumentException("Response cache size must be positive");
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Response cache TTL must be positive");
+        }
+        if (versionTtl.isNegative() || versionTtl.isZero() || versionTtl.compareTo(ttl) > 0) {
+            throw new IllegalArgumentException("Response cache version TTL must be positive and not above the TTL");
+        }
+        if (versionCacheSize <= 0) {
+            throw new IllegalArgumentException("Response cache version cache size must be positive");
+        }
+    }
+}
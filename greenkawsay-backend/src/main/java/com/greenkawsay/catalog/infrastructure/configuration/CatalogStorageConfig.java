@@ -0,0 +1,55 @@
+package com.greenkawsay.catalog.infrastructure.configuration;
+
+import com.greenkawsay.catalog.application.ports.out.ProductImageStoragePort;
+import com.greenkawsay.catalog.domain.repositories.ProductImageRepository;
+import com.greenkawsay.catalog.infrastructure.adapters.out.images.ImageVariantGenerator;
+import com.greenkawsay.catalog.infrastructure.adapters.out.images.ProductImageVariantWorker;
+import com.greenkawsay.catalog.infrastructure.adapters.out.storage.S3ProductImageStorageAdapter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+import java.net.URI;
+
+/**
+ * Storage Configuration for Catalog Context
+ * Configures the S3 image storage adapter and background variant generation
+ */
+@Configuration
+@EnableConfigurationProperties({S3StorageProperties.class, ProductImageProperties.class})
+public class CatalogStorageConfig {
+
+    @Bean(destroyMethod = "close")
+    public S3Client productImageS3Client(S3StorageProperties properties) {
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(properties.region()))
+                .forcePathStyle(properties.pathStyleAccess());
+        if (properties.hasEndpointOverride()) {
+            builder.endpointOverride(URI.create(properties.endpoint()));
+        }
+        return builder.build();
+    }
+
+    @Bean
+    public S3ProductImageStorageAdapter productImageStorageAdapter(S3Client productImageS3Client,
+                                                                   S3StorageProperties properties) {
+        return new S3ProductImageStorageAdapter(productImageS3Client, properties);
+    }
+
+    @Bean
+    public ProductImageVariantWorker productImageVariantWorker(
+            ProductImageStoragePort productImageStorage,
+            ProductImageRepository productImageRepository,
+            ProductImageProperties properties) {
+        return new ProductImageVariantWorker(
+                productImageStorage,
+                productImageRepository,
+                new ImageVariantGenerator(properties.thumbnailSize(), properties.webpMaxSize(),
+                        properties.maxPixels()),
+                properties.workers(),
+                properties.queueCapacity());
+    }
+}
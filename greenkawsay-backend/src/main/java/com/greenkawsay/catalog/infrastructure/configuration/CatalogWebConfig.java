@@ -1,10 +1,26 @@
 package com.greenkawsay.catalog.infrastructure.configuration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.greenkawsay.catalog.application.ports.in.CategoryServicePort;
+import com.greenkawsay.catalog.application.ports.in.ProductImageServicePort;
+import com.greenkawsay.catalog.application.ports.in.ProductServicePort;
+import com.greenkawsay.catalog.infrastructure.adapters.in.web.cache.JsonResponseCache;
+import com.greenkawsay.catalog.infrastructure.adapters.in.web.cache.JsonResponseCacheInterceptor;
 import com.greenkawsay.catalog.infrastructure.adapters.in.web.mappers.ProductMapper;
 import com.greenkawsay.catalog.infrastructure.adapters.in.web.mappers.CategoryMapper;
+import com.greenkawsay.catalog.infrastructure.adapters.in.web.mappers.ProductImageMapper;
+import com.greenkawsay.catalog.infrastructure.adapters.in.web.warmup.CatalogWarmUp;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.CachingCatalogVersion;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.CatalogVersion;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
@@ -12,6 +28,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
  * Configures CORS, serialization, and web layer components
  */
 @Configuration
+@EnableConfigurationProperties(CatalogResponseCacheProperties.class)
 public class CatalogWebConfig {
 
     @Bean
@@ -24,6 +41,47 @@ public class CatalogWebConfig {
         return CategoryMapper.INSTANCE;
     }
 
+    @Bean
+    public ProductImageMapper productImageMapper() {
+        return ProductImageMapper.INSTANCE;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "greenkawsay.catalog.response-cache", name = "enabled", matchIfMissing = true)
+    public JsonResponseCache catalogJsonResponseCache(ObjectMapper objectMapper,
+                                                      CatalogResponseCacheProperties properties,
+                                                      MeterRegistry meterRegistry) {
+        return new JsonResponseCache(objectMapper, properties.maximumSize().toBytes(), properties.ttl(),
+                (int) properties.gzipMinSize().toBytes(), meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "greenkawsay.catalog.response-cache", name = "enabled", matchIfMissing = true)
+    public WebMvcConfigurer catalogResponseCacheConfigurer(JsonResponseCache catalogJsonResponseCache,
+                                                           CatalogVersion catalogVersion,
+                                                           CatalogResponseCacheProperties properties) {
+        JsonResponseCacheInterceptor interceptor = new JsonResponseCacheInterceptor(catalogJsonResponseCache,
+                new CachingCatalogVersion(catalogVersion, properties.versionCacheSize(), properties.versionTtl()));
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(interceptor).addPathPatterns("/api/v1/categories/**", "/api/v1/products/**");
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "greenkawsay.startup.warm-up", name = "enabled", matchIfMissing = true)
+    public CatalogWarmUp catalogWarmUp(ProductServicePort productService, CategoryServicePort categoryService,
+                                       ProductImageServicePort productImageService, ProductMapper productMapper,
+                                       CategoryMapper categoryMapper, ObjectMapper objectMapper,
+                                       ObjectProvider<JsonResponseCache> catalogJsonResponseCache,
+                                       CatalogVersion catalogVersion, ServerProperties serverProperties) {
+        return new CatalogWarmUp(productService, categoryService, productImageService, productMapper, categoryMapper,
+                objectMapper, catalogJsonResponseCache.getIfAvailable(), catalogVersion,
+                serverProperties.getServlet().getContextPath());
+    }
+
     @Bean
     public WebMvcConfigurer corsConfigurer() {
         return new WebMvcConfigurer() {
@@ -0,0 +1,39 @@
+package com.greenkawsay.catalog.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Tuning properties for product image variant generation and primary image caching
+ */
+@ConfigurationProperties(prefix = "greenkawsay.catalog.images")
+public record ProductImageProperties(
+    @DefaultValue("320") int thumbnailSize,
+    @DefaultValue("1600") int webpMaxSize,
+    @DefaultValue("40000000") long maxPixels,
+    @DefaultValue("2") int workers,
+    @DefaultValue("100") int queueCapacity,
+    @DefaultValue("50000") long primaryUrlCacheSize,
+    @DefaultValue("10m") Duration primaryUrlCacheTtl
+) {
+
+    public ProductImageProperties {
+        if (thumbnailSize <= 0 || webpMaxSize <= 0) {
+            throw new IllegalArgumentException("Image variant sizes must be positive");
+        }
+        if (maxPixels <= 0) {
+            throw new IllegalArgumentException("Image max pixels must be positive");
+        }
+        if (workers <= 0) {
+            throw new IllegalArgumentException("Image variant workers must be positive");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Image variant queue capacity must be positive");
+        }
+        if (primaryUrlCacheSize <= 0) {
+            throw new IllegalArgumentException("Primary image URL cache size must be positive");
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.greenkawsay.catalog.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Connection properties for the S3-compatible product image bucket
+ * An endpoint override targets LocalStack or MinIO in local environments
+ */
+@ConfigurationProperties(prefix = "greenkawsay.storage.s3")
+public record S3StorageProperties(
+    @DefaultValue("greenkawsay-product-images") String bucket,
+    @DefaultValue("us-east-1") String region,
+    String endpoint,
+    @DefaultValue("false") boolean pathStyleAccess,
+    String publicBaseUrl
+) {
+
+    public S3StorageProperties {
+        if (bucket == null || bucket.isBlank()) {
+            throw new IllegalArgumentException("S3 bucket cannot be empty");
+        }
+    }
+
+    public boolean hasEndpointOverride() {
+        return endpoint != null && !endpoint.isBlank();
+    }
+
+    public boolean hasPublicBaseUrl() {
+        return publicBaseUrl != null && !publicBaseUrl.isBlank();
+    }
+}
@@ -0,0 +1,22 @@
+package com.greenkawsay.notifications.application.ports.in;
+
+import com.greenkawsay.shared.domain.valueobjects.Email;
+
+import java.util.Map;
+
+/**
+ * Input port for transactional email use cases
+ * Defines the contract for email application services
+ */
+public interface EmailServicePort {
+
+    /**
+     * Render a template and queue it for asynchronous delivery
+     * Never blocks on SMTP; returns immediately once the message is queued
+     * @param templateName The template name (e.g. "order-confirmation")
+     * @param recipient The recipient address
+     * @param model Template variables
+     * @return true if the message was queued, false if the outbox is full
+     */
+    boolean sendTemplatedEmail(String templateName, Email recipient, Map<String, ?> model);
+}
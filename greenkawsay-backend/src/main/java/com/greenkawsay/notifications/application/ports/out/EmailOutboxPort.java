@@ -0,0 +1,16 @@
+package com.greenkawsay.notifications.application.ports.out;
+
+import com.greenkawsay.notifications.domain.models.EmailMessage;
+
+/**
+ * Output port for handing rendered emails to the delivery pipeline
+ */
+public interface EmailOutboxPort {
+
+    /**
+     * Queue a message for delivery without blocking
+     * @param message The rendered message
+     * @return true if accepted, false if the outbox is at capacity or shut down
+     */
+    boolean offer(EmailMessage message);
+}
@@ -0,0 +1,45 @@
+package com.greenkawsay.notifications.application.services;
+
+import com.greenkawsay.notifications.application.ports.in.EmailServicePort;
+import com.greenkawsay.notifications.application.ports.out.EmailOutboxPort;
+import com.greenkawsay.notifications.domain.exceptions.EmailTemplateNotFoundException;
+import com.greenkawsay.notifications.domain.models.EmailMessage;
+import com.greenkawsay.notifications.domain.models.EmailTemplate;
+import com.greenkawsay.notifications.domain.repositories.EmailTemplateRepository;
+import com.greenkawsay.shared.domain.valueobjects.Email;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+/**
+ * Application service for transactional email use cases
+ * Renders precompiled templates on the caller thread and hands the result to the outbox
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmailApplicationService implements EmailServicePort {
+
+    private final EmailTemplateRepository emailTemplateRepository;
+    private final EmailOutboxPort emailOutbox;
+
+    @Override
+    public boolean sendTemplatedEmail(String templateName, Email recipient, Map<String, ?> model) {
+        EmailTemplate template = emailTemplateRepository.findByName(templateName)
+                .orElseThrow(() -> new EmailTemplateNotFoundException(templateName));
+
+        EmailMessage message = new EmailMessage(
+            recipient,
+            template.renderSubject(model),
+            template.renderBody(model)
+        );
+
+        boolean accepted = emailOutbox.offer(message);
+        if (!accepted) {
+            log.warn("Email outbox rejected message {} using template {}", message.getId(), templateName);
+        }
+        return accepted;
+    }
+}
@@ -0,0 +1,14 @@
+package com.greenkawsay.notifications.domain.exceptions;
+
+import com.greenkawsay.shared.domain.exceptions.DomainException;
+
+/**
+ * Exception thrown when an email template is not found
+ */
+public class EmailTemplateNotFoundException extends DomainException {
+
+    public EmailTemplateNotFoundException(String templateName) {
+        super(String.format("Email template '%s' not found", templateName),
+              "EMAIL_TEMPLATE_NOT_FOUND");
+    }
+}
@@ -0,0 +1,82 @@
+package com.greenkawsay.notifications.domain.models;
+
+import com.greenkawsay.shared.domain.valueobjects.Email;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Domain model representing a rendered transactional email waiting for delivery
+ * Immutable and thread-safe
+ */
+public final class EmailMessage {
+    private final UUID id;
+    private final Email recipient;
+    private final String subject;
+    private final String htmlBody;
+    private final int attempts;
+
+    public EmailMessage(Email recipient, String subject, String htmlBody) {
+        this(UUID.randomUUID(), recipient, subject, htmlBody, 0);
+    }
+
+    private EmailMessage(UUID id, Email recipient, String subject, String htmlBody, int attempts) {
+        this.id = Objects.requireNonNull(id, "ID cannot be null");
+        this.recipient = Objects.requireNonNull(recipient, "Recipient cannot be null");
+        this.subject = Objects.requireNonNull(subject, "Subject cannot be null");
+        this.htmlBody = Objects.requireNonNull(htmlBody, "Body cannot be null");
+        this.attempts = attempts;
+        validate();
+    }
+
+    private void validate() {
+        if (subject.isBlank()) {
+            throw new IllegalArgumentException("Email subject cannot be empty");
+        }
+        if (subject.length() > 255) {
+            throw new IllegalArgumentException("Email subject cannot exceed 255 characters");
+        }
+        if (attempts < 0) {
+            throw new IllegalArgumentException("Attempts cannot be negative");
+        }
+    }
+
+    // Business methods
+    public EmailMessage recordFailedAttempt() {
+        return new EmailMessage(this.id, this.recipient, this.subject, this.htmlBody, this.attempts + 1);
+    }
+
+    public boolean hasExhaustedAttempts(int maxAttempts) {
+        return attempts >= maxAttempts;
+    }
+
+    // Getters
+    public UUID getId() { return id; }
+    public Email getRecipient() { return recipient; }
+    public String getSubject() { return subject; }
+    public String getHtmlBody() { return htmlBody; }
+    public int getAttempts() { return attempts; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EmailMessage that = (EmailMessage) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "EmailMessage{" +
+                "id=" + id +
+                ", recipient=" + recipient +
+                ", subject='" + subject + '\'' +
+                ", attempts=" + attempts +
+                '}';
+    }
+}
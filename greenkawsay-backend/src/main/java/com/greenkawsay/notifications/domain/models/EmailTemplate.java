@@ -0,0 +1,134 @@
+package com.greenkawsay.notifications.domain.models;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Domain model representing a precompiled email template
+ * The source is split once into literal and placeholder segments, so rendering
+ * is a single pass of appends with no parsing or regex work per email
+ */
+public final class EmailTemplate {
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String name;
+    private final Segment[] subject;
+    private final Segment[] body;
+    private final int bodySizeHint;
+
+    private EmailTemplate(String name, Segment[] subject, Segment[] body, int bodySizeHint) {
+        this.name = name;
+        this.subject = subject;
+        this.body = body;
+        this.bodySizeHint = bodySizeHint;
+    }
+
+    /**
+     * Compile a template from its subject line and HTML body
+     * Placeholders use the {{variable}} syntax; values are HTML-escaped when rendered into the body
+     */
+    public static EmailTemplate compile(String name, String subjectSource, String bodySource) {
+        Objects.requireNonNull(name, "Template name cannot be null");
+        Objects.requireNonNull(subjectSource, "Subject cannot be null");
+        Objects.requireNonNull(bodySource, "Body cannot be null");
+        if (name.isBlank()) {
+            throw new IllegalArgumentException("Template name cannot be empty");
+        }
+        return new EmailTemplate(name.trim(), parse(name, subjectSource.trim(), false),
+                parse(name, bodySource, true), bodySource.length() + 256);
+    }
+
+    public String renderSubject(Map<String, ?> model) {
+        return render(subject, model, subject.length * 16);
+    }
+
+    public String renderBody(Map<String, ?> model) {
+        return render(body, model, bodySizeHint);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private static String render(Segment[] segments, Map<String, ?> model, int sizeHint) {
+        StringBuilder sb = new StringBuilder(sizeHint);
+        for (Segment segment : segments) {
+            segment.appendTo(sb, model);
+        }
+        return sb.toString();
+    }
+
+    private static Segment[] parse(String name, String source, boolean escapeHtml) {
+        List<Segment> segments = new ArrayList<>();
+        int position = 0;
+        while (position < source.length()) {
+            int open = source.indexOf(OPEN, position);
+            if (open < 0) {
+                segments.add(new Literal(source.substring(position)));
+                break;
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder in email template '" + name + "'");
+            }
+            if (open > position) {
+                segments.add(new Literal(source.substring(position, open)));
+            }
+            String variable = source.substring(open + OPEN.length(), close).trim();
+            if (variable.isEmpty()) {
+                throw new IllegalArgumentException("Empty placeholder in email template '" + name + "'");
+            }
+            segments.add(new Placeholder(variable, escapeHtml));
+            position = close + CLOSE.length();
+        }
+        return segments.toArray(new Segment[0]);
+    }
+
+    private interface Segment {
+        void appendTo(StringBuilder sb, Map<String, ?> model);
+    }
+
+    private record Literal(String text) implements Segment {
+        @Override
+        public void appendTo(StringBuilder sb, Map<String, ?> model) {
+            sb.append(text);
+        }
+    }
+
+    private record Placeholder(String variable, boolean escapeHtml) implements Segment {
+        @Override
+        public void appendTo(StringBuilder sb, Map<String, ?> model) {
+            Object value = model.get(variable);
+            if (value == null) {
+                return;
+            }
+            String text = value.toString();
+            if (!escapeHtml) {
+                sb.append(text);
+                return;
+            }
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                switch (c) {
+                    case '<' -> sb.append("&lt;");
+                    case '>' -> sb.append("&gt;");
+                    case '&' -> sb.append("&amp;");
+                    case '"' -> sb.append("&quot;");
+                    case '\'' -> sb.append("&#39;");
+                    default -> sb.append(c);
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "EmailTemplate{" +
+                "name='" + name + '\'' +
+                ", segments=" + (subject.length + body.length) +
+                '}';
+    }
+}
@@ -0,0 +1,23 @@
+package com.greenkawsay.notifications.domain.repositories;
+
+import com.greenkawsay.notifications.domain.models.EmailTemplate;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Domain repository interface for EmailTemplate operations
+ * Defines the contract for template lookup in the domain layer
+ */
+public interface EmailTemplateRepository {
+
+    /**
+     * Find a compiled template by name
+     */
+    Optional<EmailTemplate> findByName(String name);
+
+    /**
+     * Names of all available templates
+     */
+    Set<String> findAllNames();
+}
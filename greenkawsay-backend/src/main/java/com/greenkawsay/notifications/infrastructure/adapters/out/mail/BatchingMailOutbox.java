@@ -0,0 +1,205 @@
+package com.greenkawsay.notifications.infrastructure.adapters.out.mail;
+
+import com.greenkawsay.notifications.application.ports.out.EmailOutboxPort;
+import com.greenkawsay.notifications.domain.models.EmailMessage;
+import com.greenkawsay.notifications.infrastructure.configuration.MailOutboxProperties;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Email outbox with a bounded in-memory queue and a fixed pool of SMTP workers
+ * Each worker drains up to batch-size messages and sends them through a single
+ * JavaMailSender call, which opens one SMTP connection for the whole batch.
+ * Failed messages are re-queued with exponential backoff until max-attempts.
+ */
+@Slf4j
+public class BatchingMailOutbox implements EmailOutboxPort, SmartLifecycle {
+
+    private final JavaMailSender mailSender;
+    private final MailOutboxProperties properties;
+    private final BlockingQueue<EmailMessage> queue;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private ExecutorService workers;
+    private ScheduledExecutorService retryScheduler;
+    private volatile boolean running;
+
+    public BatchingMailOutbox(JavaMailSender mailSender, MailOutboxProperties properties) {
+        this.mailSender = mailSender;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+    }
+
+    @Override
+    public boolean offer(EmailMessage message) {
+        return running && queue.offer(message);
+    }
+
+    /**
+     * Number of messages queued or being sent, including scheduled retries
+     */
+    public int pendingCount() {
+        return queue.size() + inFlight.get();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        workers = Executors.newFixedThreadPool(properties.workers(), namedThreads("mail-outbox-"));
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(namedThreads("mail-outbox-retry-"));
+        for (int i = 0; i < properties.workers(); i++) {
+            workers.execute(this::drainLoop);
+        }
+        log.info("Mail outbox started with {} workers, batch size {}, capacity {}",
+                properties.workers(), properties.batchSize(), properties.queueCapacity());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        retryScheduler.shutdownNow();
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(properties.shutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("Mail outbox stopped with {} undelivered messages", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drainLoop() {
+        List<EmailMessage> batch = new ArrayList<>(properties.batchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                EmailMessage first = queue.poll(properties.pollInterval().toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.batchSize() - 1);
+                inFlight.addAndGet(batch.size());
+                sendBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error in mail outbox worker", e);
+            } finally {
+                inFlight.addAndGet(-batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    private void sendBatch(List<EmailMessage> batch) {
+        Map<MimeMessage, EmailMessage> byMime = new IdentityHashMap<>(batch.size());
+        for (EmailMessage message : batch) {
+            try {
+                byMime.put(toMimeMessage(message), message);
+            } catch (MessagingException e) {
+                log.error("Dropping email {} that could not be converted to MIME", message.getId(), e);
+            }
+        }
+        if (byMime.isEmpty()) {
+            return;
+        }
+
+        try {
+            mailSender.send(byMime.keySet().toArray(new MimeMessage[0]));
+            log.debug("Sent batch of {} emails", byMime.size());
+        } catch (MailSendException e) {
+            Map<Object, Exception> failed = e.getFailedMessages();
+            if (failed.isEmpty()) {
+                byMime.values().forEach(message -> scheduleRetry(message, e));
+            } else {
+                failed.forEach((mime, cause) -> {
+                    EmailMessage message = byMime.get(mime);
+                    if (message != null) {
+                        scheduleRetry(message, cause);
+                    }
+                });
+            }
+        } catch (MailException e) {
+            byMime.values().forEach(message -> scheduleRetry(message, e));
+        }
+    }
+
+    private void scheduleRetry(EmailMessage message, Exception cause) {
+        EmailMessage retried = message.recordFailedAttempt();
+        if (retried.hasExhaustedAttempts(properties.maxAttempts())) {
+            log.error("Giving up on email {} after {} attempts", message.getId(), retried.getAttempts(), cause);
+            return;
+        }
+        long delay = backoffMillis(retried.getAttempts());
+        log.warn("Email {} failed (attempt {}), retrying in {} ms: {}",
+                message.getId(), retried.getAttempts(), delay, cause.getMessage());
+        inFlight.incrementAndGet();
+        try {
+            retryScheduler.schedule(() -> {
+                inFlight.decrementAndGet();
+                if (!offer(retried)) {
+                    log.error("Dropping email {} on retry, outbox is full or stopped", retried.getId());
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            inFlight.decrementAndGet();
+            log.error("Dropping email {}, retry could not be scheduled", retried.getId(), e);
+        }
+    }
+
+    long backoffMillis(int attempt) {
+        long initial = properties.initialBackoff().toMillis();
+        long max = properties.maxBackoff().toMillis();
+        int shift = Math.min(attempt - 1, 30);
+        return Math.min(max, initial << shift);
+    }
+
+    private MimeMessage toMimeMessage(EmailMessage message) throws MessagingException {
+        MimeMessage mime = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mime, StandardCharsets.UTF_8.name());
+        helper.setFrom(properties.from());
+        helper.setTo(message.getRecipient().getValue());
+        helper.setSubject(message.getSubject());
+        helper.setText(message.getHtmlBody(), true);
+        return mime;
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
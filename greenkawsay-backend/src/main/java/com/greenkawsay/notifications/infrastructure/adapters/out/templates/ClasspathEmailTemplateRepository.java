@@ -0,0 +1,70 @@
+package com.greenkawsay.notifications.infrastructure.adapters.out.templates;
+
+import com.greenkawsay.notifications.domain.models.EmailTemplate;
+import com.greenkawsay.notifications.domain.repositories.EmailTemplateRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Email template repository backed by HTML files on the classpath
+ * All templates are read and compiled once at startup; lookups are a map read
+ */
+@Slf4j
+public class ClasspathEmailTemplateRepository implements EmailTemplateRepository {
+
+    private static final Pattern SUBJECT_HEADER = Pattern.compile("^\\s*<!--\\s*subject:(.*?)-->\\s*", Pattern.CASE_INSENSITIVE);
+
+    private final Map<String, EmailTemplate> templates;
+
+    public ClasspathEmailTemplateRepository(ResourcePatternResolver resolver, String locationPattern) {
+        try {
+            this.templates = Stream.of(resolver.getResources(locationPattern))
+                    .filter(Resource::isReadable)
+                    .map(ClasspathEmailTemplateRepository::compile)
+                    .collect(Collectors.toUnmodifiableMap(EmailTemplate::getName, template -> template));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load email templates from " + locationPattern, e);
+        }
+        log.info("Compiled {} email templates: {}", templates.size(), templates.keySet());
+    }
+
+    @Override
+    public Optional<EmailTemplate> findByName(String name) {
+        return Optional.ofNullable(templates.get(name));
+    }
+
+    @Override
+    public Set<String> findAllNames() {
+        return templates.keySet();
+    }
+
+    private static EmailTemplate compile(Resource resource) {
+        String filename = resource.getFilename();
+        if (filename == null) {
+            throw new IllegalStateException("Email template resource has no filename: " + resource);
+        }
+        String name = filename.endsWith(".html") ? filename.substring(0, filename.length() - 5) : filename;
+        try {
+            String source = resource.getContentAsString(StandardCharsets.UTF_8);
+            Matcher matcher = SUBJECT_HEADER.matcher(source);
+            if (!matcher.find()) {
+                throw new IllegalStateException("Email template '" + name + "' is missing the <!-- subject: ... --> header");
+            }
+            return EmailTemplate.compile(name, matcher.group(1), source.substring(matcher.end()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read email template " + filename, e);
+        }
+    }
+}
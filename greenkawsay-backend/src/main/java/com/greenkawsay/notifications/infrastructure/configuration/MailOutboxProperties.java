@@ -0,0 +1,39 @@
+package com.greenkawsay.notifications.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Tuning properties for the transactional email outbox
+ */
+@ConfigurationProperties(prefix = "greenkawsay.mail.outbox")
+public record MailOutboxProperties(
+    @DefaultValue("no-reply@greenkawsay.com") String from,
+    @DefaultValue("10000") int queueCapacity,
+    @DefaultValue("2") int workers,
+    @DefaultValue("50") int batchSize,
+    @DefaultValue("5") int maxAttempts,
+    @DefaultValue("2s") Duration initialBackoff,
+    @DefaultValue("5m") Duration maxBackoff,
+    @DefaultValue("500ms") Duration pollInterval,
+    @DefaultValue("10s") Duration shutdownTimeout,
+    @DefaultValue("classpath*:templates/email/*.html") String templateLocation
+) {
+
+    public MailOutboxProperties {
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Mail outbox queue capacity must be positive");
+        }
+        if (workers <= 0) {
+            throw new IllegalArgumentException("Mail outbox workers must be positive");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Mail outbox batch size must be positive");
+        }
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("Mail outbox max attempts must be positive");
+        }
+    }
+}
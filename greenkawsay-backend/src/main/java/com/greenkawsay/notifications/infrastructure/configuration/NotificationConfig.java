@@ -0,0 +1,35 @@
+package com.greenkawsay.notifications.infrastructure.configuration;
+
+import com.greenkawsay.notifications.domain.repositories.EmailTemplateRepository;
+import com.greenkawsay.notifications.infrastructure.adapters.out.mail.BatchingMailOutbox;
+import com.greenkawsay.notifications.infrastructure.adapters.out.templates.ClasspathEmailTemplateRepository;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.mail.javamail.JavaMailSender;
+
+/**
+ * Configuration for Notifications Context
+ * Wires the template repository and the asynchronous mail outbox
+ */
+@Configuration
+@EnableConfigurationProperties(MailOutboxProperties.class)
+public class NotificationConfig {
+
+    @Bean
+    public EmailTemplateRepository emailTemplateRepository(
+            ResourcePatternResolver resourcePatternResolver,
+            MailOutboxProperties properties) {
+        return new ClasspathEmailTemplateRepository(resourcePatternResolver, properties.templateLocation());
+    }
+
+    /**
+     * The sender is resolved on the first batch, so SMTP setup stays off the startup path
+     */
+    @Bean
+    public BatchingMailOutbox mailOutbox(@Lazy JavaMailSender mailSender, MailOutboxProperties properties) {
+        return new BatchingMailOutbox(mailSender, properties);
+    }
+}
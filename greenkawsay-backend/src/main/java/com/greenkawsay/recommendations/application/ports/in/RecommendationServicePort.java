@@ -0,0 +1,26 @@
+package com.greenkawsay.recommendations.application.ports.in;
+
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.recommendations.domain.models.Recommendation;
+
+import java.util.List;
+
+/**
+ * Input port for "customers also liked" recommendations
+ */
+public interface RecommendationServicePort {
+
+    /**
+     * Products most similar to the given one, served from the in-memory model
+     * @param productId The product ID
+     * @param limit Maximum number of recommendations
+     * @return Recommendations ordered by descending score; empty if the product is unknown
+     */
+    List<Recommendation> getRecommendations(ProductId productId, int limit);
+
+    /**
+     * Train a new model from current interactions and swap it in atomically
+     * @return true if a model was trained, false if a training run was already in progress
+     */
+    boolean retrain();
+}
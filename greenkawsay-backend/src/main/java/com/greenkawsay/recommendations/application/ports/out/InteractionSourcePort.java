@@ -0,0 +1,16 @@
+package com.greenkawsay.recommendations.application.ports.out;
+
+import com.greenkawsay.recommendations.domain.models.Interaction;
+
+import java.util.function.Consumer;
+
+/**
+ * Output port streaming user-product interactions for offline training
+ */
+public interface InteractionSourcePort {
+
+    /**
+     * Stream every (user, product) interaction once, with its aggregated weight
+     */
+    void forEachInteraction(Consumer<Interaction> consumer);
+}
@@ -0,0 +1,14 @@
+package com.greenkawsay.recommendations.application.ports.out;
+
+import com.greenkawsay.recommendations.domain.models.RecommendationModel;
+
+/**
+ * Output port for the offline recommendation model trainer
+ */
+public interface RecommendationTrainerPort {
+
+    /**
+     * Build a model from all interactions of the given source
+     */
+    RecommendationModel train(InteractionSourcePort interactions);
+}
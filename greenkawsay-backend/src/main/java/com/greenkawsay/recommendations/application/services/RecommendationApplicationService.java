@@ -0,0 +1,58 @@
+package com.greenkawsay.recommendations.application.services;
+
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.recommendations.application.ports.in.RecommendationServicePort;
+import com.greenkawsay.recommendations.application.ports.out.InteractionSourcePort;
+import com.greenkawsay.recommendations.application.ports.out.RecommendationTrainerPort;
+import com.greenkawsay.recommendations.domain.models.Recommendation;
+import com.greenkawsay.recommendations.domain.models.RecommendationModel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Application service for product recommendations
+ * Reads never block: they use whichever model the reference points to, and retraining swaps it in one step
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationApplicationService implements RecommendationServicePort {
+
+    private final InteractionSourcePort interactionSource;
+    private final RecommendationTrainerPort trainer;
+
+    private final AtomicReference<RecommendationModel> model = new AtomicReference<>(RecommendationModel.empty());
+    private final AtomicBoolean training = new AtomicBoolean();
+
+    @Override
+    public List<Recommendation> getRecommendations(ProductId productId, int limit) {
+        return model.get().recommend(productId.getValue(), limit);
+    }
+
+    @Override
+    public boolean retrain() {
+        if (!training.compareAndSet(false, true)) {
+            log.debug("Recommendation training already in progress, skipping");
+            return false;
+        }
+        try {
+            long start = System.nanoTime();
+            RecommendationModel trained = trainer.train(interactionSource);
+            model.set(trained);
+            log.info("Recommendation model swapped: {} items trained in {} ms",
+                    trained.itemCount(), (System.nanoTime() - start) / 1_000_000);
+            return true;
+        } finally {
+            training.set(false);
+        }
+    }
+
+    RecommendationModel currentModel() {
+        return model.get();
+    }
+}
@@ -0,0 +1,19 @@
+package com.greenkawsay.recommendations.domain.models;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Implicit feedback signal of a user towards a product (wishlist, purchase, positive review)
+ * The weight aggregates all signals of the pair
+ */
+public record Interaction(UUID userId, UUID productId, float weight) {
+
+    public Interaction {
+        Objects.requireNonNull(userId, "User ID cannot be null");
+        Objects.requireNonNull(productId, "Product ID cannot be null");
+        if (!(weight > 0)) {
+            throw new IllegalArgumentException("Interaction weight must be positive");
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.greenkawsay.recommendations.domain.models;
+
+import java.util.UUID;
+
+/**
+ * A recommended product together with its similarity score
+ */
+public record Recommendation(UUID productId, float score) {
+}
@@ -0,0 +1,89 @@
+package com.greenkawsay.recommendations.domain.models;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Immutable item-item recommendation model
+ * Neighbors are precomputed offline and stored row-major in primitive arrays:
+ * item i owns slots [i * k, (i + 1) * k), sorted by descending score and padded with -1
+ */
+public final class RecommendationModel {
+
+    private static final RecommendationModel EMPTY =
+            new RecommendationModel(new UUID[0], 0, new int[0], new float[0], Instant.EPOCH);
+
+    private final UUID[] products;
+    private final Map<UUID, Integer> index;
+    private final int neighborsPerItem;
+    private final int[] neighbors;
+    private final float[] scores;
+    private final Instant trainedAt;
+
+    public RecommendationModel(UUID[] products, int neighborsPerItem, int[] neighbors, float[] scores, Instant trainedAt) {
+        this.products = Objects.requireNonNull(products, "Products cannot be null");
+        this.neighborsPerItem = neighborsPerItem;
+        this.neighbors = Objects.requireNonNull(neighbors, "Neighbors cannot be null");
+        this.scores = Objects.requireNonNull(scores, "Scores cannot be null");
+        this.trainedAt = Objects.requireNonNull(trainedAt, "Trained at cannot be null");
+        if (neighborsPerItem < 0) {
+            throw new IllegalArgumentException("Neighbors per item cannot be negative");
+        }
+        long slots = (long) products.length * neighborsPerItem;
+        if (neighbors.length != slots || scores.length != slots) {
+            throw new IllegalArgumentException("Neighbor arrays must hold exactly products * neighborsPerItem slots");
+        }
+        this.index = new HashMap<>(products.length * 2);
+        for (int i = 0; i < products.length; i++) {
+            index.put(products[i], i);
+        }
+    }
+
+    public static RecommendationModel empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Top neighbors of a product, best first; empty when the product is unknown to the model
+     */
+    public List<Recommendation> recommend(UUID productId, int limit) {
+        Integer item = index.get(productId);
+        if (item == null || limit <= 0) {
+            return Collections.emptyList();
+        }
+        int count = Math.min(limit, neighborsPerItem);
+        int offset = item * neighborsPerItem;
+        List<Recommendation> result = new ArrayList<>(count);
+        for (int slot = offset; slot < offset + count && neighbors[slot] >= 0; slot++) {
+            result.add(new Recommendation(products[neighbors[slot]], scores[slot]));
+        }
+        return result;
+    }
+
+    public int itemCount() {
+        return products.length;
+    }
+
+    public int neighborsPerItem() {
+        return neighborsPerItem;
+    }
+
+    public Instant getTrainedAt() {
+        return trainedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "RecommendationModel{" +
+                "items=" + products.length +
+                ", neighborsPerItem=" + neighborsPerItem +
+                ", trainedAt=" + trainedAt +
+                '}';
+    }
+}
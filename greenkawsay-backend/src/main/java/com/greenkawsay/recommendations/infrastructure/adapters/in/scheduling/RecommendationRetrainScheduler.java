@@ -0,0 +1,27 @@
+package com.greenkawsay.recommendations.infrastructure.adapters.in.scheduling;
+
+import com.greenkawsay.recommendations.application.ports.in.RecommendationServicePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Periodically retrains the recommendation model off the request path
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RecommendationRetrainScheduler {
+
+    private final RecommendationServicePort recommendationService;
+
+    @Scheduled(initialDelayString = "${greenkawsay.recommendations.initial-delay:30s}",
+               fixedDelayString = "${greenkawsay.recommendations.retrain-interval:6h}")
+    public void retrain() {
+        try {
+            recommendationService.retrain();
+        } catch (RuntimeException e) {
+            // Keep serving the previous model; the next run will try again
+            log.error("Recommendation model training failed", e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.greenkawsay.recommendations.infrastructure.adapters.in.web.controllers;
+
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.recommendations.application.ports.in.RecommendationServicePort;
+import com.greenkawsay.recommendations.infrastructure.adapters.in.web.dto.response.RecommendationResponse;
+import com.greenkawsay.recommendations.infrastructure.adapters.in.web.mappers.RecommendationMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST Controller for product recommendations
+ * Served entirely from the in-memory model, without database access
+ */
+@RestController
+@RequestMapping("/api/v1/products/{productId}/recommendations")
+@Tag(name = "Recommendations", description = "\"Customers also liked\" recommendations API")
+public class RecommendationController {
+
+    private static final int MAX_LIMIT = 50;
+
+    private final RecommendationServicePort recommendationService;
+    private final RecommendationMapper recommendationMapper;
+
+    public RecommendationController(RecommendationServicePort recommendationService,
+                                    RecommendationMapper recommendationMapper) {
+        this.recommendationService = recommendationService;
+        this.recommendationMapper = recommendationMapper;
+    }
+
+    @GetMapping
+    @Operation(summary = "Get product recommendations",
+               description = "Returns products frequently wishlisted, bought or well reviewed by the same customers")
+    @ApiResponse(responseCode = "200", description = "Recommendations retrieved (empty when the product has no signal yet)")
+    public ResponseEntity<List<RecommendationResponse>> getRecommendations(
+            @Parameter(description = "Product ID") @PathVariable UUID productId,
+            @Parameter(description = "Maximum number of recommendations (1-50)") @RequestParam(defaultValue = "10") int limit) {
+        
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        var recommendations = recommendationService.getRecommendations(new ProductId(productId), boundedLimit);
+        return ResponseEntity.ok(recommendationMapper.toRecommendationResponseList(recommendations));
+    }
+}
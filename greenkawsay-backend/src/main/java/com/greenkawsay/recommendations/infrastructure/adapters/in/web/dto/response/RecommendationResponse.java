@@ -0,0 +1,39 @@
+package com.greenkawsay.recommendations.infrastructure.adapters.in.web.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+/**
+ * Response DTO for a recommended product
+ */
+@Schema(description = "Recommended product")
+public class RecommendationResponse {
+
+    @Schema(description = "Recommended product ID", example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID productId;
+
+    @Schema(description = "Similarity score between 0 and 1", example = "0.42")
+    private float score;
+
+    // Default constructor for JSON serialization
+    public RecommendationResponse() {
+    }
+
+    // Getters and setters
+    public UUID getProductId() {
+        return productId;
+    }
+
+    public void setProductId(UUID productId) {
+        this.productId = productId;
+    }
+
+    public float getScore() {
+        return score;
+    }
+
+    public void setScore(float score) {
+        this.score = score;
+    }
+}
@@ -0,0 +1,27 @@
+package com.greenkawsay.recommendations.infrastructure.adapters.in.web.mappers;
+
+import com.greenkawsay.recommendations.domain.models.Recommendation;
+import com.greenkawsay.recommendations.infrastructure.adapters.in.web.dto.response.RecommendationResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+import java.util.List;
+
+/**
+ * MapStruct mapper for recommendation DTOs
+ */
+@Mapper(componentModel = "spring")
+public interface RecommendationMapper {
+
+    RecommendationMapper INSTANCE = Mappers.getMapper(RecommendationMapper.class);
+
+    /**
+     * Maps Recommendation domain model to RecommendationResponse
+     */
+    RecommendationResponse toRecommendationResponse(Recommendation recommendation);
+
+    /**
+     * Maps list of Recommendation domain models to list of RecommendationResponse
+     */
+    List<RecommendationResponse> toRecommendationResponseList(List<Recommendation> recommendations);
+}
@@ -0,0 +1,61 @@
+package com.greenkawsay.recommendations.infrastructure.adapters.out.jdbc;
+
+import com.greenkawsay.recommendations.application.ports.out.InteractionSourcePort;
+import com.greenkawsay.recommendations.domain.models.Interaction;
+import com.greenkawsay.recommendations.infrastructure.configuration.RecommendationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Streams weighted interactions from wishlist_items, order_items and reviews
+ * Rows are aggregated per (user, product) in the database and fetched with a cursor
+ */
+public class JdbcInteractionSourceAdapter implements InteractionSourcePort {
+
+    private static final String INTERACTIONS_SQL = """
+            SELECT user_id, product_id, SUM(weight) AS weight
+            FROM (
+                SELECT w.user_id, wi.product_id, CAST(? AS REAL) AS weight
+                FROM wishlist_items wi
+                JOIN wishlists w ON w.id = wi.wishlist_id
+                UNION ALL
+                SELECT o.user_id, oi.product_id, CAST(? AS REAL)
+                FROM order_items oi
+                JOIN orders o ON o.id = oi.order_id
+                WHERE o.status <> 'cancelled'
+                UNION ALL
+                SELECT r.user_id, r.product_id, CAST(? AS REAL)
+                FROM reviews r
+                WHERE r.rating >= ?
+            ) interactions
+            GROUP BY user_id, product_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RecommendationProperties properties;
+
+    public JdbcInteractionSourceAdapter(JdbcTemplate jdbcTemplate, RecommendationProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    // A read-only transaction lets the PostgreSQL driver honour the fetch size instead of buffering all rows
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachInteraction(Consumer<Interaction> consumer) {
+        jdbcTemplate.query(INTERACTIONS_SQL,
+                resultSet -> {
+                    consumer.accept(new Interaction(
+                            resultSet.getObject("user_id", UUID.class),
+                            resultSet.getObject("product_id", UUID.class),
+                            resultSet.getFloat("weight")));
+                },
+                properties.wishlistWeight(),
+                properties.orderWeight(),
+                properties.reviewWeight(),
+                properties.positiveReviewRating());
+    }
+}
@@ -0,0 +1,46 @@
+package com.greenkawsay.recommendations.infrastructure.adapters.out.memory;
+
+import com.greenkawsay.catalog.infrastructure.adapters.out.memory.InMemoryCatalogStore;
+import com.greenkawsay.recommendations.application.ports.out.InteractionSourcePort;
+import com.greenkawsay.recommendations.domain.models.Interaction;
+import com.greenkawsay.recommendations.infrastructure.configuration.RecommendationProperties;
+import com.greenkawsay.users.infrastructure.adapters.out.memory.InMemoryUserStore;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Streams weighted interactions from the in-memory wishlist items and reviews
+ * Weights are summed per (user, product) like the GROUP BY of the JDBC adapter; there are no orders in memory
+ */
+public class InMemoryInteractionSourceAdapter implements InteractionSourcePort {
+
+    private final InMemoryUserStore userStore;
+    private final InMemoryCatalogStore catalogStore;
+    private final RecommendationProperties properties;
+
+    public InMemoryInteractionSourceAdapter(InMemoryUserStore userStore, InMemoryCatalogStore catalogStore,
+                                            RecommendationProperties properties) {
+        this.userStore = userStore;
+        this.catalogStore = catalogStore;
+        this.properties = properties;
+    }
+
+    @Override
+    public void forEachInteraction(Consumer<Interaction> consumer) {
+        Map<Pair, Float> weights = new HashMap<>();
+        userStore.forEachWishlistItem((userId, productId) ->
+                weights.merge(new Pair(userId, productId), properties.wishlistWeight(), Float::sum));
+        catalogStore.forEachReview(review -> {
+            if (review.getRating() >= properties.positiveReviewRating()) {
+                weights.merge(new Pair(review.getUserId(), review.getProductId()), properties.reviewWeight(), Float::sum);
+            }
+        });
+        weights.forEach((pair, weight) -> consumer.accept(new Interaction(pair.userId(), pair.productId(), weight)));
+    }
+
+    private record Pair(UUID userId, UUID productId) {
+    }
+}
@@ -0,0 +1,152 @@
+package com.greenkawsay.recommendations.infrastructure.adapters.out.training;
+
+import com.greenkawsay.recommendations.application.ports.out.InteractionSourcePort;
+import com.greenkawsay.recommendations.application.ports.out.RecommendationTrainerPort;
+import com.greenkawsay.recommendations.domain.models.RecommendationModel;
+import smile.math.matrix.fp32.SparseMatrix;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Item-item cosine similarity trainer built on Smile sparse matrices
+ * Builds the user x product matrix A (log-dampened weights), computes A^T A in sparse form
+ * and keeps the top-k neighbors of every product
+ */
+public class SmileItemSimilarityTrainer implements RecommendationTrainerPort {
+
+    private final int neighborsPerItem;
+    private final float minSimilarity;
+
+    public SmileItemSimilarityTrainer(int neighborsPerItem, float minSimilarity) {
+        if (neighborsPerItem <= 0) {
+            throw new IllegalArgumentException("Neighbors per item must be positive");
+        }
+        this.neighborsPerItem = neighborsPerItem;
+        this.minSimilarity = minSimilarity;
+    }
+
+    @Override
+    public RecommendationModel train(InteractionSourcePort interactions) {
+        Map<UUID, Integer> users = new HashMap<>();
+        Map<UUID, Integer> items = new HashMap<>();
+        Triplets triplets = new Triplets();
+        interactions.forEachInteraction(interaction -> triplets.add(
+                users.computeIfAbsent(interaction.userId(), id -> users.size()),
+                items.computeIfAbsent(interaction.productId(), id -> items.size()),
+                (float) Math.log1p(interaction.weight())));
+
+        UUID[] products = new UUID[items.size()];
+        items.forEach((id, item) -> products[item] = id);
+        if (products.length == 0) {
+            return new RecommendationModel(products, neighborsPerItem, new int[0], new float[0], Instant.now());
+        }
+
+        SparseMatrix similarity = toCompressedColumns(triplets, users.size(), products.length).ata();
+        float[] squaredNorms = similarity.diag();
+
+        int k = neighborsPerItem;
+        int[] neighbors = new int[products.length * k];
+        float[] scores = new float[products.length * k];
+        Arrays.fill(neighbors, -1);
+
+        List<Neighbor> candidates = new ArrayList<>();
+        for (int item = 0; item < products.length; item++) {
+            candidates.clear();
+            Iterator<SparseMatrix.Entry> column = similarity.iterator(item, item + 1);
+            while (column.hasNext()) {
+                SparseMatrix.Entry entry = column.next();
+                if (entry.i == item) {
+                    continue;
+                }
+                float cosine = (float) (entry.x / Math.sqrt((double) squaredNorms[entry.i] * squaredNorms[item]));
+                if (cosine >= minSimilarity) {
+                    candidates.add(new Neighbor(entry.i, cosine));
+                }
+            }
+            candidates.sort(null);
+            int kept = Math.min(candidates.size(), k);
+            for (int rank = 0; rank < kept; rank++) {
+                Neighbor neighbor = candidates.get(rank);
+                neighbors[item * k + rank] = neighbor.item;
+                scores[item * k + rank] = neighbor.score;
+            }
+        }
+        return new RecommendationModel(products, k, neighbors, scores, Instant.now());
+    }
+
+    /**
+     * Compressed sparse column layout with row indices sorted inside every column
+     */
+    private static SparseMatrix toCompressedColumns(Triplets triplets, int rows, int columns) {
+        int size = triplets.size;
+        int[] rowStart = new int[rows + 1];
+        for (int t = 0; t < size; t++) {
+            rowStart[triplets.rows[t] + 1]++;
+        }
+        for (int r = 0; r < rows; r++) {
+            rowStart[r + 1] += rowStart[r];
+        }
+        int[] byRow = new int[size];
+        for (int t = 0; t < size; t++) {
+            byRow[rowStart[triplets.rows[t]]++] = t;
+        }
+
+        int[] columnStart = new int[columns + 1];
+        for (int t = 0; t < size; t++) {
+            columnStart[triplets.columns[t] + 1]++;
+        }
+        for (int c = 0; c < columns; c++) {
+            columnStart[c + 1] += columnStart[c];
+        }
+        int[] next = Arrays.copyOf(columnStart, columns);
+        int[] rowIndex = new int[size];
+        float[] values = new float[size];
+        for (int t : byRow) {
+            int position = next[triplets.columns[t]]++;
+            rowIndex[position] = triplets.rows[t];
+            values[position] = triplets.values[t];
+        }
+        return new SparseMatrix(rows, columns, values, rowIndex, columnStart);
+    }
+
+    /**
+     * Ordered by descending score, ties broken by item index for deterministic models
+     */
+    private record Neighbor(int item, float score) implements Comparable<Neighbor> {
+        @Override
+        public int compareTo(Neighbor other) {
+            int byScore = Float.compare(other.score, score);
+            return byScore != 0 ? byScore : Integer.compare(item, other.item);
+        }
+    }
+
+    /**
+     * Growable primitive triplet buffer (row, column, value)
+     */
+    private static final class Triplets {
+        private int[] rows = new int[1024];
+        private int[] columns = new int[1024];
+        private float[] values = new float[1024];
+        private int size;
+
+        void add(int row, int column, float value) {
+            if (size == rows.length) {
+                int capacity = size * 2;
+                rows = Arrays.copyOf(rows, capacity);
+                columns = Arrays.copyOf(columns, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+            rows[size] = row;
+            columns[size] = column;
+            values[size] = value;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.greenkawsay.recommendations.infrastructure.configuration;
+
+import com.greenkawsay.catalog.infrastructure.adapters.out.memory.InMemoryCatalogStore;
+import com.greenkawsay.recommendations.application.ports.in.RecommendationServicePort;
+import com.greenkawsay.recommendations.infrastructure.adapters.in.scheduling.RecommendationRetrainScheduler;
+import com.greenkawsay.recommendations.infrastructure.adapters.in.web.mappers.RecommendationMapper;
+import com.greenkawsay.recommendations.infrastructure.adapters.out.jdbc.JdbcInteractionSourceAdapter;
+import com.greenkawsay.recommendations.infrastructure.adapters.out.memory.InMemoryInteractionSourceAdapter;
+import com.greenkawsay.recommendations.infrastructure.adapters.out.training.SmileItemSimilarityTrainer;
+import com.greenkawsay.users.infrastructure.adapters.out.memory.InMemoryUserStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration for Recommendations Context
+ * Wires the interaction source, the Smile trainer and periodic retraining
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(RecommendationProperties.class)
+public class RecommendationConfig {
+
+    @Bean
+    public RecommendationMapper recommendationMapper() {
+        return RecommendationMapper.INSTANCE;
+    }
+
+    @Bean
+    @Profile("!memory")
+    public JdbcInteractionSourceAdapter interactionSourceAdapter(DataSource dataSource,
+                                                                 RecommendationProperties properties) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(properties.fetchSize());
+        return new JdbcInteractionSourceAdapter(jdbcTemplate, properties);
+    }
+
+    @Bean
+    @Profile("memory")
+    public InMemoryInteractionSourceAdapter inMemoryInteractionSourceAdapter(InMemoryUserStore userStore,
+                                                                             InMemoryCatalogStore catalogStore,
+                                                                             RecommendationProperties properties) {
+        return new InMemoryInteractionSourceAdapter(userStore, catalogStore, properties);
+    }
+
+    @Bean
+    public SmileItemSimilarityTrainer recommendationTrainer(RecommendationProperties properties) {
+        return new SmileItemSimilarityTrainer(properties.neighbors(), properties.minSimilarity());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "greenkawsay.recommendations", name = "scheduling-enabled", matchIfMissing = true)
+    public RecommendationRetrainScheduler recommendationRetrainScheduler(RecommendationServicePort recommendationService) {
+        return new RecommendationRetrainScheduler(recommendationService);
+    }
+}
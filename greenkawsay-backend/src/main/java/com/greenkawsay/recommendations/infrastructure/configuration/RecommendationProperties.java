@@ -0,0 +1,33 @@
+package com.greenkawsay.recommendations.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Training and serving properties for product recommendations
+ */
+@ConfigurationProperties(prefix = "greenkawsay.recommendations")
+public record RecommendationProperties(
+    @DefaultValue("20") int neighbors,
+    @DefaultValue("0.05") float minSimilarity,
+    @DefaultValue("1.0") float wishlistWeight,
+    @DefaultValue("3.0") float orderWeight,
+    @DefaultValue("2.0") float reviewWeight,
+    @DefaultValue("4") int positiveReviewRating,
+    @DefaultValue("500") int fetchSize,
+    @DefaultValue("true") boolean schedulingEnabled,
+    @DefaultValue("30s") Duration initialDelay,
+    @DefaultValue("6h") Duration retrainInterval
+) {
+
+    public RecommendationProperties {
+        if (neighbors <= 0) {
+            throw new IllegalArgumentException("Recommendation neighbors must be positive");
+        }
+        if (wishlistWeight < 0 || orderWeight < 0 || reviewWeight < 0) {
+            throw new IllegalArgumentException("Interaction weights cannot be negative");
+        }
+    }
+}
@@ -2,22 +2,37 @@ package com.greenkawsay.shared.domain.exceptions;
 
 /**
  * Base class for all domain-specific exceptions
+ * Domain exceptions are expected outcomes (not found, duplicate, invalid input) mapped to HTTP responses,
+ * so they skip stack trace capture unless it is switched on for debugging
  */
 public abstract class DomainException extends RuntimeException {
     
+    private static volatile boolean stackTracesEnabled = Boolean.getBoolean("greenkawsay.exceptions.stack-traces");
+    
     private final String errorCode;
     
     public DomainException(String message, String errorCode) {
-        super(message);
+        super(message, null, true, stackTracesEnabled);
         this.errorCode = errorCode;
     }
     
     public DomainException(String message, String errorCode, Throwable cause) {
-        super(message, cause);
+        super(message, cause, true, stackTracesEnabled);
         this.errorCode = errorCode;
     }
     
     public String getErrorCode() {
         return errorCode;
     }
-}
\ No newline at end of file
+    
+    /**
+     * Enables stack trace capture for domain exceptions created from now on
+     */
+    public static void setStackTracesEnabled(boolean enabled) {
+        stackTracesEnabled = enabled;
+    }
+    
+    public static boolean isStackTracesEnabled() {
+        return stackTracesEnabled;
+    }
+}
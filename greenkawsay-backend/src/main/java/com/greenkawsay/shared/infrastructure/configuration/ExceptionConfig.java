@@ -0,0 +1,17 @@
+package com.greenkawsay.shared.infrastructure.configuration;
+
+import com.greenkawsay.shared.domain.exceptions.DomainException;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Applies greenkawsay.exceptions.stack-traces to domain exceptions at startup
+ */
+@Configuration
+@EnableConfigurationProperties(ExceptionProperties.class)
+public class ExceptionConfig {
+
+    public ExceptionConfig(ExceptionProperties properties) {
+        DomainException.setStackTracesEnabled(properties.stackTraces());
+    }
+}
@@ -0,0 +1,13 @@
+package com.greenkawsay.shared.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Debug switch for stack trace capture in domain exceptions
+ */
+@ConfigurationProperties(prefix = "greenkawsay.exceptions")
+public record ExceptionProperties(
+    @DefaultValue("false") boolean stackTraces
+) {
+}
@@ -0,0 +1,84 @@
+package com.greenkawsay.shared.infrastructure.configuration;
+
+import com.greenkawsay.shared.infrastructure.security.CachingJwtDecoder;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Configuration for bearer token validation
+ * Replaces the auto-configured decoder, which would verify the signature of every request
+ * and fetch the JWK set lazily on the first one
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(JwtSecurityProperties.class)
+@ConditionalOnProperty(prefix = "greenkawsay.security.jwt", name = "enabled", havingValue = "true")
+public class JwtSecurityConfig {
+
+    @Bean
+    public JWKSource<SecurityContext> jwkSource(JwtSecurityProperties properties) throws MalformedURLException {
+        return JWKSourceBuilder.<SecurityContext>create(URI.create(properties.jwkSetUri()).toURL())
+                .cache(properties.jwksTtl().toMillis(), properties.jwksRefreshTimeout().toMillis())
+                .refreshAheadCache(properties.jwksRefreshAhead().toMillis(), true)
+                .build();
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(JWKSource<SecurityContext> jwkSource,
+                                 JwtSecurityProperties properties,
+                                 MeterRegistry meterRegistry) {
+        Set<JWSAlgorithm> algorithms = properties.jwsAlgorithms().stream()
+                .map(JWSAlgorithm::parse)
+                .collect(Collectors.toSet());
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(algorithms, jwkSource));
+        // Claims are checked by the Spring validators below
+        processor.setJWTClaimsSetVerifier((claims, context) -> { });
+
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
+        decoder.setJwtValidator(properties.issuerUri() != null
+                ? JwtValidators.createDefaultWithIssuer(properties.issuerUri())
+                : JwtValidators.createDefault());
+        return new CachingJwtDecoder(decoder, properties.cacheMaximumSize(), properties.cacheMaxTtl(), meterRegistry);
+    }
+
+    /**
+     * Loads the JWK set before traffic arrives; an unreachable issuer only delays the fetch to the first request
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "greenkawsay.security.jwt", name = "jwks-prefetch", matchIfMissing = true)
+    public ApplicationRunner jwksPrefetch(JWKSource<SecurityContext> jwkSource) {
+        return args -> {
+            try {
+                List<JWK> keys = jwkSource.get(new JWKSelector(new JWKMatcher.Builder().build()), null);
+                log.info("Prefetched {} keys from the JWK set", keys.size());
+            } catch (KeySourceException e) {
+                log.warn("JWK set prefetch failed, keys will be fetched on the first request: {}", e.getMessage());
+            }
+        };
+    }
+}
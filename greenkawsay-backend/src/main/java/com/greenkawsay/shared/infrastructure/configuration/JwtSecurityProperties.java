@@ -0,0 +1,27 @@
+package com.greenkawsay.shared.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * JWT validation for the OAuth2 resource server
+ * The JWK set is cached for jwksTtl and refreshed in the background jwksRefreshAhead before it expires;
+ * verified tokens are cached until their exp, at most cacheMaxTtl
+ */
+@ConfigurationProperties(prefix = "greenkawsay.security.jwt")
+public record JwtSecurityProperties(
+    @DefaultValue("false") boolean enabled,
+    String issuerUri,
+    String jwkSetUri,
+    @DefaultValue("RS256") List<String> jwsAlgorithms,
+    @DefaultValue("15m") Duration jwksTtl,
+    @DefaultValue("1m") Duration jwksRefreshAhead,
+    @DefaultValue("15s") Duration jwksRefreshTimeout,
+    @DefaultValue("true") boolean jwksPrefetch,
+    @DefaultValue("100000") long cacheMaximumSize,
+    @DefaultValue("5m") Duration cacheMaxTtl
+) {
+}
@@ -0,0 +1,21 @@
+package com.greenkawsay.shared.infrastructure.configuration;
+
+import com.greenkawsay.shared.infrastructure.persistence.memory.MemoryTransactionManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Shared configuration for the memory profile, which runs without a DataSource
+ * Each context provides its own in-memory adapters; this only supplies the transaction manager
+ */
+@Configuration
+@Profile("memory")
+public class MemoryPersistenceConfig {
+
+    @Bean
+    public PlatformTransactionManager transactionManager() {
+        return new MemoryTransactionManager();
+    }
+}
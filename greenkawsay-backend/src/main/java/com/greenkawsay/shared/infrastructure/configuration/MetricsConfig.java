@@ -0,0 +1,54 @@
+package com.greenkawsay.shared.infrastructure.configuration;
+
+import com.greenkawsay.shared.infrastructure.metrics.EndpointSqlMetricsInterceptor;
+import com.greenkawsay.shared.infrastructure.metrics.SqlCountingDataSourcePostProcessor;
+import com.greenkawsay.shared.infrastructure.metrics.SqlStatementCounter;
+import com.greenkawsay.shared.infrastructure.metrics.UseCaseTimingAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuration for application metrics exported on /actuator/prometheus
+ * Times service ports and repositories, and counts SQL statements per HTTP request
+ */
+@Configuration
+@EnableConfigurationProperties(MetricsProperties.class)
+public class MetricsConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "greenkawsay.metrics", name = "use-case-timers", matchIfMissing = true)
+    public UseCaseTimingAspect useCaseTimingAspect(MeterRegistry meterRegistry) {
+        return new UseCaseTimingAspect(meterRegistry);
+    }
+
+    @Bean
+    public static SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "greenkawsay.metrics", name = "sql-statement-counting", matchIfMissing = true)
+    public static SqlCountingDataSourcePostProcessor sqlCountingDataSourcePostProcessor(
+            ObjectProvider<SqlStatementCounter> sqlStatementCounter) {
+        return new SqlCountingDataSourcePostProcessor(sqlStatementCounter.getObject());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "greenkawsay.metrics", name = "sql-statement-counting", matchIfMissing = true)
+    public WebMvcConfigurer endpointSqlMetricsConfigurer(SqlStatementCounter sqlStatementCounter,
+                                                         MeterRegistry meterRegistry) {
+        EndpointSqlMetricsInterceptor interceptor = new EndpointSqlMetricsInterceptor(sqlStatementCounter, meterRegistry);
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(interceptor);
+            }
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package com.greenkawsay.shared.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Switches for use case timers and per-request SQL statement counting
+ */
+@ConfigurationProperties(prefix = "greenkawsay.metrics")
+public record MetricsProperties(
+    @DefaultValue("true") boolean useCaseTimers,
+    @DefaultValue("true") boolean sqlStatementCounting
+) {
+}
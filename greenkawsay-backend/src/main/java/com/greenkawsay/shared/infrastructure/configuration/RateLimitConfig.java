@@ -0,0 +1,63 @@
+package com.greenkawsay.shared.infrastructure.configuration;
+
+import com.greenkawsay.shared.infrastructure.ratelimit.LocalTokenBucketRateLimiter;
+import com.greenkawsay.shared.infrastructure.ratelimit.RateLimitFilter;
+import com.greenkawsay.shared.infrastructure.ratelimit.RateLimitPolicy;
+import com.greenkawsay.shared.infrastructure.ratelimit.RateLimiter;
+import com.greenkawsay.shared.infrastructure.ratelimit.RedisTokenBucketRateLimiter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration for request rate limiting
+ * The filter runs right after the security chain, so the authenticated principal is known
+ * and per-user buckets never rely on identifiers the client supplies
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnProperty(prefix = "greenkawsay.rate-limit", name = "enabled", matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "greenkawsay.rate-limit", name = "store", havingValue = "memory", matchIfMissing = true)
+    public RateLimiter localRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        LocalTokenBucketRateLimiter limiter = new LocalTokenBucketRateLimiter(properties.stripes(), properties.maxKeys());
+        Gauge.builder("greenkawsay.ratelimit.buckets", limiter, LocalTokenBucketRateLimiter::trackedKeys)
+                .description("Token buckets held by the local rate limiter")
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "greenkawsay.rate-limit", name = "store", havingValue = "redis")
+    public RateLimiter redisRateLimiter(StringRedisTemplate redisTemplate, RateLimitProperties properties) {
+        return new RedisTokenBucketRateLimiter(redisTemplate, properties.redisKeyPrefix());
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(RateLimiter rateLimiter,
+                                                                   RateLimitProperties properties,
+                                                                   MeterRegistry meterRegistry) {
+        Map<String, RateLimitPolicy> policiesByPattern = new LinkedHashMap<>();
+        properties.policies().forEach((name, policy) -> {
+            RateLimitPolicy rateLimitPolicy = new RateLimitPolicy(name, policy.capacity(), policy.refillPerSecond());
+            policy.paths().forEach(path -> policiesByPattern.putIfAbsent(path, rateLimitPolicy));
+        });
+        RateLimitFilter filter = new RateLimitFilter(rateLimiter, policiesByPattern,
+                properties.failOpenBackoff().toNanos(), meterRegistry);
+
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,38 @@
+package com.greenkawsay.shared.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Token bucket rate limiting per client and route group
+ * store is "memory" for a single instance or "redis" to share buckets across instances;
+ * policies are matched in declaration order, the first policy with a matching path wins
+ */
+@ConfigurationProperties(prefix = "greenkawsay.rate-limit")
+public record RateLimitProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("memory") String store,
+    @DefaultValue("rate-limit:") String redisKeyPrefix,
+    @DefaultValue("64") int stripes,
+    @DefaultValue("100000") int maxKeys,
+    @DefaultValue("5s") Duration failOpenBackoff,
+    Map<String, Policy> policies
+) {
+
+    public RateLimitProperties {
+        if (!"memory".equalsIgnoreCase(store) && !"redis".equalsIgnoreCase(store)) {
+            throw new IllegalArgumentException("Rate limit store must be 'memory' or 'redis'");
+        }
+        if (stripes <= 0 || maxKeys <= 0) {
+            throw new IllegalArgumentException("Rate limit stripes and max keys must be positive");
+        }
+        policies = policies != null ? policies : Map.of();
+    }
+
+    public record Policy(List<String> paths, int capacity, double refillPerSecond) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.greenkawsay.shared.infrastructure.configuration;
+
+import com.greenkawsay.shared.infrastructure.persistence.ReplicaFallbackDataSource;
+import com.greenkawsay.shared.infrastructure.persistence.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration for read/write splitting between the primary database and a streaming replica
+ * Replaces the auto-configured DataSource with a lazy proxy that sends transactions marked
+ * readOnly to the replica pool, guarded by a periodic replay lag check
+ * The pools are not autowire candidates so everything goes through the routing DataSource
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+@ConditionalOnProperty(prefix = "greenkawsay.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean(autowireCandidate = false)
+    public HikariDataSource primaryPool(DataSourceProperties properties, Environment environment) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName("primary");
+        return pool;
+    }
+
+    @Bean(autowireCandidate = false)
+    public HikariDataSource replicaPool(ReadReplicaProperties replica, DataSourceProperties properties,
+                                       MeterRegistry meterRegistry) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl(replica.url());
+        pool.setUsername(replica.username() != null ? replica.username() : properties.determineUsername());
+        pool.setPassword(replica.password() != null ? replica.password() : properties.determinePassword());
+        pool.setMaximumPoolSize(replica.maximumPoolSize());
+        pool.setReadOnly(true);
+        pool.setPoolName("replica");
+        // Do not fail startup when the replica is down, reads fall back to the primary
+        pool.setInitializationFailTimeout(-1);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReadReplicaProperties replica, DataSourceProperties properties,
+                                               MeterRegistry meterRegistry) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaPool(replica, properties, meterRegistry),
+                replica.maxLag());
+        Gauge.builder("greenkawsay.datasource.replica.lag", monitor, ReplicaLagMonitor::getLagSeconds)
+                .description("Replay lag of the read replica")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("greenkawsay.datasource.replica.usable", monitor, m -> m.isReplicaUsable() ? 1 : 0)
+                .description("Whether read-only transactions are currently routed to the replica")
+                .register(meterRegistry);
+        return monitor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties, Environment environment,
+                                 ReadReplicaProperties replica, ReplicaLagMonitor replicaLagMonitor,
+                                 MeterRegistry meterRegistry) {
+        HikariDataSource primary = primaryPool(properties, environment);
+        Counter fallbacks = Counter.builder("greenkawsay.datasource.replica.fallbacks")
+                .description("Read-only connections served by the primary because the replica was lagging or down")
+                .register(meterRegistry);
+
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primary);
+        routing.setReadOnlyDataSource(new ReplicaFallbackDataSource(
+                replicaPool(replica, properties, meterRegistry), primary, replicaLagMonitor, fallbacks));
+        return routing;
+    }
+}
@@ -0,0 +1,22 @@
+package com.greenkawsay.shared.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Read replica used for read-only transactions
+ * Reads fall back to the primary while the replica lags more than maxLag or is unreachable
+ */
+@ConfigurationProperties(prefix = "greenkawsay.datasource.replica")
+public record ReadReplicaProperties(
+    @DefaultValue("false") boolean enabled,
+    String url,
+    String username,
+    String password,
+    @DefaultValue("5s") Duration maxLag,
+    @DefaultValue("5s") Duration lagCheckInterval,
+    @DefaultValue("10") int maximumPoolSize
+) {
+}
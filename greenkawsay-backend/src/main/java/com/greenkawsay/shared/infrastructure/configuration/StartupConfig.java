@@ -0,0 +1,24 @@
+package com.greenkawsay.shared.infrastructure.configuration;
+
+import com.greenkawsay.shared.infrastructure.startup.LazyPackagesBeanFactoryPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Configuration for application startup
+ * The post-processor runs before configuration properties beans exist, so its settings are bound directly
+ */
+@Configuration
+@EnableConfigurationProperties(StartupProperties.class)
+public class StartupConfig {
+
+    @Bean
+    public static LazyPackagesBeanFactoryPostProcessor lazyPackagesBeanFactoryPostProcessor(Environment environment) {
+        StartupProperties properties = Binder.get(environment)
+                .bindOrCreate("greenkawsay.startup", StartupProperties.class);
+        return new LazyPackagesBeanFactoryPostProcessor(properties.lazyPackages());
+    }
+}
@@ -0,0 +1,32 @@
+package com.greenkawsay.shared.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Startup tuning
+ * Beans under lazyPackages are created on first use instead of during context refresh;
+ * warm-up tasks run before the readiness group reports the instance ready
+ */
+@ConfigurationProperties(prefix = "greenkawsay.startup")
+public record StartupProperties(
+    @DefaultValue({"org.springdoc", "com.paypal", "org.springframework.boot.autoconfigure.mail"}) List<String> lazyPackages,
+    @DefaultValue WarmUp warmUp
+) {
+
+    /**
+     * @param iterations Repetitions of the synthetic calls of each task
+     * @param timeout Time after which the instance reports ready even if warm-up has not finished
+     * @param latencyWindow How long after readiness request latency is tracked separately
+     */
+    public record WarmUp(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("300") int iterations,
+        @DefaultValue("2m") Duration timeout,
+        @DefaultValue("1m") Duration latencyWindow
+    ) {
+    }
+}
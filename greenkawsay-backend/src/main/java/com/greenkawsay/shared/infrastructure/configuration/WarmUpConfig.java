@@ -0,0 +1,60 @@
+package com.greenkawsay.shared.infrastructure.configuration;
+
+import com.greenkawsay.shared.infrastructure.startup.ConnectionPoolWarmUp;
+import com.greenkawsay.shared.infrastructure.startup.FirstMinuteLatencyFilter;
+import com.greenkawsay.shared.infrastructure.startup.WarmUpHealthIndicator;
+import com.greenkawsay.shared.infrastructure.startup.WarmUpRunner;
+import com.greenkawsay.shared.infrastructure.startup.WarmUpTask;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration for the warm-up phase that precedes readiness
+ * Tasks run in bean order, connection pool first so the others find open connections;
+ * the warmUp health indicator belongs to the readiness group
+ */
+@Configuration
+@EnableConfigurationProperties(StartupProperties.class)
+@ConditionalOnProperty(prefix = "greenkawsay.startup.warm-up", name = "enabled", matchIfMissing = true)
+public class WarmUpConfig {
+
+    @Bean
+    @Order(0)
+    @Profile("!memory")
+    public WarmUpTask connectionPoolWarmUp(DataSource dataSource) {
+        return new ConnectionPoolWarmUp(dataSource);
+    }
+
+    @Bean
+    public WarmUpRunner warmUpRunner(ObjectProvider<WarmUpTask> tasks, StartupProperties properties,
+                                     MeterRegistry meterRegistry) {
+        StartupProperties.WarmUp warmUp = properties.warmUp();
+        return new WarmUpRunner(tasks.orderedStream().toList(), warmUp.iterations(), warmUp.timeout(), meterRegistry);
+    }
+
+    @Bean
+    public WarmUpHealthIndicator warmUpHealthIndicator(WarmUpRunner warmUpRunner) {
+        return new WarmUpHealthIndicator(warmUpRunner);
+    }
+
+    @Bean
+    public FilterRegistrationBean<FirstMinuteLatencyFilter> firstMinuteLatencyFilter(WarmUpRunner warmUpRunner,
+                                                                                     StartupProperties properties,
+                                                                                     MeterRegistry meterRegistry) {
+        FirstMinuteLatencyFilter filter = new FirstMinuteLatencyFilter(warmUpRunner,
+                properties.warmUp().latencyWindow(), meterRegistry);
+        FilterRegistrationBean<FirstMinuteLatencyFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 2);
+        return registration;
+    }
+}
@@ -0,0 +1,84 @@
+package com.greenkawsay.shared.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logback turbo filter that keeps one in every {@code rate} events of each message template
+ * logged by the configured logger prefixes at or below the configured level
+ * Events carrying a throwable, warnings and errors are never sampled out
+ */
+public class LogSamplingTurboFilter extends TurboFilter {
+
+    private static final int MAX_TEMPLATES = 1024;
+
+    private final List<String> loggerPrefixes = new ArrayList<>();
+    private final ConcurrentHashMap<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private final AtomicLong overflowCounter = new AtomicLong();
+    private Level level = Level.INFO;
+    private int rate = 100;
+
+    public void addLogger(String loggerPrefix) {
+        loggerPrefixes.add(loggerPrefix.trim());
+    }
+
+    public void setLevel(String level) {
+        this.level = Level.toLevel(level, Level.INFO);
+    }
+
+    public void setRate(int rate) {
+        this.rate = rate;
+    }
+
+    @Override
+    public void start() {
+        if (rate <= 0) {
+            addError("Sampling rate must be positive");
+            return;
+        }
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level eventLevel, String format, Object[] params, Throwable t) {
+        // isXxxEnabled() checks arrive without a format and must not consume a sample
+        if (!isStarted() || format == null || t != null || rate == 1
+                || eventLevel.toInt() > level.toInt()
+                || !eventLevel.isGreaterOrEqual(logger.getEffectiveLevel())
+                || !isSampled(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        return counterFor(format).getAndIncrement() % rate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean isSampled(String loggerName) {
+        for (String prefix : loggerPrefixes) {
+            if (loggerName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Templates are compile-time constants, the cap only guards against dynamically built messages
+     */
+    private AtomicLong counterFor(String format) {
+        AtomicLong counter = counters.get(format);
+        if (counter != null) {
+            return counter;
+        }
+        if (counters.size() >= MAX_TEMPLATES) {
+            return overflowCounter;
+        }
+        return counters.computeIfAbsent(format, key -> new AtomicLong());
+    }
+}
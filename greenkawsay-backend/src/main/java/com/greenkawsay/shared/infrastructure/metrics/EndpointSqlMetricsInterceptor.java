@@ -0,0 +1,59 @@
+package com.greenkawsay.shared.infrastructure.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the number of SQL statements each HTTP request executed, tagged by controller method
+ * Work done on another thread (streamed response bodies) is not attributed to the request
+ */
+public class EndpointSqlMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    static final String METRIC_NAME = "greenkawsay.http.sql.statements";
+
+    private final SqlStatementCounter counter;
+    private final MeterRegistry registry;
+    private final Map<Method, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public EndpointSqlMetricsInterceptor(SqlStatementCounter counter, MeterRegistry registry) {
+        this.counter = counter;
+        this.registry = registry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            counter.begin();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        counter.end();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        int statements = counter.end();
+        if (statements >= 0 && handler instanceof HandlerMethod handlerMethod) {
+            summaries.computeIfAbsent(handlerMethod.getMethod(), method -> DistributionSummary.builder(METRIC_NAME)
+                            .description("SQL statements executed per HTTP request")
+                            .baseUnit("statements")
+                            .tag("endpoint", handlerMethod.getBeanType().getSimpleName() + "." + method.getName())
+                            .publishPercentileHistogram()
+                            .register(registry))
+                    .record(statements);
+        }
+    }
+}
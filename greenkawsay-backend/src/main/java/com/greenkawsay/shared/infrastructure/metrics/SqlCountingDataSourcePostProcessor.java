@@ -0,0 +1,65 @@
+package com.greenkawsay.shared.infrastructure.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Wraps every DataSource bean in a datasource-proxy that reports each executed statement
+ * to the SqlStatementCounter; a batch counts as one round trip
+ * DataSources that are not autowire candidates (pools behind a routing DataSource) are left alone
+ * so their statements are not counted twice
+ */
+public class SqlCountingDataSourcePostProcessor implements BeanPostProcessor, BeanFactoryAware {
+
+    private final SqlStatementCounter counter;
+    private ConfigurableListableBeanFactory beanFactory;
+
+    public SqlCountingDataSourcePostProcessor(SqlStatementCounter counter) {
+        this.counter = counter;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        if (beanFactory instanceof ConfigurableListableBeanFactory listableBeanFactory) {
+            this.beanFactory = listableBeanFactory;
+        }
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource) && isAutowireCandidate(beanName)) {
+            return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(new CountingListener(counter))
+                    .build();
+        }
+        return bean;
+    }
+
+    private boolean isAutowireCandidate(String beanName) {
+        return beanFactory == null || !beanFactory.containsBeanDefinition(beanName)
+                || beanFactory.getBeanDefinition(beanName).isAutowireCandidate();
+    }
+
+    private record CountingListener(SqlStatementCounter counter) implements QueryExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            counter.increment();
+        }
+    }
+}
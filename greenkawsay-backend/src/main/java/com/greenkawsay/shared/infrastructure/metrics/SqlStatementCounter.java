@@ -0,0 +1,48 @@
+package com.greenkawsay.shared.infrastructure.metrics;
+
+/**
+ * Counts SQL statements executed on the current thread between begin() and end()
+ * Statements outside a counting scope (schedulers, startup) are ignored
+ * Scopes nest: a statement counts in every open scope, so a test budget around a request
+ * and the per-endpoint metric inside it see the same statements
+ */
+public class SqlStatementCounter {
+
+    private final ThreadLocal<Scope> current = new ThreadLocal<>();
+
+    public void begin() {
+        current.set(new Scope(current.get()));
+    }
+
+    public void increment() {
+        for (Scope scope = current.get(); scope != null; scope = scope.outer) {
+            scope.count++;
+        }
+    }
+
+    /**
+     * Close the innermost scope and return its count, or -1 when no scope was open
+     */
+    public int end() {
+        Scope scope = current.get();
+        if (scope == null) {
+            return -1;
+        }
+        if (scope.outer != null) {
+            current.set(scope.outer);
+        } else {
+            current.remove();
+        }
+        return scope.count;
+    }
+
+    private static final class Scope {
+
+        private final Scope outer;
+        private int count;
+
+        private Scope(Scope outer) {
+            this.outer = outer;
+        }
+    }
+}
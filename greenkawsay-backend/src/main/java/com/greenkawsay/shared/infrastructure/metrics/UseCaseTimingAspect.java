@@ -0,0 +1,96 @@
+package com.greenkawsay.shared.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every input service port call and every domain repository or output port call
+ * Timers publish percentile histograms and are tagged with the port interface, the implementing
+ * class (so a caching decorator and its delegate stay apart), the method and the exception
+ */
+@Aspect
+public class UseCaseTimingAspect {
+
+    static final String SERVICE_TIMER = "greenkawsay.service";
+    static final String REPOSITORY_TIMER = "greenkawsay.repository";
+
+    private final MeterRegistry registry;
+    private final Map<TimerKey, Timer> successTimers = new ConcurrentHashMap<>();
+
+    public UseCaseTimingAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(public * com.greenkawsay..application.ports.in.*ServicePort.*(..))")
+    public Object timeServicePort(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(SERVICE_TIMER, joinPoint);
+    }
+
+    @Around("execution(public * com.greenkawsay..domain.repositories.*Repository.*(..))"
+            + " || execution(public * com.greenkawsay..application.ports.out.*Port.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(REPOSITORY_TIMER, joinPoint);
+    }
+
+    private Object time(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        TimerKey key = new TimerKey(name, AopUtils.getTargetClass(joinPoint.getTarget()),
+                ((MethodSignature) joinPoint.getSignature()).getMethod());
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            successTimers.computeIfAbsent(key, this::successTimer).record(System.nanoTime() - start,
+                    TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            timer(key, e.getClass().getSimpleName()).record(System.nanoTime() - start,
+                    TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timer successTimer(TimerKey key) {
+        return timer(key, "none");
+    }
+
+    private Timer timer(TimerKey key, String exception) {
+        return Timer.builder(key.name())
+                .tags(Tags.of(
+                        "port", portName(key.targetClass(), key.method()),
+                        "class", key.targetClass().getSimpleName(),
+                        "method", key.method().getName(),
+                        "exception", exception))
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    /**
+     * The port interface the method belongs to, falling back to the implementing class
+     */
+    private static String portName(Class<?> targetClass, Method method) {
+        for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+            String packageName = candidate.getPackageName();
+            boolean isPort = packageName.endsWith(".application.ports.in")
+                    || packageName.endsWith(".application.ports.out")
+                    || packageName.endsWith(".domain.repositories");
+            if (isPort && ClassUtils.hasMethod(candidate, method.getName(), method.getParameterTypes())) {
+                return candidate.getSimpleName();
+            }
+        }
+        return targetClass.getSimpleName();
+    }
+
+    private record TimerKey(String name, Class<?> targetClass, Method method) {
+    }
+}
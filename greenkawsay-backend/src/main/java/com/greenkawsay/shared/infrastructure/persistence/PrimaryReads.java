@@ -0,0 +1,31 @@
+package com.greenkawsay.shared.infrastructure.persistence;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs cache loads against the primary database
+ * A cache refilled from a lagging replica right after its post-commit eviction would keep the pre-commit
+ * state for its whole TTL, so a load called inside a read-only transaction suspends it and reads in a
+ * read-write one; loads outside a read-only transaction are already routed to the primary and run as they are
+ */
+public class PrimaryReads {
+
+    private final TransactionTemplate readWrite;
+
+    public PrimaryReads(PlatformTransactionManager transactionManager) {
+        this.readWrite = new TransactionTemplate(transactionManager);
+        this.readWrite.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public <T> T load(Supplier<T> loader) {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return loader.get();
+        }
+        return readWrite.execute(status -> loader.get());
+    }
+}
@@ -0,0 +1,55 @@
+package com.greenkawsay.shared.infrastructure.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Read-only side of the routing DataSource
+ * Hands out replica connections while the lag monitor allows it and falls back to the primary otherwise,
+ * including when the replica refuses the connection
+ */
+public class ReplicaFallbackDataSource extends AbstractDataSource {
+
+    private final DataSource replica;
+    private final DataSource primary;
+    private final ReplicaLagMonitor monitor;
+    private final Counter fallbacks;
+
+    public ReplicaFallbackDataSource(DataSource replica, DataSource primary,
+                                     ReplicaLagMonitor monitor, Counter fallbacks) {
+        this.replica = replica;
+        this.primary = primary;
+        this.monitor = monitor;
+        this.fallbacks = fallbacks;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (monitor.isReplicaUsable()) {
+            try {
+                return replica.getConnection();
+            } catch (SQLException ex) {
+                monitor.markUnavailable(ex);
+            }
+        }
+        fallbacks.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (monitor.isReplicaUsable()) {
+            try {
+                return replica.getConnection(username, password);
+            } catch (SQLException ex) {
+                monitor.markUnavailable(ex);
+            }
+        }
+        fallbacks.increment();
+        return primary.getConnection(username, password);
+    }
+}
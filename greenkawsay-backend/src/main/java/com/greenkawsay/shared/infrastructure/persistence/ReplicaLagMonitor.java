@@ -0,0 +1,79 @@
+package com.greenkawsay.shared.infrastructure.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Tracks the replay lag of the read replica and decides whether read-only transactions may use it
+ * The replica is considered unusable until the first successful check, after a failed check
+ * and whenever a connection attempt to it fails
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    /**
+     * Zero when everything received has been replayed, otherwise the age of the last replayed transaction
+     * Returns zero on an instance that is not in recovery
+     */
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END""";
+
+    private final JdbcTemplate replica;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+
+    private volatile double lagSeconds = Double.NaN;
+    private volatile boolean usable;
+
+    public ReplicaLagMonitor(DataSource replica, Duration maxLag) {
+        this(replica, maxLag, LAG_QUERY);
+    }
+
+    ReplicaLagMonitor(DataSource replica, Duration maxLag, String lagQuery) {
+        this.replica = new JdbcTemplate(replica);
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+    }
+
+    @Scheduled(fixedDelayString = "${greenkawsay.datasource.replica.lag-check-interval:5s}")
+    public void check() {
+        try {
+            Double lag = replica.queryForObject(lagQuery, Double.class);
+            lagSeconds = lag != null ? lag : 0;
+            boolean withinBound = lagSeconds <= maxLagSeconds;
+            if (withinBound != usable) {
+                log.info("Read replica {} (lag {}s, max {}s)",
+                        withinBound ? "enabled" : "disabled", lagSeconds, maxLagSeconds);
+            }
+            usable = withinBound;
+        } catch (DataAccessException ex) {
+            markUnavailable(ex);
+        }
+    }
+
+    public void markUnavailable(Exception cause) {
+        if (usable) {
+            log.warn("Read replica disabled until the next successful lag check: {}", cause.getMessage());
+        }
+        usable = false;
+    }
+
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    /**
+     * Last measured replay lag in seconds, NaN before the first successful check
+     */
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+}
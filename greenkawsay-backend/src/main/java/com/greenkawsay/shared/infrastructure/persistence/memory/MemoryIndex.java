@@ -0,0 +1,49 @@
+package com.greenkawsay.shared.infrastructure.persistence.memory;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Non-unique secondary index from a key to the ids of the rows carrying it
+ * Mutated only under the write lock of the owning store, read without locking;
+ * null keys are not indexed, like NULL columns in a b-tree lookup
+ */
+public class MemoryIndex<K, V> {
+
+    private final ConcurrentHashMap<K, Set<V>> entries = new ConcurrentHashMap<>();
+
+    public void add(K key, V value) {
+        if (key != null) {
+            entries.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(value);
+        }
+    }
+
+    public void remove(K key, V value) {
+        if (key != null) {
+            entries.computeIfPresent(key, (k, values) -> values.remove(value) && values.isEmpty() ? null : values);
+        }
+    }
+
+    public void move(K oldKey, K newKey, V value) {
+        if (!Objects.equals(oldKey, newKey)) {
+            remove(oldKey, value);
+            add(newKey, value);
+        }
+    }
+
+    public Set<V> get(K key) {
+        Set<V> values = key != null ? entries.get(key) : null;
+        return values != null ? Collections.unmodifiableSet(values) : Set.of();
+    }
+
+    public int count(K key) {
+        Set<V> values = key != null ? entries.get(key) : null;
+        return values != null ? values.size() : 0;
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+}
@@ -0,0 +1,107 @@
+package com.greenkawsay.shared.infrastructure.persistence.memory;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.data.util.TypeInformation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Sorting and paging of in-memory query results with the semantics of the JPA adapters
+ * Sort properties are the entity property names, unknown ones fail like a derived query would;
+ * nulls sort as in PostgreSQL and the id breaks ties so pages never overlap
+ */
+public final class MemoryPages {
+
+    /**
+     * PostgreSQL orders uuid columns by their unsigned bytes, UUID.compareTo compares signed longs
+     */
+    public static final Comparator<UUID> UUID_ORDER = Comparator
+            .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+            .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+    private MemoryPages() {
+    }
+
+    /**
+     * Orders by the Sort of the pageable, then by identity
+     */
+    public static <T> Page<T> page(Collection<T> matches, Pageable pageable, Class<?> entityType,
+                                   Map<String, Function<T, ? extends Comparable<?>>> properties,
+                                   Comparator<T> identity) {
+        return page(matches, pageable, comparator(pageable.getSort(), entityType, properties).thenComparing(identity));
+    }
+
+    /**
+     * Orders by a fixed order, ignoring the Sort of the pageable like a query with its own ORDER BY
+     * Only the first offset + size rows are ordered when they are a small part of the matches
+     */
+    public static <T> Page<T> page(Collection<T> matches, Pageable pageable, Comparator<T> order) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(sorted(matches, order), pageable, matches.size());
+        }
+        long offset = pageable.getOffset();
+        if (offset >= matches.size()) {
+            return new PageImpl<>(List.of(), pageable, matches.size());
+        }
+        int end = (int) Math.min(matches.size(), offset + pageable.getPageSize());
+        List<T> first = end * 4L < matches.size() ? smallest(matches, end, order) : sorted(matches, order);
+        return new PageImpl<>(new ArrayList<>(first.subList((int) offset, end)), pageable, matches.size());
+    }
+
+    public static <T> List<T> sorted(Collection<T> rows, Comparator<T> order) {
+        List<T> sorted = new ArrayList<>(rows);
+        sorted.sort(order);
+        return sorted;
+    }
+
+    private static <T> List<T> smallest(Collection<T> rows, int limit, Comparator<T> order) {
+        PriorityQueue<T> heap = new PriorityQueue<>(limit + 1, order.reversed());
+        for (T row : rows) {
+            heap.offer(row);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        List<T> smallest = new ArrayList<>(heap);
+        smallest.sort(order);
+        return smallest;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Comparator<T> comparator(Sort sort, Class<?> entityType,
+                                                Map<String, Function<T, ? extends Comparable<?>>> properties) {
+        Comparator<T> comparator = (left, right) -> 0;
+        for (Sort.Order order : sort) {
+            Function<T, ? extends Comparable<?>> property = properties.get(order.getProperty());
+            if (property == null) {
+                throw new PropertyReferenceException(order.getProperty(), TypeInformation.of(entityType), List.of());
+            }
+            Comparator<Comparable> values = order.isIgnoreCase()
+                    ? (Comparator) Comparator.comparing(Object::toString, String.CASE_INSENSITIVE_ORDER)
+                    : Comparator.naturalOrder();
+            if (order.isDescending()) {
+                values = values.reversed();
+            }
+            // PostgreSQL treats NULL as larger than any value: last when ascending, first when descending
+            boolean nullsFirst = switch (order.getNullHandling()) {
+                case NULLS_FIRST -> true;
+                case NULLS_LAST -> false;
+                case NATIVE -> order.isDescending();
+            };
+            values = nullsFirst ? Comparator.nullsFirst(values) : Comparator.nullsLast(values);
+            comparator = comparator.thenComparing((Function) property, values);
+        }
+        return comparator;
+    }
+}
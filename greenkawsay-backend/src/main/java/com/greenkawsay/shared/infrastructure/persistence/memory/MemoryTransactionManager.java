@@ -0,0 +1,30 @@
+package com.greenkawsay.shared.infrastructure.persistence.memory;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * Transaction manager for the memory profile, where there is no resource to begin or commit
+ * Keeps @Transactional boundaries and transaction synchronizations working,
+ * so the version bumps and cache evictions after completion still happen; writes are not undone on rollback
+ */
+public class MemoryTransactionManager extends AbstractPlatformTransactionManager {
+
+    @Override
+    protected Object doGetTransaction() {
+        return new Object();
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+    }
+}
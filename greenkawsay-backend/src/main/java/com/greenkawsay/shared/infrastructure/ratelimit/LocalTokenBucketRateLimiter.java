@@ -0,0 +1,95 @@
+package com.greenkawsay.shared.infrastructure.ratelimit;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Single-node rate limiter over a striped map of token buckets
+ * Each stripe is an access-ordered LinkedHashMap behind its own lock, so concurrent clients rarely contend;
+ * when a stripe is full the least recently used bucket is dropped, so every client is tracked
+ * and a flood of new keys only resets the buckets idle the longest
+ */
+public class LocalTokenBucketRateLimiter implements RateLimiter {
+
+    private final Stripe[] stripes;
+    private final LongSupplier nanoClock;
+
+    public LocalTokenBucketRateLimiter(int stripes, int maxKeys) {
+        this(stripes, maxKeys, System::nanoTime);
+    }
+
+    LocalTokenBucketRateLimiter(int stripes, int maxKeys, LongSupplier nanoClock) {
+        if (stripes <= 0 || maxKeys <= 0) {
+            throw new IllegalArgumentException("Stripes and max keys must be positive");
+        }
+        int count = Integer.highestOneBit(stripes - 1) << 1;
+        this.stripes = new Stripe[Math.max(1, count)];
+        int maxKeysPerStripe = Math.max(1, maxKeys / this.stripes.length);
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new Stripe(maxKeysPerStripe);
+        }
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(RateLimitPolicy policy, String clientKey) {
+        String key = policy.name() + ':' + clientKey;
+        int hash = key.hashCode();
+        Stripe stripe = stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+        long now = nanoClock.getAsLong();
+        synchronized (stripe) {
+            Bucket bucket = stripe.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(policy, now);
+                stripe.put(key, bucket);
+            }
+            return bucket.take(policy, now);
+        }
+    }
+
+    public int trackedKeys() {
+        int total = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                total += stripe.size();
+            }
+        }
+        return total;
+    }
+
+    private static final class Stripe extends LinkedHashMap<String, Bucket> {
+        private final int maxKeys;
+
+        Stripe(int maxKeys) {
+            super(16, 0.75f, true);
+            this.maxKeys = maxKeys;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+            return size() > maxKeys;
+        }
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long updatedAt;
+
+        Bucket(RateLimitPolicy policy, long now) {
+            this.tokens = policy.capacity();
+            this.updatedAt = now;
+        }
+
+        RateLimitDecision take(RateLimitPolicy policy, long now) {
+            double refilled = (now - updatedAt) / 1_000_000_000.0 * policy.refillPerSecond();
+            tokens = Math.min(policy.capacity(), tokens + refilled);
+            updatedAt = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return RateLimitDecision.allow((long) tokens);
+            }
+            return RateLimitDecision.reject((long) Math.ceil((1 - tokens) / policy.refillPerSecond() * 1000));
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.greenkawsay.shared.infrastructure.ratelimit;
+
+/**
+ * Outcome of taking one token; retryAfterMillis is zero when the request is allowed
+ */
+public record RateLimitDecision(boolean allowed, long remaining, long retryAfterMillis) {
+
+    public static RateLimitDecision allow(long remaining) {
+        return new RateLimitDecision(true, remaining, 0);
+    }
+
+    public static RateLimitDecision reject(long retryAfterMillis) {
+        return new RateLimitDecision(false, 0, Math.max(1, retryAfterMillis));
+    }
+}
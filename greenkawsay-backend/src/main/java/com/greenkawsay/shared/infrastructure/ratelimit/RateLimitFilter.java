@@ -0,0 +1,144 @@
+package com.greenkawsay.shared.infrastructure.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Applies the first matching per-route token bucket policy to every request
+ * Every request takes a token from the bucket of its remote address, and requests of an authenticated
+ * principal also from the bucket of that user; a request is rejected when either bucket is empty
+ * Client-supplied identifiers never select a bucket, so they cannot be rotated to get a fresh burst
+ * Any limiter failure lets the request through and backs off the limiter for a short while,
+ * so an unreachable store never turns into an outage
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final byte[] REJECTED_BODY = """
+            {"status":429,"error":"Too Many Requests","message":"Rate limit exceeded","errorCode":"RATE_LIMITED"}"""
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final RateLimiter rateLimiter;
+    private final List<Route> routes;
+    private final long failOpenBackoffNanos;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    private volatile long failOpenUntil;
+
+    public RateLimitFilter(RateLimiter rateLimiter, Map<String, RateLimitPolicy> policiesByPattern,
+                           long failOpenBackoffNanos, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.failOpenBackoffNanos = failOpenBackoffNanos;
+        this.meterRegistry = meterRegistry;
+        this.routes = new ArrayList<>(policiesByPattern.size());
+        policiesByPattern.forEach((pattern, policy) ->
+                routes.add(new Route(PathPatternParser.defaultInstance.parse(pattern), policy)));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RateLimitPolicy policy = match(request);
+        if (policy == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        RateLimitDecision decision = acquire(policy, "ip:" + request.getRemoteAddr());
+        Principal principal = request.getUserPrincipal();
+        if (principal != null && (decision == null || decision.allowed())) {
+            decision = stricter(decision, acquire(policy, "user:" + principal.getName()));
+        }
+        if (decision == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        response.setHeader("X-RateLimit-Limit", Integer.toString(policy.capacity()));
+        response.setHeader("X-RateLimit-Remaining", Long.toString(decision.remaining()));
+        if (decision.allowed()) {
+            count(policy, "allowed");
+            chain.doFilter(request, response);
+            return;
+        }
+        count(policy, "rejected");
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString((decision.retryAfterMillis() + 999) / 1000));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(REJECTED_BODY.length);
+        response.getOutputStream().write(REJECTED_BODY);
+    }
+
+    /**
+     * Null when the limiter is skipped or failed, in which case the request is let through
+     */
+    private RateLimitDecision acquire(RateLimitPolicy policy, String clientKey) {
+        if (failOpenUntil != 0 && System.nanoTime() - failOpenUntil < 0) {
+            count(policy, "skipped");
+            return null;
+        }
+        try {
+            return rateLimiter.tryAcquire(policy, clientKey);
+        } catch (RuntimeException e) {
+            failOpenUntil = System.nanoTime() + failOpenBackoffNanos;
+            count(policy, "error");
+            log.warn("Rate limiter unavailable, allowing requests for the next {} ms: {}",
+                    failOpenBackoffNanos / 1_000_000, e.getMessage());
+            return null;
+        }
+    }
+
+    private RateLimitPolicy match(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        PathContainer container = PathContainer.parsePath(path);
+        for (Route route : routes) {
+            if (route.pattern.matches(container)) {
+                return route.policy;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A rejection wins; between two allowances the one with fewer tokens left is reported
+     */
+    private static RateLimitDecision stricter(RateLimitDecision address, RateLimitDecision user) {
+        if (address == null || user == null) {
+            return address != null ? address : user;
+        }
+        if (!user.allowed() || user.remaining() < address.remaining()) {
+            return user;
+        }
+        return address;
+    }
+
+    private void count(RateLimitPolicy policy, String result) {
+        counters.computeIfAbsent(policy.name() + '/' + result, key -> Counter.builder("greenkawsay.ratelimit.requests")
+                .description("Requests checked by the rate limiter")
+                .tag("policy", policy.name())
+                .tag("result", result)
+                .register(meterRegistry)).increment();
+    }
+
+    private record Route(PathPattern pattern, RateLimitPolicy policy) {
+    }
+}
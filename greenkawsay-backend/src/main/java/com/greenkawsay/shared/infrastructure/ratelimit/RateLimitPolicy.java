@@ -0,0 +1,16 @@
+package com.greenkawsay.shared.infrastructure.ratelimit;
+
+/**
+ * Token bucket parameters of one route group: burst capacity and steady refill rate per client
+ */
+public record RateLimitPolicy(String name, int capacity, double refillPerSecond) {
+
+    public RateLimitPolicy {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Rate limit policy name cannot be blank");
+        }
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate limit capacity and refill rate must be positive");
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.greenkawsay.shared.infrastructure.ratelimit;
+
+/**
+ * Token bucket rate limiter; one bucket per policy and client key
+ */
+public interface RateLimiter {
+
+    RateLimitDecision tryAcquire(RateLimitPolicy policy, String clientKey);
+}
@@ -0,0 +1,59 @@
+package com.greenkawsay.shared.infrastructure.ratelimit;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * Cluster-wide rate limiter keeping one token bucket per Redis hash
+ * Refill and take run in a single Lua script against the Redis clock, so instances never race
+ * and their local clocks do not matter; idle buckets expire once they would be full again
+ */
+public class RedisTokenBucketRateLimiter implements RateLimiter {
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TAKE_TOKEN = RedisScript.of("""
+            local capacity = tonumber(ARGV[1])
+            local perMillis = tonumber(ARGV[2])
+            local clock = redis.call('TIME')
+            local now = clock[1] * 1000 + math.floor(clock[2] / 1000)
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(state[1]) or capacity
+            local ts = tonumber(state[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * perMillis)
+            local allowed = 0
+            local retry = 0
+            if tokens >= 1 then
+              tokens = tokens - 1
+              allowed = 1
+            else
+              retry = math.ceil((1 - tokens) / perMillis)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / perMillis))
+            return {allowed, math.floor(tokens), retry}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+
+    public RedisTokenBucketRateLimiter(StringRedisTemplate redisTemplate, String keyPrefix) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(RateLimitPolicy policy, String clientKey) {
+        List<?> result = redisTemplate.execute(TAKE_TOKEN,
+                List.of(keyPrefix + policy.name() + ':' + clientKey),
+                Integer.toString(policy.capacity()), Double.toString(policy.refillPerSecond() / 1000));
+        if (result == null || result.size() < 3) {
+            throw new IllegalStateException("Unexpected rate limit script result: " + result);
+        }
+        if (((Number) result.get(0)).longValue() == 1) {
+            return RateLimitDecision.allow(((Number) result.get(1)).longValue());
+        }
+        return RateLimitDecision.reject(((Number) result.get(2)).longValue());
+    }
+}
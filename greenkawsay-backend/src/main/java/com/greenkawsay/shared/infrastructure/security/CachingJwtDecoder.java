@@ -0,0 +1,120 @@
+package com.greenkawsay.shared.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Remembers tokens that passed signature and claim validation until they expire
+ * Clients replay the same access token on every request, so only the first one pays for the
+ * RSA verification; entries are keyed by the SHA-256 of the token and live until the token exp,
+ * capped by maxTtl so a key removed from the JWK set stops being honoured within that bound.
+ * Rejected tokens are never cached.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    });
+
+    private final JwtDecoder delegate;
+    private final Clock clock;
+    private final long maxTtlNanos;
+    private final Cache<TokenHash, Jwt> verified;
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maximumSize, Duration maxTtl, MeterRegistry meterRegistry) {
+        this(delegate, maximumSize, maxTtl, Clock.systemUTC(), Ticker.systemTicker());
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, "jwtVerifications");
+    }
+
+    CachingJwtDecoder(JwtDecoder delegate, long maximumSize, Duration maxTtl, Clock clock, Ticker ticker) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.maxTtlNanos = maxTtl.toNanos();
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiry())
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        TokenHash key = TokenHash.of(token);
+        Jwt cached = verified.getIfPresent(key);
+        if (cached != null && cached.getTokenValue().equals(token)) {
+            return cached;
+        }
+        Jwt jwt = delegate.decode(token);
+        if (timeToLiveNanos(jwt) > 0) {
+            verified.put(key, jwt);
+        }
+        return jwt;
+    }
+
+    long size() {
+        verified.cleanUp();
+        return verified.estimatedSize();
+    }
+
+    /**
+     * Tokens accepted inside the validator clock skew are already past exp and are not stored
+     */
+    private long timeToLiveNanos(Jwt jwt) {
+        Instant expiresAt = jwt.getExpiresAt();
+        if (expiresAt == null) {
+            return maxTtlNanos;
+        }
+        long remaining = Duration.between(clock.instant(), expiresAt).toNanos();
+        return Math.min(remaining, maxTtlNanos);
+    }
+
+    private final class UntilTokenExpiry implements Expiry<TokenHash, Jwt> {
+
+        @Override
+        public long expireAfterCreate(TokenHash key, Jwt jwt, long currentTime) {
+            return Math.max(timeToLiveNanos(jwt), 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenHash key, Jwt jwt, long currentTime, long currentDuration) {
+            return Math.max(timeToLiveNanos(jwt), 0);
+        }
+
+        @Override
+        public long expireAfterRead(TokenHash key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * Fixed-size key instead of a kilobyte-long token string; hits still compare the token value
+     */
+    private record TokenHash(long first, long second, long third, long fourth) {
+
+        static TokenHash of(String token) {
+            MessageDigest digest = SHA_256.get();
+            ByteBuffer hash = ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+            return new TokenHash(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+        }
+    }
+}
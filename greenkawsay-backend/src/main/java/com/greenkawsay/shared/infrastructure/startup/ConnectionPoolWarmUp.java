@@ -0,0 +1,51 @@
+package com.greenkawsay.shared.infrastructure.startup;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Opens minimum-idle connections up front instead of on the first requests
+ * Connections are borrowed together so Hikari has to create each of them, then handed back
+ */
+public class ConnectionPoolWarmUp implements WarmUpTask {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private final DataSource dataSource;
+
+    public ConnectionPoolWarmUp(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public String name() {
+        return "connection-pool";
+    }
+
+    @Override
+    public void warmUp(int iterations) throws SQLException {
+        // Unwrapping skips lazy proxies, which would not open a physical connection
+        DataSource target = dataSource.isWrapperFor(HikariDataSource.class)
+                ? dataSource.unwrap(HikariDataSource.class)
+                : dataSource;
+        int connections = target instanceof HikariDataSource pool ? Math.max(pool.getMinimumIdle(), 1) : 1;
+
+        List<Connection> borrowed = new ArrayList<>(connections);
+        try {
+            for (int i = 0; i < connections; i++) {
+                Connection connection = target.getConnection();
+                borrowed.add(connection);
+                connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+            }
+        } finally {
+            for (Connection connection : borrowed) {
+                connection.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.greenkawsay.shared.infrastructure.startup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the requests served in the first window after the instance became ready
+ * Shows whether warm-up left anything cold; the p99 is kept for an hour so it can still
+ * be scraped long after the window closed. Actuator calls are not counted.
+ */
+public class FirstMinuteLatencyFilter extends OncePerRequestFilter {
+
+    private final WarmUpRunner runner;
+    private final long windowNanos;
+    private final Timer timer;
+
+    public FirstMinuteLatencyFilter(WarmUpRunner runner, Duration window, MeterRegistry meterRegistry) {
+        this.runner = runner;
+        this.windowNanos = window.toNanos();
+        this.timer = Timer.builder("greenkawsay.warmup.first-minute.requests")
+                .description("Latency of requests served right after the instance became ready")
+                .publishPercentiles(0.99)
+                .publishPercentileHistogram()
+                .distributionStatisticExpiry(Duration.ofHours(1))
+                .distributionStatisticBufferLength(1)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long readySince = runner.readySince();
+        long start = System.nanoTime();
+        if (readySince == 0 || start - readySince > windowNanos) {
+            chain.doFilter(request, response);
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getServletPath().startsWith("/actuator");
+    }
+}
@@ -0,0 +1,69 @@
+package com.greenkawsay.shared.infrastructure.startup;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.core.type.MethodMetadata;
+
+import java.util.List;
+
+/**
+ * Marks the beans of non-critical packages lazy, so their classes are only loaded on first use
+ * A bean matches when its class, or the configuration class and return type of its factory method,
+ * lives under one of the packages. Beans with an explicit lazy setting and SmartInitializingSingleton
+ * beans are left alone, as spring.main.lazy-initialization does.
+ */
+public class LazyPackagesBeanFactoryPostProcessor implements BeanFactoryPostProcessor {
+
+    private final List<String> packagePrefixes;
+
+    public LazyPackagesBeanFactoryPostProcessor(List<String> packages) {
+        this.packagePrefixes = packages.stream().map(name -> name + ".").toList();
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            if (definition instanceof AbstractBeanDefinition abstractDefinition && abstractDefinition.getLazyInit() != null) {
+                continue;
+            }
+            if (definition.getRole() == BeanDefinition.ROLE_INFRASTRUCTURE || !matches(definition)) {
+                continue;
+            }
+            Class<?> type = beanFactory.getType(beanName, false);
+            if (type != null && SmartInitializingSingleton.class.isAssignableFrom(type)) {
+                continue;
+            }
+            definition.setLazyInit(true);
+        }
+    }
+
+    private boolean matches(BeanDefinition definition) {
+        if (inPackages(definition.getBeanClassName())) {
+            return true;
+        }
+        if (definition instanceof AnnotatedBeanDefinition annotated) {
+            MethodMetadata factoryMethod = annotated.getFactoryMethodMetadata();
+            return factoryMethod != null
+                    && (inPackages(factoryMethod.getDeclaringClassName()) || inPackages(factoryMethod.getReturnTypeName()));
+        }
+        return false;
+    }
+
+    private boolean inPackages(String className) {
+        if (className == null) {
+            return false;
+        }
+        for (String prefix : packagePrefixes) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
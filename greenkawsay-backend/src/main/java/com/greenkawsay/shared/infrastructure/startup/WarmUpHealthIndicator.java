@@ -0,0 +1,27 @@
+package com.greenkawsay.shared.infrastructure.startup;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * Keeps the readiness group out of service until WarmUpRunner is finished
+ */
+public class WarmUpHealthIndicator implements HealthIndicator {
+
+    private final WarmUpRunner runner;
+
+    public WarmUpHealthIndicator(WarmUpRunner runner) {
+        this.runner = runner;
+    }
+
+    @Override
+    public Health health() {
+        if (runner.isComplete()) {
+            return Health.up().build();
+        }
+        if (runner.isFinished()) {
+            return Health.up().withDetail("timedOut", true).build();
+        }
+        return Health.outOfService().withDetail("warmingUp", true).build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.greenkawsay.shared.infrastructure.startup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the warm-up tasks on a background thread once the context is started
+ * The instance is reported ready when every task has finished, failed tasks included,
+ * or when the timeout elapses, so a stuck task never keeps a pod out of rotation
+ */
+@Slf4j
+public class WarmUpRunner implements ApplicationRunner {
+
+    private final List<WarmUpTask> tasks;
+    private final int iterations;
+    private final long timeoutNanos;
+    private final MeterRegistry meterRegistry;
+
+    private volatile long startedAt;
+    private volatile long finishedAt;
+    private volatile boolean complete;
+
+    public WarmUpRunner(List<WarmUpTask> tasks, int iterations, Duration timeout, MeterRegistry meterRegistry) {
+        this.tasks = List.copyOf(tasks);
+        this.iterations = iterations;
+        this.timeoutNanos = timeout.toNanos();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Thread thread = new Thread(this::warmUp, "warm-up");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void warmUp() {
+        long start = System.nanoTime();
+        startedAt = start;
+        for (WarmUpTask task : tasks) {
+            long taskStart = System.nanoTime();
+            String outcome = "success";
+            try {
+                task.warmUp(iterations);
+            } catch (Exception e) {
+                outcome = "failure";
+                log.warn("Warm-up task {} failed: {}", task.name(), e.getMessage());
+            }
+            Timer.builder("greenkawsay.warmup.duration")
+                    .description("Time spent in a warm-up task before the instance reports ready")
+                    .tag("task", task.name())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - taskStart, TimeUnit.NANOSECONDS);
+        }
+        finishedAt = System.nanoTime();
+        complete = true;
+        log.info("Warm-up of {} tasks finished in {} ms", tasks.size(),
+                TimeUnit.NANOSECONDS.toMillis(finishedAt - start));
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * True once the tasks are done or the timeout has elapsed since they started
+     */
+    public boolean isFinished() {
+        return complete || (startedAt != 0 && System.nanoTime() - startedAt > timeoutNanos);
+    }
+
+    /**
+     * System.nanoTime() at which the instance became ready, or 0 while it is still warming up
+     */
+    public long readySince() {
+        if (complete) {
+            return finishedAt;
+        }
+        return isFinished() ? startedAt + timeoutNanos : 0;
+    }
+}
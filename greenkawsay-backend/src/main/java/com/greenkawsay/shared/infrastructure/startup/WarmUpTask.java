@@ -0,0 +1,19 @@
+package com.greenkawsay.shared.infrastructure.startup;
+
+/**
+ * Work run by WarmUpRunner before the instance reports ready
+ * Tasks exercise real code paths so the JIT compiles them and lazily built state is in place
+ * before the first production request arrives
+ */
+public interface WarmUpTask {
+
+    /**
+     * Name used in logs and as the task tag of the warm-up timer
+     */
+    String name();
+
+    /**
+     * @param iterations How many times to repeat the synthetic calls; one-off tasks may ignore it
+     */
+    void warmUp(int iterations) throws Exception;
+}
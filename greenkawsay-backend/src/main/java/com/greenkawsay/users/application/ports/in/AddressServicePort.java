@@ -1,13 +1,16 @@
 package com.greenkawsay.users.application.ports.in;
 
+import com.greenkawsay.users.domain.models.AddressSlice;
 import com.greenkawsay.users.domain.models.UserAddress;
 import com.greenkawsay.users.domain.valueobjects.AddressId;
+import com.greenkawsay.users.domain.valueobjects.ShippingRegion;
 import com.greenkawsay.users.domain.valueobjects.UserId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Service port interface for Address operations
@@ -73,4 +76,14 @@ public interface AddressServicePort {
      * Get addresses by country
      */
     Page<UserAddress> getAddressesByCountry(String country, Pageable pageable);
+    
+    /**
+     * Get one keyset page of addresses in a shipping region
+     */
+    AddressSlice getAddressesByRegion(ShippingRegion region, AddressId after, int limit);
+    
+    /**
+     * Stream every address in a shipping region to the consumer
+     */
+    void exportAddressesByRegion(ShippingRegion region, Consumer<UserAddress> consumer);
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.greenkawsay.users.application.ports.in;
+
+import com.greenkawsay.users.domain.models.LeaderboardEntry;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+
+import java.util.List;
+
+/**
+ * Service port interface for the impact score leaderboard
+ */
+public interface LeaderboardServicePort {
+
+    /**
+     * Get the highest ranked users
+     */
+    List<LeaderboardEntry> getTopUsers(int limit);
+
+    /**
+     * Get a user's rank and score
+     */
+    LeaderboardEntry getUserStanding(UserId userId);
+
+    /**
+     * Get the users ranked around a user, including the user
+     */
+    List<LeaderboardEntry> getNeighbors(UserId userId, int radius);
+
+    /**
+     * Rebuild the leaderboard from user_profiles, returning the number of ranked users
+     */
+    int reconcile();
+}
@@ -0,0 +1,17 @@
+package com.greenkawsay.users.application.ports.in;
+
+import com.greenkawsay.users.domain.models.LowStockAlert;
+
+import java.util.Collection;
+
+/**
+ * Service port for alerting vendors about products running low on stock
+ */
+public interface LowStockAlertServicePort {
+
+    /**
+     * Group the alerts by vendor and queue one digest email per active vendor
+     * @return the number of emails queued
+     */
+    int alertVendors(Collection<LowStockAlert> alerts);
+}
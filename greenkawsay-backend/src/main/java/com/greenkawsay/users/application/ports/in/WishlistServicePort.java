@@ -3,6 +3,7 @@ package com.greenkawsay.users.application.ports.in;
 import com.greenkawsay.catalog.domain.valueobjects.ProductId;
 import com.greenkawsay.users.domain.models.Wishlist;
 import com.greenkawsay.users.domain.models.WishlistItem;
+import com.greenkawsay.users.domain.models.WishlistItemResult;
 import com.greenkawsay.users.domain.valueobjects.UserId;
 import com.greenkawsay.users.domain.valueobjects.WishlistId;
 import org.springframework.data.domain.Page;
@@ -10,6 +11,7 @@ import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Service port interface for Wishlist operations
@@ -66,6 +68,21 @@ public interface WishlistServicePort {
      */
     void removeItemFromWishlist(WishlistId wishlistId, ProductId productId);
     
+    /**
+     * Add several products to a wishlist in one statement; existing items are left untouched
+     */
+    List<WishlistItemResult> addItemsToWishlist(WishlistId wishlistId, List<ProductId> productIds);
+    
+    /**
+     * Remove several products from a wishlist in one statement
+     */
+    List<WishlistItemResult> removeItemsFromWishlist(WishlistId wishlistId, List<ProductId> productIds);
+    
+    /**
+     * Move several products between two wishlists of the same user in one statement
+     */
+    List<WishlistItemResult> moveItemsBetweenWishlists(WishlistId sourceId, WishlistId targetId, List<ProductId> productIds);
+    
     /**
      * Get wishlist items
      */
@@ -81,6 +98,11 @@ public interface WishlistServicePort {
      */
     boolean isProductInWishlist(WishlistId wishlistId, ProductId productId);
     
+    /**
+     * Of the given products, return those in any of the user's wishlists
+     */
+    Set<ProductId> checkMembership(UserId userId, List<ProductId> productIds);
+    
     /**
      * Get wishlist item by product ID
      */
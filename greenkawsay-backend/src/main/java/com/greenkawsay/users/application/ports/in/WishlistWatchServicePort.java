@@ -0,0 +1,17 @@
+package com.greenkawsay.users.application.ports.in;
+
+import com.greenkawsay.users.domain.models.WatchedProductChange;
+
+import java.util.Collection;
+
+/**
+ * Service port for notifying wishlist owners about price drops and restocks
+ */
+public interface WishlistWatchServicePort {
+
+    /**
+     * Resolve the watchers of the changed products and queue one email per user and product
+     * @return the number of emails queued
+     */
+    int notifyWatchers(Collection<WatchedProductChange> changes);
+}
@@ -0,0 +1,31 @@
+package com.greenkawsay.users.application.ports.out;
+
+import com.greenkawsay.users.domain.models.UserAddress;
+import com.greenkawsay.users.domain.valueobjects.AddressId;
+import com.greenkawsay.users.domain.valueobjects.ShippingRegion;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Output port for index-backed address lookups by shipping region
+ */
+public interface AddressRegionQueryPort {
+
+    /**
+     * Up to limit addresses in the region with an ID greater than after (null for the first page), ordered by ID
+     */
+    List<UserAddress> findByRegion(ShippingRegion region, AddressId after, int limit);
+
+    /**
+     * Offset page of addresses in the region, ordered by ID
+     */
+    Page<UserAddress> findByRegion(ShippingRegion region, Pageable pageable);
+
+    /**
+     * Stream every address in the region through a database cursor, ordered by ID
+     */
+    void forEachInRegion(ShippingRegion region, Consumer<UserAddress> consumer);
+}
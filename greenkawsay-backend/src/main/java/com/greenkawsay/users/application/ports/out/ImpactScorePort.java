@@ -0,0 +1,25 @@
+package com.greenkawsay.users.application.ports.out;
+
+import com.greenkawsay.users.domain.valueobjects.ImpactScore;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Output port for the impact score totals stored with user profiles
+ * Totals are changed in place by the store, never by a load-modify-save of the profile
+ */
+public interface ImpactScorePort {
+
+    /**
+     * Atomically add to the stored impact score total in a single statement
+     * Returns the new total, or empty when the user profile does not exist
+     */
+    Optional<ImpactScore> incrementTotal(UserId userId, ImpactScore increment);
+
+    /**
+     * Impact score totals of all user profiles, without loading addresses or wishlists
+     */
+    Map<UserId, ImpactScore> findAllTotals();
+}
@@ -0,0 +1,46 @@
+package com.greenkawsay.users.application.ports.out;
+
+import com.greenkawsay.users.domain.models.LeaderboardEntry;
+import com.greenkawsay.users.domain.valueobjects.ImpactScore;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Output port for the ranked impact score projection
+ * Implementations answer rank queries in O(log n) without sorting user_profiles
+ */
+public interface LeaderboardPort {
+
+    /**
+     * Atomically add to a user's score, seeding it with the committed total when the user is not ranked yet
+     */
+    void increment(UserId userId, ImpactScore increment, ImpactScore totalIfAbsent);
+
+    /**
+     * Highest ranked users, best first
+     */
+    List<LeaderboardEntry> top(int limit);
+
+    /**
+     * Rank and score of a single user
+     */
+    Optional<LeaderboardEntry> findEntry(UserId userId);
+
+    /**
+     * Users ranked up to radius places above and below the given user, best first
+     */
+    List<LeaderboardEntry> around(UserId userId, int radius);
+
+    /**
+     * Replace the whole projection with a snapshot of the source of truth
+     */
+    void replaceAll(Map<UserId, ImpactScore> scores);
+
+    /**
+     * Number of ranked users
+     */
+    long size();
+}
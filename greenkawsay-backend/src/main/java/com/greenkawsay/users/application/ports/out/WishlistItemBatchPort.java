@@ -0,0 +1,31 @@
+package com.greenkawsay.users.application.ports.out;
+
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.users.domain.valueobjects.WishlistId;
+import com.greenkawsay.users.domain.valueobjects.WishlistItemOutcome;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Output port for set-based wishlist item changes
+ * Each call is a single statement and returns an outcome per distinct product,
+ * or an empty map when the wishlist (or wishlist pair) does not exist
+ */
+public interface WishlistItemBatchPort {
+
+    /**
+     * Insert the products, skipping ones already in the wishlist or unknown to the catalog
+     */
+    Map<ProductId, WishlistItemOutcome> addAll(WishlistId wishlistId, Collection<ProductId> productIds);
+
+    /**
+     * Delete the products from the wishlist
+     */
+    Map<ProductId, WishlistItemOutcome> removeAll(WishlistId wishlistId, Collection<ProductId> productIds);
+
+    /**
+     * Move the products between two wishlists of the same user, keeping their added_at
+     */
+    Map<ProductId, WishlistItemOutcome> moveAll(WishlistId sourceId, WishlistId targetId, Collection<ProductId> productIds);
+}
@@ -0,0 +1,15 @@
+package com.greenkawsay.users.application.ports.out;
+
+import com.greenkawsay.users.domain.models.WishlistMembership;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+
+/**
+ * Output port loading the set of products a user has in any wishlist
+ */
+public interface WishlistMembershipPort {
+
+    /**
+     * Load the user's membership set; users without wishlists get an empty set
+     */
+    WishlistMembership loadMembership(UserId userId);
+}
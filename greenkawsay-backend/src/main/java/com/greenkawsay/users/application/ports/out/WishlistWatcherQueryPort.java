@@ -0,0 +1,18 @@
+package com.greenkawsay.users.application.ports.out;
+
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.users.domain.models.WishlistWatcher;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Output port resolving the users who keep given products in a wishlist
+ */
+public interface WishlistWatcherQueryPort {
+
+    /**
+     * Stream one row per wishlist item of the given products; a user may appear once per wishlist
+     */
+    void forEachWatcher(Collection<ProductId> productIds, Consumer<WishlistWatcher> action);
+}
@@ -2,12 +2,15 @@ package com.greenkawsay.users.application.services;
 
 import com.greenkawsay.shared.domain.valueobjects.Address;
 import com.greenkawsay.users.application.ports.in.AddressServicePort;
+import com.greenkawsay.users.application.ports.out.AddressRegionQueryPort;
 import com.greenkawsay.users.domain.exceptions.AddressNotFoundException;
 import com.greenkawsay.users.domain.exceptions.UserProfileNotFoundException;
+import com.greenkawsay.users.domain.models.AddressSlice;
 import com.greenkawsay.users.domain.models.UserAddress;
 import com.greenkawsay.users.domain.repositories.AddressRepository;
 import com.greenkawsay.users.domain.repositories.UserProfileRepository;
 import com.greenkawsay.users.domain.valueobjects.AddressId;
+import com.greenkawsay.users.domain.valueobjects.ShippingRegion;
 import com.greenkawsay.users.domain.valueobjects.UserId;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Application service for Address operations
@@ -32,6 +36,7 @@ public class AddressApplicationService implements AddressServicePort {
 
     private final AddressRepository addressRepository;
     private final UserProfileRepository userProfileRepository;
+    private final AddressRegionQueryPort addressRegionQuery;
 
     @Override
     public UserAddress createAddress(UserAddress address) {
@@ -42,18 +47,12 @@ public class AddressApplicationService implements AddressServicePort {
             throw new UserProfileNotFoundException("User profile with ID " + address.getUserId().getValue() + " not found");
         }
         
-        // If this is set as default, unset other default addresses for this user
+        // Insert as non-default, then let the repository swap the default flag in one statement
+        UserAddress savedAddress = addressRepository.save(address.isDefault() ? address.markAsNonDefault() : address);
         if (address.isDefault()) {
-            List<UserAddress> userAddresses = addressRepository.findByUserId(address.getUserId());
-            userAddresses.stream()
-                    .filter(UserAddress::isDefault)
-                    .forEach(defaultAddress -> {
-                        UserAddress updatedAddress = defaultAddress.markAsNonDefault();
-                        addressRepository.save(updatedAddress);
-                    });
+            addressRepository.swapDefault(savedAddress.getUserId(), savedAddress.getId());
+            savedAddress = savedAddress.markAsDefault();
         }
-        
-        UserAddress savedAddress = addressRepository.save(address);
         log.info("Address created successfully with ID: {}", savedAddress.getId().getValue());
         
         return savedAddress;
@@ -66,45 +65,38 @@ public class AddressApplicationService implements AddressServicePort {
         UserAddress existingAddress = addressRepository.findById(addressId)
                 .orElseThrow(() -> new AddressNotFoundException(addressId));
         
-        // Update the address using domain methods
+        // Update the address using domain methods, keeping the current default flag unless it is being cleared
         UserAddress addressToUpdate = existingAddress.updateAddress(updatedAddress.getAddress());
-        
-        // Handle default address logic
-        if (updatedAddress.isDefault()) {
-            addressToUpdate = addressToUpdate.markAsDefault();
-            
-            // Unset other default addresses for this user
-            List<UserAddress> userAddresses = addressRepository.findByUserId(existingAddress.getUserId());
-            userAddresses.stream()
-                    .filter(UserAddress::isDefault)
-                    .filter(addr -> !addr.getId().equals(addressId))
-                    .forEach(defaultAddress -> {
-                        UserAddress updatedDefaultAddress = defaultAddress.markAsNonDefault();
-                        addressRepository.save(updatedDefaultAddress);
-                    });
-        } else {
+        if (!updatedAddress.isDefault()) {
             addressToUpdate = addressToUpdate.markAsNonDefault();
         }
         
         UserAddress savedAddress = addressRepository.save(addressToUpdate);
+        if (updatedAddress.isDefault() && !existingAddress.isDefault()) {
+            addressRepository.swapDefault(existingAddress.getUserId(), addressId);
+            savedAddress = savedAddress.markAsDefault();
+        }
         log.info("Address updated successfully with ID: {}", savedAddress.getId().getValue());
         
         return savedAddress;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<UserAddress> getAddressById(AddressId addressId) {
         log.debug("Getting address by ID: {}", addressId.getValue());
         return addressRepository.findById(addressId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<UserAddress> getAddressesByUserId(UserId userId) {
         log.debug("Getting addresses for user ID: {}", userId.getValue());
         return addressRepository.findByUserId(userId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<UserAddress> getAddressesByUserId(UserId userId, Pageable pageable) {
         log.debug("Getting addresses for user ID: {} with pagination", userId.getValue());
         List<UserAddress> userAddresses = addressRepository.findByUserId(userId);
@@ -115,6 +107,7 @@ public class AddressApplicationService implements AddressServicePort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<UserAddress> getDefaultAddressByUserId(UserId userId) {
         log.debug("Getting default address for user ID: {}", userId.getValue());
         return addressRepository.findDefaultByUserId(userId);
@@ -127,18 +120,8 @@ public class AddressApplicationService implements AddressServicePort {
         UserAddress address = addressRepository.findById(addressId)
                 .orElseThrow(() -> new AddressNotFoundException(addressId));
         
-        // Unset other default addresses for this user
-        List<UserAddress> userAddresses = addressRepository.findByUserId(address.getUserId());
-        userAddresses.stream()
-                .filter(UserAddress::isDefault)
-                .forEach(defaultAddress -> {
-                    UserAddress updatedAddress = defaultAddress.markAsNonDefault();
-                    addressRepository.save(updatedAddress);
-                });
-        
-        // Set the specified address as default
-        UserAddress defaultAddress = address.markAsDefault();
-        UserAddress savedAddress = addressRepository.save(defaultAddress);
+        addressRepository.swapDefault(address.getUserId(), addressId);
+        UserAddress savedAddress = address.markAsDefault();
         log.info("Address set as default successfully with ID: {}", addressId.getValue());
         
         return savedAddress;
@@ -156,32 +139,40 @@ public class AddressApplicationService implements AddressServicePort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean existsById(AddressId addressId) {
         return addressRepository.findById(addressId).isPresent();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean hasAddresses(UserId userId) {
         return !addressRepository.findByUserId(userId).isEmpty();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<UserAddress> getAddressesByCity(String city, Pageable pageable) {
         log.debug("Getting addresses by city: {}", city);
-        // Since we don't have a findAll() method, we need to get addresses by iterating through users
-        // This is a limitation - in a real implementation, we would add a findByCity method to the repository
-        List<UserAddress> addressesInCity = userProfileRepository.findAll()
-                .stream()
-                .flatMap(user -> addressRepository.findByUserId(user.getId()).stream())
-                .filter(address -> address.getAddress().getCity().equalsIgnoreCase(city))
-                .toList();
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), addressesInCity.size());
-        List<UserAddress> pageContent = addressesInCity.subList(start, end);
-        return new PageImpl<>(pageContent, pageable, addressesInCity.size());
+        return addressRegionQuery.findByRegion(new ShippingRegion(null, null, city, null), pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AddressSlice getAddressesByRegion(ShippingRegion region, AddressId after, int limit) {
+        log.debug("Getting addresses in region {} after {}", region, after);
+        return AddressSlice.of(addressRegionQuery.findByRegion(region, after, limit), limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAddressesByRegion(ShippingRegion region, Consumer<UserAddress> consumer) {
+        log.info("Exporting addresses in region {}", region);
+        addressRegionQuery.forEachInRegion(region, consumer);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<UserAddress> getAddressesByCountry(String country, Pageable pageable) {
         log.debug("Getting addresses by country: {}", country);
         List<UserAddress> addressesInCountry = addressRepository.findByCountry(country);
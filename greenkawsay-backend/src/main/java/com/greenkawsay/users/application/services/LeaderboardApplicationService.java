@@ -0,0 +1,77 @@
+package com.greenkawsay.users.application.services;
+
+import com.greenkawsay.users.application.ports.in.LeaderboardServicePort;
+import com.greenkawsay.users.application.ports.out.ImpactScorePort;
+import com.greenkawsay.users.application.ports.out.LeaderboardPort;
+import com.greenkawsay.users.domain.events.ImpactScoreIncreasedEvent;
+import com.greenkawsay.users.domain.exceptions.LeaderboardEntryNotFoundException;
+import com.greenkawsay.users.domain.models.LeaderboardEntry;
+import com.greenkawsay.users.domain.valueobjects.ImpactScore;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Application service for the impact score leaderboard
+ * Keeps the ranked projection in step with committed score changes and reconciles it with user_profiles
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaderboardApplicationService implements LeaderboardServicePort {
+
+    private final LeaderboardPort leaderboard;
+    private final ImpactScorePort impactScores;
+
+    @Override
+    public List<LeaderboardEntry> getTopUsers(int limit) {
+        log.debug("Getting top {} users by impact score", limit);
+        return leaderboard.top(limit);
+    }
+
+    @Override
+    public LeaderboardEntry getUserStanding(UserId userId) {
+        log.debug("Getting leaderboard standing for user ID: {}", userId.getValue());
+        return leaderboard.findEntry(userId)
+                .orElseThrow(() -> new LeaderboardEntryNotFoundException(userId));
+    }
+
+    @Override
+    public List<LeaderboardEntry> getNeighbors(UserId userId, int radius) {
+        log.debug("Getting leaderboard neighbors for user ID: {}", userId.getValue());
+        List<LeaderboardEntry> neighbors = leaderboard.around(userId, radius);
+        if (neighbors.isEmpty()) {
+            throw new LeaderboardEntryNotFoundException(userId);
+        }
+        return neighbors;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int reconcile() {
+        Map<UserId, ImpactScore> scores = impactScores.findAllTotals();
+        leaderboard.replaceAll(scores);
+        log.info("Leaderboard reconciled with {} user profiles", scores.size());
+        return scores.size();
+    }
+
+    /**
+     * Applies committed score increments; a failure only delays the user until the next reconcile
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onImpactScoreIncreased(ImpactScoreIncreasedEvent event) {
+        try {
+            leaderboard.increment(new UserId(event.userId()),
+                new ImpactScore(event.increment()), new ImpactScore(event.newTotal()));
+        } catch (RuntimeException e) {
+            log.warn("Could not apply impact score increment for user ID: {}", event.userId(), e);
+        }
+    }
+}
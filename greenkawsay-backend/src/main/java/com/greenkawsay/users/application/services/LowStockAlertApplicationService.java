@@ -0,0 +1,104 @@
+package com.greenkawsay.users.application.services;
+
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.notifications.application.ports.in.EmailServicePort;
+import com.greenkawsay.users.application.ports.in.LowStockAlertServicePort;
+import com.greenkawsay.users.domain.models.LowStockAlert;
+import com.greenkawsay.users.domain.models.UserProfile;
+import com.greenkawsay.users.domain.repositories.UserProfileRepository;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Application service turning windows of low-stock alerts into vendor digests
+ * Each vendor gets one email per window listing its lowest-stock products first,
+ * and each product appears at most once however often it dropped below its threshold
+ */
+@Slf4j
+public class LowStockAlertApplicationService implements LowStockAlertServicePort {
+
+    static final String LOW_STOCK_TEMPLATE = "vendor-low-stock";
+
+    private static final Comparator<LowStockAlert> LOWEST_STOCK_FIRST =
+            Comparator.comparingInt(LowStockAlert::stockQuantity).thenComparing(LowStockAlert::productName);
+
+    private final UserProfileRepository userProfileRepository;
+    private final EmailServicePort emailService;
+    private final int maxProductsPerEmail;
+    private final String dashboardUrl;
+
+    public LowStockAlertApplicationService(UserProfileRepository userProfileRepository,
+                                           EmailServicePort emailService,
+                                           int maxProductsPerEmail,
+                                           String dashboardUrl) {
+        this.userProfileRepository = userProfileRepository;
+        this.emailService = emailService;
+        this.maxProductsPerEmail = maxProductsPerEmail;
+        this.dashboardUrl = dashboardUrl;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int alertVendors(Collection<LowStockAlert> alerts) {
+        Set<ProductId> seen = new HashSet<>();
+        Map<UserId, List<LowStockAlert>> alertsByVendor = new LinkedHashMap<>();
+        for (LowStockAlert alert : alerts) {
+            if (seen.add(alert.productId())) {
+                alertsByVendor.computeIfAbsent(alert.vendorId(), vendorId -> new ArrayList<>()).add(alert);
+            }
+        }
+
+        int queued = 0;
+        int rejected = 0;
+        for (Map.Entry<UserId, List<LowStockAlert>> entry : alertsByVendor.entrySet()) {
+            UserProfile vendor = userProfileRepository.findById(entry.getKey()).orElse(null);
+            if (vendor == null || !vendor.isActive()) {
+                continue;
+            }
+            if (send(vendor, entry.getValue())) {
+                queued++;
+            } else {
+                rejected++;
+            }
+        }
+        if (rejected > 0) {
+            log.warn("Email outbox rejected {} low-stock alerts", rejected);
+        }
+        log.info("Queued {} low-stock alerts for {} products", queued, seen.size());
+        return queued;
+    }
+
+    private boolean send(UserProfile vendor, List<LowStockAlert> alerts) {
+        String products = alerts.stream()
+                .sorted(LOWEST_STOCK_FIRST)
+                .limit(maxProductsPerEmail)
+                .map(alert -> alert.productName() + " (" + alert.stockQuantity() + " left)")
+                .collect(Collectors.joining(", "));
+        if (alerts.size() > maxProductsPerEmail) {
+            products += " and " + (alerts.size() - maxProductsPerEmail) + " more";
+        }
+        Map<String, Object> model = new HashMap<>();
+        model.put("firstName", vendor.getFirstName());
+        model.put("productCount", alerts.size());
+        model.put("products", products);
+        model.put("dashboardUrl", dashboardUrl);
+        try {
+            return emailService.sendTemplatedEmail(LOW_STOCK_TEMPLATE, vendor.getEmail(), model);
+        } catch (RuntimeException e) {
+            log.warn("Could not queue low-stock alert for vendor {}: {}", vendor.getId().getValue(), e.getMessage());
+            return false;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.greenkawsay.users.application.services;
 
 import com.greenkawsay.shared.domain.valueobjects.Email;
 import com.greenkawsay.users.application.ports.in.UserProfileServicePort;
+import com.greenkawsay.users.application.ports.out.ImpactScorePort;
+import com.greenkawsay.users.domain.events.ImpactScoreIncreasedEvent;
 import com.greenkawsay.users.domain.exceptions.UserProfileNotFoundException;
 import com.greenkawsay.users.domain.models.UserProfile;
 import com.greenkawsay.users.domain.repositories.UserProfileRepository;
@@ -10,6 +12,7 @@ import com.greenkawsay.users.domain.valueobjects.Role;
 import com.greenkawsay.users.domain.valueobjects.UserId;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -29,6 +32,8 @@ import java.util.Optional;
 public class UserProfileApplicationService implements UserProfileServicePort {
 
     private final UserProfileRepository userProfileRepository;
+    private final ImpactScorePort impactScores;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public UserProfile createUserProfile(UserProfile userProfile) {
@@ -61,12 +66,14 @@ public class UserProfileApplicationService implements UserProfileServicePort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<UserProfile> getUserProfileById(UserId userId) {
         log.debug("Getting user profile by ID: {}", userId.getValue());
         return userProfileRepository.findById(userId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<UserProfile> getUserProfileByEmail(String email) {
         log.debug("Getting user profile by email: {}", email);
         List<UserProfile> allProfiles = userProfileRepository.findAll();
@@ -76,6 +83,7 @@ public class UserProfileApplicationService implements UserProfileServicePort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<UserProfile> getUserProfileByKeycloakId(String keycloakId) {
         log.debug("Getting user profile by Keycloak ID: {}", keycloakId);
         List<UserProfile> allProfiles = userProfileRepository.findAll();
@@ -85,6 +93,7 @@ public class UserProfileApplicationService implements UserProfileServicePort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<UserProfile> getAllUserProfiles(Pageable pageable) {
         log.debug("Getting all user profiles with pagination");
         List<UserProfile> allProfiles = userProfileRepository.findAll();
@@ -95,6 +104,7 @@ public class UserProfileApplicationService implements UserProfileServicePort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<UserProfile> getUserProfilesByRole(String role, Pageable pageable) {
         log.debug("Getting user profiles by role: {}", role);
         List<UserProfile> allProfiles = userProfileRepository.findAll();
@@ -138,15 +148,21 @@ public class UserProfileApplicationService implements UserProfileServicePort {
         UserProfile existingProfile = userProfileRepository.findById(userId)
                 .orElseThrow(() -> new UserProfileNotFoundException(userId));
         
-        ImpactScore newScore = new ImpactScore(impactScore);
-        UserProfile updatedProfile = existingProfile.addImpactScore(newScore);
-        UserProfile savedProfile = userProfileRepository.save(updatedProfile);
+        // Validate against the current total, then add in the database so concurrent updates are not lost
+        ImpactScore increment = new ImpactScore(impactScore);
+        existingProfile.addImpactScore(increment);
+        ImpactScore newTotal = impactScores.incrementTotal(userId, increment)
+                .orElseThrow(() -> new UserProfileNotFoundException(userId));
+        eventPublisher.publishEvent(
+            new ImpactScoreIncreasedEvent(userId.getValue(), increment.getValue(), newTotal.getValue()));
         log.info("Impact score updated successfully for user ID: {}", userId.getValue());
         
-        return savedProfile;
+        // The stored total may include concurrent increments, so it replaces the one loaded above
+        return existingProfile.withImpactScoreTotal(newTotal);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean existsByEmail(String email) {
         log.debug("Checking if user profile exists by email: {}", email);
         List<UserProfile> allProfiles = userProfileRepository.findAll();
@@ -155,6 +171,7 @@ public class UserProfileApplicationService implements UserProfileServicePort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean existsByKeycloakId(String keycloakId) {
         log.debug("Checking if user profile exists by Keycloak ID: {}", keycloakId);
         List<UserProfile> allProfiles = userProfileRepository.findAll();
@@ -1,27 +1,40 @@
 package com.greenkawsay.users.application.services;
 
+import com.greenkawsay.catalog.domain.exceptions.ProductNotFoundException;
 import com.greenkawsay.catalog.domain.valueobjects.ProductId;
 import com.greenkawsay.users.application.ports.in.WishlistServicePort;
+import com.greenkawsay.users.application.ports.out.WishlistItemBatchPort;
+import com.greenkawsay.users.application.ports.out.WishlistMembershipPort;
+import com.greenkawsay.users.domain.events.WishlistChangedEvent;
+import com.greenkawsay.users.domain.exceptions.InvalidWishlistMoveException;
 import com.greenkawsay.users.domain.exceptions.UserProfileNotFoundException;
 import com.greenkawsay.users.domain.exceptions.WishlistNotFoundException;
 import com.greenkawsay.users.domain.models.Wishlist;
 import com.greenkawsay.users.domain.models.WishlistItem;
+import com.greenkawsay.users.domain.models.WishlistItemResult;
+import com.greenkawsay.users.domain.models.WishlistMembership;
 import com.greenkawsay.users.domain.repositories.UserProfileRepository;
 import com.greenkawsay.users.domain.repositories.WishlistItemRepository;
 import com.greenkawsay.users.domain.repositories.WishlistRepository;
 import com.greenkawsay.users.domain.valueobjects.UserId;
 import com.greenkawsay.users.domain.valueobjects.WishlistId;
+import com.greenkawsay.users.domain.valueobjects.WishlistItemOutcome;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Application service for Wishlist operations
@@ -35,6 +48,9 @@ public class WishlistApplicationService implements WishlistServicePort {
     private final WishlistRepository wishlistRepository;
     private final WishlistItemRepository wishlistItemRepository;
     private final UserProfileRepository userProfileRepository;
+    private final WishlistItemBatchPort wishlistItemBatchPort;
+    private final WishlistMembershipPort wishlistMembershipPort;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Wishlist createWishlist(Wishlist wishlist) {
@@ -46,6 +62,8 @@ public class WishlistApplicationService implements WishlistServicePort {
         }
         
         Wishlist savedWishlist = wishlistRepository.save(wishlist);
+        eventPublisher.publishEvent(new WishlistChangedEvent(
+                savedWishlist.getId().getValue(), savedWishlist.getUserId().getValue()));
         log.info("Wishlist created successfully with ID: {}", savedWishlist.getId().getValue());
         
         return savedWishlist;
@@ -76,18 +94,21 @@ public class WishlistApplicationService implements WishlistServicePort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Wishlist> getWishlistById(WishlistId wishlistId) {
         log.debug("Getting wishlist by ID: {}", wishlistId.getValue());
         return wishlistRepository.findById(wishlistId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Wishlist> getWishlistsByUserId(UserId userId) {
         log.debug("Getting wishlists for user ID: {}", userId.getValue());
         return wishlistRepository.findByUserId(userId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<Wishlist> getWishlistsByUserId(UserId userId, Pageable pageable) {
         log.debug("Getting wishlists for user ID: {} with pagination", userId.getValue());
         List<Wishlist> userWishlists = wishlistRepository.findByUserId(userId);
@@ -98,6 +119,7 @@ public class WishlistApplicationService implements WishlistServicePort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Wishlist> getDefaultWishlistByUserId(UserId userId) {
         log.debug("Getting default wishlist for user ID: {}", userId.getValue());
         // In this implementation, we'll consider the first wishlist as default
@@ -123,14 +145,13 @@ public class WishlistApplicationService implements WishlistServicePort {
     public void deleteWishlist(WishlistId wishlistId) {
         log.info("Deleting wishlist with ID: {}", wishlistId.getValue());
         
-        Wishlist wishlist = wishlistRepository.findById(wishlistId)
-                .orElseThrow(() -> new WishlistNotFoundException(wishlistId));
-        
-        // Delete all wishlist items first
-        List<WishlistItem> wishlistItems = wishlistItemRepository.findByWishlistId(wishlistId);
-        wishlistItems.forEach(item -> wishlistItemRepository.deleteByWishlistIdAndProductId(wishlistId, item.getProductId()));
+        if (!wishlistRepository.existsById(wishlistId)) {
+            throw new WishlistNotFoundException(wishlistId);
+        }
         
+        // wishlist_items.wishlist_id is ON DELETE CASCADE, so the items go with the wishlist
         wishlistRepository.deleteById(wishlistId);
+        eventPublisher.publishEvent(new WishlistChangedEvent(wishlistId.getValue(), null));
         log.info("Wishlist deleted successfully with ID: {}", wishlistId.getValue());
     }
 
@@ -138,14 +159,13 @@ public class WishlistApplicationService implements WishlistServicePort {
     public WishlistItem addItemToWishlist(WishlistId wishlistId, ProductId productId) {
         log.info("Adding item to wishlist with ID: {}", wishlistId.getValue());
         
-        Wishlist wishlist = wishlistRepository.findById(wishlistId)
-                .orElseThrow(() -> new WishlistNotFoundException(wishlistId));
-        
-        WishlistItem wishlistItem = new WishlistItem(
-            wishlistId, productId, LocalDateTime.now(), LocalDateTime.now(), LocalDateTime.now()
-        );
+        WishlistItemOutcome outcome = addItemsToWishlist(wishlistId, List.of(productId)).get(0).outcome();
+        if (outcome == WishlistItemOutcome.PRODUCT_NOT_FOUND) {
+            throw new ProductNotFoundException(productId);
+        }
         
-        WishlistItem savedItem = wishlistItemRepository.save(wishlistItem);
+        WishlistItem savedItem = wishlistItemRepository.findByWishlistIdAndProductId(wishlistId, productId)
+                .orElseThrow(() -> new WishlistNotFoundException(wishlistId));
         log.info("Item added to wishlist successfully");
         
         return savedItem;
@@ -159,16 +179,80 @@ public class WishlistApplicationService implements WishlistServicePort {
                 .orElseThrow(() -> new WishlistNotFoundException(wishlistId));
         
         wishlistItemRepository.deleteByWishlistIdAndProductId(wishlistId, productId);
+        eventPublisher.publishEvent(new WishlistChangedEvent(wishlistId.getValue(), null));
         log.info("Item removed from wishlist successfully");
     }
 
     @Override
+    public List<WishlistItemResult> addItemsToWishlist(WishlistId wishlistId, List<ProductId> productIds) {
+        log.info("Adding {} items to wishlist with ID: {}", productIds.size(), wishlistId.getValue());
+        List<ProductId> requested = distinct(productIds);
+        if (requested.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<ProductId, WishlistItemOutcome> outcomes = wishlistItemBatchPort.addAll(wishlistId, requested);
+        if (outcomes.isEmpty()) {
+            throw new WishlistNotFoundException(wishlistId);
+        }
+        publishIfChanged(outcomes, WishlistItemOutcome.ADDED, wishlistId);
+        return toResults(requested, outcomes);
+    }
+
+    @Override
+    public List<WishlistItemResult> removeItemsFromWishlist(WishlistId wishlistId, List<ProductId> productIds) {
+        log.info("Removing {} items from wishlist with ID: {}", productIds.size(), wishlistId.getValue());
+        List<ProductId> requested = distinct(productIds);
+        if (requested.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<ProductId, WishlistItemOutcome> outcomes = wishlistItemBatchPort.removeAll(wishlistId, requested);
+        if (outcomes.isEmpty()) {
+            throw new WishlistNotFoundException(wishlistId);
+        }
+        publishIfChanged(outcomes, WishlistItemOutcome.REMOVED, wishlistId);
+        return toResults(requested, outcomes);
+    }
+
+    @Override
+    public List<WishlistItemResult> moveItemsBetweenWishlists(WishlistId sourceId, WishlistId targetId,
+                                                              List<ProductId> productIds) {
+        log.info("Moving {} items from wishlist {} to wishlist {}",
+                productIds.size(), sourceId.getValue(), targetId.getValue());
+        if (sourceId.equals(targetId)) {
+            throw new InvalidWishlistMoveException("Source and target wishlist must differ");
+        }
+        List<ProductId> requested = distinct(productIds);
+        if (requested.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<ProductId, WishlistItemOutcome> outcomes = wishlistItemBatchPort.moveAll(sourceId, targetId, requested);
+        if (outcomes.isEmpty()) {
+            // Only on the failure path: tell a missing wishlist apart from a cross-user move
+            if (!wishlistRepository.existsById(sourceId)) {
+                throw new WishlistNotFoundException(sourceId);
+            }
+            if (!wishlistRepository.existsById(targetId)) {
+                throw new WishlistNotFoundException(targetId);
+            }
+            throw new InvalidWishlistMoveException("Items can only be moved between wishlists of the same user");
+        }
+        // Both wishlists belong to the same user, so one event covers the owner's membership
+        publishIfChanged(outcomes, WishlistItemOutcome.MOVED, sourceId);
+        return toResults(requested, outcomes);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<WishlistItem> getWishlistItems(WishlistId wishlistId) {
         log.debug("Getting items for wishlist with ID: {}", wishlistId.getValue());
         return wishlistItemRepository.findByWishlistId(wishlistId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<WishlistItem> getWishlistItems(WishlistId wishlistId, Pageable pageable) {
         log.debug("Getting items for wishlist with ID: {} with pagination", wishlistId.getValue());
         List<WishlistItem> wishlistItems = wishlistItemRepository.findByWishlistId(wishlistId);
@@ -179,18 +263,32 @@ public class WishlistApplicationService implements WishlistServicePort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean isProductInWishlist(WishlistId wishlistId, ProductId productId) {
         log.debug("Checking if product {} is in wishlist {}", productId.getValue(), wishlistId.getValue());
         return wishlistItemRepository.findByWishlistIdAndProductId(wishlistId, productId).isPresent();
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Set<ProductId> checkMembership(UserId userId, List<ProductId> productIds) {
+        log.debug("Checking wishlist membership of {} products for user ID: {}", productIds.size(), userId.getValue());
+        // No transaction of its own: a cached membership set answers without touching the database
+        WishlistMembership membership = wishlistMembershipPort.loadMembership(userId);
+        return productIds.stream()
+                .filter(membership::contains)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<WishlistItem> getWishlistItemByProductId(WishlistId wishlistId, ProductId productId) {
         log.debug("Getting wishlist item for product {} in wishlist {}", productId.getValue(), wishlistId.getValue());
         return wishlistItemRepository.findByWishlistIdAndProductId(wishlistId, productId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<Wishlist> getPublicWishlists(Pageable pageable) {
         log.debug("Getting public wishlists with pagination");
         // Since we don't have a findAll() method, we need to get wishlists by iterating through users
@@ -208,6 +306,7 @@ public class WishlistApplicationService implements WishlistServicePort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<Wishlist> getWishlistsByNameContaining(String name, Pageable pageable) {
         log.debug("Searching wishlists by name containing: {}", name);
         // Since we don't have a search method, we need to get wishlists by iterating through users
@@ -225,12 +324,32 @@ public class WishlistApplicationService implements WishlistServicePort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean existsById(WishlistId wishlistId) {
         return wishlistRepository.findById(wishlistId).isPresent();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean hasWishlists(UserId userId) {
         return !wishlistRepository.findByUserId(userId).isEmpty();
     }
+
+    private void publishIfChanged(Map<ProductId, WishlistItemOutcome> outcomes, WishlistItemOutcome changed,
+                                  WishlistId wishlistId) {
+        if (outcomes.containsValue(changed)) {
+            eventPublisher.publishEvent(new WishlistChangedEvent(wishlistId.getValue(), null));
+        }
+    }
+
+    private static List<ProductId> distinct(List<ProductId> productIds) {
+        return List.copyOf(new LinkedHashSet<>(productIds));
+    }
+
+    private static List<WishlistItemResult> toResults(List<ProductId> requested,
+                                                      Map<ProductId, WishlistItemOutcome> outcomes) {
+        return requested.stream()
+                .map(productId -> new WishlistItemResult(productId, outcomes.get(productId)))
+                .toList();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,117 @@
+package com.greenkawsay.users.application.services;
+
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.notifications.application.ports.in.EmailServicePort;
+import com.greenkawsay.users.application.ports.in.WishlistWatchServicePort;
+import com.greenkawsay.users.application.ports.out.WishlistWatcherQueryPort;
+import com.greenkawsay.users.domain.models.WatchedProductChange;
+import com.greenkawsay.users.domain.models.WishlistWatcher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Application service turning windows of product changes into wishlist notifications
+ * Watchers are resolved in batches of products, and each user gets at most one email per product
+ * and at most maxEmailsPerUser emails per window
+ */
+@Slf4j
+public class WishlistWatchApplicationService implements WishlistWatchServicePort {
+
+    static final String PRICE_DROP_TEMPLATE = "wishlist-price-drop";
+    static final String BACK_IN_STOCK_TEMPLATE = "wishlist-back-in-stock";
+
+    private final WishlistWatcherQueryPort watcherQuery;
+    private final EmailServicePort emailService;
+    private final int batchSize;
+    private final int maxEmailsPerUser;
+    private final String productUrlTemplate;
+
+    public WishlistWatchApplicationService(WishlistWatcherQueryPort watcherQuery,
+                                           EmailServicePort emailService,
+                                           int batchSize,
+                                           int maxEmailsPerUser,
+                                           String productUrlTemplate) {
+        this.watcherQuery = watcherQuery;
+        this.emailService = emailService;
+        this.batchSize = batchSize;
+        this.maxEmailsPerUser = maxEmailsPerUser;
+        this.productUrlTemplate = productUrlTemplate;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int notifyWatchers(Collection<WatchedProductChange> changes) {
+        Map<ProductId, WatchedProductChange> notifiable = new HashMap<>();
+        for (WatchedProductChange change : changes) {
+            if (change.isPriceDrop() || change.backInStock()) {
+                notifiable.put(change.productId(), change);
+            }
+        }
+        if (notifiable.isEmpty()) {
+            return 0;
+        }
+
+        Set<WatcherKey> notified = new HashSet<>();
+        Map<UUID, Integer> emailsPerUser = new HashMap<>();
+        int[] queued = {0};
+        int[] rejected = {0};
+        List<ProductId> productIds = new ArrayList<>(notifiable.keySet());
+        for (int from = 0; from < productIds.size(); from += batchSize) {
+            List<ProductId> batch = productIds.subList(from, Math.min(from + batchSize, productIds.size()));
+            watcherQuery.forEachWatcher(batch, watcher -> {
+                UUID userId = watcher.userId().getValue();
+                if (!notified.add(new WatcherKey(userId, watcher.productId().getValue()))
+                        || emailsPerUser.merge(userId, 1, Integer::sum) > maxEmailsPerUser) {
+                    return;
+                }
+                if (send(watcher, notifiable.get(watcher.productId()))) {
+                    queued[0]++;
+                } else {
+                    rejected[0]++;
+                }
+            });
+        }
+        if (rejected[0] > 0) {
+            log.warn("Email outbox rejected {} wishlist notifications", rejected[0]);
+        }
+        log.info("Queued {} wishlist notifications for {} changed products", queued[0], notifiable.size());
+        return queued[0];
+    }
+
+    private boolean send(WishlistWatcher watcher, WatchedProductChange change) {
+        Map<String, Object> model = new HashMap<>();
+        model.put("firstName", watcher.firstName());
+        model.put("productName", change.productName());
+        model.put("wishlistName", watcher.wishlistName());
+        model.put("productUrl", productUrlTemplate.replace("{productId}", change.productId().getValueAsString()));
+        try {
+            if (change.isPriceDrop()) {
+                model.put("oldPrice", formatPrice(change, change.oldPrice()));
+                model.put("newPrice", formatPrice(change, change.newPrice()));
+                return emailService.sendTemplatedEmail(PRICE_DROP_TEMPLATE, watcher.email(), model);
+            }
+            return emailService.sendTemplatedEmail(BACK_IN_STOCK_TEMPLATE, watcher.email(), model);
+        } catch (RuntimeException e) {
+            log.warn("Could not queue wishlist notification for user {}: {}", watcher.userId().getValue(), e.getMessage());
+            return false;
+        }
+    }
+
+    private static String formatPrice(WatchedProductChange change, BigDecimal amount) {
+        return change.currencyCode() + " " + amount.setScale(2, RoundingMode.HALF_UP).toPlainString();
+    }
+
+    private record WatcherKey(UUID userId, UUID productId) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.greenkawsay.users.domain.events;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Domain event published when impact score has been added to a user profile
+ * Carries the committed total so projections can seed users they have not seen yet
+ */
+public record ImpactScoreIncreasedEvent(UUID userId, BigDecimal increment, BigDecimal newTotal) {
+
+    public ImpactScoreIncreasedEvent {
+        Objects.requireNonNull(userId, "User ID cannot be null");
+        Objects.requireNonNull(increment, "Increment cannot be null");
+        Objects.requireNonNull(newTotal, "New total cannot be null");
+    }
+}
@@ -0,0 +1,15 @@
+package com.greenkawsay.users.domain.events;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Domain event published when a wishlist or its items have changed
+ * The owner is set when the publisher already knows it and null otherwise
+ */
+public record WishlistChangedEvent(UUID wishlistId, UUID userId) {
+
+    public WishlistChangedEvent {
+        Objects.requireNonNull(wishlistId, "Wishlist ID cannot be null");
+    }
+}
@@ -0,0 +1,13 @@
+package com.greenkawsay.users.domain.exceptions;
+
+import com.greenkawsay.shared.domain.exceptions.DomainException;
+
+/**
+ * Exception thrown when a shipping region query has no usable criteria
+ */
+public class InvalidShippingRegionException extends DomainException {
+
+    public InvalidShippingRegionException(String message) {
+        super(message, "INVALID_SHIPPING_REGION");
+    }
+}
@@ -0,0 +1,13 @@
+package com.greenkawsay.users.domain.exceptions;
+
+import com.greenkawsay.shared.domain.exceptions.DomainException;
+
+/**
+ * Exception thrown when a wishlist membership check asks for more products than allowed
+ */
+public class InvalidWishlistMembershipRequestException extends DomainException {
+
+    public InvalidWishlistMembershipRequestException(String message) {
+        super(message, "INVALID_WISHLIST_MEMBERSHIP_REQUEST");
+    }
+}
@@ -0,0 +1,13 @@
+package com.greenkawsay.users.domain.exceptions;
+
+import com.greenkawsay.shared.domain.exceptions.DomainException;
+
+/**
+ * Exception thrown when wishlist items cannot be moved between the given wishlists
+ */
+public class InvalidWishlistMoveException extends DomainException {
+
+    public InvalidWishlistMoveException(String message) {
+        super(message, "INVALID_WISHLIST_MOVE");
+    }
+}
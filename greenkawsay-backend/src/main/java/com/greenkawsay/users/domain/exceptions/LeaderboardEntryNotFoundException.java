@@ -0,0 +1,14 @@
+package com.greenkawsay.users.domain.exceptions;
+
+import com.greenkawsay.shared.domain.exceptions.DomainException;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+
+/**
+ * Exception thrown when a user is not ranked on the leaderboard
+ */
+public class LeaderboardEntryNotFoundException extends DomainException {
+
+    public LeaderboardEntryNotFoundException(UserId userId) {
+        super("User is not ranked on the leaderboard: " + userId.getValueAsString(), "LEADERBOARD_ENTRY_NOT_FOUND");
+    }
+}
@@ -0,0 +1,28 @@
+package com.greenkawsay.users.domain.models;
+
+import com.greenkawsay.users.domain.valueobjects.AddressId;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Keyset page of addresses ordered by ID
+ * nextCursor is the last ID of a full page, or null when the scan is complete
+ */
+public record AddressSlice(List<UserAddress> addresses, AddressId nextCursor) {
+
+    public AddressSlice {
+        addresses = List.copyOf(Objects.requireNonNull(addresses, "Addresses cannot be null"));
+    }
+
+    public static AddressSlice of(List<UserAddress> addresses, int limit) {
+        AddressId nextCursor = addresses.size() == limit && !addresses.isEmpty()
+                ? addresses.get(addresses.size() - 1).getId()
+                : null;
+        return new AddressSlice(addresses, nextCursor);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
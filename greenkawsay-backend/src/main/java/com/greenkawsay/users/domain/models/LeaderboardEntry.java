@@ -0,0 +1,21 @@
+package com.greenkawsay.users.domain.models;
+
+import com.greenkawsay.users.domain.valueobjects.ImpactScore;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+
+import java.util.Objects;
+
+/**
+ * Position of a user on the impact score leaderboard
+ * Rank is 1-based, highest score first
+ */
+public record LeaderboardEntry(UserId userId, ImpactScore score, long rank) {
+
+    public LeaderboardEntry {
+        Objects.requireNonNull(userId, "User ID cannot be null");
+        Objects.requireNonNull(score, "Score cannot be null");
+        if (rank < 1) {
+            throw new IllegalArgumentException("Rank must be positive");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.greenkawsay.users.domain.models;
+
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+
+import java.util.Objects;
+
+/**
+ * A vendor's product that dropped to or below its low-stock threshold during an alert window
+ * Repeated drops of the same product inside one window collapse into one alert carrying the latest stock
+ */
+public record LowStockAlert(ProductId productId, UserId vendorId, String productName, int stockQuantity,
+                            int lowStockThreshold) {
+
+    public LowStockAlert {
+        Objects.requireNonNull(productId, "Product ID cannot be null");
+        Objects.requireNonNull(vendorId, "Vendor ID cannot be null");
+        Objects.requireNonNull(productName, "Product name cannot be null");
+    }
+}
@@ -114,6 +114,13 @@ public class UserProfile {
         );
     }
 
+    public UserProfile withImpactScoreTotal(ImpactScore total) {
+        return new UserProfile(
+            this.id, this.keycloakId, this.email, this.firstName, this.lastName, this.avatarUrl,
+            this.role, total, this.isActive, this.createdAt, LocalDateTime.now()
+        );
+    }
+
     public UserProfile deactivate() {
         return new UserProfile(
             this.id, this.keycloakId, this.email, this.firstName, this.lastName, this.avatarUrl,
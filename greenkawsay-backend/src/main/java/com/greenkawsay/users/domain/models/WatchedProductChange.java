@@ -0,0 +1,50 @@
+package com.greenkawsay.users.domain.models;
+
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Price and stock changes of one product collected over a watch window
+ * Merging keeps the first old price and the last new price, so several price changes
+ * inside one window only notify when the net effect is a lower price
+ */
+public record WatchedProductChange(ProductId productId, String productName, BigDecimal oldPrice,
+                                   BigDecimal newPrice, String currencyCode, boolean backInStock) {
+
+    public WatchedProductChange {
+        Objects.requireNonNull(productId, "Product ID cannot be null");
+        Objects.requireNonNull(productName, "Product name cannot be null");
+    }
+
+    public static WatchedProductChange priceChange(ProductId productId, String productName, BigDecimal oldPrice,
+                                                 BigDecimal newPrice, String currencyCode) {
+        return new WatchedProductChange(productId, productName, oldPrice, newPrice, currencyCode, false);
+    }
+
+    public static WatchedProductChange backInStock(ProductId productId, String productName) {
+        return new WatchedProductChange(productId, productName, null, null, null, true);
+    }
+
+    /**
+     * Combine with a later change of the same product
+     */
+    public WatchedProductChange merge(WatchedProductChange later) {
+        boolean laterHasPrice = later.newPrice != null;
+        // A change of currency restarts the price series
+        boolean keepOldPrice = oldPrice != null
+                && (!laterHasPrice || Objects.equals(currencyCode, later.currencyCode));
+        return new WatchedProductChange(
+                productId,
+                later.productName,
+                keepOldPrice ? oldPrice : later.oldPrice,
+                laterHasPrice ? later.newPrice : newPrice,
+                laterHasPrice ? later.currencyCode : currencyCode,
+                backInStock || later.backInStock);
+    }
+
+    public boolean isPriceDrop() {
+        return oldPrice != null && newPrice != null && newPrice.compareTo(oldPrice) < 0;
+    }
+}
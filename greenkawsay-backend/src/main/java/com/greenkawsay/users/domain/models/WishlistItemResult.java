@@ -0,0 +1,17 @@
+package com.greenkawsay.users.domain.models;
+
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.users.domain.valueobjects.WishlistItemOutcome;
+
+import java.util.Objects;
+
+/**
+ * Per-product outcome of a bulk wishlist operation
+ */
+public record WishlistItemResult(ProductId productId, WishlistItemOutcome outcome) {
+
+    public WishlistItemResult {
+        Objects.requireNonNull(productId, "Product ID cannot be null");
+        Objects.requireNonNull(outcome, "Outcome cannot be null");
+    }
+}
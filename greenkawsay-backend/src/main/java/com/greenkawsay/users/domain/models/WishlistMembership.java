@@ -0,0 +1,83 @@
+package com.greenkawsay.users.domain.models;
+
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.users.domain.valueobjects.WishlistId;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Every product in any of a user's wishlists, held as a sorted array of UUID halves
+ * Takes 16 bytes per product and answers contains() with a binary search
+ */
+public final class WishlistMembership {
+
+    private static final WishlistMembership EMPTY = new WishlistMembership(List.of(), new long[0]);
+
+    private final List<WishlistId> wishlistIds;
+    private final long[] products;
+
+    private WishlistMembership(List<WishlistId> wishlistIds, long[] products) {
+        this.wishlistIds = wishlistIds;
+        this.products = products;
+    }
+
+    public static WishlistMembership empty() {
+        return EMPTY;
+    }
+
+    public static WishlistMembership of(Collection<WishlistId> wishlistIds, Collection<UUID> productIds) {
+        UUID[] sorted = productIds.toArray(UUID[]::new);
+        Arrays.sort(sorted);
+        long[] products = new long[sorted.length * 2];
+        int size = 0;
+        for (UUID productId : sorted) {
+            long msb = productId.getMostSignificantBits();
+            long lsb = productId.getLeastSignificantBits();
+            if (size > 0 && products[size - 2] == msb && products[size - 1] == lsb) {
+                continue;
+            }
+            products[size++] = msb;
+            products[size++] = lsb;
+        }
+        return new WishlistMembership(List.copyOf(wishlistIds),
+                size == products.length ? products : Arrays.copyOf(products, size));
+    }
+
+    /**
+     * Wishlists owned by the user when this snapshot was taken
+     */
+    public List<WishlistId> getWishlistIds() {
+        return wishlistIds;
+    }
+
+    public int size() {
+        return products.length / 2;
+    }
+
+    public boolean contains(ProductId productId) {
+        UUID value = productId.getValue();
+        long msb = value.getMostSignificantBits();
+        long lsb = value.getLeastSignificantBits();
+        int low = 0;
+        int high = size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            // Same signed order as UUID.compareTo, which sorted the array
+            int compare = Long.compare(products[mid * 2], msb);
+            if (compare == 0) {
+                compare = Long.compare(products[mid * 2 + 1], lsb);
+            }
+            if (compare < 0) {
+                low = mid + 1;
+            } else if (compare > 0) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+}
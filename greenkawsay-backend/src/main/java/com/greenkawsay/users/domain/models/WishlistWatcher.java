@@ -0,0 +1,19 @@
+package com.greenkawsay.users.domain.models;
+
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.shared.domain.valueobjects.Email;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+
+import java.util.Objects;
+
+/**
+ * A user who keeps a product in one of their wishlists, with what a notification needs
+ */
+public record WishlistWatcher(UserId userId, Email email, String firstName, ProductId productId, String wishlistName) {
+
+    public WishlistWatcher {
+        Objects.requireNonNull(userId, "User ID cannot be null");
+        Objects.requireNonNull(email, "Email cannot be null");
+        Objects.requireNonNull(productId, "Product ID cannot be null");
+    }
+}
@@ -33,6 +33,12 @@ public interface AddressRepository {
      */
     Optional<UserAddress> findDefaultByUserId(UserId userId);
     
+    /**
+     * Make the address the user's only default with a single UPDATE
+     * Returns false when the address does not belong to the user
+     */
+    boolean swapDefault(UserId userId, AddressId addressId);
+    
     /**
      * Find addresses by country
      */
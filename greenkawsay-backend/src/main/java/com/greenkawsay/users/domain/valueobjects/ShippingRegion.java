@@ -0,0 +1,84 @@
+package com.greenkawsay.users.domain.valueobjects;
+
+import com.greenkawsay.users.domain.exceptions.InvalidShippingRegionException;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Value object describing a delivery region by normalized country, state, city and zip code
+ * Normalization matches the generated *_key columns on addresses, so lookups hit their indexes
+ * Immutable and thread-safe
+ */
+public final class ShippingRegion {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final String countryKey;
+    private final String stateKey;
+    private final String cityKey;
+    private final String zipKey;
+
+    public ShippingRegion(String country, String state, String city, String zipCode) {
+        this.countryKey = normalizeName(country);
+        this.stateKey = normalizeName(state);
+        this.cityKey = normalizeName(city);
+        this.zipKey = normalizeZipCode(zipCode);
+        if (cityKey == null && stateKey == null && zipKey == null) {
+            throw new InvalidShippingRegionException("Shipping region needs a city, state or zip code");
+        }
+    }
+
+    /**
+     * Lower case with surrounding whitespace removed and inner runs collapsed to one space
+     */
+    public static String normalizeName(String value) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = WHITESPACE.matcher(value).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    /**
+     * Upper case with all whitespace removed
+     */
+    public static String normalizeZipCode(String value) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = WHITESPACE.matcher(value).replaceAll("").toUpperCase(Locale.ROOT);
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    public String getCountryKey() { return countryKey; }
+    public String getStateKey() { return stateKey; }
+    public String getCityKey() { return cityKey; }
+    public String getZipKey() { return zipKey; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ShippingRegion that = (ShippingRegion) o;
+        return Objects.equals(countryKey, that.countryKey) &&
+               Objects.equals(stateKey, that.stateKey) &&
+               Objects.equals(cityKey, that.cityKey) &&
+               Objects.equals(zipKey, that.zipKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(countryKey, stateKey, cityKey, zipKey);
+    }
+
+    @Override
+    public String toString() {
+        return "ShippingRegion{" +
+                "country='" + countryKey + '\'' +
+                ", state='" + stateKey + '\'' +
+                ", city='" + cityKey + '\'' +
+                ", zipCode='" + zipKey + '\'' +
+                '}';
+    }
+}
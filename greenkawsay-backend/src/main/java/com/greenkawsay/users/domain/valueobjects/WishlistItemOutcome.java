@@ -0,0 +1,14 @@
+package com.greenkawsay.users.domain.valueobjects;
+
+/**
+ * Result of a bulk wishlist operation for a single product
+ */
+public enum WishlistItemOutcome {
+    ADDED,
+    ALREADY_PRESENT,
+    PRODUCT_NOT_FOUND,
+    REMOVED,
+    NOT_IN_WISHLIST,
+    MOVED,
+    ALREADY_IN_TARGET
+}
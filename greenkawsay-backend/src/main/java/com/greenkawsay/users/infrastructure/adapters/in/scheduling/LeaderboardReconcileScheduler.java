@@ -0,0 +1,27 @@
+package com.greenkawsay.users.infrastructure.adapters.in.scheduling;
+
+import com.greenkawsay.users.application.ports.in.LeaderboardServicePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Periodically rebuilds the leaderboard from user_profiles to repair missed increments
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LeaderboardReconcileScheduler {
+
+    private final LeaderboardServicePort leaderboardService;
+
+    @Scheduled(initialDelayString = "${greenkawsay.leaderboard.initial-delay:10s}",
+               fixedDelayString = "${greenkawsay.leaderboard.reconcile-interval:15m}")
+    public void reconcile() {
+        try {
+            leaderboardService.reconcile();
+        } catch (RuntimeException e) {
+            // Keep serving the current board; the next run will try again
+            log.error("Leaderboard reconciliation failed", e);
+        }
+    }
+}
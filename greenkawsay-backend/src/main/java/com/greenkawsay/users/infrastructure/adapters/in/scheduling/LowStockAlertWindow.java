@@ -0,0 +1,59 @@
+package com.greenkawsay.users.infrastructure.adapters.in.scheduling;
+
+import com.greenkawsay.catalog.domain.events.ProductLowStockEvent;
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.users.application.ports.in.LowStockAlertServicePort;
+import com.greenkawsay.users.domain.models.LowStockAlert;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Collects committed low-stock crossings into windows for the vendor alerts
+ * A product crossing its threshold several times in one window is alerted once, with its latest stock;
+ * profile lookups and emails happen on the scheduler thread when the window is flushed
+ */
+@Slf4j
+public class LowStockAlertWindow {
+
+    private final LowStockAlertServicePort lowStockAlertService;
+    private final PendingWindow<UUID, LowStockAlert> pending;
+
+    public LowStockAlertWindow(LowStockAlertServicePort lowStockAlertService, int maxPendingProducts) {
+        this.lowStockAlertService = lowStockAlertService;
+        this.pending = new PendingWindow<>(maxPendingProducts, (earlier, latest) -> latest);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLowStock(ProductLowStockEvent event) {
+        pending.collect(event.productId(), new LowStockAlert(new ProductId(event.productId()),
+                new UserId(event.vendorId()), event.productName(), event.stockQuantity(), event.lowStockThreshold()));
+    }
+
+    @Scheduled(initialDelayString = "${greenkawsay.users.low-stock-alerts.window:5m}",
+               fixedDelayString = "${greenkawsay.users.low-stock-alerts.window:5m}")
+    public void flush() {
+        List<LowStockAlert> window = pending.drain();
+        long droppedAlerts = pending.drainDropped();
+        if (droppedAlerts > 0) {
+            log.warn("Low-stock alert window was full, {} alerts were not collected", droppedAlerts);
+        }
+        if (window.isEmpty()) {
+            return;
+        }
+        try {
+            lowStockAlertService.alertVendors(window);
+        } catch (RuntimeException e) {
+            log.error("Failed to alert vendors about {} low-stock products", window.size(), e);
+        }
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+}
@@ -0,0 +1,59 @@
+package com.greenkawsay.users.infrastructure.adapters.in.scheduling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BinaryOperator;
+
+/**
+ * Bounded map of the entries a window listener collects between two scheduled flushes
+ * Entries for a key already pending are merged even when the window is full; new keys beyond
+ * the bound are only counted, so a burst of events never grows the heap without limit
+ */
+final class PendingWindow<K, V> {
+
+    private final int maxKeys;
+    private final BinaryOperator<V> merger;
+    private final ConcurrentMap<K, V> pending = new ConcurrentHashMap<>();
+    private final AtomicLong dropped = new AtomicLong();
+
+    PendingWindow(int maxKeys, BinaryOperator<V> merger) {
+        this.maxKeys = maxKeys;
+        this.merger = merger;
+    }
+
+    void collect(K key, V value) {
+        if (pending.size() >= maxKeys && !pending.containsKey(key)) {
+            dropped.incrementAndGet();
+            return;
+        }
+        pending.merge(key, value, merger);
+    }
+
+    /**
+     * Removes key by key: an entry collected after its key was taken simply lands in the next window
+     */
+    List<V> drain() {
+        List<V> window = new ArrayList<>(pending.size());
+        for (K key : pending.keySet()) {
+            V value = pending.remove(key);
+            if (value != null) {
+                window.add(value);
+            }
+        }
+        return window;
+    }
+
+    /**
+     * Entries not collected because the window was full since the previous call
+     */
+    long drainDropped() {
+        return dropped.getAndSet(0);
+    }
+
+    int size() {
+        return pending.size();
+    }
+}
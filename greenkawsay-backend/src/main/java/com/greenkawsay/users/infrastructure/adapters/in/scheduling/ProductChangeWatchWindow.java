@@ -0,0 +1,68 @@
+package com.greenkawsay.users.infrastructure.adapters.in.scheduling;
+
+import com.greenkawsay.catalog.domain.events.ProductBackInStockEvent;
+import com.greenkawsay.catalog.domain.events.ProductPriceChangedEvent;
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.users.application.ports.in.WishlistWatchServicePort;
+import com.greenkawsay.users.domain.models.WatchedProductChange;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Collects committed product price and stock changes into windows for the wishlist watcher
+ * The vendor thread only merges into a bounded map; watcher lookups and emails happen on the
+ * scheduler thread when the window is flushed
+ */
+@Slf4j
+public class ProductChangeWatchWindow {
+
+    private final WishlistWatchServicePort wishlistWatchService;
+    private final PendingWindow<UUID, WatchedProductChange> pending;
+
+    public ProductChangeWatchWindow(WishlistWatchServicePort wishlistWatchService, int maxPendingProducts) {
+        this.wishlistWatchService = wishlistWatchService;
+        this.pending = new PendingWindow<>(maxPendingProducts, WatchedProductChange::merge);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPriceChanged(ProductPriceChangedEvent event) {
+        collect(WatchedProductChange.priceChange(new ProductId(event.productId()), event.productName(),
+                event.oldPrice(), event.newPrice(), event.currencyCode()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBackInStock(ProductBackInStockEvent event) {
+        collect(WatchedProductChange.backInStock(new ProductId(event.productId()), event.productName()));
+    }
+
+    @Scheduled(initialDelayString = "${greenkawsay.users.wishlists.watch-window:1m}",
+               fixedDelayString = "${greenkawsay.users.wishlists.watch-window:1m}")
+    public void flush() {
+        List<WatchedProductChange> window = pending.drain();
+        long droppedChanges = pending.drainDropped();
+        if (droppedChanges > 0) {
+            log.warn("Wishlist watch window was full, {} product changes were not collected", droppedChanges);
+        }
+        if (window.isEmpty()) {
+            return;
+        }
+        try {
+            wishlistWatchService.notifyWatchers(window);
+        } catch (RuntimeException e) {
+            log.error("Failed to notify wishlist watchers for {} products", window.size(), e);
+        }
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    private void collect(WatchedProductChange change) {
+        pending.collect(change.productId().getValue(), change);
+    }
+}
@@ -0,0 +1,78 @@
+package com.greenkawsay.users.infrastructure.adapters.in.web.commons;
+
+import com.greenkawsay.shared.domain.valueobjects.Address;
+import com.greenkawsay.users.domain.models.UserAddress;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.function.Consumer;
+
+/**
+ * Writes addresses as RFC 4180 CSV rows straight to the response writer, one row per address
+ * Fields a spreadsheet would evaluate as a formula are prefixed with a single quote
+ */
+public class AddressCsvWriter implements Consumer<UserAddress> {
+
+    public static final String HEADER = "id,user_id,street,city,state,zip_code,country,is_default";
+
+    private final Writer writer;
+
+    public AddressCsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    public void writeHeader() {
+        try {
+            writer.write(HEADER);
+            writer.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void accept(UserAddress userAddress) {
+        Address address = userAddress.getAddress();
+        try {
+            writer.write(userAddress.getId().getValueAsString());
+            writer.write(',');
+            writer.write(userAddress.getUserId().getValueAsString());
+            writeField(address.getStreet());
+            writeField(address.getCity());
+            writeField(address.getState());
+            writeField(address.getZipCode());
+            writeField(address.getCountry());
+            writer.write(',');
+            writer.write(userAddress.isDefault() ? "true" : "false");
+            writer.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeField(String value) throws IOException {
+        writer.write(',');
+        if (value == null) {
+            return;
+        }
+        if (startsLikeFormula(value)) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static boolean startsLikeFormula(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        char first = value.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+}
@@ -0,0 +1,74 @@
+package com.greenkawsay.users.infrastructure.adapters.in.web.controllers;
+
+import com.greenkawsay.users.application.ports.in.LeaderboardServicePort;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import com.greenkawsay.users.infrastructure.adapters.in.web.dto.response.LeaderboardEntryResponse;
+import com.greenkawsay.users.infrastructure.adapters.in.web.mappers.LeaderboardMapper;
+import com.greenkawsay.users.infrastructure.configuration.LeaderboardProperties;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST Controller for the impact score leaderboard
+ */
+@RestController
+@RequestMapping("/api/v1/leaderboard")
+@RequiredArgsConstructor
+@Tag(name = "Leaderboard", description = "Sustainability impact ranking endpoints")
+public class LeaderboardController {
+
+    private final LeaderboardServicePort leaderboardService;
+    private final LeaderboardMapper leaderboardMapper;
+    private final LeaderboardProperties properties;
+
+    @GetMapping
+    @Operation(summary = "Get the top users by impact score")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Leaderboard retrieved successfully")
+    })
+    public ResponseEntity<List<LeaderboardEntryResponse>> getTopUsers(
+            @Parameter(description = "Number of users to return") @RequestParam(defaultValue = "10") int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, properties.maxLimit()));
+        var entries = leaderboardService.getTopUsers(boundedLimit);
+        return ResponseEntity.ok(leaderboardMapper.toResponseList(entries));
+    }
+
+    @GetMapping("/users/{userId}")
+    @Operation(summary = "Get a user's rank and impact score")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Standing found"),
+        @ApiResponse(responseCode = "404", description = "User is not ranked")
+    })
+    public ResponseEntity<LeaderboardEntryResponse> getUserStanding(
+            @Parameter(description = "User ID") @PathVariable UUID userId) {
+        var entry = leaderboardService.getUserStanding(new UserId(userId));
+        return ResponseEntity.ok(leaderboardMapper.toResponse(entry));
+    }
+
+    @GetMapping("/users/{userId}/neighbors")
+    @Operation(summary = "Get the users ranked just above and below a user")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Neighbors retrieved successfully"),
+        @ApiResponse(responseCode = "404", description = "User is not ranked")
+    })
+    public ResponseEntity<List<LeaderboardEntryResponse>> getNeighbors(
+            @Parameter(description = "User ID") @PathVariable UUID userId,
+            @Parameter(description = "Places above and below the user") @RequestParam(defaultValue = "5") int radius) {
+        int boundedRadius = Math.max(0, Math.min(radius, properties.maxRadius()));
+        var entries = leaderboardService.getNeighbors(new UserId(userId), boundedRadius);
+        return ResponseEntity.ok(leaderboardMapper.toResponseList(entries));
+    }
+}
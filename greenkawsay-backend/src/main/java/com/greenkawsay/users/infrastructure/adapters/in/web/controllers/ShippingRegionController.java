@@ -0,0 +1,92 @@
+package com.greenkawsay.users.infrastructure.adapters.in.web.controllers;
+
+import com.greenkawsay.users.application.ports.in.AddressServicePort;
+import com.greenkawsay.users.domain.valueobjects.AddressId;
+import com.greenkawsay.users.domain.valueobjects.ShippingRegion;
+import com.greenkawsay.users.infrastructure.adapters.in.web.commons.AddressCsvWriter;
+import com.greenkawsay.users.infrastructure.adapters.in.web.dto.response.AddressSliceResponse;
+import com.greenkawsay.users.infrastructure.adapters.in.web.mappers.UserMapper;
+import com.greenkawsay.users.infrastructure.configuration.UserAddressProperties;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * REST Controller for shipping-region address lookups used by route planning
+ */
+@RestController
+@RequestMapping("/api/v1/addresses/regions")
+@RequiredArgsConstructor
+@Tag(name = "Shipping Regions", description = "Address lookups by city, state and zip code")
+public class ShippingRegionController {
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+    private final AddressServicePort addressService;
+    private final UserMapper userMapper;
+    private final UserAddressProperties properties;
+
+    @GetMapping
+    @Operation(summary = "Get one keyset page of addresses in a shipping region")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Addresses retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "No city, state or zip code given")
+    })
+    public ResponseEntity<AddressSliceResponse> getAddressesByRegion(
+            @Parameter(description = "Country") @RequestParam(required = false) String country,
+            @Parameter(description = "State") @RequestParam(required = false) String state,
+            @Parameter(description = "City") @RequestParam(required = false) String city,
+            @Parameter(description = "Zip code") @RequestParam(required = false) String zipCode,
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) UUID after,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "100") int limit) {
+        var region = new ShippingRegion(country, state, city, zipCode);
+        int boundedLimit = Math.max(1, Math.min(limit, properties.regionPageMax()));
+        var slice = addressService.getAddressesByRegion(region, after != null ? new AddressId(after) : null, boundedLimit);
+        var response = new AddressSliceResponse(
+            slice.addresses().stream().map(userMapper::toResponse).toList(),
+            slice.hasNext() ? slice.nextCursor().getValueAsString() : null);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "/export", produces = "text/csv")
+    @Operation(summary = "Stream all addresses in a shipping region as CSV")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "CSV export streamed"),
+        @ApiResponse(responseCode = "400", description = "No city, state or zip code given")
+    })
+    public ResponseEntity<StreamingResponseBody> exportAddressesByRegion(
+            @Parameter(description = "Country") @RequestParam(required = false) String country,
+            @Parameter(description = "State") @RequestParam(required = false) String state,
+            @Parameter(description = "City") @RequestParam(required = false) String city,
+            @Parameter(description = "Zip code") @RequestParam(required = false) String zipCode) {
+        var region = new ShippingRegion(country, state, city, zipCode);
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            AddressCsvWriter csv = new AddressCsvWriter(writer);
+            csv.writeHeader();
+            addressService.exportAddressesByRegion(region, csv);
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"addresses-region.csv\"")
+                .body(body);
+    }
+}
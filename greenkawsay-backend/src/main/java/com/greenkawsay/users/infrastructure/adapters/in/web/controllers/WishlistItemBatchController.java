@@ -0,0 +1,96 @@
+package com.greenkawsay.users.infrastructure.adapters.in.web.controllers;
+
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.users.application.ports.in.WishlistServicePort;
+import com.greenkawsay.users.domain.models.WishlistItemResult;
+import com.greenkawsay.users.domain.valueobjects.WishlistId;
+import com.greenkawsay.users.infrastructure.adapters.in.web.dto.request.MoveWishlistItemsRequest;
+import com.greenkawsay.users.infrastructure.adapters.in.web.dto.request.WishlistItemsBatchRequest;
+import com.greenkawsay.users.infrastructure.adapters.in.web.dto.response.WishlistItemsBatchResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST Controller for bulk wishlist item operations
+ * Every call is idempotent and reports an outcome per product instead of failing the whole batch
+ */
+@RestController
+@RequestMapping("/api/v1/wishlists/{wishlistId}/items")
+@RequiredArgsConstructor
+@Tag(name = "Wishlist Items", description = "Bulk add, remove and move of wishlist items")
+public class WishlistItemBatchController {
+
+    private final WishlistServicePort wishlistService;
+
+    @PostMapping("/batch")
+    @Operation(summary = "Add several products to a wishlist")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Per-product outcomes returned"),
+        @ApiResponse(responseCode = "400", description = "Invalid request"),
+        @ApiResponse(responseCode = "404", description = "Wishlist not found")
+    })
+    public ResponseEntity<WishlistItemsBatchResponse> addItems(
+            @Parameter(description = "Wishlist ID") @PathVariable UUID wishlistId,
+            @Valid @RequestBody WishlistItemsBatchRequest request) {
+        var results = wishlistService.addItemsToWishlist(new WishlistId(wishlistId), toProductIds(request.getProductIds()));
+        return ResponseEntity.ok(toResponse(wishlistId, results));
+    }
+
+    @PostMapping("/batch-delete")
+    @Operation(summary = "Remove several products from a wishlist")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Per-product outcomes returned"),
+        @ApiResponse(responseCode = "400", description = "Invalid request"),
+        @ApiResponse(responseCode = "404", description = "Wishlist not found")
+    })
+    public ResponseEntity<WishlistItemsBatchResponse> removeItems(
+            @Parameter(description = "Wishlist ID") @PathVariable UUID wishlistId,
+            @Valid @RequestBody WishlistItemsBatchRequest request) {
+        var results = wishlistService.removeItemsFromWishlist(new WishlistId(wishlistId), toProductIds(request.getProductIds()));
+        return ResponseEntity.ok(toResponse(wishlistId, results));
+    }
+
+    @PostMapping("/batch-move")
+    @Operation(summary = "Move several products to another wishlist of the same user")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Per-product outcomes returned"),
+        @ApiResponse(responseCode = "400", description = "Invalid request or wishlists of different users"),
+        @ApiResponse(responseCode = "404", description = "Wishlist not found")
+    })
+    public ResponseEntity<WishlistItemsBatchResponse> moveItems(
+            @Parameter(description = "Source wishlist ID") @PathVariable UUID wishlistId,
+            @Valid @RequestBody MoveWishlistItemsRequest request) {
+        var results = wishlistService.moveItemsBetweenWishlists(
+                new WishlistId(wishlistId),
+                new WishlistId(request.getTargetWishlistId()),
+                toProductIds(request.getProductIds()));
+        return ResponseEntity.ok(toResponse(wishlistId, results));
+    }
+
+    private static List<ProductId> toProductIds(List<UUID> productIds) {
+        return productIds.stream().map(ProductId::new).toList();
+    }
+
+    private static WishlistItemsBatchResponse toResponse(UUID wishlistId, List<WishlistItemResult> results) {
+        return new WishlistItemsBatchResponse(
+                wishlistId.toString(),
+                results.stream()
+                        .map(result -> new WishlistItemsBatchResponse.ItemOutcome(
+                                result.productId().getValueAsString(), result.outcome().name()))
+                        .toList());
+    }
+}
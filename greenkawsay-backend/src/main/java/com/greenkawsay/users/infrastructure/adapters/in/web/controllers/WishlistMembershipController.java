@@ -0,0 +1,60 @@
+package com.greenkawsay.users.infrastructure.adapters.in.web.controllers;
+
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.users.application.ports.in.WishlistServicePort;
+import com.greenkawsay.users.domain.exceptions.InvalidWishlistMembershipRequestException;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import com.greenkawsay.users.infrastructure.adapters.in.web.dto.response.WishlistMembershipResponse;
+import com.greenkawsay.users.infrastructure.configuration.UserWishlistProperties;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * REST Controller answering "is in wishlist" for a whole listing page in one call
+ */
+@RestController
+@RequestMapping("/api/v1/users/{userId}/wishlist-membership")
+@RequiredArgsConstructor
+@Tag(name = "Wishlist Membership", description = "Batch wishlist membership checks for listing pages")
+public class WishlistMembershipController {
+
+    private final WishlistServicePort wishlistService;
+    private final UserWishlistProperties properties;
+
+    @GetMapping
+    @Operation(summary = "Check which of the given products are in any of the user's wishlists")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Membership returned"),
+        @ApiResponse(responseCode = "400", description = "Too many product IDs")
+    })
+    public ResponseEntity<WishlistMembershipResponse> checkMembership(
+            @Parameter(description = "User ID") @PathVariable UUID userId,
+            @Parameter(description = "Product IDs shown on the page") @RequestParam List<UUID> productIds) {
+        if (productIds.size() > properties.membershipMaxProducts()) {
+            throw new InvalidWishlistMembershipRequestException(
+                    "At most " + properties.membershipMaxProducts() + " product IDs can be checked at once");
+        }
+        List<ProductId> requested = productIds.stream().map(ProductId::new).toList();
+        Set<ProductId> members = wishlistService.checkMembership(new UserId(userId), requested);
+
+        Map<String, Boolean> products = new LinkedHashMap<>();
+        requested.forEach(productId -> products.put(productId.getValueAsString(), members.contains(productId)));
+        return ResponseEntity.ok(new WishlistMembershipResponse(userId.toString(), products));
+    }
+}
@@ -0,0 +1,27 @@
+package com.greenkawsay.users.infrastructure.adapters.in.web.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request DTO for moving several items to another wishlist of the same user
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MoveWishlistItemsRequest {
+
+    @NotNull(message = "Target wishlist ID is required")
+    private UUID targetWishlistId;
+
+    @NotEmpty(message = "At least one product ID is required")
+    @Size(max = 200, message = "At most 200 product IDs per request")
+    private List<@NotNull UUID> productIds;
+}
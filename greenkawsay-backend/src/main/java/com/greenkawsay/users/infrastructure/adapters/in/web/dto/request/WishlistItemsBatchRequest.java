@@ -0,0 +1,24 @@
+package com.greenkawsay.users.infrastructure.adapters.in.web.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request DTO for adding or removing several wishlist items at once
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WishlistItemsBatchRequest {
+
+    @NotEmpty(message = "At least one product ID is required")
+    @Size(max = 200, message = "At most 200 product IDs per request")
+    private List<@NotNull UUID> productIds;
+}
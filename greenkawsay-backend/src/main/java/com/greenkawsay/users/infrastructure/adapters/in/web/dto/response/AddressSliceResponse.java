@@ -0,0 +1,18 @@
+package com.greenkawsay.users.infrastructure.adapters.in.web.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for keyset pages of addresses; pass nextCursor as after to read the next page
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AddressSliceResponse {
+    private List<UserAddressResponse> addresses;
+    private String nextCursor;
+}
@@ -0,0 +1,19 @@
+package com.greenkawsay.users.infrastructure.adapters.in.web.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Response DTO for leaderboard positions
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardEntryResponse {
+    private String userId;
+    private BigDecimal impactScore;
+    private long rank;
+}
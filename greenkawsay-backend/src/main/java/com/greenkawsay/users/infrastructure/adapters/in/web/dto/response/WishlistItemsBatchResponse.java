@@ -0,0 +1,26 @@
+package com.greenkawsay.users.infrastructure.adapters.in.web.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for bulk wishlist operations, one outcome per distinct requested product
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WishlistItemsBatchResponse {
+    private String wishlistId;
+    private List<ItemOutcome> items;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemOutcome {
+        private String productId;
+        private String outcome;
+    }
+}
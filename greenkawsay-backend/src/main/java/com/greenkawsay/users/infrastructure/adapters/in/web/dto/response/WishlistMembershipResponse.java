@@ -0,0 +1,18 @@
+package com.greenkawsay.users.infrastructure.adapters.in.web.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Response DTO mapping each requested product ID to whether it is in any of the user's wishlists
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WishlistMembershipResponse {
+    private String userId;
+    private Map<String, Boolean> products;
+}
@@ -0,0 +1,25 @@
+package com.greenkawsay.users.infrastructure.adapters.in.web.mappers;
+
+import com.greenkawsay.users.domain.models.LeaderboardEntry;
+import com.greenkawsay.users.infrastructure.adapters.in.web.dto.response.LeaderboardEntryResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+import java.util.List;
+
+/**
+ * MapStruct mapper for leaderboard operations in web layer
+ */
+@Mapper(componentModel = "spring")
+public interface LeaderboardMapper {
+
+    LeaderboardMapper INSTANCE = Mappers.getMapper(LeaderboardMapper.class);
+
+    @Mapping(target = "userId", source = "userId.valueAsString")
+    @Mapping(target = "impactScore", source = "score.value")
+    @Mapping(target = "rank", source = "rank")
+    LeaderboardEntryResponse toResponse(LeaderboardEntry entry);
+
+    List<LeaderboardEntryResponse> toResponseList(List<LeaderboardEntry> entries);
+}
@@ -2,6 +2,7 @@ package com.greenkawsay.users.infrastructure.adapters.in.web.mappers;
 
 import com.greenkawsay.users.application.commands.CreateUserProfileCommand;
 import com.greenkawsay.users.application.commands.UpdateUserProfileCommand;
+import com.greenkawsay.users.domain.models.UserAddress;
 import com.greenkawsay.users.domain.models.UserProfile;
 import com.greenkawsay.shared.domain.valueobjects.Email;
 import com.greenkawsay.users.domain.valueobjects.ImpactScore;
@@ -9,6 +10,7 @@ import com.greenkawsay.users.domain.valueobjects.Role;
 import com.greenkawsay.users.domain.valueobjects.UserId;
 import com.greenkawsay.users.infrastructure.adapters.in.web.dto.request.CreateUserProfileRequest;
 import com.greenkawsay.users.infrastructure.adapters.in.web.dto.request.UpdateUserProfileRequest;
+import com.greenkawsay.users.infrastructure.adapters.in.web.dto.response.UserAddressResponse;
 import com.greenkawsay.users.infrastructure.adapters.in.web.dto.response.UserProfileResponse;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -38,6 +40,7 @@ public interface UserMapper {
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "addresses", ignore = true)
     @Mapping(target = "wishlists", ignore = true)
+    @Mapping(target = "withImpactScoreTotal", ignore = true)
     UserProfile toDomain(CreateUserProfileRequest request);
 
     @Mapping(target = "id", source = "userId", qualifiedByName = "stringToUserId")
@@ -53,6 +56,7 @@ public interface UserMapper {
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "addresses", ignore = true)
     @Mapping(target = "wishlists", ignore = true)
+    @Mapping(target = "withImpactScoreTotal", ignore = true)
     UserProfile toDomain(String userId, UpdateUserProfileRequest request);
 
     @Mapping(target = "id", source = "id.value")
@@ -68,6 +72,17 @@ public interface UserMapper {
     @Mapping(target = "wishlists", ignore = true)
     UserProfileResponse toResponse(UserProfile userProfile);
 
+    @Mapping(target = "id", source = "id.value")
+    @Mapping(target = "userId", source = "userId.value")
+    @Mapping(target = "street", source = "address.street")
+    @Mapping(target = "city", source = "address.city")
+    @Mapping(target = "state", source = "address.state")
+    @Mapping(target = "country", source = "address.country")
+    @Mapping(target = "postalCode", source = "address.zipCode")
+    @Mapping(target = "apartmentNumber", ignore = true)
+    @Mapping(target = "default", expression = "java(address.isDefault())")
+    UserAddressResponse toResponse(UserAddress address);
+
     @Named("stringToRole")
     default Role stringToRole(String role) {
         if (role == null) {
@@ -0,0 +1,36 @@
+package com.greenkawsay.users.infrastructure.adapters.out.jdbc;
+
+import com.greenkawsay.shared.domain.valueobjects.Address;
+import com.greenkawsay.users.domain.models.UserAddress;
+import com.greenkawsay.users.domain.valueobjects.AddressId;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Column list and row mapping shared by the JDBC address adapters
+ * Timestamps are mapped as stored; a row without them is rejected by UserAddress rather than given invented values
+ */
+final class AddressRows {
+
+    static final String COLUMNS =
+            "id, user_id, street, city, state, zip_code, country, is_default, created_at, updated_at";
+
+    static final RowMapper<UserAddress> MAPPER = (resultSet, rowNum) -> new UserAddress(
+            new AddressId(resultSet.getObject("id", UUID.class)),
+            new UserId(resultSet.getObject("user_id", UUID.class)),
+            new Address(
+                    resultSet.getString("street"),
+                    resultSet.getString("city"),
+                    resultSet.getString("state"),
+                    resultSet.getString("zip_code"),
+                    resultSet.getString("country")),
+            resultSet.getBoolean("is_default"),
+            resultSet.getObject("created_at", LocalDateTime.class),
+            resultSet.getObject("updated_at", LocalDateTime.class));
+
+    private AddressRows() {
+    }
+}
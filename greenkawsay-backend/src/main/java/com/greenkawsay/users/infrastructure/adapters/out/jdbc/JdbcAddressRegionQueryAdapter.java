@@ -0,0 +1,86 @@
+package com.greenkawsay.users.infrastructure.adapters.out.jdbc;
+
+import com.greenkawsay.users.application.ports.out.AddressRegionQueryPort;
+import com.greenkawsay.users.domain.models.UserAddress;
+import com.greenkawsay.users.domain.valueobjects.AddressId;
+import com.greenkawsay.users.domain.valueobjects.ShippingRegion;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Region lookups over the normalized city_key, state_key, zip_key and country_key columns
+ * Every query filters on equality and orders by id, matching the (key, id) indexes,
+ * so keyset pages and exports are index range scans regardless of table size
+ */
+public class JdbcAddressRegionQueryAdapter implements AddressRegionQueryPort {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcAddressRegionQueryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<UserAddress> findByRegion(ShippingRegion region, AddressId after, int limit) {
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT ").append(AddressRows.COLUMNS).append(" FROM addresses WHERE ")
+                .append(regionPredicate(region, args));
+        if (after != null) {
+            sql.append(" AND id > ?");
+            args.add(after.getValue());
+        }
+        sql.append(" ORDER BY id LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), AddressRows.MAPPER, args.toArray());
+    }
+
+    @Override
+    public Page<UserAddress> findByRegion(ShippingRegion region, Pageable pageable) {
+        List<Object> args = new ArrayList<>();
+        String predicate = regionPredicate(region, args);
+        Long total = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM addresses WHERE " + predicate, Long.class, args.toArray());
+
+        args.add(pageable.getPageSize());
+        args.add(pageable.getOffset());
+        List<UserAddress> content = jdbcTemplate.query(
+                "SELECT " + AddressRows.COLUMNS + " FROM addresses WHERE " + predicate + " ORDER BY id LIMIT ? OFFSET ?",
+                AddressRows.MAPPER, args.toArray());
+        return new PageImpl<>(content, pageable, total != null ? total : 0);
+    }
+
+    // A city-wide export can be large; inside a transaction each round trip brings export-fetch-size rows to the writer
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachInRegion(ShippingRegion region, Consumer<UserAddress> consumer) {
+        List<Object> args = new ArrayList<>();
+        String sql = "SELECT " + AddressRows.COLUMNS + " FROM addresses WHERE " + regionPredicate(region, args) + " ORDER BY id";
+        int[] rowNum = {0};
+        jdbcTemplate.query(sql, resultSet -> {
+            consumer.accept(AddressRows.MAPPER.mapRow(resultSet, rowNum[0]++));
+        }, args.toArray());
+    }
+
+    private static String regionPredicate(ShippingRegion region, List<Object> args) {
+        List<String> predicates = new ArrayList<>(4);
+        addKey(predicates, args, "zip_key", region.getZipKey());
+        addKey(predicates, args, "city_key", region.getCityKey());
+        addKey(predicates, args, "state_key", region.getStateKey());
+        addKey(predicates, args, "country_key", region.getCountryKey());
+        return String.join(" AND ", predicates);
+    }
+
+    private static void addKey(List<String> predicates, List<Object> args, String column, String value) {
+        if (value != null) {
+            predicates.add(column + " = ?");
+            args.add(value);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.greenkawsay.users.infrastructure.adapters.out.jdbc;
+
+import com.greenkawsay.shared.domain.valueobjects.Address;
+import com.greenkawsay.users.domain.models.UserAddress;
+import com.greenkawsay.users.domain.repositories.AddressRepository;
+import com.greenkawsay.users.domain.valueobjects.AddressId;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * PostgreSQL implementation of the AddressRepository domain port
+ * The default address is swapped with one UPDATE setting is_default = (id = ?) on the user's rows;
+ * uq_addresses_default is deferrable, so it is checked after the statement has demoted and promoted both rows
+ */
+public class JdbcAddressRepository implements AddressRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO addresses (id, user_id, street, city, state, zip_code, country, is_default,
+                                   created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (id) DO UPDATE
+            SET street = EXCLUDED.street,
+                city = EXCLUDED.city,
+                state = EXCLUDED.state,
+                zip_code = EXCLUDED.zip_code,
+                country = EXCLUDED.country,
+                is_default = EXCLUDED.is_default,
+                updated_at = EXCLUDED.updated_at
+            WHERE addresses.user_id = EXCLUDED.user_id
+            """;
+
+    /**
+     * Only the current default and the target are rewritten; the EXISTS guard leaves the user's
+     * default untouched when the target address belongs to someone else
+     */
+    private static final String SWAP_DEFAULT_SQL = """
+            UPDATE addresses
+            SET is_default = (id = ?),
+                updated_at = CURRENT_TIMESTAMP
+            WHERE user_id = ?
+              AND (is_default OR id = ?)
+              AND EXISTS (SELECT 1 FROM addresses target WHERE target.id = ? AND target.user_id = ?)
+            """;
+
+    private static final String SELECT_SQL = "SELECT " + AddressRows.COLUMNS + " FROM addresses ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcAddressRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public UserAddress save(UserAddress address) {
+        Address value = address.getAddress();
+        jdbcTemplate.update(UPSERT_SQL,
+                address.getId().getValue(),
+                address.getUserId().getValue(),
+                value.getStreet(),
+                value.getCity(),
+                value.getState(),
+                value.getZipCode(),
+                value.getCountry(),
+                address.isDefault(),
+                address.getCreatedAt(),
+                address.getUpdatedAt());
+        return address;
+    }
+
+    @Override
+    public Optional<UserAddress> findById(AddressId addressId) {
+        return jdbcTemplate.query(SELECT_SQL + "WHERE id = ?", AddressRows.MAPPER, addressId.getValue())
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public List<UserAddress> findByUserId(UserId userId) {
+        return jdbcTemplate.query(SELECT_SQL + "WHERE user_id = ? ORDER BY id", AddressRows.MAPPER, userId.getValue());
+    }
+
+    @Override
+    public Optional<UserAddress> findDefaultByUserId(UserId userId) {
+        return jdbcTemplate.query(SELECT_SQL + "WHERE user_id = ? AND is_default", AddressRows.MAPPER,
+                        userId.getValue())
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public boolean swapDefault(UserId userId, AddressId addressId) {
+        return jdbcTemplate.update(SWAP_DEFAULT_SQL,
+                addressId.getValue(), userId.getValue(), addressId.getValue(),
+                addressId.getValue(), userId.getValue()) > 0;
+    }
+
+    @Override
+    public List<UserAddress> findByCountry(String countryCode) {
+        return jdbcTemplate.query(SELECT_SQL + "WHERE lower(country) = lower(?) ORDER BY id", AddressRows.MAPPER,
+                countryCode);
+    }
+
+    @Override
+    public boolean existsById(AddressId addressId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM addresses WHERE id = ?)", Boolean.class, addressId.getValue()));
+    }
+
+    @Override
+    public void deleteById(AddressId addressId) {
+        jdbcTemplate.update("DELETE FROM addresses WHERE id = ?", addressId.getValue());
+    }
+
+    @Override
+    public void deleteByUserId(UserId userId) {
+        jdbcTemplate.update("DELETE FROM addresses WHERE user_id = ?", userId.getValue());
+    }
+
+    @Override
+    public long countByUserId(UserId userId) {
+        return count("SELECT COUNT(*) FROM addresses WHERE user_id = ?", userId.getValue());
+    }
+
+    @Override
+    public long countByCountry(String countryCode) {
+        return count("SELECT COUNT(*) FROM addresses WHERE lower(country) = lower(?)", countryCode);
+    }
+
+    private long count(String sql, Object arg) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, arg);
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,55 @@
+package com.greenkawsay.users.infrastructure.adapters.out.jdbc;
+
+import com.greenkawsay.users.application.ports.out.ImpactScorePort;
+import com.greenkawsay.users.domain.valueobjects.ImpactScore;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * PostgreSQL implementation of impact score totals on user_profiles
+ * An increment is one UPDATE ... RETURNING, so concurrent increments serialize on the row lock
+ * and each caller gets the total its own increment produced
+ */
+public class JdbcImpactScoreAdapter implements ImpactScorePort {
+
+    private static final String INCREMENT_SQL = """
+            UPDATE user_profiles
+            SET impact_score_total = COALESCE(impact_score_total, 0) + ?,
+                updated_at = CURRENT_TIMESTAMP
+            WHERE id = ?
+            RETURNING impact_score_total
+            """;
+
+    private static final String TOTALS_SQL =
+            "SELECT id, COALESCE(impact_score_total, 0) AS impact_score_total FROM user_profiles";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcImpactScoreAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<ImpactScore> incrementTotal(UserId userId, ImpactScore increment) {
+        List<BigDecimal> totals = jdbcTemplate.queryForList(
+                INCREMENT_SQL, BigDecimal.class, increment.getValue(), userId.getValue());
+        return totals.stream().findFirst().map(ImpactScore::new);
+    }
+
+    @Override
+    public Map<UserId, ImpactScore> findAllTotals() {
+        Map<UserId, ImpactScore> scores = new HashMap<>();
+        jdbcTemplate.query(TOTALS_SQL, resultSet -> {
+            scores.put(new UserId(resultSet.getObject("id", UUID.class)),
+                    new ImpactScore(resultSet.getBigDecimal("impact_score_total")));
+        });
+        return scores;
+    }
+}
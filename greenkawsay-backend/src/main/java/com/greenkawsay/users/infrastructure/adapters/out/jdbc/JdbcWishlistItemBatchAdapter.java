@@ -0,0 +1,149 @@
+package com.greenkawsay.users.infrastructure.adapters.out.jdbc;
+
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.users.application.ports.out.WishlistItemBatchPort;
+import com.greenkawsay.users.domain.valueobjects.WishlistId;
+import com.greenkawsay.users.domain.valueobjects.WishlistItemOutcome;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * PostgreSQL implementation of bulk wishlist changes
+ * Each operation is one statement: data-modifying CTEs do the INSERT ... ON CONFLICT DO NOTHING
+ * or DELETE, and the final SELECT reports what happened to every requested product
+ */
+public class JdbcWishlistItemBatchAdapter implements WishlistItemBatchPort {
+
+    private static final String REQUESTED = """
+            requested AS (
+                SELECT DISTINCT product_id FROM unnest(CAST(? AS uuid[])) AS r(product_id)
+            )""";
+
+    private static final String ADD_SQL = "WITH " + REQUESTED + """
+            ,
+            wishlist AS (
+                SELECT id FROM wishlists WHERE id = ?
+            ),
+            inserted AS (
+                INSERT INTO wishlist_items (wishlist_id, product_id)
+                SELECT w.id, r.product_id
+                FROM requested r
+                CROSS JOIN wishlist w
+                JOIN products p ON p.id = r.product_id
+                ON CONFLICT (wishlist_id, product_id) DO NOTHING
+                RETURNING product_id
+            )
+            SELECT r.product_id, p.id IS NOT NULL AS product_exists, i.product_id IS NOT NULL AS changed
+            FROM requested r
+            CROSS JOIN wishlist w
+            LEFT JOIN products p ON p.id = r.product_id
+            LEFT JOIN inserted i ON i.product_id = r.product_id
+            """;
+
+    private static final String REMOVE_SQL = "WITH " + REQUESTED + """
+            ,
+            wishlist AS (
+                SELECT id FROM wishlists WHERE id = ?
+            ),
+            deleted AS (
+                DELETE FROM wishlist_items wi
+                USING wishlist w
+                WHERE wi.wishlist_id = w.id
+                  AND wi.product_id IN (SELECT product_id FROM requested)
+                RETURNING wi.product_id
+            )
+            SELECT r.product_id, TRUE AS product_exists, d.product_id IS NOT NULL AS changed
+            FROM requested r
+            CROSS JOIN wishlist w
+            LEFT JOIN deleted d ON d.product_id = r.product_id
+            """;
+
+    private static final String MOVE_SQL = "WITH " + REQUESTED + """
+            ,
+            pair AS (
+                SELECT s.id AS source_id, t.id AS target_id
+                FROM wishlists s
+                JOIN wishlists t ON t.user_id = s.user_id
+                WHERE s.id = ? AND t.id = ?
+            ),
+            moved AS (
+                DELETE FROM wishlist_items wi
+                USING pair
+                WHERE wi.wishlist_id = pair.source_id
+                  AND wi.product_id IN (SELECT product_id FROM requested)
+                RETURNING wi.product_id, wi.added_at
+            ),
+            inserted AS (
+                INSERT INTO wishlist_items (wishlist_id, product_id, added_at)
+                SELECT pair.target_id, m.product_id, m.added_at
+                FROM moved m
+                CROSS JOIN pair
+                ON CONFLICT (wishlist_id, product_id) DO NOTHING
+                RETURNING product_id
+            )
+            SELECT r.product_id, m.product_id IS NOT NULL AS product_exists, i.product_id IS NOT NULL AS changed
+            FROM requested r
+            CROSS JOIN pair
+            LEFT JOIN moved m ON m.product_id = r.product_id
+            LEFT JOIN inserted i ON i.product_id = r.product_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcWishlistItemBatchAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Map<ProductId, WishlistItemOutcome> addAll(WishlistId wishlistId, Collection<ProductId> productIds) {
+        return execute(ADD_SQL, productIds, (exists, changed) ->
+                !exists ? WishlistItemOutcome.PRODUCT_NOT_FOUND
+                        : changed ? WishlistItemOutcome.ADDED : WishlistItemOutcome.ALREADY_PRESENT,
+                wishlistId.getValue());
+    }
+
+    @Override
+    public Map<ProductId, WishlistItemOutcome> removeAll(WishlistId wishlistId, Collection<ProductId> productIds) {
+        return execute(REMOVE_SQL, productIds, (exists, changed) ->
+                changed ? WishlistItemOutcome.REMOVED : WishlistItemOutcome.NOT_IN_WISHLIST,
+                wishlistId.getValue());
+    }
+
+    @Override
+    public Map<ProductId, WishlistItemOutcome> moveAll(WishlistId sourceId, WishlistId targetId,
+                                                       Collection<ProductId> productIds) {
+        // product_exists here means "was in the source wishlist"
+        return execute(MOVE_SQL, productIds, (inSource, changed) ->
+                !inSource ? WishlistItemOutcome.NOT_IN_WISHLIST
+                          : changed ? WishlistItemOutcome.MOVED : WishlistItemOutcome.ALREADY_IN_TARGET,
+                sourceId.getValue(), targetId.getValue());
+    }
+
+    private Map<ProductId, WishlistItemOutcome> execute(String sql, Collection<ProductId> productIds,
+                                                        OutcomeResolver resolver, UUID... wishlistIds) {
+        UUID[] ids = productIds.stream().map(ProductId::getValue).toArray(UUID[]::new);
+        Map<ProductId, WishlistItemOutcome> outcomes = new HashMap<>(ids.length * 2);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setArray(1, connection.createArrayOf("uuid", ids));
+            for (int i = 0; i < wishlistIds.length; i++) {
+                statement.setObject(i + 2, wishlistIds[i]);
+            }
+            return statement;
+        }, resultSet -> {
+            outcomes.put(new ProductId(resultSet.getObject("product_id", UUID.class)),
+                    resolver.resolve(resultSet.getBoolean("product_exists"), resultSet.getBoolean("changed")));
+        });
+        return outcomes;
+    }
+
+    @FunctionalInterface
+    private interface OutcomeResolver {
+        WishlistItemOutcome resolve(boolean exists, boolean changed);
+    }
+}
@@ -0,0 +1,48 @@
+package com.greenkawsay.users.infrastructure.adapters.out.jdbc;
+
+import com.greenkawsay.users.application.ports.out.WishlistMembershipPort;
+import com.greenkawsay.users.domain.models.WishlistMembership;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import com.greenkawsay.users.domain.valueobjects.WishlistId;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * JDBC implementation of the membership load
+ * One query over idx_wishlists_user_id and idx_wishlist_items_wishlist_id; empty wishlists still
+ * return a row so the caller learns every wishlist the user owns
+ */
+public class JdbcWishlistMembershipAdapter implements WishlistMembershipPort {
+
+    private static final String MEMBERSHIP_SQL = """
+            SELECT w.id AS wishlist_id, wi.product_id
+            FROM wishlists w
+            LEFT JOIN wishlist_items wi ON wi.wishlist_id = w.id
+            WHERE w.user_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcWishlistMembershipAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public WishlistMembership loadMembership(UserId userId) {
+        Set<WishlistId> wishlistIds = new HashSet<>();
+        List<UUID> productIds = new ArrayList<>();
+        jdbcTemplate.query(MEMBERSHIP_SQL, resultSet -> {
+            wishlistIds.add(new WishlistId(resultSet.getObject("wishlist_id", UUID.class)));
+            UUID productId = resultSet.getObject("product_id", UUID.class);
+            if (productId != null) {
+                productIds.add(productId);
+            }
+        }, userId.getValue());
+        return wishlistIds.isEmpty() ? WishlistMembership.empty() : WishlistMembership.of(wishlistIds, productIds);
+    }
+}
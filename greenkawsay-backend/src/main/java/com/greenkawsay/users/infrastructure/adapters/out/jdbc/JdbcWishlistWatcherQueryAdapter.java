@@ -0,0 +1,56 @@
+package com.greenkawsay.users.infrastructure.adapters.out.jdbc;
+
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.shared.domain.valueobjects.Email;
+import com.greenkawsay.users.application.ports.out.WishlistWatcherQueryPort;
+import com.greenkawsay.users.domain.models.WishlistWatcher;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * JDBC implementation of watcher resolution
+ * One query per batch: product_id = ANY(array) is answered from idx_wishlist_items_product_id,
+ * and rows are streamed instead of materialized
+ */
+public class JdbcWishlistWatcherQueryAdapter implements WishlistWatcherQueryPort {
+
+    private static final String WATCHERS_SQL = """
+            SELECT w.user_id, up.email, up.first_name, wi.product_id, w.name AS wishlist_name
+            FROM wishlist_items wi
+            JOIN wishlists w ON w.id = wi.wishlist_id
+            JOIN user_profiles up ON up.id = w.user_id
+            WHERE wi.product_id = ANY(?)
+              AND up.is_active = TRUE
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcWishlistWatcherQueryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void forEachWatcher(Collection<ProductId> productIds, Consumer<WishlistWatcher> action) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        UUID[] ids = productIds.stream().map(ProductId::getValue).toArray(UUID[]::new);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(WATCHERS_SQL);
+            statement.setArray(1, connection.createArrayOf("uuid", ids));
+            return statement;
+        }, resultSet -> {
+            action.accept(new WishlistWatcher(
+                    new UserId(resultSet.getObject("user_id", UUID.class)),
+                    new Email(resultSet.getString("email")),
+                    resultSet.getString("first_name"),
+                    new ProductId(resultSet.getObject("product_id", UUID.class)),
+                    resultSet.getString("wishlist_name")));
+        });
+    }
+}
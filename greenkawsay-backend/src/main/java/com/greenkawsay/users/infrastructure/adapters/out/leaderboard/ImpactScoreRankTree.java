@@ -0,0 +1,182 @@
+package com.greenkawsay.users.infrastructure.adapters.out.leaderboard;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Order-statistic treap of members ordered by score descending, then member descending
+ * Each node tracks its subtree size so rank and positional range queries run in O(log n)
+ * Matches the ordering of a Redis sorted set read with ZREVRANGE; not thread-safe
+ */
+final class ImpactScoreRankTree {
+
+    private final Map<String, Long> scores = new HashMap<>();
+    private final SplittableRandom random = new SplittableRandom();
+    private Node root;
+
+    /**
+     * Callback for members visited in rank order
+     */
+    @FunctionalInterface
+    interface RankedMemberConsumer {
+        void accept(long index, String member, long score);
+    }
+
+    Long score(String member) {
+        return scores.get(member);
+    }
+
+    void put(String member, long score) {
+        Long previous = scores.put(member, score);
+        if (previous != null) {
+            root = remove(root, previous, member);
+        }
+        root = insert(root, new Node(score, member, random.nextInt()));
+    }
+
+    int size() {
+        return scores.size();
+    }
+
+    /**
+     * Zero-based position of the member, or -1 when absent
+     */
+    long indexOf(String member) {
+        Long score = scores.get(member);
+        if (score == null) {
+            return -1;
+        }
+        long index = 0;
+        Node node = root;
+        while (node != null) {
+            int order = compare(score, member, node);
+            if (order < 0) {
+                node = node.left;
+            } else if (order > 0) {
+                index += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return index + size(node.left);
+            }
+        }
+        throw new IllegalStateException("Rank tree is out of sync for member " + member);
+    }
+
+    /**
+     * Visit members at positions [from, to) in rank order
+     */
+    void forEachInRange(long from, long to, RankedMemberConsumer consumer) {
+        collect(root, Math.max(0, from), to, 0, consumer);
+    }
+
+    private void collect(Node node, long from, long to, long offset, RankedMemberConsumer consumer) {
+        if (node == null || offset >= to || offset + node.size <= from) {
+            return;
+        }
+        collect(node.left, from, to, offset, consumer);
+        long index = offset + size(node.left);
+        if (index >= from && index < to) {
+            consumer.accept(index, node.member, node.score);
+        }
+        collect(node.right, from, to, index + 1, consumer);
+    }
+
+    private static Node insert(Node node, Node inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (compare(inserted.score, inserted.member, node) < 0) {
+            node.left = insert(node.left, inserted);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, inserted);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    private static Node remove(Node node, long score, String member) {
+        if (node == null) {
+            return null;
+        }
+        int order = compare(score, member, node);
+        if (order < 0) {
+            node.left = remove(node.left, score, member);
+        } else if (order > 0) {
+            node.right = remove(node.right, score, member);
+        } else {
+            return merge(node.left, node.right);
+        }
+        node.update();
+        return node;
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static int compare(long score, String member, Node node) {
+        int byScore = Long.compare(node.score, score);
+        return byScore != 0 ? byScore : node.member.compareTo(member);
+    }
+
+    private static long size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node {
+        private final long score;
+        private final String member;
+        private final int priority;
+        private Node left;
+        private Node right;
+        private long size = 1;
+
+        private Node(long score, String member, int priority) {
+            this.score = score;
+            this.member = member;
+            this.priority = priority;
+        }
+
+        private void update() {
+            size = 1 + ImpactScoreRankTree.size(left) + ImpactScoreRankTree.size(right);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.greenkawsay.users.infrastructure.adapters.out.leaderboard;
+
+import com.greenkawsay.users.application.ports.out.LeaderboardPort;
+import com.greenkawsay.users.domain.models.LeaderboardEntry;
+import com.greenkawsay.users.domain.valueobjects.ImpactScore;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Single-node leaderboard backed by an order-statistic tree
+ * Scores are kept as integer cents; reads share a lock, increments and rebuilds take it exclusively
+ */
+public class InMemoryLeaderboardAdapter implements LeaderboardPort {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private ImpactScoreRankTree tree = new ImpactScoreRankTree();
+
+    @Override
+    public void increment(UserId userId, ImpactScore increment, ImpactScore totalIfAbsent) {
+        String member = userId.getValueAsString();
+        lock.writeLock().lock();
+        try {
+            Long current = tree.score(member);
+            tree.put(member, current != null ? current + toCents(increment) : toCents(totalIfAbsent));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<LeaderboardEntry> top(int limit) {
+        return range(0, limit);
+    }
+
+    @Override
+    public Optional<LeaderboardEntry> findEntry(UserId userId) {
+        String member = userId.getValueAsString();
+        lock.readLock().lock();
+        try {
+            long index = tree.indexOf(member);
+            if (index < 0) {
+                return Optional.empty();
+            }
+            return Optional.of(toEntry(index, member, tree.score(member)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<LeaderboardEntry> around(UserId userId, int radius) {
+        lock.readLock().lock();
+        try {
+            long index = tree.indexOf(userId.getValueAsString());
+            if (index < 0) {
+                return List.of();
+            }
+            long from = Math.max(0, index - radius);
+            return range(from, (int) (index + radius + 1 - from));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void replaceAll(Map<UserId, ImpactScore> scores) {
+        // Build outside the lock so readers keep being served while the snapshot is loaded
+        ImpactScoreRankTree rebuilt = new ImpactScoreRankTree();
+        scores.forEach((userId, score) -> rebuilt.put(userId.getValueAsString(), toCents(score)));
+        lock.writeLock().lock();
+        try {
+            tree = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public long size() {
+        lock.readLock().lock();
+        try {
+            return tree.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<LeaderboardEntry> range(long from, int count) {
+        List<LeaderboardEntry> entries = new ArrayList<>(Math.max(0, Math.min(count, 1024)));
+        lock.readLock().lock();
+        try {
+            tree.forEachInRange(from, from + count,
+                (index, member, score) -> entries.add(toEntry(index, member, score)));
+        } finally {
+            lock.readLock().unlock();
+        }
+        return entries;
+    }
+
+    private static LeaderboardEntry toEntry(long index, String member, long cents) {
+        return new LeaderboardEntry(new UserId(member), new ImpactScore(BigDecimal.valueOf(cents, 2)), index + 1);
+    }
+
+    private static long toCents(ImpactScore score) {
+        return score.getValue().movePointRight(2).longValueExact();
+    }
+}
@@ -0,0 +1,124 @@
+package com.greenkawsay.users.infrastructure.adapters.out.leaderboard;
+
+import com.greenkawsay.users.application.ports.out.LeaderboardPort;
+import com.greenkawsay.users.domain.models.LeaderboardEntry;
+import com.greenkawsay.users.domain.valueobjects.ImpactScore;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Cluster-wide leaderboard backed by a Redis sorted set
+ * ZINCRBY keeps increments atomic across instances; ranks come from ZREVRANK in O(log n)
+ */
+public class RedisLeaderboardAdapter implements LeaderboardPort {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    // Seed unknown members with the committed total instead of the bare increment
+    private static final RedisScript<Void> INCREMENT_OR_SEED = RedisScript.of("""
+            if redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+              redis.call('ZINCRBY', KEYS[1], ARGV[2], ARGV[1])
+            else
+              redis.call('ZADD', KEYS[1], ARGV[3], ARGV[1])
+            end
+            """);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String key;
+
+    public RedisLeaderboardAdapter(StringRedisTemplate redisTemplate, String key) {
+        this.redisTemplate = redisTemplate;
+        this.key = key;
+    }
+
+    @Override
+    public void increment(UserId userId, ImpactScore increment, ImpactScore totalIfAbsent) {
+        redisTemplate.execute(INCREMENT_OR_SEED, List.of(key),
+            userId.getValueAsString(), increment.getValue().toPlainString(), totalIfAbsent.getValue().toPlainString());
+    }
+
+    @Override
+    public List<LeaderboardEntry> top(int limit) {
+        return range(0, limit - 1L);
+    }
+
+    @Override
+    public Optional<LeaderboardEntry> findEntry(UserId userId) {
+        String member = userId.getValueAsString();
+        ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+        Long index = zSet.reverseRank(key, member);
+        Double score = index != null ? zSet.score(key, member) : null;
+        if (score == null) {
+            return Optional.empty();
+        }
+        return Optional.of(toEntry(index, member, score));
+    }
+
+    @Override
+    public List<LeaderboardEntry> around(UserId userId, int radius) {
+        Long index = redisTemplate.opsForZSet().reverseRank(key, userId.getValueAsString());
+        if (index == null) {
+            return List.of();
+        }
+        return range(Math.max(0, index - radius), index + radius);
+    }
+
+    @Override
+    public void replaceAll(Map<UserId, ImpactScore> scores) {
+        if (scores.isEmpty()) {
+            redisTemplate.delete(key);
+            return;
+        }
+        // Load into a staging key and swap it in with RENAME so readers never see a partial board
+        String staging = key + ":rebuild";
+        redisTemplate.delete(staging);
+        Set<TypedTuple<String>> batch = new HashSet<>();
+        for (Map.Entry<UserId, ImpactScore> entry : scores.entrySet()) {
+            batch.add(TypedTuple.of(entry.getKey().getValueAsString(), entry.getValue().getValueAsDouble()));
+            if (batch.size() == REBUILD_BATCH_SIZE) {
+                redisTemplate.opsForZSet().add(staging, batch);
+                batch = new HashSet<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            redisTemplate.opsForZSet().add(staging, batch);
+        }
+        redisTemplate.rename(staging, key);
+    }
+
+    @Override
+    public long size() {
+        Long size = redisTemplate.opsForZSet().zCard(key);
+        return size != null ? size : 0;
+    }
+
+    private List<LeaderboardEntry> range(long start, long end) {
+        Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet().reverseRangeWithScores(key, start, end);
+        if (tuples == null) {
+            return List.of();
+        }
+        List<LeaderboardEntry> entries = new ArrayList<>(tuples.size());
+        long index = start;
+        for (TypedTuple<String> tuple : tuples) {
+            entries.add(toEntry(index++, tuple.getValue(), tuple.getScore()));
+        }
+        return entries;
+    }
+
+    private static LeaderboardEntry toEntry(long index, String member, double score) {
+        BigDecimal value = BigDecimal.valueOf(score).setScale(2, RoundingMode.HALF_UP);
+        return new LeaderboardEntry(new UserId(member), new ImpactScore(value), index + 1);
+    }
+}
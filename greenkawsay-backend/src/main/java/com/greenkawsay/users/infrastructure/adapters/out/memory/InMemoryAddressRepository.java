@@ -0,0 +1,173 @@
+package com.greenkawsay.users.infrastructure.adapters.out.memory;
+
+import com.greenkawsay.shared.domain.valueobjects.Address;
+import com.greenkawsay.shared.infrastructure.persistence.memory.MemoryPages;
+import com.greenkawsay.users.application.ports.out.AddressRegionQueryPort;
+import com.greenkawsay.users.domain.models.UserAddress;
+import com.greenkawsay.users.domain.repositories.AddressRepository;
+import com.greenkawsay.users.domain.valueobjects.AddressId;
+import com.greenkawsay.users.domain.valueobjects.ShippingRegion;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * In-memory implementation of the AddressRepository domain port and of region lookups for the memory profile
+ * A user has at most one default address, as enforced by uq_addresses_default;
+ * region queries start from the smallest of the zip, city and state key indexes and are ordered by id
+ */
+public class InMemoryAddressRepository implements AddressRepository, AddressRegionQueryPort {
+
+    private static final Comparator<UserAddress> BY_ID =
+            Comparator.comparing(address -> address.getId().getValue(), MemoryPages.UUID_ORDER);
+
+    private final InMemoryUserStore store;
+
+    public InMemoryAddressRepository(InMemoryUserStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public UserAddress save(UserAddress address) {
+        synchronized (store.writeLock) {
+            if (address.isDefault() && byUser(address.getUserId().getValue())
+                    .anyMatch(other -> other.isDefault() && !other.getId().equals(address.getId()))) {
+                throw new DataIntegrityViolationException("User already has a default address: " + address.getUserId());
+            }
+            store.putAddress(address);
+        }
+        return address;
+    }
+
+    @Override
+    public Optional<UserAddress> findById(AddressId addressId) {
+        return Optional.ofNullable(store.addresses.get(addressId.getValue()));
+    }
+
+    @Override
+    public List<UserAddress> findByUserId(UserId userId) {
+        return byUser(userId.getValue()).sorted(BY_ID).toList();
+    }
+
+    @Override
+    public Optional<UserAddress> findDefaultByUserId(UserId userId) {
+        return byUser(userId.getValue()).filter(UserAddress::isDefault).findFirst();
+    }
+
+    @Override
+    public boolean swapDefault(UserId userId, AddressId addressId) {
+        synchronized (store.writeLock) {
+            UserAddress target = store.addresses.get(addressId.getValue());
+            if (target == null || !target.getUserId().equals(userId)) {
+                return false;
+            }
+            byUser(userId.getValue()).toList().forEach(address -> {
+                if (address.getId().equals(addressId)) {
+                    store.putAddress(address.isDefault() ? address : address.markAsDefault());
+                } else if (address.isDefault()) {
+                    store.putAddress(address.markAsNonDefault());
+                }
+            });
+            return true;
+        }
+    }
+
+    @Override
+    public List<UserAddress> findByCountry(String countryCode) {
+        return store.addresses.values().stream().filter(address -> address.isInCountry(countryCode)).toList();
+    }
+
+    @Override
+    public boolean existsById(AddressId addressId) {
+        return store.addresses.containsKey(addressId.getValue());
+    }
+
+    @Override
+    public void deleteById(AddressId addressId) {
+        synchronized (store.writeLock) {
+            store.removeAddress(addressId.getValue());
+        }
+    }
+
+    @Override
+    public void deleteByUserId(UserId userId) {
+        synchronized (store.writeLock) {
+            List.copyOf(store.addressesByUser.get(userId.getValue())).forEach(store::removeAddress);
+        }
+    }
+
+    @Override
+    public long countByUserId(UserId userId) {
+        return store.addressesByUser.count(userId.getValue());
+    }
+
+    @Override
+    public long countByCountry(String countryCode) {
+        return store.addresses.values().stream().filter(address -> address.isInCountry(countryCode)).count();
+    }
+
+    @Override
+    public List<UserAddress> findByRegion(ShippingRegion region, AddressId after, int limit) {
+        Stream<UserAddress> matches = inRegion(region);
+        if (after != null) {
+            UUID afterId = after.getValue();
+            matches = matches.filter(address -> MemoryPages.UUID_ORDER.compare(address.getId().getValue(), afterId) > 0);
+        }
+        return matches.sorted(BY_ID).limit(limit).toList();
+    }
+
+    @Override
+    public Page<UserAddress> findByRegion(ShippingRegion region, Pageable pageable) {
+        return MemoryPages.page(inRegion(region).toList(), pageable, BY_ID);
+    }
+
+    @Override
+    public void forEachInRegion(ShippingRegion region, Consumer<UserAddress> consumer) {
+        inRegion(region).sorted(BY_ID).forEach(consumer);
+    }
+
+    private Stream<UserAddress> byUser(UUID userId) {
+        return store.addressesByUser.get(userId).stream().map(store.addresses::get).filter(Objects::nonNull);
+    }
+
+    private Stream<UserAddress> inRegion(ShippingRegion region) {
+        // The region constructor guarantees at least one of the indexed keys
+        Set<UUID> candidates = smaller(null, keyed(store.addressesByZipKey::get, region.getZipKey()));
+        candidates = smaller(candidates, keyed(store.addressesByCityKey::get, region.getCityKey()));
+        candidates = smaller(candidates, keyed(store.addressesByStateKey::get, region.getStateKey()));
+        return Objects.requireNonNull(candidates).stream()
+                .map(store.addresses::get)
+                .filter(Objects::nonNull)
+                .filter(address -> matches(region, address.getAddress()));
+    }
+
+    private static Set<UUID> smaller(Set<UUID> current, Set<UUID> indexed) {
+        return indexed != null && (current == null || indexed.size() < current.size()) ? indexed : current;
+    }
+
+    private static Set<UUID> keyed(Function<String, Set<UUID>> index, String key) {
+        return key != null ? index.apply(key) : null;
+    }
+
+    private static boolean matches(ShippingRegion region, Address address) {
+        return matchesKey(region.getZipKey(), ShippingRegion.normalizeZipCode(address.getZipCode()))
+                && matchesKey(region.getCityKey(), ShippingRegion.normalizeName(address.getCity()))
+                && matchesKey(region.getStateKey(), ShippingRegion.normalizeName(address.getState()))
+                && matchesKey(region.getCountryKey(), ShippingRegion.normalizeName(address.getCountry()));
+    }
+
+    private static boolean matchesKey(String expected, String actual) {
+        return expected == null || expected.equals(actual);
+    }
+}
@@ -0,0 +1,142 @@
+package com.greenkawsay.users.infrastructure.adapters.out.memory;
+
+import com.greenkawsay.users.application.ports.out.ImpactScorePort;
+import com.greenkawsay.users.domain.models.UserProfile;
+import com.greenkawsay.users.domain.repositories.UserProfileRepository;
+import com.greenkawsay.users.domain.valueobjects.ImpactScore;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory implementation of the UserProfileRepository domain port and of impact score totals for the memory profile
+ * Keycloak id and email are unique keys with their own indexes, a duplicate fails like the unique columns;
+ * emails are stored lower-cased by the Email value object and looked up the same way
+ */
+public class InMemoryUserProfileRepository implements UserProfileRepository, ImpactScorePort {
+
+    private final InMemoryUserStore store;
+
+    public InMemoryUserProfileRepository(InMemoryUserStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public UserProfile save(UserProfile userProfile) {
+        UUID id = userProfile.getId().getValue();
+        String keycloakId = userProfile.getKeycloakId();
+        String email = userProfile.getEmail().getValue();
+        synchronized (store.writeLock) {
+            checkUnique(store.profilesByKeycloakId, keycloakId, id, "keycloak id");
+            checkUnique(store.profilesByEmail, email, id, "email");
+            UserProfile previous = store.profiles.put(id, userProfile);
+            if (previous != null) {
+                store.profilesByKeycloakId.remove(previous.getKeycloakId(), id);
+                store.profilesByEmail.remove(previous.getEmail().getValue(), id);
+            }
+            store.profilesByKeycloakId.put(keycloakId, id);
+            store.profilesByEmail.put(email, id);
+        }
+        return userProfile;
+    }
+
+    private static void checkUnique(Map<String, UUID> index, String key, UUID id, String column) {
+        UUID owner = index.get(key);
+        if (owner != null && !owner.equals(id)) {
+            throw new DataIntegrityViolationException("Duplicate user profile " + column + ": " + key);
+        }
+    }
+
+    @Override
+    public Optional<UserProfile> findById(UserId userId) {
+        return Optional.ofNullable(store.profiles.get(userId.getValue()));
+    }
+
+    @Override
+    public Optional<UserProfile> findByKeycloakId(String keycloakId) {
+        return lookup(store.profilesByKeycloakId, keycloakId.trim());
+    }
+
+    @Override
+    public Optional<UserProfile> findByEmail(String email) {
+        return lookup(store.profilesByEmail, email.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private Optional<UserProfile> lookup(ConcurrentHashMap<String, UUID> index, String key) {
+        return Optional.ofNullable(index.get(key)).map(store.profiles::get);
+    }
+
+    @Override
+    public List<UserProfile> findAll() {
+        return List.copyOf(store.profiles.values());
+    }
+
+    @Override
+    public List<UserProfile> findActiveProfiles() {
+        return store.profiles.values().stream().filter(UserProfile::isActive).toList();
+    }
+
+    @Override
+    public List<UserProfile> findByRole(String role) {
+        return store.profiles.values().stream()
+                .filter(profile -> profile.getRole().getValueAsString().equalsIgnoreCase(role))
+                .toList();
+    }
+
+    @Override
+    public boolean existsByKeycloakId(String keycloakId) {
+        return findByKeycloakId(keycloakId).isPresent();
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return findByEmail(email).isPresent();
+    }
+
+    @Override
+    public Optional<ImpactScore> incrementTotal(UserId userId, ImpactScore increment) {
+        UserProfile updated = store.profiles.computeIfPresent(userId.getValue(),
+                (id, profile) -> profile.addImpactScore(increment));
+        return Optional.ofNullable(updated).map(UserProfile::getImpactScoreTotal);
+    }
+
+    @Override
+    public Map<UserId, ImpactScore> findAllTotals() {
+        Map<UserId, ImpactScore> scores = new HashMap<>(store.profiles.size() * 2);
+        store.profiles.values().forEach(profile -> scores.put(profile.getId(), profile.getImpactScoreTotal()));
+        return scores;
+    }
+
+    /**
+     * Addresses go with the profile, like the ON DELETE CASCADE of addresses.user_id
+     */
+    @Override
+    public void deleteById(UserId userId) {
+        UUID id = userId.getValue();
+        synchronized (store.writeLock) {
+            UserProfile removed = store.profiles.remove(id);
+            if (removed != null) {
+                store.profilesByKeycloakId.remove(removed.getKeycloakId(), id);
+                store.profilesByEmail.remove(removed.getEmail().getValue(), id);
+                List.copyOf(store.addressesByUser.get(id)).forEach(store::removeAddress);
+            }
+        }
+    }
+
+    @Override
+    public long count() {
+        return store.profiles.size();
+    }
+
+    @Override
+    public long countActiveProfiles() {
+        return store.profiles.values().stream().filter(UserProfile::isActive).count();
+    }
+}
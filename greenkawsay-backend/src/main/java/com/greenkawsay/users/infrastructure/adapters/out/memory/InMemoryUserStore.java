@@ -0,0 +1,132 @@
+package com.greenkawsay.users.infrastructure.adapters.out.memory;
+
+import com.greenkawsay.shared.domain.valueobjects.Address;
+import com.greenkawsay.shared.infrastructure.persistence.memory.MemoryIndex;
+import com.greenkawsay.users.domain.models.UserAddress;
+import com.greenkawsay.users.domain.models.UserProfile;
+import com.greenkawsay.users.domain.models.Wishlist;
+import com.greenkawsay.users.domain.models.WishlistItem;
+import com.greenkawsay.users.domain.valueobjects.ShippingRegion;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Tables and secondary indexes of the users context for the memory profile, shared by the in-memory adapters
+ * The users models are immutable and are stored as they are saved
+ * Rows and indexes change together under the single write lock, reads go to the concurrent maps directly
+ */
+public class InMemoryUserStore {
+
+    final Object writeLock = new Object();
+
+    final ConcurrentHashMap<UUID, UserProfile> profiles = new ConcurrentHashMap<>();
+    final ConcurrentHashMap<String, UUID> profilesByKeycloakId = new ConcurrentHashMap<>();
+    final ConcurrentHashMap<String, UUID> profilesByEmail = new ConcurrentHashMap<>();
+
+    final ConcurrentHashMap<UUID, UserAddress> addresses = new ConcurrentHashMap<>();
+    final MemoryIndex<UUID, UUID> addressesByUser = new MemoryIndex<>();
+    final MemoryIndex<String, UUID> addressesByCityKey = new MemoryIndex<>();
+    final MemoryIndex<String, UUID> addressesByStateKey = new MemoryIndex<>();
+    final MemoryIndex<String, UUID> addressesByZipKey = new MemoryIndex<>();
+
+    final ConcurrentHashMap<UUID, Wishlist> wishlists = new ConcurrentHashMap<>();
+    final MemoryIndex<UUID, UUID> wishlistsByUser = new MemoryIndex<>();
+
+    final ConcurrentHashMap<ItemKey, WishlistItem> wishlistItems = new ConcurrentHashMap<>();
+    final MemoryIndex<UUID, UUID> productsByWishlist = new MemoryIndex<>();
+    final MemoryIndex<UUID, UUID> wishlistsByProduct = new MemoryIndex<>();
+
+    /**
+     * Primary key of a wishlist item, the UNIQUE(wishlist_id, product_id) pair
+     */
+    record ItemKey(UUID wishlistId, UUID productId) {
+    }
+
+    void putAddress(UserAddress address) {
+        UUID id = address.getId().getValue();
+        UserAddress previous = addresses.put(id, address);
+        if (previous != null) {
+            unindexAddress(previous);
+        }
+        Address value = address.getAddress();
+        addressesByUser.add(address.getUserId().getValue(), id);
+        addressesByCityKey.add(ShippingRegion.normalizeName(value.getCity()), id);
+        addressesByStateKey.add(ShippingRegion.normalizeName(value.getState()), id);
+        addressesByZipKey.add(ShippingRegion.normalizeZipCode(value.getZipCode()), id);
+    }
+
+    void removeAddress(UUID addressId) {
+        UserAddress removed = addresses.remove(addressId);
+        if (removed != null) {
+            unindexAddress(removed);
+        }
+    }
+
+    private void unindexAddress(UserAddress address) {
+        UUID id = address.getId().getValue();
+        Address value = address.getAddress();
+        addressesByUser.remove(address.getUserId().getValue(), id);
+        addressesByCityKey.remove(ShippingRegion.normalizeName(value.getCity()), id);
+        addressesByStateKey.remove(ShippingRegion.normalizeName(value.getState()), id);
+        addressesByZipKey.remove(ShippingRegion.normalizeZipCode(value.getZipCode()), id);
+    }
+
+    void putItem(WishlistItem item) {
+        UUID wishlistId = item.getWishlistId().getValue();
+        UUID productId = item.getProductId().getValue();
+        wishlistItems.put(new ItemKey(wishlistId, productId), item);
+        productsByWishlist.add(wishlistId, productId);
+        wishlistsByProduct.add(productId, wishlistId);
+    }
+
+    WishlistItem removeItem(UUID wishlistId, UUID productId) {
+        WishlistItem removed = wishlistItems.remove(new ItemKey(wishlistId, productId));
+        if (removed != null) {
+            productsByWishlist.remove(wishlistId, productId);
+            wishlistsByProduct.remove(productId, wishlistId);
+        }
+        return removed;
+    }
+
+    /**
+     * Cascade of the wishlist_items foreign key, called under the write lock
+     */
+    void removeItemsOf(UUID wishlistId) {
+        for (UUID productId : List.copyOf(productsByWishlist.get(wishlistId))) {
+            removeItem(wishlistId, productId);
+        }
+    }
+
+    /**
+     * Visits the owner and product of every wishlist item
+     */
+    public void forEachWishlistItem(BiConsumer<UUID, UUID> action) {
+        wishlistItems.keySet().forEach(key -> {
+            Wishlist wishlist = wishlists.get(key.wishlistId());
+            if (wishlist != null) {
+                action.accept(wishlist.getUserId().getValue(), key.productId());
+            }
+        });
+    }
+
+    public void clear() {
+        synchronized (writeLock) {
+            profiles.clear();
+            profilesByKeycloakId.clear();
+            profilesByEmail.clear();
+            addresses.clear();
+            addressesByUser.clear();
+            addressesByCityKey.clear();
+            addressesByStateKey.clear();
+            addressesByZipKey.clear();
+            wishlists.clear();
+            wishlistsByUser.clear();
+            wishlistItems.clear();
+            productsByWishlist.clear();
+            wishlistsByProduct.clear();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.greenkawsay.users.infrastructure.adapters.out.memory;
+
+import com.greenkawsay.catalog.domain.repositories.ProductRepository;
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.users.application.ports.out.WishlistItemBatchPort;
+import com.greenkawsay.users.domain.models.Wishlist;
+import com.greenkawsay.users.domain.models.WishlistItem;
+import com.greenkawsay.users.domain.valueobjects.WishlistId;
+import com.greenkawsay.users.domain.valueobjects.WishlistItemOutcome;
+import com.greenkawsay.users.infrastructure.adapters.out.memory.InMemoryUserStore.ItemKey;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * In-memory implementation of bulk wishlist changes with the outcomes of the JDBC adapter
+ * Each operation holds the write lock for its whole batch, the counterpart of the single statement;
+ * an unknown wishlist, or a move between wishlists of different users, changes nothing and reports nothing
+ */
+public class InMemoryWishlistItemBatchAdapter implements WishlistItemBatchPort {
+
+    private final InMemoryUserStore store;
+    private final ProductRepository productRepository;
+
+    public InMemoryWishlistItemBatchAdapter(InMemoryUserStore store, ProductRepository productRepository) {
+        this.store = store;
+        this.productRepository = productRepository;
+    }
+
+    @Override
+    public Map<ProductId, WishlistItemOutcome> addAll(WishlistId wishlistId, Collection<ProductId> productIds) {
+        Map<ProductId, WishlistItemOutcome> outcomes = new HashMap<>(productIds.size() * 2);
+        synchronized (store.writeLock) {
+            if (!store.wishlists.containsKey(wishlistId.getValue())) {
+                return outcomes;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            for (ProductId productId : productIds) {
+                if (outcomes.containsKey(productId)) {
+                    continue;
+                }
+                if (productRepository.findById(productId).isEmpty()) {
+                    outcomes.put(productId, WishlistItemOutcome.PRODUCT_NOT_FOUND);
+                } else if (store.wishlistItems.containsKey(key(wishlistId, productId))) {
+                    outcomes.put(productId, WishlistItemOutcome.ALREADY_PRESENT);
+                } else {
+                    store.putItem(new WishlistItem(wishlistId, productId, now, now, now));
+                    outcomes.put(productId, WishlistItemOutcome.ADDED);
+                }
+            }
+        }
+        return outcomes;
+    }
+
+    @Override
+    public Map<ProductId, WishlistItemOutcome> removeAll(WishlistId wishlistId, Collection<ProductId> productIds) {
+        Map<ProductId, WishlistItemOutcome> outcomes = new HashMap<>(productIds.size() * 2);
+        synchronized (store.writeLock) {
+            if (!store.wishlists.containsKey(wishlistId.getValue())) {
+                return outcomes;
+            }
+            for (ProductId productId : productIds) {
+                if (!outcomes.containsKey(productId)) {
+                    boolean removed = store.removeItem(wishlistId.getValue(), productId.getValue()) != null;
+                    outcomes.put(productId, removed ? WishlistItemOutcome.REMOVED : WishlistItemOutcome.NOT_IN_WISHLIST);
+                }
+            }
+        }
+        return outcomes;
+    }
+
+    /**
+     * A moved item keeps its added_at, like the INSERT ... SELECT of the JDBC adapter
+     */
+    @Override
+    public Map<ProductId, WishlistItemOutcome> moveAll(WishlistId sourceId, WishlistId targetId,
+                                                       Collection<ProductId> productIds) {
+        Map<ProductId, WishlistItemOutcome> outcomes = new HashMap<>(productIds.size() * 2);
+        synchronized (store.writeLock) {
+            Wishlist source = store.wishlists.get(sourceId.getValue());
+            Wishlist target = store.wishlists.get(targetId.getValue());
+            if (source == null || target == null || !source.getUserId().equals(target.getUserId())) {
+                return outcomes;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            for (ProductId productId : productIds) {
+                if (outcomes.containsKey(productId)) {
+                    continue;
+                }
+                WishlistItem moved = store.removeItem(sourceId.getValue(), productId.getValue());
+                if (moved == null) {
+                    outcomes.put(productId, WishlistItemOutcome.NOT_IN_WISHLIST);
+                } else if (store.wishlistItems.containsKey(key(targetId, productId))) {
+                    outcomes.put(productId, WishlistItemOutcome.ALREADY_IN_TARGET);
+                } else {
+                    store.putItem(new WishlistItem(targetId, productId, moved.getAddedAt(), now, now));
+                    outcomes.put(productId, WishlistItemOutcome.MOVED);
+                }
+            }
+        }
+        return outcomes;
+    }
+
+    private static ItemKey key(WishlistId wishlistId, ProductId productId) {
+        return new ItemKey(wishlistId.getValue(), productId.getValue());
+    }
+}
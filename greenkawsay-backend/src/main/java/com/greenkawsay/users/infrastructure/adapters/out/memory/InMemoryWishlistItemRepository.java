@@ -0,0 +1,108 @@
+package com.greenkawsay.users.infrastructure.adapters.out.memory;
+
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.users.domain.models.WishlistItem;
+import com.greenkawsay.users.domain.repositories.WishlistItemRepository;
+import com.greenkawsay.users.domain.valueobjects.WishlistId;
+import com.greenkawsay.users.infrastructure.adapters.out.memory.InMemoryUserStore.ItemKey;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * In-memory implementation of the WishlistItemRepository domain port for the memory profile
+ * Items are keyed by (wishlist, product) and indexed both ways, so listing a wishlist and
+ * finding the wishlists holding a product never scan the table
+ */
+public class InMemoryWishlistItemRepository implements WishlistItemRepository {
+
+    private final InMemoryUserStore store;
+    private final Clock clock;
+
+    public InMemoryWishlistItemRepository(InMemoryUserStore store) {
+        this(store, Clock.systemDefaultZone());
+    }
+
+    InMemoryWishlistItemRepository(InMemoryUserStore store, Clock clock) {
+        this.store = store;
+        this.clock = clock;
+    }
+
+    @Override
+    public WishlistItem save(WishlistItem wishlistItem) {
+        synchronized (store.writeLock) {
+            store.putItem(wishlistItem);
+        }
+        return wishlistItem;
+    }
+
+    @Override
+    public Optional<WishlistItem> findByWishlistIdAndProductId(WishlistId wishlistId, ProductId productId) {
+        return Optional.ofNullable(store.wishlistItems.get(new ItemKey(wishlistId.getValue(), productId.getValue())));
+    }
+
+    @Override
+    public List<WishlistItem> findByWishlistId(WishlistId wishlistId) {
+        UUID id = wishlistId.getValue();
+        return store.productsByWishlist.get(id).stream()
+                .map(productId -> store.wishlistItems.get(new ItemKey(id, productId)))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<WishlistItem> findByProductId(ProductId productId) {
+        UUID id = productId.getValue();
+        return store.wishlistsByProduct.get(id).stream()
+                .map(wishlistId -> store.wishlistItems.get(new ItemKey(wishlistId, id)))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<WishlistItem> findRecentlyAdded(int daysThreshold) {
+        LocalDateTime since = LocalDateTime.now(clock).minusDays(daysThreshold);
+        return store.wishlistItems.values().stream().filter(item -> item.getAddedAt().isAfter(since)).toList();
+    }
+
+    @Override
+    public boolean existsByWishlistIdAndProductId(WishlistId wishlistId, ProductId productId) {
+        return store.wishlistItems.containsKey(new ItemKey(wishlistId.getValue(), productId.getValue()));
+    }
+
+    @Override
+    public void deleteByWishlistIdAndProductId(WishlistId wishlistId, ProductId productId) {
+        synchronized (store.writeLock) {
+            store.removeItem(wishlistId.getValue(), productId.getValue());
+        }
+    }
+
+    @Override
+    public void deleteByWishlistId(WishlistId wishlistId) {
+        synchronized (store.writeLock) {
+            store.removeItemsOf(wishlistId.getValue());
+        }
+    }
+
+    @Override
+    public void deleteByProductId(ProductId productId) {
+        UUID id = productId.getValue();
+        synchronized (store.writeLock) {
+            List.copyOf(store.wishlistsByProduct.get(id)).forEach(wishlistId -> store.removeItem(wishlistId, id));
+        }
+    }
+
+    @Override
+    public long countByWishlistId(WishlistId wishlistId) {
+        return store.productsByWishlist.count(wishlistId.getValue());
+    }
+
+    @Override
+    public long countByProductId(ProductId productId) {
+        return store.wishlistsByProduct.count(productId.getValue());
+    }
+}
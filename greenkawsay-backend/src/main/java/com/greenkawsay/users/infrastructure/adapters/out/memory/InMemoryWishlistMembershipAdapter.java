@@ -0,0 +1,38 @@
+package com.greenkawsay.users.infrastructure.adapters.out.memory;
+
+import com.greenkawsay.users.application.ports.out.WishlistMembershipPort;
+import com.greenkawsay.users.domain.models.WishlistMembership;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import com.greenkawsay.users.domain.valueobjects.WishlistId;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * In-memory implementation of the membership load, from the user and wishlist indexes
+ */
+public class InMemoryWishlistMembershipAdapter implements WishlistMembershipPort {
+
+    private final InMemoryUserStore store;
+
+    public InMemoryWishlistMembershipAdapter(InMemoryUserStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public WishlistMembership loadMembership(UserId userId) {
+        Set<UUID> wishlistIds = store.wishlistsByUser.get(userId.getValue());
+        if (wishlistIds.isEmpty()) {
+            return WishlistMembership.empty();
+        }
+        List<WishlistId> wishlists = new ArrayList<>(wishlistIds.size());
+        List<UUID> productIds = new ArrayList<>();
+        for (UUID wishlistId : wishlistIds) {
+            wishlists.add(new WishlistId(wishlistId));
+            productIds.addAll(store.productsByWishlist.get(wishlistId));
+        }
+        return WishlistMembership.of(wishlists, productIds);
+    }
+}
@@ -0,0 +1,115 @@
+package com.greenkawsay.users.infrastructure.adapters.out.memory;
+
+import com.greenkawsay.users.domain.models.Wishlist;
+import com.greenkawsay.users.domain.repositories.WishlistRepository;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import com.greenkawsay.users.domain.valueobjects.WishlistId;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * In-memory implementation of the WishlistRepository domain port for the memory profile
+ * Lookups by owner go through the user index; deleting a wishlist deletes its items,
+ * like the ON DELETE CASCADE of wishlist_items.wishlist_id
+ */
+public class InMemoryWishlistRepository implements WishlistRepository {
+
+    private final InMemoryUserStore store;
+
+    public InMemoryWishlistRepository(InMemoryUserStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Wishlist save(Wishlist wishlist) {
+        UUID id = wishlist.getId().getValue();
+        synchronized (store.writeLock) {
+            Wishlist previous = store.wishlists.put(id, wishlist);
+            store.wishlistsByUser.move(previous != null ? previous.getUserId().getValue() : null,
+                    wishlist.getUserId().getValue(), id);
+        }
+        return wishlist;
+    }
+
+    @Override
+    public Optional<Wishlist> findById(WishlistId wishlistId) {
+        return Optional.ofNullable(store.wishlists.get(wishlistId.getValue()));
+    }
+
+    @Override
+    public List<Wishlist> findByUserId(UserId userId) {
+        return byUser(userId).toList();
+    }
+
+    @Override
+    public List<Wishlist> findPublicWishlists() {
+        return store.wishlists.values().stream().filter(Wishlist::isPublic).toList();
+    }
+
+    @Override
+    public List<Wishlist> findByNameContainingIgnoreCase(String name) {
+        String term = name.toLowerCase(Locale.ROOT);
+        return store.wishlists.values().stream()
+                .filter(wishlist -> wishlist.getName().toLowerCase(Locale.ROOT).contains(term))
+                .toList();
+    }
+
+    @Override
+    public List<Wishlist> findByUserIdAndNameContainingIgnoreCase(UserId userId, String name) {
+        String term = name.toLowerCase(Locale.ROOT);
+        return byUser(userId).filter(wishlist -> wishlist.getName().toLowerCase(Locale.ROOT).contains(term)).toList();
+    }
+
+    @Override
+    public boolean existsById(WishlistId wishlistId) {
+        return store.wishlists.containsKey(wishlistId.getValue());
+    }
+
+    @Override
+    public boolean existsByUserIdAndName(UserId userId, String name) {
+        return byUser(userId).anyMatch(wishlist -> wishlist.getName().equals(name));
+    }
+
+    @Override
+    public void deleteById(WishlistId wishlistId) {
+        synchronized (store.writeLock) {
+            remove(wishlistId.getValue());
+        }
+    }
+
+    @Override
+    public void deleteByUserId(UserId userId) {
+        synchronized (store.writeLock) {
+            List.copyOf(store.wishlistsByUser.get(userId.getValue())).forEach(this::remove);
+        }
+    }
+
+    private void remove(UUID wishlistId) {
+        Wishlist removed = store.wishlists.remove(wishlistId);
+        if (removed != null) {
+            store.wishlistsByUser.remove(removed.getUserId().getValue(), wishlistId);
+            store.removeItemsOf(wishlistId);
+        }
+    }
+
+    @Override
+    public long countByUserId(UserId userId) {
+        return store.wishlistsByUser.count(userId.getValue());
+    }
+
+    @Override
+    public long countPublicWishlists() {
+        return store.wishlists.values().stream().filter(Wishlist::isPublic).count();
+    }
+
+    private Stream<Wishlist> byUser(UserId userId) {
+        return store.wishlistsByUser.get(userId.getValue()).stream()
+                .map(store.wishlists::get)
+                .filter(Objects::nonNull);
+    }
+}
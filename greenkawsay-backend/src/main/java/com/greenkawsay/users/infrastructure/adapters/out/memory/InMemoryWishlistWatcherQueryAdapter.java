@@ -0,0 +1,38 @@
+package com.greenkawsay.users.infrastructure.adapters.out.memory;
+
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.users.application.ports.out.WishlistWatcherQueryPort;
+import com.greenkawsay.users.domain.models.UserProfile;
+import com.greenkawsay.users.domain.models.Wishlist;
+import com.greenkawsay.users.domain.models.WishlistWatcher;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * In-memory implementation of watcher resolution, from the product index of wishlist items
+ * Only active user profiles are watchers, as in the JDBC adapter
+ */
+public class InMemoryWishlistWatcherQueryAdapter implements WishlistWatcherQueryPort {
+
+    private final InMemoryUserStore store;
+
+    public InMemoryWishlistWatcherQueryAdapter(InMemoryUserStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public void forEachWatcher(Collection<ProductId> productIds, Consumer<WishlistWatcher> action) {
+        for (ProductId productId : productIds) {
+            for (UUID wishlistId : store.wishlistsByProduct.get(productId.getValue())) {
+                Wishlist wishlist = store.wishlists.get(wishlistId);
+                UserProfile owner = wishlist != null ? store.profiles.get(wishlist.getUserId().getValue()) : null;
+                if (owner != null && owner.isActive()) {
+                    action.accept(new WishlistWatcher(owner.getId(), owner.getEmail(), owner.getFirstName(),
+                            productId, wishlist.getName()));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.greenkawsay.users.infrastructure.adapters.out.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.greenkawsay.shared.infrastructure.persistence.PrimaryReads;
+import com.greenkawsay.users.domain.models.UserAddress;
+import com.greenkawsay.users.domain.repositories.AddressRepository;
+import com.greenkawsay.users.domain.valueobjects.AddressId;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * AddressRepository decorator keeping each user's default address in a bounded in-memory cache
+ * Checkout resolves the shipping address without a query on a hit and with one index probe on a miss;
+ * users without a default address are cached as well; misses are loaded from the primary
+ */
+public class CachingAddressRepository implements AddressRepository {
+
+    private final AddressRepository delegate;
+    private final Cache<UUID, Optional<UserAddress>> defaultAddresses;
+    private final PrimaryReads primaryReads;
+
+    public CachingAddressRepository(AddressRepository delegate, long maximumSize, Duration expireAfterWrite,
+                                    PrimaryReads primaryReads) {
+        this.delegate = delegate;
+        this.primaryReads = primaryReads;
+        this.defaultAddresses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    @Override
+    public Optional<UserAddress> findDefaultByUserId(UserId userId) {
+        return defaultAddresses.get(userId.getValue(), key -> primaryReads.load(() -> delegate.findDefaultByUserId(userId)));
+    }
+
+    /**
+     * Evict immediately and again once the surrounding transaction completes,
+     * so a concurrent reader cannot re-cache the pre-commit state
+     */
+    private void evict(UUID userId) {
+        defaultAddresses.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    defaultAddresses.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    @Override
+    public UserAddress save(UserAddress address) {
+        UserAddress saved = delegate.save(address);
+        evict(saved.getUserId().getValue());
+        return saved;
+    }
+
+    @Override
+    public boolean swapDefault(UserId userId, AddressId addressId) {
+        boolean swapped = delegate.swapDefault(userId, addressId);
+        evict(userId.getValue());
+        return swapped;
+    }
+
+    @Override
+    public void deleteById(AddressId addressId) {
+        Optional<UserAddress> address = delegate.findById(addressId);
+        delegate.deleteById(addressId);
+        address.ifPresent(value -> evict(value.getUserId().getValue()));
+    }
+
+    @Override
+    public void deleteByUserId(UserId userId) {
+        delegate.deleteByUserId(userId);
+        evict(userId.getValue());
+    }
+
+    // Read-through delegation
+    @Override
+    public Optional<UserAddress> findById(AddressId addressId) {
+        return delegate.findById(addressId);
+    }
+
+    @Override
+    public List<UserAddress> findByUserId(UserId userId) {
+        return delegate.findByUserId(userId);
+    }
+
+    @Override
+    public List<UserAddress> findByCountry(String countryCode) {
+        return delegate.findByCountry(countryCode);
+    }
+
+    @Override
+    public boolean existsById(AddressId addressId) {
+        return delegate.existsById(addressId);
+    }
+
+    @Override
+    public long countByUserId(UserId userId) {
+        return delegate.countByUserId(userId);
+    }
+
+    @Override
+    public long countByCountry(String countryCode) {
+        return delegate.countByCountry(countryCode);
+    }
+}
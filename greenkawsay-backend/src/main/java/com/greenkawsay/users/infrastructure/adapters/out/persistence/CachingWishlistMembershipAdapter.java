@@ -0,0 +1,85 @@
+package com.greenkawsay.users.infrastructure.adapters.out.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.greenkawsay.shared.infrastructure.persistence.PrimaryReads;
+import com.greenkawsay.users.application.ports.out.WishlistMembershipPort;
+import com.greenkawsay.users.domain.events.WishlistChangedEvent;
+import com.greenkawsay.users.domain.models.WishlistMembership;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import com.greenkawsay.users.domain.valueobjects.WishlistId;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * WishlistMembershipPort decorator keeping each user's membership set in a bounded in-memory cache
+ * Weighted by product count so the bound is in memory rather than users; evicted after every
+ * committed wishlist change, resolving the owner through the wishlists seen when the set was loaded;
+ * sets are loaded from the primary so a reload right after the eviction sees the committed change
+ */
+public class CachingWishlistMembershipAdapter implements WishlistMembershipPort {
+
+    private final WishlistMembershipPort delegate;
+    private final Cache<UUID, WishlistMembership> memberships;
+    private final Map<UUID, Owner> owners = new ConcurrentHashMap<>();
+    private final PrimaryReads primaryReads;
+
+    public CachingWishlistMembershipAdapter(WishlistMembershipPort delegate, long maximumProducts,
+                                            Duration expireAfterWrite, PrimaryReads primaryReads) {
+        this.delegate = delegate;
+        this.primaryReads = primaryReads;
+        this.memberships = Caffeine.newBuilder()
+                .maximumWeight(maximumProducts)
+                .weigher((UUID userId, WishlistMembership membership) -> 1 + membership.size())
+                .expireAfterWrite(expireAfterWrite)
+                .removalListener((UUID userId, WishlistMembership membership, RemovalCause cause) -> {
+                    if (membership != null && cause != RemovalCause.REPLACED) {
+                        Owner owner = new Owner(userId, membership);
+                        membership.getWishlistIds().forEach(wishlistId -> owners.remove(wishlistId.getValue(), owner));
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public WishlistMembership loadMembership(UserId userId) {
+        return memberships.get(userId.getValue(), key -> {
+            WishlistMembership membership = primaryReads.load(() -> delegate.loadMembership(userId));
+            Owner owner = new Owner(key, membership);
+            for (WishlistId wishlistId : membership.getWishlistIds()) {
+                owners.put(wishlistId.getValue(), owner);
+            }
+            return membership;
+        });
+    }
+
+    /**
+     * Evict once the change is committed, so a concurrent reader cannot re-cache the pre-commit state
+     * A wishlist created after its owner's set was loaded arrives with the owner and evicts it as well;
+     * a change committed while the owner's set is being loaded is bounded by expireAfterWrite
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onWishlistChanged(WishlistChangedEvent event) {
+        if (event.userId() != null) {
+            memberships.invalidate(event.userId());
+            return;
+        }
+        Owner owner = owners.get(event.wishlistId());
+        if (owner != null) {
+            memberships.invalidate(owner.userId());
+        }
+    }
+
+    /**
+     * Owner entry tied to the snapshot that registered it (identity), so evicting an old snapshot
+     * never drops the entries of a newer one for the same user
+     */
+    private record Owner(UUID userId, WishlistMembership snapshot) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.greenkawsay.users.infrastructure.configuration;
+
+import com.greenkawsay.users.application.ports.in.LeaderboardServicePort;
+import com.greenkawsay.users.application.ports.out.LeaderboardPort;
+import com.greenkawsay.users.infrastructure.adapters.in.scheduling.LeaderboardReconcileScheduler;
+import com.greenkawsay.users.infrastructure.adapters.out.leaderboard.InMemoryLeaderboardAdapter;
+import com.greenkawsay.users.infrastructure.adapters.out.leaderboard.RedisLeaderboardAdapter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration for the impact score leaderboard
+ * Selects the in-memory or Redis store and schedules reconciliation against user_profiles
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(LeaderboardProperties.class)
+public class LeaderboardConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "greenkawsay.leaderboard", name = "store", havingValue = "memory", matchIfMissing = true)
+    public LeaderboardPort inMemoryLeaderboard() {
+        return new InMemoryLeaderboardAdapter();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "greenkawsay.leaderboard", name = "store", havingValue = "redis")
+    public LeaderboardPort redisLeaderboard(StringRedisTemplate redisTemplate, LeaderboardProperties properties) {
+        return new RedisLeaderboardAdapter(redisTemplate, properties.redisKey());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "greenkawsay.leaderboard", name = "reconcile-enabled", matchIfMissing = true)
+    public LeaderboardReconcileScheduler leaderboardReconcileScheduler(LeaderboardServicePort leaderboardService) {
+        return new LeaderboardReconcileScheduler(leaderboardService);
+    }
+}
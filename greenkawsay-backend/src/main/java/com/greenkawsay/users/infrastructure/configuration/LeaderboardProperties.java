@@ -0,0 +1,35 @@
+package com.greenkawsay.users.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Storage and reconciliation properties for the impact score leaderboard
+ * store is "memory" for a single instance or "redis" to share one board across instances
+ */
+@ConfigurationProperties(prefix = "greenkawsay.leaderboard")
+public record LeaderboardProperties(
+    @DefaultValue("memory") String store,
+    @DefaultValue("leaderboard:impact-score") String redisKey,
+    @DefaultValue("100") int maxLimit,
+    @DefaultValue("25") int maxRadius,
+    @DefaultValue("true") boolean reconcileEnabled,
+    @DefaultValue("10s") Duration initialDelay,
+    @DefaultValue("15m") Duration reconcileInterval,
+    @DefaultValue("1000") int reconcileFetchSize
+) {
+
+    public LeaderboardProperties {
+        if (!"memory".equalsIgnoreCase(store) && !"redis".equalsIgnoreCase(store)) {
+            throw new IllegalArgumentException("Leaderboard store must be 'memory' or 'redis'");
+        }
+        if (maxLimit <= 0 || maxRadius <= 0) {
+            throw new IllegalArgumentException("Leaderboard limits must be positive");
+        }
+        if (reconcileFetchSize <= 0) {
+            throw new IllegalArgumentException("Leaderboard reconcile fetch size must be positive");
+        }
+    }
+}
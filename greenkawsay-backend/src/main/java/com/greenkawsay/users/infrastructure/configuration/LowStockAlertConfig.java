@@ -0,0 +1,42 @@
+package com.greenkawsay.users.infrastructure.configuration;
+
+import com.greenkawsay.notifications.application.ports.in.EmailServicePort;
+import com.greenkawsay.users.application.ports.in.LowStockAlertServicePort;
+import com.greenkawsay.users.application.services.LowStockAlertApplicationService;
+import com.greenkawsay.users.domain.repositories.UserProfileRepository;
+import com.greenkawsay.users.infrastructure.adapters.in.scheduling.LowStockAlertWindow;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration for vendor low-stock alerts
+ * Low-stock crossings are windowed in memory and flushed as one digest per vendor on the scheduler thread
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(LowStockAlertProperties.class)
+@ConditionalOnProperty(prefix = "greenkawsay.users.low-stock-alerts", name = "enabled", matchIfMissing = true)
+public class LowStockAlertConfig {
+
+    @Bean
+    public LowStockAlertServicePort lowStockAlertService(
+            UserProfileRepository userProfileRepository,
+            EmailServicePort emailService,
+            LowStockAlertProperties properties) {
+        return new LowStockAlertApplicationService(
+                userProfileRepository,
+                emailService,
+                properties.maxProductsPerEmail(),
+                properties.dashboardUrl());
+    }
+
+    @Bean
+    public LowStockAlertWindow lowStockAlertWindow(
+            LowStockAlertServicePort lowStockAlertService,
+            LowStockAlertProperties properties) {
+        return new LowStockAlertWindow(lowStockAlertService, properties.maxPendingProducts());
+    }
+}
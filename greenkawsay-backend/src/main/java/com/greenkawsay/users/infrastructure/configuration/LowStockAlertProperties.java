@@ -0,0 +1,25 @@
+package com.greenkawsay.users.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Window and digest settings for vendor low-stock alerts
+ */
+@ConfigurationProperties(prefix = "greenkawsay.users.low-stock-alerts")
+public record LowStockAlertProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("5m") Duration window,
+    @DefaultValue("100000") int maxPendingProducts,
+    @DefaultValue("20") int maxProductsPerEmail,
+    @DefaultValue("http://localhost:3000/vendor/low-stock") String dashboardUrl
+) {
+
+    public LowStockAlertProperties {
+        if (maxPendingProducts <= 0 || maxProductsPerEmail <= 0) {
+            throw new IllegalArgumentException("Low-stock alert limits must be positive");
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.greenkawsay.users.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Caching and region query properties for user addresses
+ */
+@ConfigurationProperties(prefix = "greenkawsay.users.addresses")
+public record UserAddressProperties(
+    @DefaultValue("100000") long defaultCacheSize,
+    @DefaultValue("10m") Duration defaultCacheTtl,
+    @DefaultValue("500") int regionPageMax,
+    @DefaultValue("1000") int exportFetchSize
+) {
+
+    public UserAddressProperties {
+        if (defaultCacheSize <= 0) {
+            throw new IllegalArgumentException("Default address cache size must be positive");
+        }
+        if (regionPageMax <= 0 || exportFetchSize <= 0) {
+            throw new IllegalArgumentException("Region page and fetch sizes must be positive");
+        }
+    }
+}
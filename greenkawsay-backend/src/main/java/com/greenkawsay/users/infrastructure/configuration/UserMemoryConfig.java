@@ -0,0 +1,64 @@
+package com.greenkawsay.users.infrastructure.configuration;
+
+import com.greenkawsay.catalog.domain.repositories.ProductRepository;
+import com.greenkawsay.users.infrastructure.adapters.out.memory.InMemoryAddressRepository;
+import com.greenkawsay.users.infrastructure.adapters.out.memory.InMemoryUserProfileRepository;
+import com.greenkawsay.users.infrastructure.adapters.out.memory.InMemoryUserStore;
+import com.greenkawsay.users.infrastructure.adapters.out.memory.InMemoryWishlistItemBatchAdapter;
+import com.greenkawsay.users.infrastructure.adapters.out.memory.InMemoryWishlistItemRepository;
+import com.greenkawsay.users.infrastructure.adapters.out.memory.InMemoryWishlistMembershipAdapter;
+import com.greenkawsay.users.infrastructure.adapters.out.memory.InMemoryWishlistRepository;
+import com.greenkawsay.users.infrastructure.adapters.out.memory.InMemoryWishlistWatcherQueryAdapter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * In-memory persistence for User Context, active with the memory profile
+ * The address repository also answers the region queries; lookups are already indexed, so nothing is cached
+ */
+@Configuration
+@Profile("memory")
+public class UserMemoryConfig {
+
+    @Bean
+    public InMemoryUserStore inMemoryUserStore() {
+        return new InMemoryUserStore();
+    }
+
+    @Bean
+    public InMemoryUserProfileRepository userProfileRepository(InMemoryUserStore store) {
+        return new InMemoryUserProfileRepository(store);
+    }
+
+    @Bean
+    public InMemoryAddressRepository inMemoryAddressRepository(InMemoryUserStore store) {
+        return new InMemoryAddressRepository(store);
+    }
+
+    @Bean
+    public InMemoryWishlistRepository inMemoryWishlistRepository(InMemoryUserStore store) {
+        return new InMemoryWishlistRepository(store);
+    }
+
+    @Bean
+    public InMemoryWishlistItemRepository inMemoryWishlistItemRepository(InMemoryUserStore store) {
+        return new InMemoryWishlistItemRepository(store);
+    }
+
+    @Bean
+    public InMemoryWishlistItemBatchAdapter wishlistItemBatchAdapter(InMemoryUserStore store,
+                                                                     ProductRepository productRepository) {
+        return new InMemoryWishlistItemBatchAdapter(store, productRepository);
+    }
+
+    @Bean
+    public InMemoryWishlistMembershipAdapter wishlistMembershipAdapter(InMemoryUserStore store) {
+        return new InMemoryWishlistMembershipAdapter(store);
+    }
+
+    @Bean
+    public InMemoryWishlistWatcherQueryAdapter wishlistWatcherQueryAdapter(InMemoryUserStore store) {
+        return new InMemoryWishlistWatcherQueryAdapter(store);
+    }
+}
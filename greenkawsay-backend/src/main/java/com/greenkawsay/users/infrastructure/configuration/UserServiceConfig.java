@@ -1,30 +1,106 @@
 package com.greenkawsay.users.infrastructure.configuration;
 
+import com.greenkawsay.shared.infrastructure.persistence.PrimaryReads;
 import com.greenkawsay.users.application.ports.in.UserProfileServicePort;
+import com.greenkawsay.users.application.ports.out.ImpactScorePort;
 import com.greenkawsay.users.application.services.UserProfileApplicationService;
 import com.greenkawsay.users.domain.repositories.UserProfileRepository;
+import com.greenkawsay.users.infrastructure.adapters.out.jdbc.JdbcAddressRegionQueryAdapter;
+import com.greenkawsay.users.infrastructure.adapters.out.jdbc.JdbcAddressRepository;
+import com.greenkawsay.users.infrastructure.adapters.out.jdbc.JdbcImpactScoreAdapter;
+import com.greenkawsay.users.infrastructure.adapters.out.jdbc.JdbcWishlistItemBatchAdapter;
+import com.greenkawsay.users.infrastructure.adapters.out.jdbc.JdbcWishlistMembershipAdapter;
+import com.greenkawsay.users.infrastructure.adapters.out.persistence.CachingAddressRepository;
+import com.greenkawsay.users.infrastructure.adapters.out.persistence.CachingWishlistMembershipAdapter;
 import com.greenkawsay.users.infrastructure.adapters.out.persistence.UserProfilePersistenceAdapter;
 import com.greenkawsay.users.infrastructure.adapters.out.persistence.mappers.UserProfileMapper;
 import com.greenkawsay.users.infrastructure.adapters.out.persistence.repositories.UserProfileJpaRepository;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
 
 /**
  * Configuration class for User Context services
+ * Persistence beans are skipped under the memory profile, where UserMemoryConfig provides them
  */
 @Configuration
+@EnableConfigurationProperties({UserAddressProperties.class, UserWishlistProperties.class})
 public class UserServiceConfig {
 
     @Bean
     public UserProfileServicePort userProfileService(
-            UserProfileRepository userProfileRepository) {
-        return new UserProfileApplicationService(userProfileRepository);
+            UserProfileRepository userProfileRepository,
+            ImpactScorePort impactScorePort,
+            ApplicationEventPublisher eventPublisher) {
+        return new UserProfileApplicationService(userProfileRepository, impactScorePort, eventPublisher);
     }
 
     @Bean
+    @Profile("!memory")
     public UserProfileRepository userProfileRepository(
             UserProfileJpaRepository userProfileJpaRepository,
             UserProfileMapper userProfileMapper) {
         return new UserProfilePersistenceAdapter(userProfileJpaRepository, userProfileMapper);
     }
-}
\ No newline at end of file
+
+    /**
+     * The fetch size lets leaderboard reconciliation stream user_profiles inside its read-only transaction
+     */
+    @Bean
+    @Profile("!memory")
+    public JdbcImpactScoreAdapter impactScoreAdapter(
+            DataSource dataSource,
+            LeaderboardProperties leaderboardProperties) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(leaderboardProperties.reconcileFetchSize());
+        return new JdbcImpactScoreAdapter(jdbcTemplate);
+    }
+
+    @Bean
+    @Profile("!memory")
+    public CachingAddressRepository addressRepository(
+            DataSource dataSource,
+            UserAddressProperties userAddressProperties,
+            PlatformTransactionManager transactionManager) {
+        return new CachingAddressRepository(
+                new JdbcAddressRepository(new JdbcTemplate(dataSource)),
+                userAddressProperties.defaultCacheSize(),
+                userAddressProperties.defaultCacheTtl(),
+                new PrimaryReads(transactionManager));
+    }
+
+    @Bean
+    @Profile("!memory")
+    public JdbcAddressRegionQueryAdapter addressRegionQueryAdapter(
+            DataSource dataSource,
+            UserAddressProperties userAddressProperties) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(userAddressProperties.exportFetchSize());
+        return new JdbcAddressRegionQueryAdapter(jdbcTemplate);
+    }
+
+    @Bean
+    @Profile("!memory")
+    public JdbcWishlistItemBatchAdapter wishlistItemBatchAdapter(DataSource dataSource) {
+        return new JdbcWishlistItemBatchAdapter(new JdbcTemplate(dataSource));
+    }
+
+    @Bean
+    @Profile("!memory")
+    public CachingWishlistMembershipAdapter wishlistMembershipAdapter(
+            DataSource dataSource,
+            UserWishlistProperties userWishlistProperties,
+            PlatformTransactionManager transactionManager) {
+        return new CachingWishlistMembershipAdapter(
+                new JdbcWishlistMembershipAdapter(new JdbcTemplate(dataSource)),
+                userWishlistProperties.membershipCacheMaxProducts(),
+                userWishlistProperties.membershipCacheTtl(),
+                new PrimaryReads(transactionManager));
+    }
+}
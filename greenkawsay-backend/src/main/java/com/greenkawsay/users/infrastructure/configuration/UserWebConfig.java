@@ -1,7 +1,15 @@
 package com.greenkawsay.users.infrastructure.configuration;
 
+import com.greenkawsay.users.application.ports.in.AddressServicePort;
+import com.greenkawsay.users.application.ports.in.LeaderboardServicePort;
 import com.greenkawsay.users.application.ports.in.UserProfileServicePort;
+import com.greenkawsay.users.application.ports.in.WishlistServicePort;
+import com.greenkawsay.users.infrastructure.adapters.in.web.controllers.LeaderboardController;
+import com.greenkawsay.users.infrastructure.adapters.in.web.controllers.ShippingRegionController;
 import com.greenkawsay.users.infrastructure.adapters.in.web.controllers.UserProfileController;
+import com.greenkawsay.users.infrastructure.adapters.in.web.controllers.WishlistItemBatchController;
+import com.greenkawsay.users.infrastructure.adapters.in.web.controllers.WishlistMembershipController;
+import com.greenkawsay.users.infrastructure.adapters.in.web.mappers.LeaderboardMapper;
 import com.greenkawsay.users.infrastructure.adapters.in.web.mappers.UserMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -18,4 +26,32 @@ public class UserWebConfig {
             UserMapper userMapper) {
         return new UserProfileController(userProfileService, userMapper);
     }
-}
\ No newline at end of file
+
+    @Bean
+    public LeaderboardController leaderboardController(
+            LeaderboardServicePort leaderboardService,
+            LeaderboardMapper leaderboardMapper,
+            LeaderboardProperties leaderboardProperties) {
+        return new LeaderboardController(leaderboardService, leaderboardMapper, leaderboardProperties);
+    }
+
+    @Bean
+    public ShippingRegionController shippingRegionController(
+            AddressServicePort addressService,
+            UserMapper userMapper,
+            UserAddressProperties userAddressProperties) {
+        return new ShippingRegionController(addressService, userMapper, userAddressProperties);
+    }
+
+    @Bean
+    public WishlistItemBatchController wishlistItemBatchController(WishlistServicePort wishlistService) {
+        return new WishlistItemBatchController(wishlistService);
+    }
+
+    @Bean
+    public WishlistMembershipController wishlistMembershipController(
+            WishlistServicePort wishlistService,
+            UserWishlistProperties userWishlistProperties) {
+        return new WishlistMembershipController(wishlistService, userWishlistProperties);
+    }
+}
@@ -0,0 +1,35 @@
+package com.greenkawsay.users.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Membership cache, request limits and price/stock watcher settings for wishlists
+ */
+@ConfigurationProperties(prefix = "greenkawsay.users.wishlists")
+public record UserWishlistProperties(
+    @DefaultValue("2000000") long membershipCacheMaxProducts,
+    @DefaultValue("30m") Duration membershipCacheTtl,
+    @DefaultValue("200") int membershipMaxProducts,
+    @DefaultValue("true") boolean watchEnabled,
+    @DefaultValue("1m") Duration watchWindow,
+    @DefaultValue("500") int watchBatchSize,
+    @DefaultValue("100000") int watchMaxPendingProducts,
+    @DefaultValue("5") int watchMaxEmailsPerUser,
+    @DefaultValue("http://localhost:3000/products/{productId}") String productUrlTemplate
+) {
+
+    public UserWishlistProperties {
+        if (membershipCacheMaxProducts <= 0) {
+            throw new IllegalArgumentException("Membership cache size must be positive");
+        }
+        if (membershipMaxProducts <= 0) {
+            throw new IllegalArgumentException("Membership product limit must be positive");
+        }
+        if (watchBatchSize <= 0 || watchMaxPendingProducts <= 0 || watchMaxEmailsPerUser <= 0) {
+            throw new IllegalArgumentException("Wishlist watch limits must be positive");
+        }
+    }
+}
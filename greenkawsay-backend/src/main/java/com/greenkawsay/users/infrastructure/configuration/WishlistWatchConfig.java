@@ -0,0 +1,56 @@
+package com.greenkawsay.users.infrastructure.configuration;
+
+import com.greenkawsay.notifications.application.ports.in.EmailServicePort;
+import com.greenkawsay.users.application.ports.in.WishlistWatchServicePort;
+import com.greenkawsay.users.application.ports.out.WishlistWatcherQueryPort;
+import com.greenkawsay.users.application.services.WishlistWatchApplicationService;
+import com.greenkawsay.users.infrastructure.adapters.in.scheduling.ProductChangeWatchWindow;
+import com.greenkawsay.users.infrastructure.adapters.out.jdbc.JdbcWishlistWatcherQueryAdapter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration for the wishlist price-drop and back-in-stock watcher
+ * Product changes are windowed in memory and flushed on the scheduler thread
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "greenkawsay.users.wishlists", name = "watch-enabled", matchIfMissing = true)
+public class WishlistWatchConfig {
+
+    @Bean
+    @Profile("!memory")
+    public JdbcWishlistWatcherQueryAdapter wishlistWatcherQueryAdapter(
+            DataSource dataSource,
+            UserWishlistProperties properties) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(properties.watchBatchSize());
+        return new JdbcWishlistWatcherQueryAdapter(jdbcTemplate);
+    }
+
+    @Bean
+    public WishlistWatchServicePort wishlistWatchService(
+            WishlistWatcherQueryPort wishlistWatcherQuery,
+            EmailServicePort emailService,
+            UserWishlistProperties properties) {
+        return new WishlistWatchApplicationService(
+                wishlistWatcherQuery,
+                emailService,
+                properties.watchBatchSize(),
+                properties.watchMaxEmailsPerUser(),
+                properties.productUrlTemplate());
+    }
+
+    @Bean
+    public ProductChangeWatchWindow productChangeWatchWindow(
+            WishlistWatchServicePort wishlistWatchService,
+            UserWishlistProperties properties) {
+        return new ProductChangeWatchWindow(wishlistWatchService, properties.watchMaxPendingProducts());
+    }
+}
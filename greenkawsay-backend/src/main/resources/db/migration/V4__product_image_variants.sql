@@ -0,0 +1,5 @@
+-- Product image variants: Derived renditions generated after upload
+-- Purpose: Stores the URLs of the thumbnail and WebP variants produced by the background image pipeline
+-- Business Logic: Variant columns stay NULL until generation finishes; clients fall back to image_url
+ALTER TABLE product_images ADD COLUMN IF NOT EXISTS thumbnail_url TEXT;
+ALTER TABLE product_images ADD COLUMN IF NOT EXISTS webp_url TEXT;
@@ -0,0 +1,16 @@
+-- Product primary images: At most one primary image per product
+-- Purpose: Lets product listings resolve every primary image of a page with one index-backed query
+-- Business Logic: Older duplicate primaries are demoted, keeping the most recently updated one
+UPDATE product_images pi
+SET is_primary = FALSE
+WHERE pi.is_primary
+  AND pi.id <> (
+      SELECT p2.id
+      FROM product_images p2
+      WHERE p2.product_id = pi.product_id
+        AND p2.is_primary
+      ORDER BY p2.updated_at DESC NULLS LAST, p2.id
+      LIMIT 1
+  );
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_product_images_primary ON product_images(product_id) WHERE is_primary;
@@ -0,0 +1,21 @@
+-- Addresses default flag: At most one default address per user
+-- Purpose: Lets the default address be swapped with a single UPDATE and looked up with one index probe
+-- Business Logic: Older duplicate defaults are demoted, keeping the most recently updated one.
+-- The rule is a partial btree exclusion constraint on (user_id) WHERE is_default, which behaves like a
+-- partial unique index but is DEFERRABLE, so it is checked once the swap statement has touched both rows
+UPDATE addresses a
+SET is_default = FALSE
+WHERE a.is_default
+  AND a.id <> (
+      SELECT a2.id
+      FROM addresses a2
+      WHERE a2.user_id = a.user_id
+        AND a2.is_default
+      ORDER BY a2.updated_at DESC NULLS LAST, a2.id
+      LIMIT 1
+  );
+
+ALTER TABLE addresses
+    ADD CONSTRAINT uq_addresses_default
+    EXCLUDE USING btree (user_id WITH =) WHERE (is_default)
+    DEFERRABLE INITIALLY IMMEDIATE;
@@ -0,0 +1,17 @@
+-- Addresses region keys: Normalized lookup columns for shipping-region queries
+-- Purpose: Lets logistics page through and export the addresses of a city, state or zip code with index range scans
+-- Business Logic: Keys are lower-cased (zip codes upper-cased) with whitespace collapsed, matching ShippingRegion;
+-- each index ends with id so keyset pages and exports are read in index order without sorting
+ALTER TABLE addresses
+    ADD COLUMN IF NOT EXISTS city_key VARCHAR(100)
+        GENERATED ALWAYS AS (NULLIF(lower(btrim(regexp_replace(city, '\s+', ' ', 'g'))), '')) STORED,
+    ADD COLUMN IF NOT EXISTS state_key VARCHAR(100)
+        GENERATED ALWAYS AS (NULLIF(lower(btrim(regexp_replace(state, '\s+', ' ', 'g'))), '')) STORED,
+    ADD COLUMN IF NOT EXISTS zip_key VARCHAR(20)
+        GENERATED ALWAYS AS (NULLIF(upper(regexp_replace(zip_code, '\s+', '', 'g')), '')) STORED,
+    ADD COLUMN IF NOT EXISTS country_key VARCHAR(100)
+        GENERATED ALWAYS AS (NULLIF(lower(btrim(regexp_replace(country, '\s+', ' ', 'g'))), '')) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_addresses_city_key_id ON addresses(city_key, id);
+CREATE INDEX IF NOT EXISTS idx_addresses_state_key_id ON addresses(state_key, id);
+CREATE INDEX IF NOT EXISTS idx_addresses_zip_key_id ON addresses(zip_key, id);
@@ -0,0 +1,10 @@
+-- Catalog query indexes: Support the listing, search and count queries of the catalog persistence adapters
+-- Purpose: Keeps category pages, their count queries and name searches on index scans as the catalog grows
+-- Business Logic: Storefront listings only show active products, so the category index is partial;
+-- name searches are case-insensitive "contains" matches served by a trigram index
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_products_active_category_id ON products(category_id) WHERE is_active;
+CREATE INDEX IF NOT EXISTS idx_products_name_trgm ON products USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_products_stock_quantity ON products(stock_quantity);
+CREATE INDEX IF NOT EXISTS idx_categories_parent_id ON categories(parent_id);
@@ -0,0 +1,9 @@
+-- Product low-stock thresholds: Per-product threshold and a per-vendor low-stock index
+-- Purpose: Lets the vendor low-stock dashboard read only the products that are low, without scanning the vendor's catalog
+-- Business Logic: A product is low on stock while it is active and its stock is at or below its own threshold;
+-- the partial index holds exactly those rows and PostgreSQL maintains it on every stock or threshold update
+ALTER TABLE products ADD COLUMN IF NOT EXISTS low_stock_threshold INTEGER NOT NULL DEFAULT 5;
+ALTER TABLE products ADD CONSTRAINT chk_products_low_stock_threshold CHECK (low_stock_threshold >= 0);
+
+CREATE INDEX IF NOT EXISTS idx_products_low_stock ON products(user_id, stock_quantity)
+    WHERE is_active AND stock_quantity <= low_stock_threshold;
@@ -3,6 +3,9 @@ package com.greenkawsay.catalog.application.services;
 import com.greenkawsay.catalog.application.commands.CreateProductCommand;
 import com.greenkawsay.catalog.application.commands.UpdateProductCommand;
 import com.greenkawsay.catalog.application.commands.UpdateStockCommand;
+import com.greenkawsay.catalog.domain.events.ProductBackInStockEvent;
+import com.greenkawsay.catalog.domain.events.ProductLowStockEvent;
+import com.greenkawsay.catalog.domain.events.ProductPriceChangedEvent;
 import com.greenkawsay.catalog.domain.exceptions.CategoryNotFoundException;
 import com.greenkawsay.catalog.domain.exceptions.DuplicateProductException;
 import com.greenkawsay.catalog.domain.exceptions.InvalidStockQuantityException;
@@ -21,6 +24,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.util.Currency;
@@ -44,6 +48,9 @@ class ProductApplicationServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
     
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
     @InjectMocks
     private ProductApplicationService productService;
     
@@ -210,6 +217,95 @@ class ProductApplicationServiceTest {
         verify(productRepository).save(any(Product.class));
     }
     
+    @Test
+    void updateStock_ShouldPublishBackInStock_WhenStockMovesFromZero() {
+        // Arrange
+        ProductId productId = product.getId();
+        product.updateStock(StockQuantity.of(0), userId);
+        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // Act
+        productService.updateStock(productId.getValue(), 10, userId);
+        
+        // Assert
+        verify(eventPublisher).publishEvent(new ProductBackInStockEvent(productId.getValue(), product.getName(), 10));
+        verify(eventPublisher, never()).publishEvent(any(ProductPriceChangedEvent.class));
+    }
+    
+    @Test
+    void updateStock_ShouldNotPublish_WhenProductWasAlreadyInStock() {
+        // Arrange
+        ProductId productId = product.getId();
+        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // Act
+        productService.updateStock(productId.getValue(), 75, userId);
+        
+        // Assert
+        verifyNoInteractions(eventPublisher);
+    }
+    
+    @Test
+    void updateStock_ShouldPublishLowStock_WhenStockDropsToThreshold() {
+        // Arrange
+        ProductId productId = product.getId();
+        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // Act
+        productService.updateStock(productId.getValue(), Product.DEFAULT_LOW_STOCK_THRESHOLD, userId);
+        
+        // Assert
+        verify(eventPublisher).publishEvent(new ProductLowStockEvent(productId.getValue(), userId, product.getName(),
+            Product.DEFAULT_LOW_STOCK_THRESHOLD, Product.DEFAULT_LOW_STOCK_THRESHOLD));
+    }
+    
+    @Test
+    void updateStock_ShouldNotPublishLowStockAgain_WhenProductWasAlreadyLow() {
+        // Arrange
+        ProductId productId = product.getId();
+        product.updateStock(StockQuantity.of(3), userId);
+        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // Act
+        productService.updateStock(productId.getValue(), 1, userId);
+        
+        // Assert
+        verifyNoInteractions(eventPublisher);
+    }
+    
+    @Test
+    void updateLowStockThreshold_ShouldPublishLowStock_WhenThresholdRisesToStock() {
+        // Arrange
+        ProductId productId = product.getId();
+        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // Act
+        Product result = productService.updateLowStockThreshold(productId.getValue(), 50, userId);
+        
+        // Assert
+        assertEquals(50, result.getLowStockThreshold());
+        assertTrue(result.isLowStock());
+        verify(eventPublisher).publishEvent(new ProductLowStockEvent(productId.getValue(), userId, product.getName(),
+            50, 50));
+    }
+    
+    @Test
+    void updateLowStockThreshold_ShouldThrowException_WhenThresholdIsNegative() {
+        // Arrange
+        ProductId productId = product.getId();
+        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        
+        // Act & Assert
+        assertThrows(InvalidStockQuantityException.class,
+            () -> productService.updateLowStockThreshold(productId.getValue(), -1, userId));
+        verify(productRepository, never()).save(any(Product.class));
+    }
+    
     @Test
     void updateStock_ShouldThrowException_WhenProductNotFound() {
         // Arrange
@@ -264,6 +360,31 @@ class ProductApplicationServiceTest {
         verify(productRepository).save(any(Product.class));
     }
     
+    @Test
+    void updateProduct_ShouldPublishPriceChange_WhenPriceIsLowered() {
+        // Arrange
+        ProductId productId = product.getId();
+        UpdateProductCommand command = new UpdateProductCommand(
+            product.getName(),
+            product.getDescription(),
+            Money.ofPEN(19.99),
+            categoryId,
+            StockQuantity.of(50),
+            true
+        );
+        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(category));
+        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // Act
+        productService.updateProduct(productId, command);
+        
+        // Assert
+        verify(eventPublisher).publishEvent(new ProductPriceChangedEvent(productId.getValue(), product.getName(),
+            Money.ofPEN(25.99).getAmount(), Money.ofPEN(19.99).getAmount(), "PEN"));
+        verify(eventPublisher, never()).publishEvent(any(ProductBackInStockEvent.class));
+    }
+    
     @Test
     void deleteProduct_ShouldDeleteProduct_WhenProductExists() {
         // Arrange
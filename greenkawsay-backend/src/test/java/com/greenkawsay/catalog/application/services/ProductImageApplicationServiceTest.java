@@ -0,0 +1,205 @@
+package com.greenkawsay.catalog.application.services;
+
+import com.greenkawsay.catalog.application.commands.UploadProductImageCommand;
+import com.greenkawsay.catalog.application.ports.out.ProductImageStoragePort;
+import com.greenkawsay.catalog.domain.events.ProductImageUploadedEvent;
+import com.greenkawsay.catalog.domain.exceptions.InvalidProductImageException;
+import com.greenkawsay.catalog.domain.exceptions.ProductNotFoundException;
+import com.greenkawsay.catalog.domain.models.Product;
+import com.greenkawsay.catalog.domain.models.ProductImage;
+import com.greenkawsay.catalog.domain.repositories.ProductImageRepository;
+import com.greenkawsay.catalog.domain.repositories.ProductRepository;
+import com.greenkawsay.catalog.domain.valueobjects.CategoryId;
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.catalog.domain.valueobjects.StockQuantity;
+import com.greenkawsay.shared.domain.valueobjects.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ProductImageApplicationService
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductImageApplicationServiceTest {
+    
+    @Mock
+    private ProductRepository productRepository;
+    
+    @Mock
+    private ProductImageRepository productImageRepository;
+    
+    @Mock
+    private ProductImageStoragePort productImageStorage;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    private ProductImageApplicationService productImageService;
+    
+    private ProductId productId;
+    private Product product;
+    private UUID userId;
+    
+    @BeforeEach
+    void setUp() {
+        productImageService = new ProductImageApplicationService(productRepository, productImageRepository,
+            new ProductImageRecorder(productImageRepository), productImageStorage, eventPublisher);
+        productId = ProductId.generate();
+        userId = UUID.randomUUID();
+        product = new Product(
+            productId,
+            "Organic Cotton T-Shirt",
+            "100% organic cotton t-shirt",
+            Money.ofPEN(25.99),
+            CategoryId.generate(),
+            StockQuantity.of(50),
+            true,
+            userId,
+            LocalDateTime.now(),
+            LocalDateTime.now(),
+            userId,
+            userId
+        );
+    }
+    
+    @Test
+    void uploadImage_ShouldStoreAndPublishEvent_WhenValidImage() {
+        // Arrange
+        UploadProductImageCommand command = command("image/jpeg", 3, false);
+        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(productImageStorage.store(anyString(), any(), eq(3L), eq("image/jpeg")))
+            .thenReturn("https://cdn.greenkawsay.com/image.jpg");
+        when(productImageRepository.hasPrimaryImage(productId)).thenReturn(true);
+        when(productImageRepository.save(any(ProductImage.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // Act
+        ProductImage result = productImageService.uploadImage(command);
+        
+        // Assert
+        assertEquals("https://cdn.greenkawsay.com/image.jpg", result.getImageUrl());
+        assertFalse(result.isPrimary());
+        ArgumentCaptor<ProductImageUploadedEvent> event = ArgumentCaptor.forClass(ProductImageUploadedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(result.getId(), event.getValue().imageId());
+        assertTrue(event.getValue().storageKey().startsWith("products/" + productId.getValueAsString() + "/"));
+        assertTrue(event.getValue().storageKey().endsWith(".jpg"));
+    }
+    
+    @Test
+    void uploadImage_ShouldMakeFirstImagePrimary_WhenProductHasNoPrimary() {
+        // Arrange
+        UploadProductImageCommand command = command("image/png", 3, false);
+        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(productImageStorage.store(anyString(), any(), anyLong(), anyString()))
+            .thenReturn("https://cdn.greenkawsay.com/image.png");
+        when(productImageRepository.hasPrimaryImage(productId)).thenReturn(false);
+        when(productImageRepository.save(any(ProductImage.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // Act
+        ProductImage result = productImageService.uploadImage(command);
+        
+        // Assert
+        assertTrue(result.isPrimary());
+    }
+    
+    @Test
+    void uploadImage_ShouldDemoteExistingPrimary_WhenUploadingNewPrimary() {
+        // Arrange
+        UploadProductImageCommand command = command("image/webp", 3, true);
+        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(productImageStorage.store(anyString(), any(), anyLong(), anyString()))
+            .thenReturn("https://cdn.greenkawsay.com/new.webp");
+        when(productImageRepository.save(any(ProductImage.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // Act
+        ProductImage result = productImageService.uploadImage(command);
+        
+        // Assert
+        assertTrue(result.isPrimary());
+        InOrder inOrder = inOrder(productImageRepository);
+        inOrder.verify(productImageRepository).demotePrimaryImage(productId, userId);
+        inOrder.verify(productImageRepository).save(result);
+    }
+    
+    @Test
+    void uploadImage_ShouldRetryAsSecondary_WhenConcurrentUploadTookPrimarySlot() {
+        // Arrange
+        UploadProductImageCommand command = command("image/jpeg", 3, false);
+        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(productImageStorage.store(anyString(), any(), anyLong(), anyString()))
+            .thenReturn("https://cdn.greenkawsay.com/image.jpg");
+        when(productImageRepository.hasPrimaryImage(productId)).thenReturn(false, true);
+        when(productImageRepository.save(any(ProductImage.class)))
+            .thenThrow(new DataIntegrityViolationException("uq_product_images_primary"))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // Act
+        ProductImage result = productImageService.uploadImage(command);
+        
+        // Assert
+        assertFalse(result.isPrimary());
+        verify(productImageStorage, never()).delete(anyString());
+        verify(eventPublisher).publishEvent(any(ProductImageUploadedEvent.class));
+    }
+    
+    @Test
+    void uploadImage_ShouldThrowException_WhenUnsupportedContentType() {
+        // Arrange
+        UploadProductImageCommand command = command("application/pdf", 3, false);
+        
+        // Act & Assert
+        assertThrows(InvalidProductImageException.class, () -> productImageService.uploadImage(command));
+        verifyNoInteractions(productImageStorage);
+    }
+    
+    @Test
+    void uploadImage_ShouldThrowException_WhenProductNotFound() {
+        // Arrange
+        UploadProductImageCommand command = command("image/jpeg", 3, false);
+        when(productRepository.findById(productId)).thenReturn(Optional.empty());
+        
+        // Act & Assert
+        assertThrows(ProductNotFoundException.class, () -> productImageService.uploadImage(command));
+        verifyNoInteractions(productImageStorage);
+    }
+    
+    @Test
+    void uploadImage_ShouldDeleteStoredObject_WhenPersistenceFails() {
+        // Arrange
+        UploadProductImageCommand command = command("image/jpeg", 3, false);
+        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(productImageStorage.store(anyString(), any(), anyLong(), anyString()))
+            .thenReturn("https://cdn.greenkawsay.com/image.jpg");
+        when(productImageRepository.hasPrimaryImage(productId)).thenReturn(true);
+        when(productImageRepository.save(any(ProductImage.class))).thenThrow(new IllegalStateException("database down"));
+        
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> productImageService.uploadImage(command));
+        verify(productImageStorage).delete(anyString());
+        verifyNoInteractions(eventPublisher);
+    }
+    
+    private UploadProductImageCommand command(String contentType, int size, boolean primary) {
+        return new UploadProductImageCommand(
+            productId, contentType, size, new ByteArrayInputStream(new byte[size]), primary, userId);
+    }
+}
@@ -0,0 +1,211 @@
+package com.greenkawsay.catalog.infrastructure.adapters.in.web.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.greenkawsay.catalog.application.ports.in.CategoryServicePort;
+import com.greenkawsay.catalog.application.ports.in.ProductImageServicePort;
+import com.greenkawsay.catalog.application.ports.in.ProductServicePort;
+import com.greenkawsay.catalog.domain.models.Category;
+import com.greenkawsay.catalog.domain.models.Product;
+import com.greenkawsay.catalog.domain.valueobjects.CategoryId;
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.catalog.domain.valueobjects.StockQuantity;
+import com.greenkawsay.catalog.infrastructure.adapters.in.web.controllers.CategoryController;
+import com.greenkawsay.catalog.infrastructure.adapters.in.web.controllers.ProductController;
+import com.greenkawsay.catalog.infrastructure.adapters.in.web.mappers.CategoryMapper;
+import com.greenkawsay.catalog.infrastructure.adapters.in.web.mappers.ProductMapper;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.CatalogVersion;
+import com.greenkawsay.shared.domain.valueobjects.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Unit tests for serving catalog responses from the serialized JSON cache
+ */
+@ExtendWith(MockitoExtension.class)
+class JsonResponseCacheInterceptorTest {
+
+    @Mock
+    private CategoryServicePort categoryService;
+
+    @Mock
+    private ProductServicePort productService;
+
+    @Mock
+    private ProductImageServicePort productImageService;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        JsonResponseCache cache = new JsonResponseCache(objectMapper, 1_000_000, Duration.ofMinutes(5), 1024,
+            new SimpleMeterRegistry());
+        mockMvc = MockMvcBuilders
+            .standaloneSetup(new CategoryController(categoryService, CategoryMapper.INSTANCE),
+                new ProductController(productService, productImageService, ProductMapper.INSTANCE))
+            .setControllerAdvice(new JsonResponseCacheAdvice(
+                new StaticListableBeanFactory(Map.of("cache", cache)).getBeanProvider(JsonResponseCache.class)))
+            .addInterceptors(new JsonResponseCacheInterceptor(cache, catalogVersion))
+            .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper))
+            .build();
+    }
+
+    @Test
+    void getCategoryTree_ShouldServeStoredBytes_WhenCatalogUnchanged() throws Exception {
+        // Arrange
+        when(catalogVersion.categories()).thenReturn("3/2024-01-01T12:00/");
+        when(categoryService.getCategoryTree()).thenReturn(categories(3));
+
+        // Act
+        MockHttpServletResponse first = request(null);
+        MockHttpServletResponse second = request(null);
+
+        // Assert
+        verify(categoryService, times(1)).getCategoryTree();
+        assertEquals(200, second.getStatus());
+        assertArrayEquals(first.getContentAsByteArray(), second.getContentAsByteArray());
+        assertEquals(first.getHeader(HttpHeaders.ETAG), second.getHeader(HttpHeaders.ETAG));
+        assertTrue(second.getContentType().startsWith("application/json"));
+    }
+
+    @Test
+    void getCategoryTree_ShouldRenderAgain_WhenCategoriesChanged() throws Exception {
+        // Arrange
+        when(catalogVersion.categories()).thenReturn("1/2024-01-01T12:00/", "2/2024-01-01T12:05/");
+        when(categoryService.getCategoryTree()).thenReturn(categories(1)).thenReturn(categories(2));
+        request(null);
+
+        // Act
+        MockHttpServletResponse response = request(null);
+
+        // Assert
+        verify(categoryService, times(2)).getCategoryTree();
+        assertTrue(response.getContentAsString().contains("Category 1"));
+    }
+
+    @Test
+    void getCategoryTree_ShouldServeGzip_WhenClientAcceptsIt() throws Exception {
+        // Arrange
+        when(catalogVersion.categories()).thenReturn("50/2024-01-01T12:00/");
+        when(categoryService.getCategoryTree()).thenReturn(categories(50));
+        String identity = request(null).getContentAsString();
+
+        // Act
+        MockHttpServletResponse response = request("gzip, deflate, br");
+
+        // Assert
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(identity, gunzip(response.getContentAsByteArray()));
+    }
+
+    @Test
+    void getCategoryTree_ShouldAnswerNotModified_WhenETagMatches() throws Exception {
+        // Arrange
+        when(catalogVersion.categories()).thenReturn("1/2024-01-01T12:00/");
+        when(categoryService.getCategoryTree()).thenReturn(categories(1));
+        String etag = request(null).getHeader(HttpHeaders.ETAG);
+
+        // Act
+        MockHttpServletResponse response = mockMvc.perform(get("/api/v1/categories/tree")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andReturn().getResponse();
+
+        // Assert
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void getProductById_ShouldKeepServingStoredBytes_WhenOnlyAnotherProductChanged() throws Exception {
+        // Arrange
+        Product product = product();
+        UUID id = product.getId().getValue();
+        when(catalogVersion.product(id)).thenReturn("2024-01-01T12:00/0/null/");
+        when(productService.getProductById(product.getId())).thenReturn(product);
+        when(productImageService.getPrimaryImageUrls(List.of(product.getId()))).thenReturn(Map.of());
+
+        // Act
+        MockHttpServletResponse first = mockMvc.perform(get("/api/v1/products/{id}", id)).andReturn().getResponse();
+        MockHttpServletResponse second = mockMvc.perform(get("/api/v1/products/{id}", id)).andReturn().getResponse();
+
+        // Assert
+        verify(productService, times(1)).getProductById(product.getId());
+        verify(catalogVersion, never()).categories();
+        assertEquals(200, second.getStatus());
+        assertArrayEquals(first.getContentAsByteArray(), second.getContentAsByteArray());
+    }
+
+    @Test
+    void getProductById_ShouldRenderWithoutStoring_WhenProductHasNoVersion() throws Exception {
+        // Arrange
+        Product product = product();
+        when(catalogVersion.product(product.getId().getValue())).thenReturn(null);
+        when(productService.getProductById(product.getId())).thenReturn(product);
+        when(productImageService.getPrimaryImageUrls(List.of(product.getId()))).thenReturn(Map.of());
+
+        // Act
+        mockMvc.perform(get("/api/v1/products/{id}", product.getId().getValue()));
+        mockMvc.perform(get("/api/v1/products/{id}", product.getId().getValue()));
+
+        // Assert
+        verify(productService, times(2)).getProductById(product.getId());
+    }
+
+    private MockHttpServletResponse request(String acceptEncoding) throws Exception {
+        var builder = get("/api/v1/categories/tree");
+        if (acceptEncoding != null) {
+            builder.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return mockMvc.perform(builder).andReturn().getResponse();
+    }
+
+    private static List<Category> categories(int count) {
+        UUID userId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+        return IntStream.range(0, count)
+            .mapToObj(i -> new Category(CategoryId.generate(), "Category " + i, "category-" + i,
+                "Sustainable products of category " + i, null, now, now, userId, userId))
+            .toList();
+    }
+
+    private static Product product() {
+        UUID userId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+        return new Product(ProductId.generate(), "Bamboo Toothbrush", "Compostable bamboo toothbrush",
+            Money.ofPEN(9.90), CategoryId.generate(), StockQuantity.of(40), true, userId, now, now, userId, userId);
+    }
+
+    private static String gunzip(byte[] content) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(content))) {
+            return new String(gzip.readAllBytes());
+        }
+    }
+}
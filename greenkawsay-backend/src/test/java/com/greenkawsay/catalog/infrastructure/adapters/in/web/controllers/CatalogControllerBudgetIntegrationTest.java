@@ -0,0 +1,190 @@
+package com.greenkawsay.catalog.infrastructure.adapters.in.web.controllers;
+
+import com.greenkawsay.catalog.application.ports.out.ProductImageStoragePort;
+import com.greenkawsay.catalog.application.services.CategoryApplicationService;
+import com.greenkawsay.catalog.application.services.ProductApplicationService;
+import com.greenkawsay.catalog.application.services.ProductImageApplicationService;
+import com.greenkawsay.catalog.application.services.ProductImageRecorder;
+import com.greenkawsay.catalog.domain.models.Category;
+import com.greenkawsay.catalog.domain.models.Product;
+import com.greenkawsay.catalog.domain.models.ProductImage;
+import com.greenkawsay.catalog.domain.valueobjects.CategoryId;
+import com.greenkawsay.catalog.domain.valueobjects.StockQuantity;
+import com.greenkawsay.catalog.infrastructure.adapters.in.web.mappers.CategoryMapper;
+import com.greenkawsay.catalog.infrastructure.adapters.in.web.mappers.ProductMapper;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.CategoryPersistenceAdapter;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.ProductImagePersistenceAdapter;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.ProductPersistenceAdapter;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.mappers.CategoryPersistenceMapper;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.mappers.ProductImagePersistenceMapper;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.mappers.ProductPersistenceMapper;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.repositories.CategoryJpaRepository;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.repositories.ProductImageJpaRepository;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.repositories.ProductJpaRepository;
+import com.greenkawsay.shared.domain.valueobjects.Money;
+import com.greenkawsay.shared.infrastructure.metrics.RequestBudget;
+import com.greenkawsay.shared.infrastructure.metrics.RequestBudgetTestConfig;
+import com.greenkawsay.shared.infrastructure.metrics.RequestCostFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Query and allocation budgets of the catalog read endpoints, served by the real services and JPA adapters on H2
+ * Page sizes are full so a per-row lookup (an N+1) shows up as a budget overrun; each request is sent
+ * once unmeasured first, so allocations exclude one-off initialization of converters and mappers
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(RequestBudgetTestConfig.class)
+class CatalogControllerBudgetIntegrationTest {
+
+    private static final int PAGE_SIZE = 20;
+
+    private static final RequestBudget PRODUCT_PAGE = RequestBudget.statements(3).allocated(DataSize.ofKilobytes(768));
+    private static final RequestBudget PRODUCT_DETAIL = RequestBudget.statements(2).allocated(DataSize.ofKilobytes(256));
+    private static final RequestBudget CATEGORY_LIST = RequestBudget.statements(1).allocated(DataSize.ofKilobytes(192));
+    private static final RequestBudget SUBCATEGORIES = RequestBudget.statements(2).allocated(DataSize.ofKilobytes(256));
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private CategoryJpaRepository categoryJpaRepository;
+
+    @Autowired
+    private ProductImageJpaRepository productImageJpaRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private RequestCostFilter requestCostFilter;
+
+    private MockMvc mockMvc;
+    private CategoryId rootId;
+    private CategoryId leafId;
+    private List<Product> products;
+
+    @BeforeEach
+    void setUp() {
+        ProductPersistenceAdapter productRepository = new ProductPersistenceAdapter(productJpaRepository,
+            ProductPersistenceMapper.INSTANCE, testEntityManager.getEntityManager());
+        CategoryPersistenceAdapter categoryRepository = new CategoryPersistenceAdapter(categoryJpaRepository,
+            CategoryPersistenceMapper.INSTANCE, testEntityManager.getEntityManager());
+        ProductImagePersistenceAdapter productImageRepository = new ProductImagePersistenceAdapter(
+            productImageJpaRepository, ProductImagePersistenceMapper.INSTANCE);
+        ApplicationEventPublisher events = event -> { };
+
+        ProductApplicationService productService =
+            new ProductApplicationService(productRepository, categoryRepository, events);
+        ProductImageApplicationService productImageService = new ProductImageApplicationService(productRepository,
+            productImageRepository, new ProductImageRecorder(productImageRepository),
+            mock(ProductImageStoragePort.class), events);
+        CategoryApplicationService categoryService = new CategoryApplicationService(categoryRepository);
+
+        mockMvc = MockMvcBuilders
+            .standaloneSetup(new ProductController(productService, productImageService, ProductMapper.INSTANCE),
+                new CategoryController(categoryService, CategoryMapper.INSTANCE))
+            .addFilters(requestCostFilter)
+            .build();
+
+        UUID vendorId = UUID.randomUUID();
+        Category root = categoryRepository.save(new Category("Home", "home", null, null, vendorId));
+        rootId = root.getId();
+        IntStream.range(0, PAGE_SIZE).forEach(i -> categoryRepository.save(
+            new Category("Kitchen " + i, "kitchen-" + i, null, rootId, vendorId)));
+        leafId = categoryRepository.save(new Category("Bathroom", "bathroom", null, rootId, vendorId)).getId();
+
+        products = productRepository.saveAll(IntStream.range(0, PAGE_SIZE * 2)
+            .mapToObj(i -> new Product("Bamboo product " + i, "Eco friendly", Money.ofUSD(10 + i), leafId,
+                StockQuantity.of(i), vendorId, vendorId))
+            .toList());
+        products.forEach(product -> productImageRepository.save(
+            new ProductImage(product.getId().getValue(), "https://cdn.example/" + product.getId() + ".jpg", true,
+                vendorId)));
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    void getAllProducts_ShouldStayWithinBudget() throws Exception {
+        performWarm(get("/api/v1/products").param("size", String.valueOf(PAGE_SIZE)))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.products.length()").value(PAGE_SIZE))
+               .andExpect(PRODUCT_PAGE);
+    }
+
+    @Test
+    void getProductsByCategory_ShouldStayWithinBudget() throws Exception {
+        performWarm(get("/api/v1/products/category/{categoryId}", leafId.getValue())
+                                .param("size", String.valueOf(PAGE_SIZE)))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.products.length()").value(PAGE_SIZE))
+               .andExpect(PRODUCT_PAGE);
+    }
+
+    @Test
+    void searchProducts_ShouldStayWithinBudget() throws Exception {
+        performWarm(get("/api/v1/products/search")
+                                .param("q", "bamboo")
+                                .param("size", String.valueOf(PAGE_SIZE)))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.products.length()").value(PAGE_SIZE))
+               .andExpect(PRODUCT_PAGE);
+    }
+
+    @Test
+    void getProductById_ShouldStayWithinBudget() throws Exception {
+        performWarm(get("/api/v1/products/{id}", products.get(0).getId().getValue()))
+               .andExpect(status().isOk())
+               .andExpect(PRODUCT_DETAIL);
+    }
+
+    @Test
+    void getSubcategories_ShouldStayWithinBudget() throws Exception {
+        performWarm(get("/api/v1/categories/{id}/subcategories", rootId.getValue()))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.length()").value(PAGE_SIZE + 1))
+               .andExpect(SUBCATEGORIES);
+    }
+
+    @Test
+    void getRootCategories_ShouldStayWithinBudget() throws Exception {
+        performWarm(get("/api/v1/categories/roots"))
+               .andExpect(status().isOk())
+               .andExpect(CATEGORY_LIST);
+    }
+
+    @Test
+    void getCategoryTree_ShouldStayWithinBudget() throws Exception {
+        performWarm(get("/api/v1/categories/tree"))
+               .andExpect(status().isOk())
+               .andExpect(CATEGORY_LIST);
+    }
+
+    private ResultActions performWarm(MockHttpServletRequestBuilder request) throws Exception {
+        mockMvc.perform(request);
+        testEntityManager.clear();
+        return mockMvc.perform(request);
+    }
+}
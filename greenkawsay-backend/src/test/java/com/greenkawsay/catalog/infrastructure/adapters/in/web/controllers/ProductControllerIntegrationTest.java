@@ -1,6 +1,7 @@
 package com.greenkawsay.catalog.infrastructure.adapters.in.web.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.greenkawsay.catalog.application.ports.in.ProductImageServicePort;
 import com.greenkawsay.catalog.application.ports.in.ProductServicePort;
 import com.greenkawsay.catalog.domain.models.Product;
 import com.greenkawsay.catalog.domain.valueobjects.ProductId;
@@ -58,6 +59,9 @@ class ProductControllerIntegrationTest {
     @MockitoBean
     private ProductServicePort productService;
 
+    @MockitoBean
+    private ProductImageServicePort productImageService;
+
     @MockitoBean
     private ProductMapper productMapper;
 
@@ -218,6 +222,39 @@ class ProductControllerIntegrationTest {
                .andExpect(jsonPath("$.stockQuantity").value(50));
     }
 
+    @Test
+    void updateLowStockThreshold_ShouldReturnUpdatedProduct() throws Exception {
+        // Arrange
+        testProduct.updateLowStockThreshold(10, userId);
+        when(productService.updateLowStockThreshold(productId.getValue(), 10, userId)).thenReturn(testProduct);
+        when(productMapper.toProductResponse(testProduct)).thenReturn(createProductResponse(testProduct));
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/v1/products/{id}/low-stock-threshold", productId.getValue())
+                                .header("X-User-Id", userId)
+                                .param("threshold", "10"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.id").value(productId.getValue().toString()))
+               .andExpect(jsonPath("$.lowStockThreshold").value(10));
+    }
+
+    @Test
+    void getLowStockProducts_ShouldReturnVendorLowStockProducts() throws Exception {
+        // Arrange
+        testProduct.updateLowStockThreshold(100, userId);
+        when(productService.getLowStockProducts(userId)).thenReturn(List.of(testProduct));
+        when(productMapper.toProductResponse(testProduct)).thenReturn(createProductResponse(testProduct));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/products/low-stock")
+                                .header("X-User-Id", userId))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.length()").value(1))
+               .andExpect(jsonPath("$[0].id").value(productId.getValue().toString()))
+               .andExpect(jsonPath("$[0].stockQuantity").value(100))
+               .andExpect(jsonPath("$[0].lowStockThreshold").value(100));
+    }
+
     @Test
     void deleteProduct_ShouldReturnNoContent() throws Exception {
         // Arrange
@@ -284,7 +321,7 @@ class ProductControllerIntegrationTest {
    }
 
    private com.greenkawsay.catalog.infrastructure.adapters.in.web.dto.response.ProductResponse createProductResponse(Product product) {
-       return new com.greenkawsay.catalog.infrastructure.adapters.in.web.dto.response.ProductResponse(
+       var response = new com.greenkawsay.catalog.infrastructure.adapters.in.web.dto.response.ProductResponse(
                product.getId().getValue(),
                product.getName(),
                product.getDescription(),
@@ -296,5 +333,7 @@ class ProductControllerIntegrationTest {
                product.getCreatedAt(),
                product.getUpdatedAt()
        );
+       response.setLowStockThreshold(product.getLowStockThreshold());
+       return response;
    }
 }
\ No newline at end of file
@@ -2,13 +2,16 @@ package com.greenkawsay.catalog.infrastructure.adapters.in.web.controllers;
 
 import com.greenkawsay.catalog.application.commands.CreateProductCommand;
 import com.greenkawsay.catalog.application.commands.UpdateProductCommand;
+import com.greenkawsay.catalog.application.ports.in.ProductImageServicePort;
 import com.greenkawsay.catalog.application.ports.in.ProductServicePort;
 import com.greenkawsay.catalog.domain.models.Product;
 import com.greenkawsay.catalog.domain.valueobjects.CategoryId;
+import com.greenkawsay.catalog.domain.valueobjects.PrimaryImageUrls;
 import com.greenkawsay.catalog.domain.valueobjects.ProductId;
 import com.greenkawsay.catalog.domain.valueobjects.StockQuantity;
 import com.greenkawsay.catalog.infrastructure.adapters.in.web.dto.request.CreateProductRequest;
 import com.greenkawsay.catalog.infrastructure.adapters.in.web.dto.request.UpdateProductRequest;
+import com.greenkawsay.catalog.infrastructure.adapters.in.web.dto.response.ProductResponse;
 import com.greenkawsay.catalog.infrastructure.adapters.in.web.mappers.ProductMapper;
 import com.greenkawsay.shared.domain.valueobjects.Money;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,6 +31,7 @@ import org.springframework.http.ResponseEntity;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -40,6 +44,9 @@ class ProductControllerUnitTest {
     @Mock
     private ProductServicePort productService;
 
+    @Mock
+    private ProductImageServicePort productImageService;
+
     @Mock
     private ProductMapper productMapper;
 
@@ -129,6 +136,28 @@ class ProductControllerUnitTest {
         verify(productService).getAllProducts(pageable);
     }
 
+    @Test
+    void getAllProducts_ShouldResolvePrimaryImagesInOneCall() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "name"));
+        Page<Product> productPage = new PageImpl<>(List.of(testProduct), pageable, 1);
+        PrimaryImageUrls primaryImage = new PrimaryImageUrls(productId,
+                "https://cdn.greenkawsay.com/image.jpg", "https://cdn.greenkawsay.com/image-thumb.jpg", null);
+        ProductResponse productResponse = new ProductResponse();
+
+        when(productService.getAllProducts(pageable)).thenReturn(productPage);
+        when(productImageService.getPrimaryImageUrls(List.of(productId))).thenReturn(Map.of(productId, primaryImage));
+        when(productMapper.toProductResponse(testProduct)).thenReturn(productResponse);
+
+        // Act
+        ResponseEntity<?> response = productController.getAllProducts(0, 10, "name", "asc", null, null);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(productImageService, times(1)).getPrimaryImageUrls(any());
+        verify(productMapper).applyPrimaryImage(productResponse, primaryImage);
+    }
+
     @Test
     void updateProduct_ShouldReturnUpdatedProduct() {
         // Arrange
@@ -226,4 +255,37 @@ class ProductControllerUnitTest {
         assertEquals(HttpStatus.OK, response.getStatusCode());
         verify(productService).searchProductsByCategoryAndName(categoryId, "test", pageable);
     }
+
+    @Test
+    void updateLowStockThreshold_ShouldReturnProductWithNewThreshold() {
+        // Arrange
+        testProduct.updateLowStockThreshold(10, userId);
+        when(productService.updateLowStockThreshold(productId.getValue(), 10, userId)).thenReturn(testProduct);
+        when(productMapper.toProductResponse(testProduct)).thenReturn(ProductMapper.INSTANCE.toProductResponse(testProduct));
+
+        // Act
+        ResponseEntity<ProductResponse> response = productController.updateLowStockThreshold(productId.getValue(), 10, userId);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(10, response.getBody().getLowStockThreshold());
+        verify(productService).updateLowStockThreshold(productId.getValue(), 10, userId);
+    }
+
+    @Test
+    void getLowStockProducts_ShouldReturnVendorLowStockProducts() {
+        // Arrange
+        testProduct.updateLowStockThreshold(100, userId);
+        when(productService.getLowStockProducts(userId)).thenReturn(List.of(testProduct));
+        when(productMapper.toProductResponse(testProduct)).thenReturn(ProductMapper.INSTANCE.toProductResponse(testProduct));
+
+        // Act
+        ResponseEntity<List<ProductResponse>> response = productController.getLowStockProducts(userId);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+        assertEquals(100, response.getBody().get(0).getLowStockThreshold());
+        assertEquals(100, response.getBody().get(0).getStockQuantity());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+package com.greenkawsay.catalog.infrastructure.adapters.in.web.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.greenkawsay.catalog.application.ports.in.CategoryServicePort;
+import com.greenkawsay.catalog.application.ports.in.ProductImageServicePort;
+import com.greenkawsay.catalog.application.ports.in.ProductServicePort;
+import com.greenkawsay.catalog.domain.models.Category;
+import com.greenkawsay.catalog.domain.models.Product;
+import com.greenkawsay.catalog.domain.valueobjects.CategoryId;
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.catalog.domain.valueobjects.StockQuantity;
+import com.greenkawsay.catalog.infrastructure.adapters.in.web.cache.JsonResponseCache;
+import com.greenkawsay.catalog.infrastructure.adapters.in.web.mappers.CategoryMapper;
+import com.greenkawsay.catalog.infrastructure.adapters.in.web.mappers.ProductMapper;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.CatalogVersion;
+import com.greenkawsay.shared.domain.valueobjects.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CatalogWarmUp
+ */
+@ExtendWith(MockitoExtension.class)
+class CatalogWarmUpTest {
+
+    @Mock
+    private ProductServicePort productService;
+
+    @Mock
+    private CategoryServicePort categoryService;
+
+    @Mock
+    private ProductImageServicePort productImageService;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    private ObjectMapper objectMapper;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        UUID userId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        product = new Product(ProductId.generate(), "Bamboo Toothbrush", "Compostable bamboo toothbrush",
+                Money.ofPEN(9.90), CategoryId.generate(), StockQuantity.of(40), true, userId, now, now,
+                userId, userId);
+        Category category = new Category(CategoryId.generate(), "Personal Care", "personal-care",
+                "Zero waste personal care", null, now, now, userId, userId);
+
+        when(productService.getAllProducts(any())).thenReturn(new PageImpl<>(List.of(product)));
+        when(productService.getProductById(product.getId())).thenReturn(product);
+        when(productService.searchProductsByName(anyString(), any())).thenReturn(new PageImpl<>(List.of()));
+        when(productImageService.getPrimaryImageUrls(anyCollection())).thenReturn(Map.of());
+        when(categoryService.getCategoryTree()).thenReturn(List.of(category));
+        when(categoryService.getRootCategories()).thenReturn(List.of(category));
+    }
+
+    @Test
+    void warmUp_ShouldReplayReadPaths_ForEveryIteration() throws Exception {
+        // Arrange
+        CatalogWarmUp warmUp = warmUp(null);
+
+        // Act
+        warmUp.warmUp(5);
+
+        // Assert
+        verify(productService, times(5)).getAllProducts(any());
+        verify(productService, times(5)).getProductById(product.getId());
+        verify(productService, times(5)).searchProductsByName(anyString(), any());
+        verify(categoryService, times(5)).getCategoryTree();
+        verify(categoryService, times(5)).getRootCategories();
+        verify(productService, never()).updateStock(any(), anyInt(), any());
+    }
+
+    @Test
+    void warmUp_ShouldPrimeResponseCache_UnderContextPathUris() throws Exception {
+        // Arrange
+        JsonResponseCache cache = new JsonResponseCache(objectMapper, 1_000_000, Duration.ofMinutes(5), 1024,
+                new SimpleMeterRegistry());
+        when(catalogVersion.categories()).thenReturn("3/2024-01-01T12:00/");
+        when(catalogVersion.product(product.getId().getValue())).thenReturn("2024-01-01T12:00/0/null/");
+
+        // Act
+        warmUp(cache).warmUp(1);
+
+        // Assert
+        assertNotNull(cache.get("/api/api/v1/categories/tree", "3/2024-01-01T12:00/"));
+        assertNotNull(cache.get("/api/api/v1/categories/roots", "3/2024-01-01T12:00/"));
+        assertNotNull(cache.get("/api/api/v1/products/" + product.getId().getValue(), "2024-01-01T12:00/0/null/"));
+    }
+
+    private CatalogWarmUp warmUp(JsonResponseCache cache) {
+        return new CatalogWarmUp(productService, categoryService, productImageService, ProductMapper.INSTANCE,
+                CategoryMapper.INSTANCE, objectMapper, cache, catalogVersion, "/api");
+    }
+}
@@ -0,0 +1,97 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.images;
+
+import com.greenkawsay.catalog.infrastructure.adapters.out.images.ImageVariantGenerator.GeneratedVariant;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ImageVariantGenerator
+ */
+class ImageVariantGeneratorTest {
+
+    private final ImageVariantGenerator generator = new ImageVariantGenerator(320, 1600, 4_000_000);
+
+    @Test
+    void thumbnail_ShouldFitLongestEdge_WhenImageIsLarger() throws IOException {
+        // Arrange
+        BufferedImage source = generator.decode(new ByteArrayInputStream(png(1200, 800)));
+
+        // Act
+        GeneratedVariant thumbnail = generator.thumbnail(source);
+
+        // Assert
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(thumbnail.content()));
+        assertEquals("image/jpeg", thumbnail.contentType());
+        assertEquals(320, decoded.getWidth());
+        assertEquals(213, decoded.getHeight());
+    }
+
+    @Test
+    void thumbnail_ShouldKeepDimensions_WhenImageIsSmaller() throws IOException {
+        // Arrange
+        BufferedImage source = generator.decode(new ByteArrayInputStream(png(100, 50)));
+
+        // Act
+        GeneratedVariant thumbnail = generator.thumbnail(source);
+
+        // Assert
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(thumbnail.content()));
+        assertEquals(100, decoded.getWidth());
+        assertEquals(50, decoded.getHeight());
+    }
+
+    @Test
+    void webp_ShouldBeEmpty_WhenNoWriterAvailable() throws IOException {
+        // Arrange
+        BufferedImage source = generator.decode(new ByteArrayInputStream(png(64, 64)));
+
+        // Act & Assert
+        assertEquals(generator.supportsWebp(), generator.webp(source).isPresent());
+    }
+
+    @Test
+    void decode_ShouldThrowException_WhenContentIsNotAnImage() {
+        // Act & Assert
+        assertThrows(IOException.class,
+            () -> generator.decode(new ByteArrayInputStream("not an image".getBytes())));
+    }
+
+    @Test
+    void decode_ShouldRejectImage_WhenDeclaredPixelsExceedMaximum() throws IOException {
+        // Arrange
+        byte[] bomb = withDeclaredSize(png(16, 16), 50_000, 50_000);
+
+        // Act & Assert
+        IOException exception = assertThrows(IOException.class,
+            () -> generator.decode(new ByteArrayInputStream(bomb)));
+        assertTrue(exception.getMessage().contains("50000x50000"));
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Rewrites the IHDR dimensions of a PNG and its checksum, leaving the small pixel data as it is
+     */
+    private static byte[] withDeclaredSize(byte[] png, int width, int height) {
+        ByteBuffer buffer = ByteBuffer.wrap(png.clone());
+        buffer.putInt(16, width).putInt(20, height);
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 12, 17);
+        buffer.putInt(29, (int) crc.getValue());
+        return buffer.array();
+    }
+}
@@ -0,0 +1,192 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.memory;
+
+import com.greenkawsay.catalog.domain.models.Product;
+import com.greenkawsay.catalog.domain.valueobjects.CategoryId;
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.catalog.domain.valueobjects.StockQuantity;
+import com.greenkawsay.shared.domain.valueobjects.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyReferenceException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for InMemoryProductRepository
+ */
+class InMemoryProductRepositoryTest {
+
+    private InMemoryProductRepository repository;
+    private InMemoryCatalogVersion catalogVersion;
+    private CategoryId categoryId;
+    private UUID vendorId;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryCatalogStore store = new InMemoryCatalogStore();
+        catalogVersion = new InMemoryCatalogVersion(store);
+        repository = new InMemoryProductRepository(store);
+        categoryId = CategoryId.generate();
+        vendorId = UUID.randomUUID();
+    }
+
+    @Test
+    void findByCategoryId_ShouldReturnRequestedPage_WithTotalOfAllMatches() {
+        // Arrange
+        for (int i = 0; i < 25; i++) {
+            repository.save(newProduct(String.format("Product %02d", i), categoryId, i));
+        }
+        repository.save(newProduct("Other", CategoryId.generate(), 1));
+
+        // Act
+        Page<Product> page = repository.findByCategoryId(categoryId,
+                PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "name")));
+
+        // Assert
+        assertEquals(25, page.getTotalElements());
+        assertEquals(3, page.getTotalPages());
+        assertEquals(10, page.getContent().size());
+        assertEquals("Product 14", page.getContent().get(0).getName());
+        assertEquals("Product 05", page.getContent().get(9).getName());
+    }
+
+    @Test
+    void findByCategoryId_ShouldReturnEmptyContent_WhenOffsetIsPastTheEnd() {
+        // Arrange
+        repository.save(newProduct("Only", categoryId, 1));
+
+        // Act
+        Page<Product> page = repository.findByCategoryId(categoryId, PageRequest.of(3, 10));
+
+        // Assert
+        assertTrue(page.getContent().isEmpty());
+        assertEquals(1, page.getTotalElements());
+    }
+
+    @Test
+    void findAll_ShouldThrow_WhenSortPropertyIsUnknown() {
+        // Arrange
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by("colour"));
+
+        // Act & Assert
+        assertThrows(PropertyReferenceException.class, () -> repository.findAll(pageable));
+    }
+
+    @Test
+    void save_ShouldMoveProductBetweenCategoryIndexes_WhenCategoryChanges() {
+        // Arrange
+        CategoryId newCategory = CategoryId.generate();
+        Product product = repository.save(newProduct("Quinoa", categoryId, 5));
+
+        // Act
+        product.changeCategory(newCategory, vendorId);
+        repository.save(product);
+
+        // Assert
+        assertTrue(repository.findByCategoryId(categoryId).isEmpty());
+        assertEquals(List.of(product.getId()), repository.findByCategoryId(newCategory).stream().map(Product::getId).toList());
+        assertEquals(0L, repository.countByCategoryId(categoryId));
+        assertEquals(1L, repository.countByCategoryId(newCategory));
+    }
+
+    @Test
+    void findById_ShouldReturnCopy_SoCallerChangesAreNotStored() {
+        // Arrange
+        Product product = repository.save(newProduct("Maca", categoryId, 5));
+
+        // Act
+        repository.findById(product.getId()).orElseThrow().updateName("Changed", vendorId);
+
+        // Assert
+        assertEquals("Maca", repository.findById(product.getId()).orElseThrow().getName());
+        assertTrue(repository.findByNameContaining("changed").isEmpty());
+        assertEquals(1, repository.findByNameContaining("MAC").size());
+    }
+
+    @Test
+    void save_ShouldMoveVersionOfSavedProductOnly() {
+        // Arrange
+        LocalDateTime created = LocalDateTime.of(2024, 1, 1, 12, 0);
+        Product cacao = repository.save(storedProduct("Cacao", created));
+        Product quinoa = repository.save(storedProduct("Quinoa", created));
+        String cacaoBefore = catalogVersion.product(cacao.getId().getValue());
+        String quinoaBefore = catalogVersion.product(quinoa.getId().getValue());
+
+        // Act
+        repository.save(new Product(cacao.getId(), cacao.getName(), cacao.getDescription(), cacao.getPrice(),
+            categoryId, StockQuantity.of(1), true, vendorId, created, created.plusMinutes(1), vendorId, vendorId));
+
+        // Assert
+        assertNotEquals(cacaoBefore, catalogVersion.product(cacao.getId().getValue()));
+        assertEquals(quinoaBefore, catalogVersion.product(quinoa.getId().getValue()));
+        assertNull(catalogVersion.product(ProductId.generate().getValue()));
+    }
+
+    @Test
+    void findLowStockProducts_ShouldOrderByStock() {
+        // Arrange
+        repository.save(newProduct("Three", categoryId, 3));
+        repository.save(newProduct("One", categoryId, 1));
+        repository.save(newProduct("Plenty", categoryId, 50));
+
+        // Act
+        List<Product> result = repository.findLowStockProducts(5);
+
+        // Assert
+        assertEquals(List.of("One", "Three"), result.stream().map(Product::getName).toList());
+    }
+
+    @Test
+    void findLowStockProductsByUserId_ShouldFollowStockChanges_LowestStockFirst() {
+        // Arrange
+        Product restocked = repository.save(newProduct("Seed Kit", categoryId, 2));
+        Product sellingOut = repository.save(newProduct("Bamboo Brush", categoryId, 40));
+        repository.save(newProduct("Compost Bin", categoryId, 4));
+        repository.save(new Product("Other vendor", null, Money.ofUSD(3), categoryId, StockQuantity.of(0),
+                UUID.randomUUID(), vendorId));
+        restocked.updateStock(StockQuantity.of(30), vendorId);
+        repository.save(restocked);
+        sellingOut.updateStock(StockQuantity.of(1), vendorId);
+        repository.save(sellingOut);
+
+        // Act
+        List<Product> lowStock = repository.findLowStockProductsByUserId(vendorId);
+
+        // Assert
+        assertEquals(List.of("Bamboo Brush", "Compost Bin"), lowStock.stream().map(Product::getName).toList());
+    }
+
+    @Test
+    void findLowStockProductsByUserId_ShouldHonourThresholdAndActiveFlag() {
+        // Arrange
+        Product custom = repository.save(newProduct("Seed Kit", categoryId, 15));
+        Product inactive = repository.save(newProduct("Bamboo Brush", categoryId, 0));
+        custom.updateLowStockThreshold(20, vendorId);
+        repository.save(custom);
+        inactive.deactivate(vendorId);
+        repository.save(inactive);
+
+        // Act
+        List<Product> lowStock = repository.findLowStockProductsByUserId(vendorId);
+
+        // Assert
+        assertEquals(1, lowStock.size());
+        assertEquals(20, lowStock.get(0).getLowStockThreshold());
+    }
+
+    private Product storedProduct(String name, LocalDateTime at) {
+        return new Product(ProductId.generate(), name, "Eco friendly", Money.ofUSD(12.5), categoryId,
+            StockQuantity.of(2), true, vendorId, at, at, vendorId, vendorId);
+    }
+
+    private Product newProduct(String name, CategoryId category, int stock) {
+        return new Product(name, "Eco friendly", Money.ofUSD(12.5), category, StockQuantity.of(stock), vendorId, vendorId);
+    }
+}
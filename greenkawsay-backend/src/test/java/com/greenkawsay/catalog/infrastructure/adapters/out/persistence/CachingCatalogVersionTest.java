@@ -0,0 +1,70 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CachingCatalogVersion
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingCatalogVersionTest {
+
+    @Mock
+    private CatalogVersion delegate;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private CachingCatalogVersion catalogVersion;
+
+    @BeforeEach
+    void setUp() {
+        catalogVersion = new CachingCatalogVersion(delegate, 1_000, Duration.ofSeconds(1), nanos::get);
+    }
+
+    @Test
+    void categories_ShouldQueryOncePerInterval_AndPickUpNewVersionAfterwards() {
+        // Arrange
+        when(delegate.categories()).thenReturn("3/a/").thenReturn("4/b/");
+
+        // Act
+        String first = catalogVersion.categories();
+        String second = catalogVersion.categories();
+        nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+        String afterInterval = catalogVersion.categories();
+
+        // Assert
+        assertEquals("3/a/", first);
+        assertEquals("3/a/", second);
+        assertEquals("4/b/", afterInterval);
+        verify(delegate, times(2)).categories();
+    }
+
+    @Test
+    void product_ShouldRememberMissingProduct_SeparatelyPerProduct() {
+        // Arrange
+        UUID missing = UUID.randomUUID();
+        UUID existing = UUID.randomUUID();
+        when(delegate.product(missing)).thenReturn(null);
+        when(delegate.product(existing)).thenReturn("t/0/null/");
+
+        // Act
+        String missingVersion = catalogVersion.product(missing);
+        catalogVersion.product(missing);
+        String existingVersion = catalogVersion.product(existing);
+
+        // Assert
+        assertNull(missingVersion);
+        assertEquals("t/0/null/", existingVersion);
+        verify(delegate, times(1)).product(missing);
+        verify(delegate, times(1)).product(existing);
+    }
+}
@@ -0,0 +1,107 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.persistence;
+
+import com.greenkawsay.catalog.domain.models.ProductImage;
+import com.greenkawsay.catalog.domain.repositories.ProductImageRepository;
+import com.greenkawsay.catalog.domain.valueobjects.PrimaryImageUrls;
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.shared.infrastructure.persistence.PrimaryReads;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CachingProductImageRepository
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingProductImageRepositoryTest {
+
+    @Mock
+    private ProductImageRepository delegate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CachingProductImageRepository repository;
+    private ProductId withImage;
+    private ProductId withoutImage;
+    private PrimaryImageUrls primaryImage;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingProductImageRepository(delegate, 1_000, Duration.ofMinutes(10),
+            new PrimaryReads(transactionManager));
+        withImage = ProductId.generate();
+        withoutImage = ProductId.generate();
+        primaryImage = new PrimaryImageUrls(withImage, "https://cdn.greenkawsay.com/a.jpg", null, null);
+    }
+
+    @Test
+    void findPrimaryImageUrlsByProductIds_ShouldLoadMissesInOneCall_AndServeRepeatsFromCache() {
+        // Arrange
+        when(delegate.findPrimaryImageUrlsByProductIds(any())).thenReturn(Map.of(withImage, primaryImage));
+
+        // Act
+        Map<ProductId, PrimaryImageUrls> first = repository.findPrimaryImageUrlsByProductIds(List.of(withImage, withoutImage));
+        Map<ProductId, PrimaryImageUrls> second = repository.findPrimaryImageUrlsByProductIds(List.of(withImage, withoutImage));
+
+        // Assert
+        assertEquals(Map.of(withImage, primaryImage), first);
+        assertEquals(first, second);
+        verify(delegate, times(1)).findPrimaryImageUrlsByProductIds(any());
+    }
+
+    @Test
+    void findPrimaryImageUrlsByProductIds_ShouldOnlyQueryUncachedProducts() {
+        // Arrange
+        ProductId other = ProductId.generate();
+        when(delegate.findPrimaryImageUrlsByProductIds(any())).thenReturn(Map.of(withImage, primaryImage));
+        repository.findPrimaryImageUrlsByProductIds(List.of(withImage));
+
+        // Act
+        repository.findPrimaryImageUrlsByProductIds(List.of(withImage, other));
+
+        // Assert
+        verify(delegate).findPrimaryImageUrlsByProductIds(argThat((Collection<ProductId> ids) ->
+            ids.size() == 1 && ids.contains(other)));
+    }
+
+    @Test
+    void save_ShouldEvictCachedUrls_ForTheImagesProduct() {
+        // Arrange
+        ProductImage image = new ProductImage(withoutImage.getValue(), "https://cdn.greenkawsay.com/b.jpg", true, UUID.randomUUID());
+        when(delegate.findPrimaryImageUrlsByProductIds(any())).thenReturn(Map.of());
+        when(delegate.save(image)).thenReturn(image);
+        repository.findPrimaryImageUrlsByProductIds(List.of(withoutImage));
+
+        // Act
+        repository.save(image);
+        repository.findPrimaryImageUrlsByProductIds(List.of(withoutImage));
+
+        // Assert
+        verify(delegate, times(2)).findPrimaryImageUrlsByProductIds(any());
+    }
+
+    @Test
+    void findPrimaryImageUrlsByProductIds_ShouldNotQuery_WhenNoProducts() {
+        // Act
+        Map<ProductId, PrimaryImageUrls> result = repository.findPrimaryImageUrlsByProductIds(List.of());
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(delegate);
+    }
+}
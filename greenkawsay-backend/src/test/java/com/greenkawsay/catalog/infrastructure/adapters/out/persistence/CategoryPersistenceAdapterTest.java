@@ -0,0 +1,178 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.persistence;
+
+import com.greenkawsay.catalog.domain.models.Category;
+import com.greenkawsay.catalog.domain.models.Product;
+import com.greenkawsay.catalog.domain.valueobjects.CategoryId;
+import com.greenkawsay.catalog.domain.valueobjects.StockQuantity;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.mappers.CategoryPersistenceMapper;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.mappers.ProductPersistenceMapper;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.repositories.CategoryJpaRepository;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.repositories.ProductJpaRepository;
+import com.greenkawsay.shared.domain.valueobjects.Money;
+import com.greenkawsay.shared.infrastructure.metrics.SqlCountingDataSourcePostProcessor;
+import com.greenkawsay.shared.infrastructure.metrics.SqlStatementCounter;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for CategoryPersistenceAdapter asserting the SQL statements issued per port method
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class CategoryPersistenceAdapterTest {
+
+    @Autowired
+    private CategoryJpaRepository categoryJpaRepository;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private SqlStatementCounter counter;
+
+    private CategoryPersistenceAdapter adapter;
+    private ProductPersistenceAdapter productAdapter;
+    private UUID adminId;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new CategoryPersistenceAdapter(categoryJpaRepository, CategoryPersistenceMapper.INSTANCE,
+            testEntityManager.getEntityManager());
+        productAdapter = new ProductPersistenceAdapter(productJpaRepository, ProductPersistenceMapper.INSTANCE,
+            testEntityManager.getEntityManager());
+        adminId = UUID.randomUUID();
+    }
+
+    @Test
+    void save_ShouldIssueExistenceCheckAndInsert_WhenCategoryIsNew() {
+        // Act
+        counter.begin();
+        Category saved = adapter.save(new Category("Zero Waste", "zero-waste", null, null, adminId));
+        testEntityManager.flush();
+        int statements = counter.end();
+
+        // Assert
+        assertEquals(2, statements);
+        assertTrue(categoryJpaRepository.existsById(saved.getId().getValue()));
+    }
+
+    @Test
+    void save_ShouldOnlyUpdate_WhenCategoryWasLoadedInTransaction() {
+        // Arrange
+        Category category = persist(new Category("Zero Waste", "zero-waste", null, null, adminId));
+
+        // Act
+        counter.begin();
+        Category loaded = adapter.findById(category.getId()).orElseThrow();
+        loaded.updateName("Zero Waste Living", adminId);
+        adapter.save(loaded);
+        testEntityManager.flush();
+        int statements = counter.end();
+
+        // Assert
+        assertEquals(2, statements);
+        testEntityManager.clear();
+        assertEquals("Zero Waste Living", adapter.findBySlug("zero-waste").orElseThrow().getName());
+    }
+
+    @Test
+    void findActiveCategories_ShouldReturnUnmanagedProjections_InOneStatement() {
+        // Arrange
+        Category root = persist(new Category("Organic", "organic", null, null, adminId));
+        persist(new Category("Fruit", "fruit", null, root.getId(), adminId));
+        persist(new Category("Bags", "bags", null, null, adminId));
+
+        // Act
+        counter.begin();
+        List<Category> categories = adapter.findActiveCategories();
+        int statements = counter.end();
+
+        // Assert
+        assertEquals(1, statements);
+        assertEquals(List.of("Bags", "Fruit", "Organic"), categories.stream().map(Category::getName).toList());
+        assertEquals(0, managedEntities());
+    }
+
+    @Test
+    void countProductsInCategory_ShouldCountWholeSubtree_InOneStatement() {
+        // Arrange
+        Category root = persist(new Category("Organic", "organic", null, null, adminId));
+        Category child = persist(new Category("Fruit", "fruit", null, root.getId(), adminId));
+        Category other = persist(new Category("Bags", "bags", null, null, adminId));
+        productAdapter.saveAll(List.of(
+            newProduct("Apples", root.getId()),
+            newProduct("Bananas", child.getId()),
+            newProduct("Tote", other.getId())));
+        testEntityManager.flush();
+
+        // Act
+        counter.begin();
+        Long count = adapter.countProductsInCategory(root.getId());
+        int statements = counter.end();
+
+        // Assert
+        assertEquals(1, statements);
+        assertEquals(2L, count);
+    }
+
+    @Test
+    void findRootCategories_ShouldReturnOnlyCategoriesWithoutParent() {
+        // Arrange
+        Category root = persist(new Category("Organic", "organic", null, null, adminId));
+        persist(new Category("Fruit", "fruit", null, root.getId(), adminId));
+
+        // Act
+        counter.begin();
+        List<Category> roots = adapter.findRootCategories();
+        int statements = counter.end();
+
+        // Assert
+        assertEquals(1, statements);
+        assertEquals(List.of(root.getId()), roots.stream().map(Category::getId).toList());
+    }
+
+    private Category persist(Category category) {
+        Category saved = adapter.save(category);
+        testEntityManager.flush();
+        testEntityManager.clear();
+        return saved;
+    }
+
+    private Product newProduct(String name, CategoryId categoryId) {
+        return new Product(name, null, Money.ofUSD(3), categoryId, StockQuantity.of(1), adminId, adminId);
+    }
+
+    private int managedEntities() {
+        return testEntityManager.getEntityManager().unwrap(SessionImplementor.class)
+            .getPersistenceContextInternal().getNumberOfManagedEntities();
+    }
+
+    @TestConfiguration
+    static class SqlCountingConfig {
+
+        @Bean
+        static SqlStatementCounter sqlStatementCounter() {
+            return new SqlStatementCounter();
+        }
+
+        @Bean
+        static SqlCountingDataSourcePostProcessor sqlCountingDataSourcePostProcessor(SqlStatementCounter counter) {
+            return new SqlCountingDataSourcePostProcessor(counter);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.persistence;
+
+import com.greenkawsay.catalog.domain.models.Category;
+import com.greenkawsay.catalog.domain.models.Product;
+import com.greenkawsay.catalog.domain.models.ProductImage;
+import com.greenkawsay.catalog.domain.valueobjects.CategoryId;
+import com.greenkawsay.catalog.domain.valueobjects.StockQuantity;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.mappers.CategoryPersistenceMapper;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.mappers.ProductImagePersistenceMapper;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.mappers.ProductPersistenceMapper;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.repositories.CategoryJpaRepository;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.repositories.ProductImageJpaRepository;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.repositories.ProductJpaRepository;
+import com.greenkawsay.shared.domain.valueobjects.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for JdbcCatalogVersion
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class JdbcCatalogVersionTest {
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private CategoryJpaRepository categoryJpaRepository;
+
+    @Autowired
+    private ProductImageJpaRepository productImageJpaRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcCatalogVersion catalogVersion;
+    private ProductPersistenceAdapter products;
+    private CategoryPersistenceAdapter categories;
+    private ProductImagePersistenceAdapter images;
+    private UUID vendorId;
+    private CategoryId categoryId;
+
+    @BeforeEach
+    void setUp() {
+        catalogVersion = new JdbcCatalogVersion(new JdbcTemplate(dataSource), transactionManager);
+        products = new ProductPersistenceAdapter(productJpaRepository, ProductPersistenceMapper.INSTANCE,
+            testEntityManager.getEntityManager());
+        categories = new CategoryPersistenceAdapter(categoryJpaRepository, CategoryPersistenceMapper.INSTANCE,
+            testEntityManager.getEntityManager());
+        images = new ProductImagePersistenceAdapter(productImageJpaRepository, ProductImagePersistenceMapper.INSTANCE);
+        vendorId = UUID.randomUUID();
+        categoryId = categories.save(new Category("Kitchen", "kitchen", null, null, vendorId)).getId();
+        testEntityManager.flush();
+    }
+
+    @Test
+    void product_ShouldMoveWithProductAndImageWrites_AndIgnoreOtherProducts() {
+        // Arrange
+        Product cacao = products.save(product("Cacao"));
+        Product quinoa = products.save(product("Quinoa"));
+        testEntityManager.flush();
+        String cacaoVersion = catalogVersion.product(cacao.getId().getValue());
+        String quinoaVersion = catalogVersion.product(quinoa.getId().getValue());
+
+        // Act
+        images.save(new ProductImage(cacao.getId().getValue(), "https://cdn.greenkawsay.com/cacao.jpg", true, vendorId));
+        testEntityManager.flush();
+
+        // Assert
+        assertNotEquals(cacaoVersion, catalogVersion.product(cacao.getId().getValue()));
+        assertEquals(quinoaVersion, catalogVersion.product(quinoa.getId().getValue()));
+        assertNull(catalogVersion.product(UUID.randomUUID()));
+    }
+
+    @Test
+    void categories_ShouldMove_WhenCategoryDeleted() {
+        // Arrange
+        Category bathroom = categories.save(new Category("Bathroom", "bathroom", null, null, vendorId));
+        testEntityManager.flush();
+        String before = catalogVersion.categories();
+
+        // Act
+        categories.deleteById(bathroom.getId());
+        testEntityManager.flush();
+
+        // Assert
+        assertNotEquals(before, catalogVersion.categories());
+    }
+
+    private Product product(String name) {
+        return new Product(name, "Eco friendly", Money.ofUSD(10), categoryId, StockQuantity.of(5), vendorId, vendorId);
+    }
+}
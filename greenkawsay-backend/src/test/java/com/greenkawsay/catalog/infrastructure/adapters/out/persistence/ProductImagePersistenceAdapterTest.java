@@ -0,0 +1,90 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.persistence;
+
+import com.greenkawsay.catalog.domain.models.ProductImage;
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.mappers.ProductImagePersistenceMapper;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.repositories.ProductImageJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for ProductImagePersistenceAdapter
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class ProductImagePersistenceAdapterTest {
+
+    @Autowired
+    private ProductImageJpaRepository jpaRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private ProductImagePersistenceAdapter adapter;
+    private ProductId productId;
+    private UUID vendorId;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new ProductImagePersistenceAdapter(jpaRepository, ProductImagePersistenceMapper.INSTANCE);
+        productId = ProductId.generate();
+        vendorId = UUID.randomUUID();
+    }
+
+    @Test
+    void demotePrimaryImage_ShouldRunBeforeInsertOfNewPrimary_InTheSameTransaction() {
+        // Arrange
+        ProductImage current = adapter.save(
+            new ProductImage(productId.getValue(), "https://cdn.greenkawsay.com/old.jpg", true, vendorId));
+        testEntityManager.flush();
+
+        // Act
+        adapter.demotePrimaryImage(productId, vendorId);
+        ProductImage replacement = adapter.save(
+            new ProductImage(productId.getValue(), "https://cdn.greenkawsay.com/new.jpg", true, vendorId));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // Assert
+        List<ProductImage> images = adapter.findByProductId(productId);
+        assertEquals(2, images.size());
+        assertEquals(replacement.getId(), adapter.findPrimaryImageByProductId(productId).orElseThrow().getId());
+        assertFalse(adapter.findById(current.getId().toString()).orElseThrow().isPrimary());
+    }
+
+    @Test
+    void attachVariants_ShouldKeepPrimaryFlag_WhenImageDemotedMeanwhile() {
+        // Arrange
+        ProductImage current = adapter.save(
+            new ProductImage(productId.getValue(), "https://cdn.greenkawsay.com/old.jpg", true, vendorId));
+        testEntityManager.flush();
+        adapter.demotePrimaryImage(productId, vendorId);
+        ProductImage replacement = adapter.save(
+            new ProductImage(productId.getValue(), "https://cdn.greenkawsay.com/new.jpg", true, vendorId));
+        testEntityManager.flush();
+
+        // Act
+        boolean attached = adapter.attachVariants(productId, current.getId().toString(),
+            "https://cdn.greenkawsay.com/old-thumb.jpg", null, vendorId);
+        boolean missing = adapter.attachVariants(productId, UUID.randomUUID().toString(),
+            "https://cdn.greenkawsay.com/gone-thumb.jpg", null, vendorId);
+        testEntityManager.clear();
+
+        // Assert
+        assertTrue(attached);
+        assertFalse(missing);
+        ProductImage updated = adapter.findById(current.getId().toString()).orElseThrow();
+        assertFalse(updated.isPrimary());
+        assertEquals("https://cdn.greenkawsay.com/old-thumb.jpg", updated.getThumbnailUrl());
+        assertEquals(replacement.getId(), adapter.findPrimaryImageByProductId(productId).orElseThrow().getId());
+    }
+}
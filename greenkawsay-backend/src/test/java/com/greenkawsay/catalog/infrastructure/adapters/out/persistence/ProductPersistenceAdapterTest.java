@@ -0,0 +1,279 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.persistence;
+
+import com.greenkawsay.catalog.domain.models.Product;
+import com.greenkawsay.catalog.domain.valueobjects.CategoryId;
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.catalog.domain.valueobjects.StockQuantity;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.entities.CategoryEntity;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.mappers.ProductPersistenceMapper;
+import com.greenkawsay.catalog.infrastructure.adapters.out.persistence.repositories.ProductJpaRepository;
+import com.greenkawsay.shared.domain.valueobjects.Money;
+import com.greenkawsay.shared.infrastructure.metrics.SqlCountingDataSourcePostProcessor;
+import com.greenkawsay.shared.infrastructure.metrics.SqlStatementCounter;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for ProductPersistenceAdapter asserting the SQL statements issued per port method
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class ProductPersistenceAdapterTest {
+
+    @Autowired
+    private ProductJpaRepository jpaRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private SqlStatementCounter counter;
+
+    private ProductPersistenceAdapter adapter;
+    private CategoryId categoryId;
+    private UUID vendorId;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new ProductPersistenceAdapter(jpaRepository, ProductPersistenceMapper.INSTANCE,
+            testEntityManager.getEntityManager());
+        categoryId = persistCategory(null);
+        vendorId = UUID.randomUUID();
+    }
+
+    @Test
+    void save_ShouldIssueExistenceCheckAndInsert_WhenProductIsNew() {
+        // Arrange
+        Product product = newProduct("Bamboo Toothbrush", 10);
+
+        // Act
+        counter.begin();
+        adapter.save(product);
+        testEntityManager.flush();
+        int statements = counter.end();
+
+        // Assert
+        assertEquals(2, statements);
+        assertTrue(jpaRepository.existsById(product.getId().getValue()));
+    }
+
+    @Test
+    void save_ShouldOnlyUpdate_WhenProductWasLoadedInTransaction() {
+        // Arrange
+        Product product = adapter.save(newProduct("Bamboo Toothbrush", 10));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // Act
+        counter.begin();
+        Product loaded = adapter.findById(product.getId()).orElseThrow();
+        loaded.updateStock(StockQuantity.of(3), vendorId);
+        adapter.save(loaded);
+        testEntityManager.flush();
+        int statements = counter.end();
+
+        // Assert
+        assertEquals(2, statements);
+        testEntityManager.clear();
+        assertEquals(3, adapter.findById(product.getId()).orElseThrow().getStockQuantity().getValue());
+    }
+
+    @Test
+    void saveAll_ShouldInsertInJdbcBatches_WhenProductsAreNew() {
+        // Arrange
+        List<Product> products = IntStream.range(0, 120)
+            .mapToObj(i -> newProduct("Product " + i, i))
+            .toList();
+
+        // Act
+        counter.begin();
+        List<Product> saved = adapter.saveAll(products);
+        testEntityManager.flush();
+        int statements = counter.end();
+
+        // Assert
+        assertEquals(120, saved.size());
+        assertEquals(1 + 3, statements);
+        assertEquals(120, jpaRepository.count());
+    }
+
+    @Test
+    void findAll_ShouldSkipCountQuery_WhenFirstPageIsNotFull() {
+        // Arrange
+        persistProducts(5);
+
+        // Act
+        counter.begin();
+        Page<Product> page = adapter.findAll(PageRequest.of(0, 20));
+        int statements = counter.end();
+
+        // Assert
+        assertEquals(1, statements);
+        assertEquals(5, page.getTotalElements());
+    }
+
+    @Test
+    void findAll_ShouldIssueSelectAndCount_WhenMorePagesExist() {
+        // Arrange
+        persistProducts(25);
+
+        // Act
+        counter.begin();
+        Page<Product> page = adapter.findAll(PageRequest.of(0, 10, Sort.by("name")));
+        int statements = counter.end();
+
+        // Assert
+        assertEquals(2, statements);
+        assertEquals(25, page.getTotalElements());
+        assertEquals(10, page.getContent().size());
+    }
+
+    @Test
+    void findByNameContaining_ShouldReturnUnmanagedProjections_InOneStatement() {
+        // Arrange
+        persistProducts(3);
+        adapter.save(newProduct("Reusable 100% Cotton Bag", 4));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // Act
+        counter.begin();
+        List<Product> matches = adapter.findByNameContaining("100%");
+        int statements = counter.end();
+
+        // Assert
+        assertEquals(1, statements);
+        assertEquals(1, matches.size());
+        assertEquals(0, managedEntities());
+    }
+
+    @Test
+    void findByCategoryAndSubcategories_ShouldLoadWholeSubtree_InOneStatement() {
+        // Arrange
+        CategoryId child = persistCategory(categoryId);
+        CategoryId grandChild = persistCategory(child);
+        CategoryId unrelated = persistCategory(null);
+        List<Product> products = List.of(
+            newProduct("Root product", categoryId),
+            newProduct("Child product", child),
+            newProduct("Grandchild product", grandChild),
+            newProduct("Unrelated product", unrelated));
+        adapter.saveAll(products);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // Act
+        counter.begin();
+        List<Product> subtree = adapter.findByCategoryAndSubcategories(categoryId);
+        int statements = counter.end();
+
+        // Assert
+        assertEquals(1, statements);
+        assertEquals(3, subtree.size());
+        assertTrue(subtree.stream().noneMatch(product -> product.getName().equals("Unrelated product")));
+    }
+
+    @Test
+    void findLowStockProductsByUserId_ShouldReturnVendorsLowStockProducts_InOneStatement() {
+        // Arrange
+        Product custom = newProduct("Seed Kit", 15);
+        custom.updateLowStockThreshold(20, vendorId);
+        Product inactive = newProduct("Compost Bin", 0);
+        inactive.deactivate(vendorId);
+        adapter.saveAll(List.of(newProduct("Bamboo Brush", 2), newProduct("Bamboo Toothbrush", 30), custom, inactive,
+            new Product("Other vendor", null, Money.ofUSD(5), categoryId, StockQuantity.of(0), UUID.randomUUID(), vendorId)));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // Act
+        counter.begin();
+        List<Product> lowStock = adapter.findLowStockProductsByUserId(vendorId);
+        int statements = counter.end();
+
+        // Assert
+        assertEquals(1, statements);
+        assertEquals(List.of("Bamboo Brush", "Seed Kit"), lowStock.stream().map(Product::getName).toList());
+        assertEquals(20, lowStock.get(1).getLowStockThreshold());
+        assertEquals(0, managedEntities());
+    }
+
+    @Test
+    void deleteById_ShouldIssueSingleDelete() {
+        // Arrange
+        Product product = adapter.save(newProduct("Bamboo Toothbrush", 10));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // Act
+        counter.begin();
+        adapter.deleteById(product.getId());
+        int statements = counter.end();
+
+        // Assert
+        assertEquals(1, statements);
+        assertFalse(adapter.findById(new ProductId(product.getId().getValue())).isPresent());
+    }
+
+    private Product newProduct(String name, int stock) {
+        return new Product(name, "Eco friendly", Money.ofUSD(12.5), categoryId, StockQuantity.of(stock), vendorId, vendorId);
+    }
+
+    private Product newProduct(String name, CategoryId category) {
+        return new Product(name, null, Money.ofUSD(5), category, StockQuantity.of(1), vendorId, vendorId);
+    }
+
+    private void persistProducts(int count) {
+        adapter.saveAll(IntStream.range(0, count).mapToObj(i -> newProduct("Product " + i, i)).toList());
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    private CategoryId persistCategory(CategoryId parentId) {
+        CategoryEntity category = new CategoryEntity();
+        category.setId(UUID.randomUUID());
+        category.setName("Category");
+        category.setSlug("category-" + category.getId());
+        category.setParentId(parentId != null ? parentId.getValue() : null);
+        category.setCreatedAt(LocalDateTime.now());
+        category.setUpdatedAt(LocalDateTime.now());
+        category.markNew(true);
+        testEntityManager.persistAndFlush(category);
+        return new CategoryId(category.getId());
+    }
+
+    private int managedEntities() {
+        return testEntityManager.getEntityManager().unwrap(SessionImplementor.class)
+            .getPersistenceContextInternal().getNumberOfManagedEntities();
+    }
+
+    @TestConfiguration
+    static class SqlCountingConfig {
+
+        @Bean
+        static SqlStatementCounter sqlStatementCounter() {
+            return new SqlStatementCounter();
+        }
+
+        @Bean
+        static SqlCountingDataSourcePostProcessor sqlCountingDataSourcePostProcessor(SqlStatementCounter counter) {
+            return new SqlCountingDataSourcePostProcessor(counter);
+        }
+    }
+}
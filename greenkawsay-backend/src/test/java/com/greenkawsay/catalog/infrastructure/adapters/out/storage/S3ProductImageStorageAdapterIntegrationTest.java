@@ -0,0 +1,107 @@
+package com.greenkawsay.catalog.infrastructure.adapters.out.storage;
+
+import com.greenkawsay.catalog.infrastructure.configuration.S3StorageProperties;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.localstack.LocalStackContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for S3ProductImageStorageAdapter against LocalStack
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class S3ProductImageStorageAdapterIntegrationTest {
+
+    private static final String BUCKET = "greenkawsay-product-images-test";
+
+    @Container
+    private static final LocalStackContainer LOCALSTACK =
+            new LocalStackContainer(DockerImageName.parse("localstack/localstack:3.8"))
+                    .withServices(LocalStackContainer.Service.S3);
+
+    private static S3Client s3Client;
+    private static S3ProductImageStorageAdapter adapter;
+
+    @BeforeAll
+    static void setUp() {
+        s3Client = S3Client.builder()
+                .endpointOverride(LOCALSTACK.getEndpoint())
+                .region(Region.of(LOCALSTACK.getRegion()))
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(LOCALSTACK.getAccessKey(), LOCALSTACK.getSecretKey())))
+                .forcePathStyle(true)
+                .build();
+        s3Client.createBucket(builder -> builder.bucket(BUCKET));
+        adapter = new S3ProductImageStorageAdapter(s3Client,
+                new S3StorageProperties(BUCKET, LOCALSTACK.getRegion(), LOCALSTACK.getEndpoint().toString(), true, null));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        s3Client.close();
+    }
+
+    @Test
+    void store_ShouldStreamContentAndReturnUrl_WhenUploadingLargeImage() throws IOException {
+        // Arrange: 8 MB produced lazily, never materialised as a single array
+        byte[] chunk = new byte[64 * 1024];
+        Arrays.fill(chunk, (byte) 7);
+        int chunks = 128;
+        InputStream content = new SequenceInputStream(Collections.enumeration(
+                Collections.nCopies(chunks, chunk).stream().map(ByteArrayInputStream::new).toList()));
+
+        // Act
+        String url = adapter.store("products/p1/large.jpg", content, (long) chunk.length * chunks, "image/jpeg");
+
+        // Assert
+        assertTrue(url.endsWith("/" + BUCKET + "/products/p1/large.jpg"));
+        try (InputStream stored = adapter.open("products/p1/large.jpg")) {
+            assertEquals((long) chunk.length * chunks, stored.transferTo(OutputStream.nullOutputStream()));
+        }
+    }
+
+    @Test
+    void delete_ShouldRemoveObject_WhenKeyExists() {
+        // Arrange
+        byte[] bytes = {1, 2, 3};
+        adapter.store("products/p1/small.png", new ByteArrayInputStream(bytes), bytes.length, "image/png");
+
+        // Act
+        adapter.delete("products/p1/small.png");
+
+        // Assert
+        assertThrows(NoSuchKeyException.class, () -> adapter.open("products/p1/small.png"));
+    }
+
+    @Test
+    void store_ShouldUsePublicBaseUrl_WhenConfigured() {
+        // Arrange
+        S3ProductImageStorageAdapter cdnAdapter = new S3ProductImageStorageAdapter(s3Client,
+                new S3StorageProperties(BUCKET, LOCALSTACK.getRegion(), null, true, "https://cdn.greenkawsay.com"));
+        byte[] bytes = {1, 2, 3};
+
+        // Act
+        String url = cdnAdapter.store("products/p2/a.png", new ByteArrayInputStream(bytes), bytes.length, "image/png");
+
+        // Assert
+        assertEquals("https://cdn.greenkawsay.com/products/p2/a.png", url);
+    }
+}
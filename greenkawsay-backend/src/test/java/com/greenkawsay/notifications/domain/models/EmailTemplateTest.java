@@ -0,0 +1,56 @@
+package com.greenkawsay.notifications.domain.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for EmailTemplate
+ */
+class EmailTemplateTest {
+
+    @Test
+    void render_ShouldSubstitutePlaceholders_WhenModelHasValues() {
+        // Arrange
+        EmailTemplate template = EmailTemplate.compile(
+            "order-confirmation",
+            "Order {{orderNumber}} confirmed",
+            "<p>Hi {{ firstName }}, total {{totalAmount}}</p>"
+        );
+        Map<String, Object> model = Map.of("orderNumber", "GK-1001", "firstName", "Ana", "totalAmount", "S/ 59.90");
+
+        // Act & Assert
+        assertEquals("Order GK-1001 confirmed", template.renderSubject(model));
+        assertEquals("<p>Hi Ana, total S/ 59.90</p>", template.renderBody(model));
+    }
+
+    @Test
+    void renderBody_ShouldEscapeHtml_WhenValueContainsMarkup() {
+        // Arrange
+        EmailTemplate template = EmailTemplate.compile("test", "Subject", "<p>{{name}}</p>");
+
+        // Act
+        String body = template.renderBody(Map.of("name", "<script>\"x\" & 'y'</script>"));
+
+        // Assert
+        assertEquals("<p>&lt;script&gt;&quot;x&quot; &amp; &#39;y&#39;&lt;/script&gt;</p>", body);
+    }
+
+    @Test
+    void renderBody_ShouldRenderEmpty_WhenVariableMissing() {
+        // Arrange
+        EmailTemplate template = EmailTemplate.compile("test", "Subject", "Hello {{name}}!");
+
+        // Act & Assert
+        assertEquals("Hello !", template.renderBody(Map.of()));
+    }
+
+    @Test
+    void compile_ShouldThrowException_WhenPlaceholderUnclosed() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+            () -> EmailTemplate.compile("broken", "Subject", "Hello {{name"));
+    }
+}
@@ -0,0 +1,146 @@
+package com.greenkawsay.notifications.infrastructure.adapters.out.mail;
+
+import com.greenkawsay.notifications.domain.models.EmailMessage;
+import com.greenkawsay.notifications.infrastructure.configuration.MailOutboxProperties;
+import com.greenkawsay.shared.domain.valueobjects.Email;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for BatchingMailOutbox against a local GreenMail SMTP server
+ */
+class BatchingMailOutboxIntegrationTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private BatchingMailOutbox outbox;
+
+    @AfterEach
+    void tearDown() {
+        if (outbox != null && outbox.isRunning()) {
+            outbox.stop();
+        }
+    }
+
+    @Test
+    void offer_ShouldDeliverAllMessages_WhenSmtpAvailable() throws Exception {
+        // Arrange
+        outbox = new BatchingMailOutbox(mailSender(ServerSetupTest.SMTP.getPort()), properties(100, 3));
+        outbox.start();
+
+        // Act
+        for (int i = 0; i < 25; i++) {
+            assertTrue(outbox.offer(message("customer" + i + "@example.com", "Order GK-" + i)));
+        }
+
+        // Assert
+        assertTrue(greenMail.waitForIncomingEmail(10_000, 25));
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(25, received.length);
+        Set<String> subjects = Arrays.stream(received)
+            .map(this::subjectOf)
+            .collect(Collectors.toSet());
+        assertTrue(subjects.contains("Order GK-0"));
+        assertTrue(subjects.contains("Order GK-24"));
+    }
+
+    @Test
+    void offer_ShouldRetryAndDeliver_WhenSmtpTemporarilyUnavailable() throws Exception {
+        // Arrange
+        greenMail.stop();
+        CountDownLatch firstAttempt = new CountDownLatch(1);
+        JavaMailSenderImpl sender = new JavaMailSenderImpl() {
+            @Override
+            public void send(MimeMessage... mimeMessages) {
+                try {
+                    super.send(mimeMessages);
+                } finally {
+                    firstAttempt.countDown();
+                }
+            }
+        };
+        sender.setHost("localhost");
+        sender.setPort(ServerSetupTest.SMTP.getPort());
+        outbox = new BatchingMailOutbox(sender, properties(10, 5));
+        outbox.start();
+
+        // Act
+        assertTrue(outbox.offer(message("retry@example.com", "Price drop")));
+        assertTrue(firstAttempt.await(5, TimeUnit.SECONDS));
+        greenMail.start();
+
+        // Assert
+        assertTrue(greenMail.waitForIncomingEmail(10_000, 1));
+        assertEquals("Price drop", subjectOf(greenMail.getReceivedMessages()[0]));
+    }
+
+    @Test
+    void offer_ShouldReject_WhenNotStarted() {
+        // Arrange
+        outbox = new BatchingMailOutbox(mailSender(ServerSetupTest.SMTP.getPort()), properties(1, 1));
+
+        // Act & Assert
+        assertFalse(outbox.offer(message("full@example.com", "Rejected")));
+    }
+
+    @Test
+    void backoffMillis_ShouldGrowExponentially_AndRespectCap() {
+        // Arrange
+        outbox = new BatchingMailOutbox(mailSender(ServerSetupTest.SMTP.getPort()), properties(10, 5));
+
+        // Act & Assert
+        assertEquals(100, outbox.backoffMillis(1));
+        assertEquals(200, outbox.backoffMillis(2));
+        assertEquals(400, outbox.backoffMillis(3));
+        assertEquals(1_000, outbox.backoffMillis(10));
+    }
+
+    private static MailOutboxProperties properties(int queueCapacity, int maxAttempts) {
+        return new MailOutboxProperties(
+            "no-reply@greenkawsay.com",
+            queueCapacity,
+            2,
+            10,
+            maxAttempts,
+            Duration.ofMillis(100),
+            Duration.ofSeconds(1),
+            Duration.ofMillis(50),
+            Duration.ofSeconds(5),
+            "classpath*:templates/email/*.html"
+        );
+    }
+
+    private static JavaMailSenderImpl mailSender(int port) {
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost("localhost");
+        sender.setPort(port);
+        return sender;
+    }
+
+    private static EmailMessage message(String to, String subject) {
+        return new EmailMessage(new Email(to), subject, "<p>" + subject + "</p>");
+    }
+
+    private String subjectOf(MimeMessage message) {
+        try {
+            return message.getSubject();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.greenkawsay.recommendations.application.services;
+
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.recommendations.application.ports.out.InteractionSourcePort;
+import com.greenkawsay.recommendations.application.ports.out.RecommendationTrainerPort;
+import com.greenkawsay.recommendations.domain.models.Recommendation;
+import com.greenkawsay.recommendations.domain.models.RecommendationModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RecommendationApplicationService
+ */
+@ExtendWith(MockitoExtension.class)
+class RecommendationApplicationServiceTest {
+
+    @Mock
+    private InteractionSourcePort interactionSource;
+
+    @Mock
+    private RecommendationTrainerPort trainer;
+
+    @InjectMocks
+    private RecommendationApplicationService recommendationService;
+
+    @Test
+    void getRecommendations_ShouldReturnEmpty_WhenNoModelTrainedYet() {
+        // Act
+        List<Recommendation> result = recommendationService.getRecommendations(ProductId.generate(), 10);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void retrain_ShouldSwapModel_WhenTrainingSucceeds() {
+        // Arrange
+        UUID product = UUID.randomUUID();
+        UUID neighbor = UUID.randomUUID();
+        RecommendationModel trained = new RecommendationModel(
+            new UUID[]{product, neighbor}, 1, new int[]{1, 0}, new float[]{0.8f, 0.8f}, Instant.now());
+        when(trainer.train(interactionSource)).thenReturn(trained);
+
+        // Act
+        boolean swapped = recommendationService.retrain();
+
+        // Assert
+        assertTrue(swapped);
+        assertSame(trained, recommendationService.currentModel());
+        assertEquals(List.of(new Recommendation(neighbor, 0.8f)),
+            recommendationService.getRecommendations(new ProductId(product), 10));
+    }
+
+    @Test
+    void retrain_ShouldKeepPreviousModel_WhenTrainingFails() {
+        // Arrange
+        RecommendationModel before = recommendationService.currentModel();
+        when(trainer.train(interactionSource)).thenThrow(new IllegalStateException("database down"));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> recommendationService.retrain());
+        assertSame(before, recommendationService.currentModel());
+    }
+}
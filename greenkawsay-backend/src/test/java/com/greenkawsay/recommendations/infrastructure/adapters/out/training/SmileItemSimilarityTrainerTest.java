@@ -0,0 +1,86 @@
+package com.greenkawsay.recommendations.infrastructure.adapters.out.training;
+
+import com.greenkawsay.recommendations.application.ports.out.InteractionSourcePort;
+import com.greenkawsay.recommendations.domain.models.Interaction;
+import com.greenkawsay.recommendations.domain.models.Recommendation;
+import com.greenkawsay.recommendations.domain.models.RecommendationModel;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SmileItemSimilarityTrainer
+ */
+class SmileItemSimilarityTrainerTest {
+
+    private final UUID bambooBrush = UUID.randomUUID();
+    private final UUID toothpaste = UUID.randomUUID();
+    private final UUID coffee = UUID.randomUUID();
+    private final UUID unrelated = UUID.randomUUID();
+
+    @Test
+    void train_ShouldRankCoInteractedProductsFirst() {
+        // Arrange: the brush is almost always bought with toothpaste, sometimes with coffee
+        UUID ana = UUID.randomUUID();
+        UUID luis = UUID.randomUUID();
+        UUID rosa = UUID.randomUUID();
+        UUID pedro = UUID.randomUUID();
+        InteractionSourcePort source = interactions(List.of(
+            new Interaction(ana, bambooBrush, 3f),
+            new Interaction(ana, toothpaste, 3f),
+            new Interaction(luis, bambooBrush, 1f),
+            new Interaction(luis, toothpaste, 2f),
+            new Interaction(luis, coffee, 1f),
+            new Interaction(rosa, coffee, 3f),
+            new Interaction(pedro, unrelated, 1f)
+        ));
+
+        // Act
+        RecommendationModel model = new SmileItemSimilarityTrainer(5, 0.01f).train(source);
+
+        // Assert
+        List<Recommendation> recommendations = model.recommend(bambooBrush, 5);
+        assertEquals(4, model.itemCount());
+        assertEquals(2, recommendations.size());
+        assertEquals(toothpaste, recommendations.get(0).productId());
+        assertEquals(coffee, recommendations.get(1).productId());
+        assertTrue(recommendations.get(0).score() > recommendations.get(1).score());
+        assertTrue(model.recommend(unrelated, 5).isEmpty());
+    }
+
+    @Test
+    void train_ShouldKeepOnlyTopNeighbors_WhenMoreCandidatesThanK() {
+        // Arrange
+        UUID user = UUID.randomUUID();
+        InteractionSourcePort source = interactions(List.of(
+            new Interaction(user, bambooBrush, 1f),
+            new Interaction(user, toothpaste, 1f),
+            new Interaction(user, coffee, 1f),
+            new Interaction(user, unrelated, 1f)
+        ));
+
+        // Act
+        RecommendationModel model = new SmileItemSimilarityTrainer(2, 0.01f).train(source);
+
+        // Assert
+        assertEquals(2, model.recommend(bambooBrush, 10).size());
+        assertEquals(1, model.recommend(bambooBrush, 1).size());
+    }
+
+    @Test
+    void train_ShouldReturnEmptyModel_WhenNoInteractions() {
+        // Act
+        RecommendationModel model = new SmileItemSimilarityTrainer(5, 0.01f).train(interactions(List.of()));
+
+        // Assert
+        assertEquals(0, model.itemCount());
+        assertTrue(model.recommend(bambooBrush, 5).isEmpty());
+    }
+
+    private static InteractionSourcePort interactions(List<Interaction> interactions) {
+        return interactions::forEach;
+    }
+}
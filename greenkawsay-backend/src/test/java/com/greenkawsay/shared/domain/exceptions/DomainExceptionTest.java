@@ -0,0 +1,44 @@
+package com.greenkawsay.shared.domain.exceptions;
+
+import com.greenkawsay.catalog.domain.exceptions.ProductNotFoundException;
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DomainException stack trace capture
+ */
+class DomainExceptionTest {
+
+    @AfterEach
+    void tearDown() {
+        DomainException.setStackTracesEnabled(false);
+    }
+
+    @Test
+    void constructor_ShouldSkipStackTrace_ByDefault() {
+        // Arrange
+        DomainException.setStackTracesEnabled(false);
+
+        // Act
+        ProductNotFoundException exception = new ProductNotFoundException(ProductId.generate());
+
+        // Assert
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals("PRODUCT_NOT_FOUND", exception.getErrorCode());
+    }
+
+    @Test
+    void constructor_ShouldCaptureStackTrace_WhenDebugEnabled() {
+        // Arrange
+        DomainException.setStackTracesEnabled(true);
+
+        // Act
+        ProductNotFoundException exception = new ProductNotFoundException(ProductId.generate());
+
+        // Assert
+        assertTrue(exception.getStackTrace().length > 0);
+    }
+}
@@ -0,0 +1,107 @@
+package com.greenkawsay.shared.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LogSamplingTurboFilter
+ */
+class LogSamplingTurboFilterTest {
+
+    private LoggerContext context;
+    private ListAppender<ILoggingEvent> appender;
+    private Logger serviceLogger;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        LogSamplingTurboFilter filter = new LogSamplingTurboFilter();
+        filter.setContext(context);
+        filter.addLogger("com.greenkawsay.users.application.services");
+        filter.setLevel("INFO");
+        filter.setRate(100);
+        filter.start();
+        context.addTurboFilter(filter);
+
+        appender = new ListAppender<>();
+        appender.setContext(context);
+        appender.start();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+        serviceLogger = context.getLogger("com.greenkawsay.users.application.services.WishlistApplicationService");
+    }
+
+    @Test
+    void decide_ShouldKeepOneInRateEventsPerTemplate_WhenLoggerIsSampled() {
+        // Act
+        for (int i = 0; i < 250; i++) {
+            serviceLogger.info("Adding item to wishlist with ID: {}", i);
+            serviceLogger.info("Item added to wishlist successfully");
+        }
+
+        // Assert
+        assertEquals(6, appender.list.size());
+        assertEquals(3, appender.list.stream()
+            .filter(event -> event.getMessage().startsWith("Adding item"))
+            .count());
+        assertEquals("Adding item to wishlist with ID: 0", appender.list.get(0).getFormattedMessage());
+    }
+
+    @Test
+    void decide_ShouldKeepEveryEvent_WhenLevelIsAboveSampledLevel() {
+        // Act
+        for (int i = 0; i < 10; i++) {
+            serviceLogger.warn("Could not apply increment {}", i);
+        }
+
+        // Assert
+        assertEquals(10, appender.list.size());
+    }
+
+    @Test
+    void decide_ShouldKeepEveryEvent_WhenEventCarriesThrowable() {
+        // Act
+        for (int i = 0; i < 10; i++) {
+            serviceLogger.info("Retrying", new IllegalStateException("boom"));
+        }
+
+        // Assert
+        assertEquals(10, appender.list.size());
+    }
+
+    @Test
+    void decide_ShouldKeepEveryEvent_WhenLoggerIsNotSampled() {
+        // Arrange
+        Logger outbox = context.getLogger("com.greenkawsay.notifications.infrastructure.adapters.out.mail.BatchingMailOutbox");
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            outbox.info("Mail outbox started");
+        }
+
+        // Assert
+        assertEquals(10, appender.list.size());
+    }
+
+    @Test
+    void decide_ShouldNotConsumeSamples_WhenLevelIsDisabled() {
+        // Act
+        for (int i = 0; i < 99; i++) {
+            serviceLogger.debug("Getting wishlist by ID: {}", i);
+        }
+        serviceLogger.setLevel(Level.DEBUG);
+        serviceLogger.debug("Getting wishlist by ID: {}", 99);
+
+        // Assert
+        assertEquals(1, appender.list.size());
+        assertEquals("Getting wishlist by ID: 99", appender.list.get(0).getFormattedMessage());
+    }
+}
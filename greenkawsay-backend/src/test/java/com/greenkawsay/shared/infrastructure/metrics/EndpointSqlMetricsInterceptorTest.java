@@ -0,0 +1,103 @@
+package com.greenkawsay.shared.infrastructure.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for per-request SQL statement counting through the DataSource proxy
+ */
+class EndpointSqlMetricsInterceptorTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry registry;
+    private SqlStatementCounter counter;
+    private EndpointSqlMetricsInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+        counter = new SqlStatementCounter();
+        DataSource proxied = (DataSource) new SqlCountingDataSourcePostProcessor(counter)
+            .postProcessAfterInitialization(database, "dataSource");
+        jdbcTemplate = new JdbcTemplate(proxied);
+        jdbcTemplate.execute("CREATE TABLE items (id INT PRIMARY KEY)");
+        registry = new SimpleMeterRegistry();
+        interceptor = new EndpointSqlMetricsInterceptor(counter, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void afterCompletion_ShouldRecordStatementsOfRequest_TaggedByControllerMethod() throws Exception {
+        // Arrange
+        HandlerMethod handler = new HandlerMethod(new StubController(), StubController.class.getMethod("list"));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        interceptor.preHandle(request, response, handler);
+        jdbcTemplate.update("INSERT INTO items (id) VALUES (1)");
+        jdbcTemplate.queryForList("SELECT id FROM items");
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM items", Integer.class);
+        interceptor.afterCompletion(request, response, handler, null);
+
+        // Assert
+        DistributionSummary summary = registry.get(EndpointSqlMetricsInterceptor.METRIC_NAME)
+            .tag("endpoint", "StubController.list")
+            .summary();
+        assertEquals(1, summary.count());
+        assertEquals(3, summary.totalAmount());
+    }
+
+    @Test
+    void statementsOutsideRequest_ShouldNotBeCounted() {
+        // Act
+        jdbcTemplate.queryForList("SELECT id FROM items");
+
+        // Assert
+        assertEquals(-1, counter.end());
+    }
+
+    @Test
+    void nestedScopes_ShouldEachCountStatementsExecutedWhileOpen() {
+        // Act
+        counter.begin();
+        jdbcTemplate.queryForList("SELECT id FROM items");
+        counter.begin();
+        jdbcTemplate.queryForList("SELECT id FROM items");
+        int inner = counter.end();
+        jdbcTemplate.queryForList("SELECT id FROM items");
+        int outer = counter.end();
+
+        // Assert
+        assertEquals(1, inner);
+        assertEquals(3, outer);
+        assertEquals(-1, counter.end());
+    }
+
+    static class StubController {
+        public void list() {
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.greenkawsay.shared.infrastructure.metrics;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * MockMvc matcher failing a request that exceeds its SQL statement or allocation budget
+ * Budgets are declared next to the endpoint tests, so an N+1 query or an accidental full scan
+ * fails the build instead of showing up in production metrics; needs RequestCostFilter on MockMvc
+ */
+public final class RequestBudget implements ResultMatcher {
+
+    private final int maxStatements;
+    private final long maxAllocatedBytes;
+
+    private RequestBudget(int maxStatements, long maxAllocatedBytes) {
+        this.maxStatements = maxStatements;
+        this.maxAllocatedBytes = maxAllocatedBytes;
+    }
+
+    public static RequestBudget statements(int maxStatements) {
+        return new RequestBudget(maxStatements, -1);
+    }
+
+    /**
+     * Also bound the heap allocated on the request thread; skipped when the JVM cannot measure it
+     */
+    public RequestBudget allocated(DataSize maxAllocated) {
+        return new RequestBudget(maxStatements, maxAllocated.toBytes());
+    }
+
+    @Override
+    public void match(MvcResult result) {
+        MockHttpServletRequest request = result.getRequest();
+        RequestCost cost = (RequestCost) request.getAttribute(RequestCostFilter.ATTRIBUTE);
+        if (cost == null) {
+            throw new AssertionError("No request cost recorded, RequestCostFilter is not registered with MockMvc");
+        }
+        String endpoint = request.getMethod() + " " + request.getRequestURI();
+        if (cost.statements() > maxStatements) {
+            throw new AssertionError(endpoint + " executed " + cost.statements()
+                    + " SQL statements, budget is " + maxStatements);
+        }
+        if (maxAllocatedBytes >= 0 && cost.allocatedBytes() > maxAllocatedBytes) {
+            throw new AssertionError(endpoint + " allocated " + cost.allocatedBytes()
+                    + " bytes, budget is " + maxAllocatedBytes);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.greenkawsay.shared.infrastructure.metrics;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Test configuration counting SQL statements on every DataSource and measuring each MockMvc request
+ * Import it into a web or JPA slice test and assert with RequestBudget
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class RequestBudgetTestConfig {
+
+    @Bean
+    static SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    @Bean
+    static SqlCountingDataSourcePostProcessor sqlCountingDataSourcePostProcessor(SqlStatementCounter counter) {
+        return new SqlCountingDataSourcePostProcessor(counter);
+    }
+
+    @Bean
+    RequestCostFilter requestCostFilter(SqlStatementCounter counter) {
+        return new RequestCostFilter(counter);
+    }
+}
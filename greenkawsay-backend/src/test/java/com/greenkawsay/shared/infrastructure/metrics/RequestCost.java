@@ -0,0 +1,8 @@
+package com.greenkawsay.shared.infrastructure.metrics;
+
+/**
+ * SQL statements and heap bytes one request cost on its handling thread
+ * allocatedBytes is -1 when the JVM does not support per-thread allocation accounting
+ */
+public record RequestCost(int statements, long allocatedBytes) {
+}
@@ -0,0 +1,52 @@
+package com.greenkawsay.shared.infrastructure.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Measures the RequestCost of each MockMvc request and stores it as a request attribute for RequestBudget
+ * Statements are counted in a SqlStatementCounter scope, allocations through the thread MXBean;
+ * both cover only the request thread, which is the whole request under MockMvc
+ */
+public class RequestCostFilter extends OncePerRequestFilter {
+
+    static final String ATTRIBUTE = RequestCostFilter.class.getName() + ".cost";
+
+    private final SqlStatementCounter counter;
+
+    public RequestCostFilter(SqlStatementCounter counter) {
+        this.counter = counter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long allocatedBefore = allocatedBytes();
+        counter.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            int statements = counter.end();
+            long allocatedAfter = allocatedBytes();
+            long allocated = allocatedBefore >= 0 && allocatedAfter >= 0 ? allocatedAfter - allocatedBefore : -1;
+            request.setAttribute(ATTRIBUTE, new RequestCost(statements, allocated));
+        }
+    }
+
+    private static long allocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean allocationAware
+                && allocationAware.isThreadAllocatedMemorySupported()
+                && allocationAware.isThreadAllocatedMemoryEnabled()) {
+            return allocationAware.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+}
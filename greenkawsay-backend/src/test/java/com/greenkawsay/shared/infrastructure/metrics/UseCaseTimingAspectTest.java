@@ -0,0 +1,92 @@
+package com.greenkawsay.shared.infrastructure.metrics;
+
+import com.greenkawsay.users.application.ports.in.LeaderboardServicePort;
+import com.greenkawsay.users.domain.exceptions.LeaderboardEntryNotFoundException;
+import com.greenkawsay.users.domain.models.LeaderboardEntry;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for UseCaseTimingAspect
+ */
+class UseCaseTimingAspectTest {
+
+    private SimpleMeterRegistry registry;
+    private StubLeaderboardService service;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new StubLeaderboardService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new UseCaseTimingAspect(registry));
+        service = factory.getProxy();
+    }
+
+    @Test
+    void servicePortCall_ShouldBeTimed_WithPortAndMethodTags() {
+        // Act
+        service.getTopUsers(10);
+        service.getTopUsers(5);
+
+        // Assert
+        Timer timer = registry.get(UseCaseTimingAspect.SERVICE_TIMER)
+            .tags("port", "LeaderboardServicePort", "method", "getTopUsers", "exception", "none")
+            .timer();
+        assertEquals(2, timer.count());
+    }
+
+    @Test
+    void failingServicePortCall_ShouldBeTimed_WithExceptionTag() {
+        // Act
+        assertThrows(LeaderboardEntryNotFoundException.class, () -> service.getUserStanding(UserId.generate()));
+
+        // Assert
+        Timer timer = registry.get(UseCaseTimingAspect.SERVICE_TIMER)
+            .tags("method", "getUserStanding", "exception", "LeaderboardEntryNotFoundException")
+            .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void nonPortMethod_ShouldNotBeTimed() {
+        // Act
+        service.helper();
+
+        // Assert
+        assertTrue(registry.find(UseCaseTimingAspect.SERVICE_TIMER).tags("method", "helper").timers().isEmpty());
+    }
+
+    static class StubLeaderboardService implements LeaderboardServicePort {
+        @Override
+        public List<LeaderboardEntry> getTopUsers(int limit) {
+            return List.of();
+        }
+
+        @Override
+        public LeaderboardEntry getUserStanding(UserId userId) {
+            throw new LeaderboardEntryNotFoundException(userId);
+        }
+
+        @Override
+        public List<LeaderboardEntry> getNeighbors(UserId userId, int radius) {
+            return List.of();
+        }
+
+        @Override
+        public int reconcile() {
+            return 0;
+        }
+
+        public void helper() {
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.greenkawsay.shared.infrastructure.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for read-only routing between the primary and the read replica
+ */
+class ReplicaFallbackDataSourceTest {
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private ReplicaLagMonitor monitor;
+    private Counter fallbacks;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+        monitor = mock(ReplicaLagMonitor.class);
+        fallbacks = new SimpleMeterRegistry().counter("fallbacks");
+
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primary);
+        routing.setReadOnlyDataSource(new ReplicaFallbackDataSource(replica, primary, monitor, fallbacks));
+        jdbcTemplate = new JdbcTemplate(routing);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldRunOnReplica_WhenReplicaUsable() {
+        // Arrange
+        when(monitor.isReplicaUsable()).thenReturn(true);
+
+        // Act
+        String readOnlyNode = readOnly.execute(status -> currentNode());
+        String readWriteNode = readWrite.execute(status -> currentNode());
+
+        // Assert
+        assertEquals("replica", readOnlyNode);
+        assertEquals("primary", readWriteNode);
+        assertEquals(0, fallbacks.count());
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldRunOnPrimary_WhenReplicaLagging() {
+        // Arrange
+        when(monitor.isReplicaUsable()).thenReturn(false);
+
+        // Act
+        String node = readOnly.execute(status -> currentNode());
+
+        // Assert
+        assertEquals("primary", node);
+        assertEquals(1, fallbacks.count());
+    }
+
+    @Test
+    void getConnection_ShouldFallBackAndDisableReplica_WhenReplicaRefusesConnection() throws SQLException {
+        // Arrange
+        DataSource down = mock(DataSource.class);
+        SQLException refused = new SQLException("Connection refused");
+        when(down.getConnection()).thenThrow(refused);
+        when(monitor.isReplicaUsable()).thenReturn(true);
+        ReplicaFallbackDataSource dataSource = new ReplicaFallbackDataSource(down, primary, monitor, fallbacks);
+
+        // Act
+        String node = new JdbcTemplate(dataSource).queryForObject("SELECT node FROM node_info", String.class);
+
+        // Assert
+        assertEquals("primary", node);
+        assertEquals(1, fallbacks.count());
+        verify(monitor).markUnavailable(refused);
+    }
+
+    @Test
+    void check_ShouldDisableReplica_WhenLagQueryFails() {
+        // Arrange
+        ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(replica, Duration.ofSeconds(5));
+
+        // Act
+        lagMonitor.check();
+
+        // Assert
+        assertFalse(lagMonitor.isReplicaUsable());
+        assertTrue(Double.isNaN(lagMonitor.getLagSeconds()));
+    }
+
+    @Test
+    void check_ShouldEnableReplica_OnlyWhileLagWithinBound() {
+        // Arrange
+        ReplicaLagMonitor caughtUp = new ReplicaLagMonitor(replica, Duration.ofSeconds(5), "SELECT 0.5");
+        ReplicaLagMonitor behind = new ReplicaLagMonitor(replica, Duration.ofSeconds(5), "SELECT 12.0");
+
+        // Act
+        caughtUp.check();
+        behind.check();
+
+        // Assert
+        assertTrue(caughtUp.isReplicaUsable());
+        assertEquals(0.5, caughtUp.getLagSeconds());
+        assertFalse(behind.isReplicaUsable());
+        assertEquals(12.0, behind.getLagSeconds());
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT node FROM node_info", String.class);
+    }
+
+    private static EmbeddedDatabase database(String node) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+        JdbcTemplate template = new JdbcTemplate(database);
+        template.execute("CREATE TABLE node_info (node VARCHAR(16))");
+        template.update("INSERT INTO node_info (node) VALUES (?)", node);
+        return database;
+    }
+}
@@ -0,0 +1,99 @@
+package com.greenkawsay.shared.infrastructure.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LocalTokenBucketRateLimiter
+ */
+class LocalTokenBucketRateLimiterTest {
+
+    private static final RateLimitPolicy SEARCH = new RateLimitPolicy("search", 3, 1.0);
+
+    private AtomicLong clock;
+    private LocalTokenBucketRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+        limiter = new LocalTokenBucketRateLimiter(4, 1_000, clock::get);
+    }
+
+    @Test
+    void tryAcquire_ShouldRejectWithRetryAfter_WhenBurstExhausted() {
+        // Act
+        RateLimitDecision first = limiter.tryAcquire(SEARCH, "ip:10.0.0.1");
+        limiter.tryAcquire(SEARCH, "ip:10.0.0.1");
+        limiter.tryAcquire(SEARCH, "ip:10.0.0.1");
+        RateLimitDecision fourth = limiter.tryAcquire(SEARCH, "ip:10.0.0.1");
+
+        // Assert
+        assertTrue(first.allowed());
+        assertEquals(2, first.remaining());
+        assertFalse(fourth.allowed());
+        assertEquals(1000, fourth.retryAfterMillis());
+    }
+
+    @Test
+    void tryAcquire_ShouldRefillAtPolicyRate_WhenTimePasses() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire(SEARCH, "user:a");
+        }
+
+        // Act
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1500));
+        RateLimitDecision refilled = limiter.tryAcquire(SEARCH, "user:a");
+        RateLimitDecision drained = limiter.tryAcquire(SEARCH, "user:a");
+
+        // Assert
+        assertTrue(refilled.allowed());
+        assertFalse(drained.allowed());
+        assertEquals(500, drained.retryAfterMillis());
+    }
+
+    @Test
+    void tryAcquire_ShouldKeepSeparateBuckets_PerClientAndPolicy() {
+        // Arrange
+        RateLimitPolicy detail = new RateLimitPolicy("detail", 1, 1.0);
+        limiter.tryAcquire(detail, "user:a");
+
+        // Act
+        RateLimitDecision sameClient = limiter.tryAcquire(detail, "user:a");
+        RateLimitDecision otherClient = limiter.tryAcquire(detail, "user:b");
+        RateLimitDecision otherPolicy = limiter.tryAcquire(SEARCH, "user:a");
+
+        // Assert
+        assertFalse(sameClient.allowed());
+        assertTrue(otherClient.allowed());
+        assertTrue(otherPolicy.allowed());
+    }
+
+    @Test
+    void tryAcquire_ShouldEvictLeastRecentlyUsedBucket_WhenStripeFull() {
+        // Arrange
+        LocalTokenBucketRateLimiter small = new LocalTokenBucketRateLimiter(1, 2, clock::get);
+        for (int i = 0; i < 3; i++) {
+            small.tryAcquire(SEARCH, "ip:1");
+        }
+        small.tryAcquire(SEARCH, "ip:2");
+        small.tryAcquire(SEARCH, "ip:1");
+
+        // Act
+        RateLimitDecision newcomer = small.tryAcquire(SEARCH, "ip:3");
+        RateLimitDecision recent = small.tryAcquire(SEARCH, "ip:1");
+        RateLimitDecision evicted = small.tryAcquire(SEARCH, "ip:2");
+
+        // Assert
+        assertTrue(newcomer.allowed());
+        assertEquals(2, newcomer.remaining());
+        assertFalse(recent.allowed());
+        assertEquals(2, evicted.remaining());
+        assertEquals(2, small.trackedKeys());
+    }
+}
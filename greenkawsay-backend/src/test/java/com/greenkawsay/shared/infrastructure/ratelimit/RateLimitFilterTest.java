@@ -0,0 +1,156 @@
+package com.greenkawsay.shared.infrastructure.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RateLimitFilter
+ */
+@ExtendWith(MockitoExtension.class)
+class RateLimitFilterTest {
+
+    private static final RateLimitPolicy SEARCH = new RateLimitPolicy("search", 20, 2);
+    private static final RateLimitPolicy CATALOG = new RateLimitPolicy("catalog", 120, 30);
+
+    @Mock
+    private RateLimiter rateLimiter;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, RateLimitPolicy> policies = new LinkedHashMap<>();
+        policies.put("/api/v1/products/search", SEARCH);
+        policies.put("/api/v1/products/**", CATALOG);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RateLimitFilter(rateLimiter, policies, TimeUnit.SECONDS.toNanos(5), meterRegistry);
+    }
+
+    @Test
+    void doFilter_ShouldApplyFirstMatchingPolicy_ToAddressAndPrincipalBuckets() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request("/api/api/v1/products/search");
+        request.setUserPrincipal(() -> "1b4e28ba-2fa1-11d2-883f-0016d3cca427");
+        when(rateLimiter.tryAcquire(SEARCH, "ip:203.0.113.7")).thenReturn(RateLimitDecision.allow(15));
+        when(rateLimiter.tryAcquire(SEARCH, "user:1b4e28ba-2fa1-11d2-883f-0016d3cca427"))
+            .thenReturn(RateLimitDecision.allow(19));
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertNotNull(chain.getRequest());
+        assertEquals("15", response.getHeader("X-RateLimit-Remaining"));
+        assertEquals(1, meterRegistry.counter("greenkawsay.ratelimit.requests",
+            "policy", "search", "result", "allowed").count());
+    }
+
+    @Test
+    void doFilter_ShouldKeyByAddressOnly_WhenUserIdHeaderIsNotAuthenticated() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request("/api/api/v1/products/search");
+        request.addHeader("X-User-Id", "1b4e28ba-2fa1-11d2-883f-0016d3cca427");
+        when(rateLimiter.tryAcquire(SEARCH, "ip:203.0.113.7")).thenReturn(RateLimitDecision.allow(19));
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        verify(rateLimiter, times(1)).tryAcquire(eq(SEARCH), any());
+    }
+
+    @Test
+    void doFilter_ShouldReject_WhenPrincipalBucketEmpty() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request("/api/api/v1/products/search");
+        request.setUserPrincipal(() -> "vendor-7");
+        when(rateLimiter.tryAcquire(SEARCH, "ip:203.0.113.7")).thenReturn(RateLimitDecision.allow(12));
+        when(rateLimiter.tryAcquire(SEARCH, "user:vendor-7")).thenReturn(RateLimitDecision.reject(400));
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertNull(chain.getRequest());
+        assertEquals(429, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+    }
+
+    @Test
+    void doFilter_ShouldAnswerTooManyRequests_WhenBucketEmpty() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request("/api/api/v1/products/" + "9f1c2a5e-0000-4000-8000-000000000001");
+        when(rateLimiter.tryAcquire(CATALOG, "ip:203.0.113.7")).thenReturn(RateLimitDecision.reject(1500));
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertNull(chain.getRequest());
+        assertEquals(429, response.getStatus());
+        assertEquals("2", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("RATE_LIMITED"));
+    }
+
+    @Test
+    void doFilter_ShouldFailOpenAndBackOff_WhenLimiterThrows() throws Exception {
+        // Arrange
+        when(rateLimiter.tryAcquire(eq(CATALOG), any())).thenThrow(new IllegalStateException("Redis down"));
+
+        // Act
+        MockFilterChain first = new MockFilterChain();
+        filter.doFilter(request("/api/api/v1/products/featured"), new MockHttpServletResponse(), first);
+        MockFilterChain second = new MockFilterChain();
+        filter.doFilter(request("/api/api/v1/products/featured"), new MockHttpServletResponse(), second);
+
+        // Assert
+        assertNotNull(first.getRequest());
+        assertNotNull(second.getRequest());
+        verify(rateLimiter, times(1)).tryAcquire(eq(CATALOG), any());
+        assertEquals(1, meterRegistry.counter("greenkawsay.ratelimit.requests",
+            "policy", "catalog", "result", "skipped").count());
+    }
+
+    @Test
+    void doFilter_ShouldPassThrough_WhenNoPolicyMatches() throws Exception {
+        // Arrange
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(request("/api/actuator/health"), new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertNotNull(chain.getRequest());
+        verifyNoInteractions(rateLimiter);
+    }
+
+    private static MockHttpServletRequest request(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setContextPath("/api");
+        request.setRemoteAddr("203.0.113.7");
+        return request;
+    }
+}
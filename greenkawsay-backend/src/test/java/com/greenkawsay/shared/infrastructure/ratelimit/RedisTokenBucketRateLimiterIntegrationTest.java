@@ -0,0 +1,97 @@
+package com.greenkawsay.shared.infrastructure.ratelimit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for RedisTokenBucketRateLimiter against a Redis container
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisTokenBucketRateLimiterIntegrationTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+        new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RedisTokenBucketRateLimiter limiter;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+            new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        limiter = new RedisTokenBucketRateLimiter(redisTemplate, "test:rate-limit:");
+    }
+
+    @Test
+    void tryAcquire_ShouldRejectWithRetryAfter_WhenBurstExhausted() {
+        // Arrange
+        RateLimitPolicy policy = new RateLimitPolicy("search", 2, 0.5);
+
+        // Act
+        RateLimitDecision first = limiter.tryAcquire(policy, "ip:10.0.0.1");
+        RateLimitDecision second = limiter.tryAcquire(policy, "ip:10.0.0.1");
+        RateLimitDecision third = limiter.tryAcquire(policy, "ip:10.0.0.1");
+
+        // Assert
+        assertTrue(first.allowed());
+        assertEquals(1, first.remaining());
+        assertTrue(second.allowed());
+        assertFalse(third.allowed());
+        assertTrue(third.retryAfterMillis() > 1000 && third.retryAfterMillis() <= 2000);
+        assertTrue(redisTemplate.getExpire("test:rate-limit:search:ip:10.0.0.1") > 0);
+    }
+
+    @Test
+    void tryAcquire_ShouldNeverOvergrant_WhenCalledConcurrently() throws Exception {
+        // Arrange
+        RateLimitPolicy policy = new RateLimitPolicy("detail", 50, 0.001);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Callable<Boolean>> calls = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            calls.add(() -> limiter.tryAcquire(policy, "user:shared").allowed());
+        }
+
+        // Act
+        long allowed = 0;
+        for (Future<Boolean> result : executor.invokeAll(calls)) {
+            allowed += result.get() ? 1 : 0;
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(50, allowed);
+    }
+}
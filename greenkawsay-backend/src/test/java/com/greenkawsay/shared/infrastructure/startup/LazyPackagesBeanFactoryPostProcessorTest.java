@@ -0,0 +1,80 @@
+package com.greenkawsay.shared.infrastructure.startup;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LazyPackagesBeanFactoryPostProcessor
+ */
+class LazyPackagesBeanFactoryPostProcessorTest {
+
+    @Test
+    void postProcessBeanFactory_ShouldMarkLazy_WhenFactoryMethodReturnsTypeFromListedPackage() {
+        // Act
+        try (AnnotationConfigApplicationContext context = context("java.util.concurrent")) {
+            // Assert
+            assertTrue(context.getBeanFactory().getBeanDefinition("concurrentMap").isLazyInit());
+            assertFalse(context.getBeanFactory().containsSingleton("concurrentMap"));
+            assertFalse(context.getBeanFactory().getBeanDefinition("list").isLazyInit());
+            assertTrue(context.getBeanFactory().containsSingleton("list"));
+        }
+    }
+
+    @Test
+    void postProcessBeanFactory_ShouldKeepExplicitSetting_WhenBeanDeclaresLazy() {
+        // Act
+        try (AnnotationConfigApplicationContext context = context("java.util.concurrent")) {
+            // Assert
+            assertTrue(context.getBeanFactory().containsSingleton("eagerCounter"));
+        }
+    }
+
+    @Test
+    void postProcessBeanFactory_ShouldMarkLazy_WhenBeanClassIsInListedPackage() {
+        // Act
+        try (AnnotationConfigApplicationContext context = context("com.greenkawsay.shared.infrastructure.startup")) {
+            // Assert
+            assertTrue(context.getBeanFactory().getBeanDefinition("lazyPackagesBeanFactoryPostProcessorTest.Beans")
+                    .isLazyInit());
+            assertTrue(context.getBeanFactory().getBeanDefinition("list").isLazyInit());
+        }
+    }
+
+    private static AnnotationConfigApplicationContext context(String lazyPackage) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.addBeanFactoryPostProcessor(new LazyPackagesBeanFactoryPostProcessor(List.of(lazyPackage)));
+        context.register(Beans.class);
+        context.refresh();
+        return context;
+    }
+
+    @Configuration
+    static class Beans {
+
+        @Bean
+        ConcurrentHashMap<String, String> concurrentMap() {
+            return new ConcurrentHashMap<>();
+        }
+
+        @Bean
+        List<String> list() {
+            return new ArrayList<>();
+        }
+
+        @Bean
+        @Lazy(false)
+        AtomicLong eagerCounter() {
+            return new AtomicLong();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.greenkawsay.shared.infrastructure.startup;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for WarmUpRunner and WarmUpHealthIndicator
+ */
+class WarmUpRunnerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private List<String> calls;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        calls = new ArrayList<>();
+    }
+
+    @Test
+    void warmUp_ShouldRunTasksInOrderAndRecordDuration() {
+        // Arrange
+        WarmUpRunner runner = new WarmUpRunner(List.of(task("connection-pool"), task("catalog")), 3,
+                Duration.ofMinutes(1), meterRegistry);
+
+        // Act
+        runner.warmUp();
+
+        // Assert
+        assertEquals(List.of("connection-pool:3", "catalog:3"), calls);
+        assertTrue(runner.isComplete());
+        assertTrue(runner.readySince() != 0);
+        assertEquals(1, meterRegistry.get("greenkawsay.warmup.duration")
+                .tag("task", "catalog").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void warmUp_ShouldCompleteAndRunRemainingTasks_WhenTaskFails() {
+        // Arrange
+        WarmUpTask failing = new WarmUpTask() {
+            @Override
+            public String name() {
+                return "failing";
+            }
+
+            @Override
+            public void warmUp(int iterations) {
+                throw new IllegalStateException("Database unavailable");
+            }
+        };
+        WarmUpRunner runner = new WarmUpRunner(List.of(failing, task("catalog")), 1, Duration.ofMinutes(1),
+                meterRegistry);
+
+        // Act
+        runner.warmUp();
+
+        // Assert
+        assertEquals(List.of("catalog:1"), calls);
+        assertTrue(runner.isComplete());
+        assertEquals(1, meterRegistry.get("greenkawsay.warmup.duration")
+                .tag("task", "failing").tag("outcome", "failure").timer().count());
+    }
+
+    @Test
+    void health_ShouldBeOutOfService_UntilWarmUpCompletes() {
+        // Arrange
+        WarmUpRunner runner = new WarmUpRunner(List.of(task("catalog")), 1, Duration.ofMinutes(1), meterRegistry);
+        WarmUpHealthIndicator indicator = new WarmUpHealthIndicator(runner);
+
+        // Act
+        Status before = indicator.health().getStatus();
+        long readySinceBefore = runner.readySince();
+        runner.warmUp();
+        Status after = indicator.health().getStatus();
+
+        // Assert
+        assertEquals(Status.OUT_OF_SERVICE, before);
+        assertEquals(0, readySinceBefore);
+        assertEquals(Status.UP, after);
+    }
+
+    private WarmUpTask task(String name) {
+        return new WarmUpTask() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public void warmUp(int iterations) {
+                calls.add(name + ":" + iterations);
+            }
+        };
+    }
+}
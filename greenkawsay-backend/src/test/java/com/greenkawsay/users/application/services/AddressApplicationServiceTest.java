@@ -0,0 +1,145 @@
+package com.greenkawsay.users.application.services;
+
+import com.greenkawsay.shared.domain.valueobjects.Address;
+import com.greenkawsay.users.application.ports.out.AddressRegionQueryPort;
+import com.greenkawsay.users.domain.exceptions.AddressNotFoundException;
+import com.greenkawsay.users.domain.models.AddressSlice;
+import com.greenkawsay.users.domain.models.UserAddress;
+import com.greenkawsay.users.domain.models.UserProfile;
+import com.greenkawsay.users.domain.repositories.AddressRepository;
+import com.greenkawsay.users.domain.repositories.UserProfileRepository;
+import com.greenkawsay.users.domain.valueobjects.AddressId;
+import com.greenkawsay.users.domain.valueobjects.ShippingRegion;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AddressApplicationService
+ */
+@ExtendWith(MockitoExtension.class)
+class AddressApplicationServiceTest {
+
+    @Mock
+    private AddressRepository addressRepository;
+
+    @Mock
+    private UserProfileRepository userProfileRepository;
+
+    @Mock
+    private AddressRegionQueryPort addressRegionQuery;
+
+    @InjectMocks
+    private AddressApplicationService addressService;
+
+    private UserId userId;
+    private UserAddress address;
+
+    @BeforeEach
+    void setUp() {
+        userId = UserId.generate();
+        address = new UserAddress(AddressId.generate(), userId,
+            new Address("Jr. Cusco 456", "Cusco", "PE"), false, LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    @Test
+    void setDefaultAddress_ShouldSwapInOneCall_WithoutLoadingSiblings() {
+        // Arrange
+        when(addressRepository.findById(address.getId())).thenReturn(Optional.of(address));
+        when(addressRepository.swapDefault(userId, address.getId())).thenReturn(true);
+
+        // Act
+        UserAddress result = addressService.setDefaultAddress(address.getId());
+
+        // Assert
+        assertTrue(result.isDefault());
+        verify(addressRepository).swapDefault(userId, address.getId());
+        verify(addressRepository, never()).findByUserId(any());
+        verify(addressRepository, never()).save(any());
+    }
+
+    @Test
+    void setDefaultAddress_ShouldThrow_WhenAddressNotFound() {
+        // Arrange
+        when(addressRepository.findById(address.getId())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(AddressNotFoundException.class, () -> addressService.setDefaultAddress(address.getId()));
+        verify(addressRepository, never()).swapDefault(any(), any());
+    }
+
+    @Test
+    void createAddress_ShouldInsertNonDefaultThenSwap_WhenDefaultRequested() {
+        // Arrange
+        UserAddress requested = address.markAsDefault();
+        when(userProfileRepository.findById(userId)).thenReturn(Optional.of(mock(UserProfile.class)));
+        when(addressRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(addressRepository.swapDefault(userId, address.getId())).thenReturn(true);
+
+        // Act
+        UserAddress result = addressService.createAddress(requested);
+
+        // Assert
+        assertTrue(result.isDefault());
+        verify(addressRepository).save(argThat(saved -> !saved.isDefault()));
+        verify(addressRepository).swapDefault(userId, address.getId());
+        verify(addressRepository, never()).findByUserId(any());
+    }
+
+    @Test
+    void updateAddress_ShouldNotSwap_WhenAlreadyDefault() {
+        // Arrange
+        UserAddress existingDefault = address.markAsDefault();
+        when(addressRepository.findById(address.getId())).thenReturn(Optional.of(existingDefault));
+        when(addressRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        UserAddress result = addressService.updateAddress(address.getId(), existingDefault);
+
+        // Assert
+        assertTrue(result.isDefault());
+        verify(addressRepository, never()).swapDefault(any(), any());
+    }
+
+    @Test
+    void getAddressesByRegion_ShouldReturnCursor_WhenPageIsFull() {
+        // Arrange
+        ShippingRegion region = new ShippingRegion(null, null, "Cusco", null);
+        when(addressRegionQuery.findByRegion(region, null, 1)).thenReturn(List.of(address));
+
+        // Act
+        AddressSlice slice = addressService.getAddressesByRegion(region, null, 1);
+
+        // Assert
+        assertTrue(slice.hasNext());
+        assertEquals(address.getId(), slice.nextCursor());
+        verifyNoInteractions(userProfileRepository);
+    }
+
+    @Test
+    void getAddressesByRegion_ShouldEndScan_WhenPageIsShort() {
+        // Arrange
+        ShippingRegion region = new ShippingRegion(null, null, "Cusco", null);
+        when(addressRegionQuery.findByRegion(region, address.getId(), 10)).thenReturn(List.of());
+
+        // Act
+        AddressSlice slice = addressService.getAddressesByRegion(region, address.getId(), 10);
+
+        // Assert
+        assertFalse(slice.hasNext());
+        assertTrue(slice.addresses().isEmpty());
+    }
+}
\ No newline at end of file
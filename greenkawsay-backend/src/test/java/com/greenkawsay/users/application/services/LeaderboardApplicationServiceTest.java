@@ -0,0 +1,102 @@
+package com.greenkawsay.users.application.services;
+
+import com.greenkawsay.users.application.ports.out.ImpactScorePort;
+import com.greenkawsay.users.application.ports.out.LeaderboardPort;
+import com.greenkawsay.users.domain.events.ImpactScoreIncreasedEvent;
+import com.greenkawsay.users.domain.exceptions.LeaderboardEntryNotFoundException;
+import com.greenkawsay.users.domain.models.LeaderboardEntry;
+import com.greenkawsay.users.domain.valueobjects.ImpactScore;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for LeaderboardApplicationService
+ */
+@ExtendWith(MockitoExtension.class)
+class LeaderboardApplicationServiceTest {
+
+    @Mock
+    private LeaderboardPort leaderboard;
+
+    @Mock
+    private ImpactScorePort impactScores;
+
+    @InjectMocks
+    private LeaderboardApplicationService leaderboardService;
+
+    @Test
+    void getUserStanding_ShouldThrow_WhenUserNotRanked() {
+        // Arrange
+        UserId userId = UserId.generate();
+        when(leaderboard.findEntry(userId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(LeaderboardEntryNotFoundException.class, () -> leaderboardService.getUserStanding(userId));
+    }
+
+    @Test
+    void getNeighbors_ShouldReturnEntries_WhenUserRanked() {
+        // Arrange
+        UserId userId = UserId.generate();
+        List<LeaderboardEntry> entries = List.of(new LeaderboardEntry(userId, ImpactScore.of(10), 3));
+        when(leaderboard.around(userId, 2)).thenReturn(entries);
+
+        // Act
+        List<LeaderboardEntry> result = leaderboardService.getNeighbors(userId, 2);
+
+        // Assert
+        assertSame(entries, result);
+    }
+
+    @Test
+    void reconcile_ShouldReplaceBoardWithDatabaseSnapshot() {
+        // Arrange
+        Map<UserId, ImpactScore> snapshot = Map.of(UserId.generate(), ImpactScore.of(12.5));
+        when(impactScores.findAllTotals()).thenReturn(snapshot);
+
+        // Act
+        int ranked = leaderboardService.reconcile();
+
+        // Assert
+        assertEquals(1, ranked);
+        verify(leaderboard).replaceAll(snapshot);
+    }
+
+    @Test
+    void onImpactScoreIncreased_ShouldApplyIncrementWithCommittedTotal() {
+        // Arrange
+        UserId userId = UserId.generate();
+        ImpactScoreIncreasedEvent event = new ImpactScoreIncreasedEvent(
+            userId.getValue(), new BigDecimal("5"), new BigDecimal("25.50"));
+
+        // Act
+        leaderboardService.onImpactScoreIncreased(event);
+
+        // Assert
+        verify(leaderboard).increment(userId, ImpactScore.of(5), new ImpactScore(new BigDecimal("25.50")));
+    }
+
+    @Test
+    void onImpactScoreIncreased_ShouldSwallowStoreFailures() {
+        // Arrange
+        doThrow(new IllegalStateException("redis down")).when(leaderboard).increment(any(), any(), any());
+        ImpactScoreIncreasedEvent event = new ImpactScoreIncreasedEvent(
+            UserId.generate().getValue(), BigDecimal.ONE, BigDecimal.TEN);
+
+        // Act & Assert
+        assertDoesNotThrow(() -> leaderboardService.onImpactScoreIncreased(event));
+    }
+}
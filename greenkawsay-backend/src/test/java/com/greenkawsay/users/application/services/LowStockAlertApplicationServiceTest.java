@@ -0,0 +1,87 @@
+package com.greenkawsay.users.application.services;
+
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.notifications.application.ports.in.EmailServicePort;
+import com.greenkawsay.users.domain.models.LowStockAlert;
+import com.greenkawsay.users.domain.models.UserProfile;
+import com.greenkawsay.users.domain.repositories.UserProfileRepository;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for LowStockAlertApplicationService
+ */
+@ExtendWith(MockitoExtension.class)
+class LowStockAlertApplicationServiceTest {
+
+    @Mock
+    private UserProfileRepository userProfileRepository;
+
+    @Mock
+    private EmailServicePort emailService;
+
+    @Mock
+    private UserProfile vendor;
+
+    private LowStockAlertApplicationService service;
+    private UserId vendorId;
+
+    @BeforeEach
+    void setUp() {
+        service = new LowStockAlertApplicationService(userProfileRepository, emailService, 2,
+            "https://shop/vendor/low-stock");
+        vendorId = UserId.generate();
+    }
+
+    @Test
+    void alertVendors_ShouldSendOneDigestPerVendor_LowestStockFirstAndCapped() {
+        // Arrange
+        when(userProfileRepository.findById(vendorId)).thenReturn(Optional.of(vendor));
+        when(vendor.isActive()).thenReturn(true);
+        when(vendor.getFirstName()).thenReturn("Rosa");
+        when(emailService.sendTemplatedEmail(anyString(), any(), anyMap())).thenReturn(true);
+        LowStockAlert seedKit = alert("Seed Kit", 4);
+
+        // Act
+        int queued = service.alertVendors(List.of(seedKit, alert("Bamboo Brush", 0), alert("Compost Bin", 2), seedKit));
+
+        // Assert
+        assertEquals(1, queued);
+        verify(emailService).sendTemplatedEmail(eq(LowStockAlertApplicationService.LOW_STOCK_TEMPLATE), any(),
+            argThat((Map<String, ?> model) -> Integer.valueOf(3).equals(model.get("productCount"))
+                && "Bamboo Brush (0 left), Compost Bin (2 left) and 1 more".equals(model.get("products"))));
+    }
+
+    @Test
+    void alertVendors_ShouldSkipInactiveVendors() {
+        // Arrange
+        when(userProfileRepository.findById(vendorId)).thenReturn(Optional.of(vendor));
+        when(vendor.isActive()).thenReturn(false);
+
+        // Act
+        int queued = service.alertVendors(List.of(alert("Seed Kit", 1)));
+
+        // Assert
+        assertEquals(0, queued);
+        verifyNoInteractions(emailService);
+    }
+
+    private LowStockAlert alert(String productName, int stock) {
+        return new LowStockAlert(ProductId.generate(), vendorId, productName, stock, 5);
+    }
+}
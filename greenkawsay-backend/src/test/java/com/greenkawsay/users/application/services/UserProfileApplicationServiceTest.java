@@ -0,0 +1,84 @@
+package com.greenkawsay.users.application.services;
+
+import com.greenkawsay.shared.domain.valueobjects.Email;
+import com.greenkawsay.users.application.ports.out.ImpactScorePort;
+import com.greenkawsay.users.domain.events.ImpactScoreIncreasedEvent;
+import com.greenkawsay.users.domain.exceptions.UserProfileNotFoundException;
+import com.greenkawsay.users.domain.models.UserProfile;
+import com.greenkawsay.users.domain.repositories.UserProfileRepository;
+import com.greenkawsay.users.domain.valueobjects.ImpactScore;
+import com.greenkawsay.users.domain.valueobjects.Role;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserProfileApplicationService
+ */
+@ExtendWith(MockitoExtension.class)
+class UserProfileApplicationServiceTest {
+
+    @Mock
+    private UserProfileRepository userProfileRepository;
+
+    @Mock
+    private ImpactScorePort impactScores;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private UserProfileApplicationService userProfileService;
+
+    private UserId userId;
+    private UserProfile profile;
+
+    @BeforeEach
+    void setUp() {
+        userId = UserId.generate();
+        profile = new UserProfile(userId, "kc-123", new Email("ana@example.com"), "Ana", "Quispe", null,
+            new Role(Role.RoleType.CUSTOMER), ImpactScore.of(10), true, LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    @Test
+    void updateImpactScore_ShouldReturnStoredTotal_WithoutReloadingProfile() {
+        // Arrange
+        ImpactScore storedTotal = new ImpactScore(new BigDecimal("42.00"));
+        when(userProfileRepository.findById(userId)).thenReturn(Optional.of(profile));
+        when(impactScores.incrementTotal(userId, new ImpactScore(5))).thenReturn(Optional.of(storedTotal));
+
+        // Act
+        UserProfile result = userProfileService.updateImpactScore(userId, 5);
+
+        // Assert
+        assertEquals(storedTotal, result.getImpactScoreTotal());
+        assertEquals(profile.getEmail(), result.getEmail());
+        verify(userProfileRepository, times(1)).findById(userId);
+        verify(eventPublisher).publishEvent(
+            new ImpactScoreIncreasedEvent(userId.getValue(), new ImpactScore(5).getValue(), storedTotal.getValue()));
+    }
+
+    @Test
+    void updateImpactScore_ShouldThrow_WhenProfileRemovedBeforeIncrement() {
+        // Arrange
+        when(userProfileRepository.findById(userId)).thenReturn(Optional.of(profile));
+        when(impactScores.incrementTotal(any(), any())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(UserProfileNotFoundException.class, () -> userProfileService.updateImpactScore(userId, 5));
+        verifyNoInteractions(eventPublisher);
+    }
+}
@@ -0,0 +1,175 @@
+package com.greenkawsay.users.application.services;
+
+import com.greenkawsay.catalog.domain.exceptions.ProductNotFoundException;
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.users.application.ports.out.WishlistItemBatchPort;
+import com.greenkawsay.users.application.ports.out.WishlistMembershipPort;
+import com.greenkawsay.users.domain.events.WishlistChangedEvent;
+import com.greenkawsay.users.domain.exceptions.InvalidWishlistMoveException;
+import com.greenkawsay.users.domain.exceptions.WishlistNotFoundException;
+import com.greenkawsay.users.domain.models.WishlistItemResult;
+import com.greenkawsay.users.domain.models.WishlistMembership;
+import com.greenkawsay.users.domain.repositories.UserProfileRepository;
+import com.greenkawsay.users.domain.repositories.WishlistItemRepository;
+import com.greenkawsay.users.domain.repositories.WishlistRepository;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import com.greenkawsay.users.domain.valueobjects.WishlistId;
+import com.greenkawsay.users.domain.valueobjects.WishlistItemOutcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for WishlistApplicationService
+ */
+@ExtendWith(MockitoExtension.class)
+class WishlistApplicationServiceTest {
+
+    @Mock
+    private WishlistRepository wishlistRepository;
+
+    @Mock
+    private WishlistItemRepository wishlistItemRepository;
+
+    @Mock
+    private UserProfileRepository userProfileRepository;
+
+    @Mock
+    private WishlistItemBatchPort wishlistItemBatchPort;
+
+    @Mock
+    private WishlistMembershipPort wishlistMembershipPort;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private WishlistApplicationService wishlistService;
+
+    private WishlistId wishlistId;
+    private ProductId first;
+    private ProductId second;
+
+    @BeforeEach
+    void setUp() {
+        wishlistId = WishlistId.generate();
+        first = ProductId.generate();
+        second = ProductId.generate();
+    }
+
+    @Test
+    void addItemsToWishlist_ShouldReturnOutcomesInRequestOrder_WithDuplicatesCollapsed() {
+        // Arrange
+        when(wishlistItemBatchPort.addAll(wishlistId, List.of(second, first))).thenReturn(Map.of(
+            first, WishlistItemOutcome.ALREADY_PRESENT,
+            second, WishlistItemOutcome.ADDED));
+
+        // Act
+        List<WishlistItemResult> results = wishlistService.addItemsToWishlist(wishlistId, List.of(second, first, second));
+
+        // Assert
+        assertEquals(List.of(
+            new WishlistItemResult(second, WishlistItemOutcome.ADDED),
+            new WishlistItemResult(first, WishlistItemOutcome.ALREADY_PRESENT)), results);
+    }
+
+    @Test
+    void addItemsToWishlist_ShouldThrow_WhenWishlistDoesNotExist() {
+        // Arrange
+        when(wishlistItemBatchPort.addAll(any(), any())).thenReturn(Map.of());
+
+        // Act & Assert
+        assertThrows(WishlistNotFoundException.class,
+            () -> wishlistService.addItemsToWishlist(wishlistId, List.of(first)));
+    }
+
+    @Test
+    void addItemToWishlist_ShouldThrow_WhenProductDoesNotExist() {
+        // Arrange
+        when(wishlistItemBatchPort.addAll(wishlistId, List.of(first)))
+            .thenReturn(Map.of(first, WishlistItemOutcome.PRODUCT_NOT_FOUND));
+
+        // Act & Assert
+        assertThrows(ProductNotFoundException.class, () -> wishlistService.addItemToWishlist(wishlistId, first));
+        verifyNoInteractions(wishlistItemRepository);
+    }
+
+    @Test
+    void removeItemsFromWishlist_ShouldSkipPort_WhenNoProductsGiven() {
+        // Act
+        List<WishlistItemResult> results = wishlistService.removeItemsFromWishlist(wishlistId, List.of());
+
+        // Assert
+        assertTrue(results.isEmpty());
+        verifyNoInteractions(wishlistItemBatchPort);
+    }
+
+    @Test
+    void moveItemsBetweenWishlists_ShouldRejectCrossUserMove_WhenBothWishlistsExist() {
+        // Arrange
+        WishlistId targetId = WishlistId.generate();
+        when(wishlistItemBatchPort.moveAll(wishlistId, targetId, List.of(first))).thenReturn(Map.of());
+        when(wishlistRepository.existsById(any())).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(InvalidWishlistMoveException.class,
+            () -> wishlistService.moveItemsBetweenWishlists(wishlistId, targetId, List.of(first)));
+    }
+
+    @Test
+    void deleteWishlist_ShouldRelyOnCascade_WithoutDeletingItemsOneByOne() {
+        // Arrange
+        when(wishlistRepository.existsById(wishlistId)).thenReturn(true);
+
+        // Act
+        wishlistService.deleteWishlist(wishlistId);
+
+        // Assert
+        verify(wishlistRepository).deleteById(wishlistId);
+        verifyNoInteractions(wishlistItemRepository);
+    }
+
+    @Test
+    void removeItemsFromWishlist_ShouldPublishChange_OnlyWhenSomethingWasRemoved() {
+        // Arrange
+        when(wishlistItemBatchPort.removeAll(wishlistId, List.of(first)))
+            .thenReturn(Map.of(first, WishlistItemOutcome.NOT_IN_WISHLIST))
+            .thenReturn(Map.of(first, WishlistItemOutcome.REMOVED));
+
+        // Act
+        wishlistService.removeItemsFromWishlist(wishlistId, List.of(first));
+        wishlistService.removeItemsFromWishlist(wishlistId, List.of(first));
+
+        // Assert
+        verify(eventPublisher, times(1)).publishEvent(new WishlistChangedEvent(wishlistId.getValue(), null));
+    }
+
+    @Test
+    void checkMembership_ShouldAnswerWholePageFromOneMembershipLoad() {
+        // Arrange
+        UserId userId = UserId.generate();
+        ProductId third = ProductId.generate();
+        when(wishlistMembershipPort.loadMembership(userId)).thenReturn(
+            WishlistMembership.of(List.of(wishlistId), List.of(first.getValue(), third.getValue())));
+
+        // Act
+        Set<ProductId> members = wishlistService.checkMembership(userId, List.of(third, second, first));
+
+        // Assert
+        assertEquals(List.of(third, first), List.copyOf(members));
+        verify(wishlistMembershipPort, times(1)).loadMembership(userId);
+        verifyNoInteractions(wishlistItemRepository, wishlistRepository);
+    }
+}
@@ -0,0 +1,118 @@
+package com.greenkawsay.users.application.services;
+
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.notifications.application.ports.in.EmailServicePort;
+import com.greenkawsay.shared.domain.valueobjects.Email;
+import com.greenkawsay.users.application.ports.out.WishlistWatcherQueryPort;
+import com.greenkawsay.users.domain.models.WatchedProductChange;
+import com.greenkawsay.users.domain.models.WishlistWatcher;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for WishlistWatchApplicationService
+ */
+@ExtendWith(MockitoExtension.class)
+class WishlistWatchApplicationServiceTest {
+
+    @Mock
+    private WishlistWatcherQueryPort watcherQuery;
+
+    @Mock
+    private EmailServicePort emailService;
+
+    private WishlistWatchApplicationService service;
+    private ProductId productId;
+    private UserId userId;
+
+    @BeforeEach
+    void setUp() {
+        service = new WishlistWatchApplicationService(watcherQuery, emailService, 2, 2, "https://shop/products/{productId}");
+        productId = ProductId.generate();
+        userId = UserId.generate();
+    }
+
+    @Test
+    void notifyWatchers_ShouldEmailOncePerUserAndProduct_WhenProductIsInSeveralWishlists() {
+        // Arrange
+        WishlistWatcher inGifts = watcher(userId, productId, "Gifts");
+        WishlistWatcher inHome = watcher(userId, productId, "Home");
+        answerWatchers(List.of(inGifts, inHome));
+        when(emailService.sendTemplatedEmail(anyString(), any(), anyMap())).thenReturn(true);
+
+        // Act
+        int queued = service.notifyWatchers(List.of(WatchedProductChange.priceChange(
+            productId, "Bamboo Brush", new BigDecimal("20.00"), new BigDecimal("15.50"), "PEN")));
+
+        // Assert
+        assertEquals(1, queued);
+        verify(emailService).sendTemplatedEmail(eq(WishlistWatchApplicationService.PRICE_DROP_TEMPLATE),
+            eq(inGifts.email()), argThat((Map<String, ?> model) ->
+                "PEN 15.50".equals(model.get("newPrice"))
+                    && ("https://shop/products/" + productId.getValueAsString()).equals(model.get("productUrl"))));
+    }
+
+    @Test
+    void notifyWatchers_ShouldSkipLookups_WhenNoChangeIsNotifiable() {
+        // Act
+        int queued = service.notifyWatchers(List.of(WatchedProductChange.priceChange(
+            productId, "Bamboo Brush", new BigDecimal("15.00"), new BigDecimal("18.00"), "PEN")));
+
+        // Assert
+        assertEquals(0, queued);
+        verifyNoInteractions(watcherQuery, emailService);
+    }
+
+    @Test
+    void notifyWatchers_ShouldResolveInBatches_AndCapEmailsPerUser() {
+        // Arrange
+        List<ProductId> products = List.of(ProductId.generate(), ProductId.generate(), ProductId.generate());
+        doAnswer(invocation -> {
+            Collection<ProductId> batch = invocation.getArgument(0);
+            Consumer<WishlistWatcher> action = invocation.getArgument(1);
+            assertTrue(batch.size() <= 2);
+            batch.forEach(product -> action.accept(watcher(userId, product, "Wishlist")));
+            return null;
+        }).when(watcherQuery).forEachWatcher(any(), any());
+        when(emailService.sendTemplatedEmail(anyString(), any(), anyMap())).thenReturn(true);
+
+        // Act
+        int queued = service.notifyWatchers(products.stream()
+            .map(product -> WatchedProductChange.backInStock(product, "Seed Kit"))
+            .toList());
+
+        // Assert
+        assertEquals(2, queued);
+        verify(watcherQuery, times(2)).forEachWatcher(any(), any());
+        verify(emailService, times(2)).sendTemplatedEmail(eq(WishlistWatchApplicationService.BACK_IN_STOCK_TEMPLATE), any(), anyMap());
+    }
+
+    private void answerWatchers(List<WishlistWatcher> watchers) {
+        doAnswer(invocation -> {
+            Consumer<WishlistWatcher> action = invocation.getArgument(1);
+            watchers.forEach(action);
+            return null;
+        }).when(watcherQuery).forEachWatcher(any(), any());
+    }
+
+    private static WishlistWatcher watcher(UserId userId, ProductId productId, String wishlistName) {
+        return new WishlistWatcher(userId, new Email("ana@greenkawsay.com"), "Ana", productId, wishlistName);
+    }
+}
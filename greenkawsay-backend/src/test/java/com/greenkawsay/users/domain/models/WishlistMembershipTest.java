@@ -0,0 +1,52 @@
+package com.greenkawsay.users.domain.models;
+
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.users.domain.valueobjects.WishlistId;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for WishlistMembership
+ */
+class WishlistMembershipTest {
+
+    @Test
+    void contains_ShouldFindEveryMember_AndRejectOthers() {
+        // Arrange
+        List<UUID> members = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            members.add(UUID.randomUUID());
+        }
+        // Halves with the sign bit set exercise the signed ordering
+        members.add(new UUID(Long.MIN_VALUE, -1L));
+        members.add(new UUID(-1L, Long.MIN_VALUE));
+
+        // Act
+        WishlistMembership membership = WishlistMembership.of(List.of(WishlistId.generate()), members);
+
+        // Assert
+        members.forEach(member -> assertTrue(membership.contains(new ProductId(member))));
+        for (int i = 0; i < 500; i++) {
+            assertFalse(membership.contains(ProductId.generate()));
+        }
+    }
+
+    @Test
+    void of_ShouldCollapseProductsSavedInSeveralWishlists() {
+        // Arrange
+        UUID product = UUID.randomUUID();
+
+        // Act
+        WishlistMembership membership = WishlistMembership.of(
+            List.of(WishlistId.generate(), WishlistId.generate()), List.of(product, product));
+
+        // Assert
+        assertEquals(1, membership.size());
+        assertTrue(membership.contains(new ProductId(product)));
+    }
+}
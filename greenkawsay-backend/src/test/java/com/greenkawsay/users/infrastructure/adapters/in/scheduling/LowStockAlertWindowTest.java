@@ -0,0 +1,82 @@
+package com.greenkawsay.users.infrastructure.adapters.in.scheduling;
+
+import com.greenkawsay.catalog.domain.events.ProductLowStockEvent;
+import com.greenkawsay.users.application.ports.in.LowStockAlertServicePort;
+import com.greenkawsay.users.domain.models.LowStockAlert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for LowStockAlertWindow
+ */
+@ExtendWith(MockitoExtension.class)
+class LowStockAlertWindowTest {
+
+    @Mock
+    private LowStockAlertServicePort lowStockAlertService;
+
+    @Captor
+    private ArgumentCaptor<Collection<LowStockAlert>> windowCaptor;
+
+    private LowStockAlertWindow window;
+    private UUID productId;
+    private UUID vendorId;
+
+    @BeforeEach
+    void setUp() {
+        window = new LowStockAlertWindow(lowStockAlertService, 2);
+        productId = UUID.randomUUID();
+        vendorId = UUID.randomUUID();
+    }
+
+    @Test
+    void flush_ShouldHandOffOneAlertPerProduct_WithLatestStock() {
+        // Arrange
+        window.onLowStock(new ProductLowStockEvent(productId, vendorId, "Seed Kit", 4, 5));
+        window.onLowStock(new ProductLowStockEvent(productId, vendorId, "Seed Kit", 1, 5));
+
+        // Act
+        window.flush();
+
+        // Assert
+        verify(lowStockAlertService).alertVendors(windowCaptor.capture());
+        LowStockAlert alert = windowCaptor.getValue().iterator().next();
+        assertEquals(1, windowCaptor.getValue().size());
+        assertEquals(1, alert.stockQuantity());
+        assertEquals(0, window.pendingCount());
+    }
+
+    @Test
+    void onLowStock_ShouldDropNewProducts_WhenWindowIsFull() {
+        // Arrange
+        window.onLowStock(new ProductLowStockEvent(productId, vendorId, "Seed Kit", 4, 5));
+        window.onLowStock(new ProductLowStockEvent(UUID.randomUUID(), vendorId, "Bamboo Brush", 2, 5));
+
+        // Act
+        window.onLowStock(new ProductLowStockEvent(UUID.randomUUID(), vendorId, "Compost Bin", 0, 5));
+        window.onLowStock(new ProductLowStockEvent(productId, vendorId, "Seed Kit", 3, 5));
+
+        // Assert
+        assertEquals(2, window.pendingCount());
+    }
+
+    @Test
+    void flush_ShouldNotCallService_WhenWindowIsEmpty() {
+        // Act
+        window.flush();
+
+        // Assert
+        verifyNoInteractions(lowStockAlertService);
+    }
+}
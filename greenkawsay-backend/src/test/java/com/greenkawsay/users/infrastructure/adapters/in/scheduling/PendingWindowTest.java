@@ -0,0 +1,49 @@
+package com.greenkawsay.users.infrastructure.adapters.in.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PendingWindow
+ */
+class PendingWindowTest {
+
+    @Test
+    void collect_ShouldMergePendingKeys_AndCountNewKeysBeyondBound() {
+        // Arrange
+        PendingWindow<String, Integer> window = new PendingWindow<>(2, Integer::sum);
+
+        // Act
+        window.collect("a", 1);
+        window.collect("b", 2);
+        window.collect("a", 3);
+        window.collect("c", 4);
+        window.collect("d", 5);
+
+        // Assert
+        assertEquals(2, window.size());
+        assertEquals(2, window.drainDropped());
+        assertEquals(0, window.drainDropped());
+        assertEquals(List.of(2, 4), window.drain().stream().sorted().toList());
+    }
+
+    @Test
+    void drain_ShouldEmptyWindow_SoNextEntriesStartANewOne() {
+        // Arrange
+        PendingWindow<String, Integer> window = new PendingWindow<>(1, (earlier, latest) -> latest);
+        window.collect("a", 1);
+
+        // Act
+        List<Integer> first = window.drain();
+        window.collect("b", 2);
+        List<Integer> second = window.drain();
+
+        // Assert
+        assertEquals(List.of(1), first);
+        assertEquals(List.of(2), second);
+        assertEquals(0, window.size());
+    }
+}
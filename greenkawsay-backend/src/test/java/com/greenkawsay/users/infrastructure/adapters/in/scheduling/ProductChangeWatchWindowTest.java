@@ -0,0 +1,89 @@
+package com.greenkawsay.users.infrastructure.adapters.in.scheduling;
+
+import com.greenkawsay.catalog.domain.events.ProductBackInStockEvent;
+import com.greenkawsay.catalog.domain.events.ProductPriceChangedEvent;
+import com.greenkawsay.users.application.ports.in.WishlistWatchServicePort;
+import com.greenkawsay.users.domain.models.WatchedProductChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ProductChangeWatchWindow
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductChangeWatchWindowTest {
+
+    @Mock
+    private WishlistWatchServicePort wishlistWatchService;
+
+    @Captor
+    private ArgumentCaptor<Collection<WatchedProductChange>> windowCaptor;
+
+    private ProductChangeWatchWindow window;
+    private UUID productId;
+
+    @BeforeEach
+    void setUp() {
+        window = new ProductChangeWatchWindow(wishlistWatchService, 2);
+        productId = UUID.randomUUID();
+    }
+
+    @Test
+    void onEvents_ShouldOnlyCollect_WithoutCallingWatcherService() {
+        // Act
+        window.onPriceChanged(priceChange(productId, "20.00", "15.00"));
+        window.onBackInStock(new ProductBackInStockEvent(productId, "Seed Kit", 3));
+
+        // Assert
+        assertEquals(1, window.pendingCount());
+        verifyNoInteractions(wishlistWatchService);
+    }
+
+    @Test
+    void flush_ShouldHandOffNetChangePerProduct_AndStartNewWindow() {
+        // Arrange
+        window.onPriceChanged(priceChange(productId, "20.00", "15.00"));
+        window.onPriceChanged(priceChange(productId, "15.00", "18.00"));
+        window.onBackInStock(new ProductBackInStockEvent(productId, "Seed Kit", 3));
+
+        // Act
+        window.flush();
+        window.flush();
+
+        // Assert
+        verify(wishlistWatchService, times(1)).notifyWatchers(windowCaptor.capture());
+        WatchedProductChange change = windowCaptor.getValue().iterator().next();
+        assertEquals(new BigDecimal("20.00"), change.oldPrice());
+        assertEquals(new BigDecimal("18.00"), change.newPrice());
+        assertTrue(change.isPriceDrop());
+        assertTrue(change.backInStock());
+        assertEquals(0, window.pendingCount());
+    }
+
+    @Test
+    void onPriceChanged_ShouldDropNewProducts_WhenWindowIsFull() {
+        // Act
+        window.onPriceChanged(priceChange(UUID.randomUUID(), "10.00", "9.00"));
+        window.onPriceChanged(priceChange(UUID.randomUUID(), "10.00", "9.00"));
+        window.onPriceChanged(priceChange(UUID.randomUUID(), "10.00", "9.00"));
+
+        // Assert
+        assertEquals(2, window.pendingCount());
+    }
+
+    private static ProductPriceChangedEvent priceChange(UUID productId, String oldPrice, String newPrice) {
+        return new ProductPriceChangedEvent(productId, "Seed Kit", new BigDecimal(oldPrice), new BigDecimal(newPrice), "PEN");
+    }
+}
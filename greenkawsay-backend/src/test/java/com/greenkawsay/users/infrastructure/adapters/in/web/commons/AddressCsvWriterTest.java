@@ -0,0 +1,55 @@
+package com.greenkawsay.users.infrastructure.adapters.in.web.commons;
+
+import com.greenkawsay.shared.domain.valueobjects.Address;
+import com.greenkawsay.users.domain.models.UserAddress;
+import com.greenkawsay.users.domain.valueobjects.AddressId;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AddressCsvWriter
+ */
+class AddressCsvWriterTest {
+
+    @Test
+    void accept_ShouldQuoteFieldsWithSeparatorsAndQuotes() {
+        // Arrange
+        StringWriter out = new StringWriter();
+        UserAddress address = address(new Address("Av. Larco 101, Dpto \"B\"", "Lima", null, null, "PE"));
+
+        // Act
+        new AddressCsvWriter(out).accept(address);
+
+        // Assert
+        assertEquals(prefix(address) + ",\"Av. Larco 101, Dpto \"\"B\"\"\",Lima,,,PE,true\r\n", out.toString());
+    }
+
+    @Test
+    void accept_ShouldNeutraliseFieldsThatStartLikeFormulas() {
+        // Arrange
+        StringWriter out = new StringWriter();
+        UserAddress address = address(new Address("=HYPERLINK(\"http://evil.example\",\"x\")", "+Lima", "-1",
+            "@SUM(A1)", "PE"));
+
+        // Act
+        new AddressCsvWriter(out).accept(address);
+
+        // Assert
+        assertEquals(prefix(address) + ",\"'=HYPERLINK(\"\"http://evil.example\"\",\"\"x\"\")\",'+Lima,'-1,'@SUM(A1),PE,true\r\n",
+            out.toString());
+    }
+
+    private static UserAddress address(Address address) {
+        return new UserAddress(AddressId.generate(), UserId.generate(), address, true,
+            LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    private static String prefix(UserAddress address) {
+        return address.getId().getValueAsString() + "," + address.getUserId().getValueAsString();
+    }
+}
@@ -0,0 +1,75 @@
+package com.greenkawsay.users.infrastructure.adapters.in.web.controllers;
+
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.catalog.infrastructure.adapters.in.web.commons.GlobalExceptionHandler;
+import com.greenkawsay.users.application.ports.in.WishlistServicePort;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import com.greenkawsay.users.infrastructure.configuration.UserWishlistProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for WishlistMembershipController
+ */
+@ExtendWith(MockitoExtension.class)
+class WishlistMembershipControllerTest {
+
+    @Mock
+    private WishlistServicePort wishlistService;
+
+    private MockMvc mockMvc;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        UserWishlistProperties properties = new UserWishlistProperties(1_000, Duration.ofMinutes(30), 2, false,
+            Duration.ofMinutes(1), 500, 100_000, 5, "http://localhost:3000/products/{productId}");
+        mockMvc = MockMvcBuilders.standaloneSetup(new WishlistMembershipController(wishlistService, properties))
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    void checkMembership_ShouldMapEachRequestedProduct() throws Exception {
+        // Arrange
+        ProductId saved = ProductId.generate();
+        ProductId other = ProductId.generate();
+        when(wishlistService.checkMembership(new UserId(userId), List.of(saved, other))).thenReturn(Set.of(saved));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/users/{userId}/wishlist-membership", userId)
+                                .param("productIds", saved.getValueAsString(), other.getValueAsString()))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.products['" + saved.getValueAsString() + "']").value(true))
+               .andExpect(jsonPath("$.products['" + other.getValueAsString() + "']").value(false));
+    }
+
+    @Test
+    void checkMembership_ShouldReturnErrorResponse_WhenTooManyProductIds() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/users/{userId}/wishlist-membership", userId)
+                                .param("productIds", UUID.randomUUID().toString(), UUID.randomUUID().toString(),
+                                    UUID.randomUUID().toString()))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.status").value(400))
+               .andExpect(jsonPath("$.errorCode").value("INVALID_WISHLIST_MEMBERSHIP_REQUEST"))
+               .andExpect(jsonPath("$.path").value("/api/v1/users/" + userId + "/wishlist-membership"));
+        verify(wishlistService, never()).checkMembership(any(), any());
+    }
+}
@@ -0,0 +1,136 @@
+package com.greenkawsay.users.infrastructure.adapters.out.jdbc;
+
+import com.greenkawsay.users.domain.models.UserAddress;
+import com.greenkawsay.users.domain.valueobjects.AddressId;
+import com.greenkawsay.users.domain.valueobjects.ShippingRegion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JdbcAddressRegionQueryAdapter against an embedded database
+ * The normalized key columns are filled explicitly, standing in for the PostgreSQL generated columns
+ */
+class JdbcAddressRegionQueryAdapterTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private JdbcAddressRegionQueryAdapter adapter;
+    private final List<UUID> limaIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("""
+            CREATE TABLE addresses (
+                id UUID PRIMARY KEY, user_id UUID NOT NULL, street VARCHAR(255) NOT NULL,
+                city VARCHAR(100) NOT NULL, state VARCHAR(100), zip_code VARCHAR(20), country VARCHAR(100),
+                is_default BOOLEAN, created_at TIMESTAMP, updated_at TIMESTAMP,
+                city_key VARCHAR(100), state_key VARCHAR(100), zip_key VARCHAR(20), country_key VARCHAR(100))
+            """);
+        for (int i = 0; i < 25; i++) {
+            limaIds.add(insert("Av. Larco " + i, i % 2 == 0 ? "Lima" : "  LIMA ", "Lima", "15074", "Peru"));
+        }
+        insert("Calle Real 1", "Huancayo", "Junin", "12001", "Peru");
+        insert("Main St 1", "Lima", "Ohio", "45801", "USA");
+        limaIds.sort(Comparator.comparing(UUID::toString));
+        adapter = new JdbcAddressRegionQueryAdapter(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void findByRegion_ShouldWalkKeysetPagesInIdOrder() {
+        // Arrange
+        ShippingRegion lima = new ShippingRegion("peru", null, "lima", null);
+
+        // Act
+        List<UserAddress> firstPage = adapter.findByRegion(lima, null, 10);
+        List<UserAddress> secondPage = adapter.findByRegion(lima, firstPage.get(9).getId(), 10);
+        List<UserAddress> lastPage = adapter.findByRegion(lima, secondPage.get(9).getId(), 10);
+
+        // Assert
+        List<UUID> seen = new ArrayList<>();
+        firstPage.forEach(address -> seen.add(address.getId().getValue()));
+        secondPage.forEach(address -> seen.add(address.getId().getValue()));
+        lastPage.forEach(address -> seen.add(address.getId().getValue()));
+        assertEquals(5, lastPage.size());
+        assertEquals(limaIds, seen);
+    }
+
+    @Test
+    void findByRegion_ShouldMatchZipCodeIgnoringSpacesAndCase() {
+        // Act
+        List<UserAddress> result = adapter.findByRegion(new ShippingRegion(null, null, null, " 120 01 "), null, 10);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals("Huancayo", result.get(0).getAddress().getCity());
+    }
+
+    @Test
+    void findByRegion_ShouldReturnOffsetPageWithTotal() {
+        // Act
+        Page<UserAddress> page = adapter.findByRegion(new ShippingRegion(null, null, "Lima", null), PageRequest.of(2, 10));
+
+        // Assert
+        assertEquals(26, page.getTotalElements());
+        assertEquals(6, page.getContent().size());
+    }
+
+    @Test
+    void forEachInRegion_ShouldStreamEveryMatchingAddress() {
+        // Arrange
+        List<AddressId> streamed = new ArrayList<>();
+
+        // Act
+        adapter.forEachInRegion(new ShippingRegion(null, "lima", null, null), address -> streamed.add(address.getId()));
+
+        // Assert
+        assertEquals(limaIds, streamed.stream().map(AddressId::getValue).toList());
+    }
+
+    @Test
+    void findByRegion_ShouldRejectRow_WhenTimestampsMissing() {
+        // Arrange
+        UUID id = insert("Jr. Puno 12", "Arequipa", "Arequipa", "04001", "Peru");
+        jdbcTemplate.update("UPDATE addresses SET created_at = NULL, updated_at = NULL WHERE id = ?", id);
+
+        // Act & Assert
+        assertThrows(NullPointerException.class,
+            () -> adapter.findByRegion(new ShippingRegion(null, "Arequipa", null, null), null, 10));
+    }
+
+    private UUID insert(String street, String city, String state, String zipCode, String country) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+            INSERT INTO addresses (id, user_id, street, city, state, zip_code, country, is_default,
+                                   created_at, updated_at, city_key, state_key, zip_key, country_key)
+            VALUES (?, ?, ?, ?, ?, ?, ?, FALSE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, ?, ?, ?, ?)
+            """,
+            id, UUID.randomUUID(), street, city, state, zipCode, country,
+            ShippingRegion.normalizeName(city), ShippingRegion.normalizeName(state),
+            ShippingRegion.normalizeZipCode(zipCode), ShippingRegion.normalizeName(country));
+        return id;
+    }
+}
@@ -0,0 +1,134 @@
+package com.greenkawsay.users.infrastructure.adapters.out.jdbc;
+
+import com.greenkawsay.shared.domain.valueobjects.Address;
+import com.greenkawsay.users.domain.models.UserAddress;
+import com.greenkawsay.users.domain.valueobjects.AddressId;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for JdbcAddressRepository against a PostgreSQL container
+ * The addresses table carries the deferrable uq_addresses_default constraint from the V6 migration
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class JdbcAddressRepositoryIntegrationTest {
+
+    @Container
+    private static final GenericContainer<?> POSTGRES =
+        new GenericContainer<>(DockerImageName.parse("postgres:16-alpine"))
+            .withEnv("POSTGRES_PASSWORD", "test")
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*\\s", 2));
+
+    private static JdbcTemplate jdbcTemplate;
+
+    private JdbcAddressRepository repository;
+    private final UserId userId = UserId.generate();
+    private UserAddress home;
+    private UserAddress office;
+
+    @BeforeAll
+    static void createSchema() {
+        DataSource dataSource = new DriverManagerDataSource(
+            "jdbc:postgresql://" + POSTGRES.getHost() + ":" + POSTGRES.getMappedPort(5432) + "/postgres",
+            "postgres", "test");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+            CREATE TABLE addresses (
+                id UUID PRIMARY KEY,
+                user_id UUID NOT NULL,
+                street VARCHAR(255) NOT NULL,
+                city VARCHAR(100) NOT NULL,
+                state VARCHAR(100),
+                zip_code VARCHAR(20),
+                country VARCHAR(100) DEFAULT 'Peru',
+                is_default BOOLEAN DEFAULT FALSE,
+                created_by UUID,
+                updated_by UUID,
+                created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+            )""");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V6__addresses_default_index.sql"))
+            .execute(dataSource);
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE addresses");
+        repository = new JdbcAddressRepository(jdbcTemplate);
+        home = repository.save(address("Av. Larco 101", true));
+        office = repository.save(address("Jr. Cusco 456", false));
+    }
+
+    @Test
+    void swapDefault_ShouldMoveDefaultInOneStatement_UnderDeferrableConstraint() {
+        // Act
+        boolean swapped = repository.swapDefault(userId, office.getId());
+
+        // Assert
+        assertTrue(swapped);
+        assertEquals(office.getId(), repository.findDefaultByUserId(userId).orElseThrow().getId());
+        assertFalse(repository.findById(home.getId()).orElseThrow().isDefault());
+    }
+
+    @Test
+    void swapDefault_ShouldKeepDefault_WhenAddressBelongsToAnotherUser() {
+        // Act
+        boolean swapped = repository.swapDefault(UserId.generate(), office.getId());
+        boolean foreign = repository.swapDefault(userId, AddressId.generate());
+
+        // Assert
+        assertFalse(swapped);
+        assertFalse(foreign);
+        assertEquals(home.getId(), repository.findDefaultByUserId(userId).orElseThrow().getId());
+    }
+
+    @Test
+    void swapDefault_ShouldSucceed_WhenAddressAlreadyDefault() {
+        // Act & Assert
+        assertTrue(repository.swapDefault(userId, home.getId()));
+        assertEquals(1, repository.findByUserId(userId).stream().filter(UserAddress::isDefault).count());
+    }
+
+    @Test
+    void save_ShouldRejectSecondDefault() {
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class,
+            () -> repository.save(office.markAsDefault()));
+    }
+
+    @Test
+    void save_ShouldUpdateExistingAddressInPlace() {
+        // Act
+        repository.save(office.updateAddress(new Address("Jr. Cusco 789", "Cusco", "PE")));
+
+        // Assert
+        List<UserAddress> addresses = repository.findByUserId(userId);
+        assertEquals(2, addresses.size());
+        assertEquals("Jr. Cusco 789", repository.findById(office.getId()).orElseThrow().getAddress().getStreet());
+        assertEquals(2, repository.countByUserId(userId));
+    }
+
+    private UserAddress address(String street, boolean isDefault) {
+        LocalDateTime now = LocalDateTime.now();
+        return new UserAddress(AddressId.generate(), userId, new Address(street, "Lima", "PE"), isDefault, now, now);
+    }
+}
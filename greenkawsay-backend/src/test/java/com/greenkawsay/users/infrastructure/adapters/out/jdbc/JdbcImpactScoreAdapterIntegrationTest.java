@@ -0,0 +1,114 @@
+package com.greenkawsay.users.infrastructure.adapters.out.jdbc;
+
+import com.greenkawsay.users.domain.valueobjects.ImpactScore;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for JdbcImpactScoreAdapter against a PostgreSQL container
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class JdbcImpactScoreAdapterIntegrationTest {
+
+    @Container
+    private static final GenericContainer<?> POSTGRES =
+        new GenericContainer<>(DockerImageName.parse("postgres:16-alpine"))
+            .withEnv("POSTGRES_PASSWORD", "test")
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*\\s", 2));
+
+    private static JdbcTemplate jdbcTemplate;
+
+    private JdbcImpactScoreAdapter adapter;
+    private final UserId scored = UserId.generate();
+    private final UserId unscored = UserId.generate();
+
+    @BeforeAll
+    static void createSchema() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+            "jdbc:postgresql://" + POSTGRES.getHost() + ":" + POSTGRES.getMappedPort(5432) + "/postgres",
+            "postgres", "test"));
+        jdbcTemplate.execute("""
+            CREATE TABLE user_profiles (
+                id UUID PRIMARY KEY,
+                impact_score_total DECIMAL(10,2) DEFAULT 0,
+                updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+            )""");
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE user_profiles");
+        jdbcTemplate.update("INSERT INTO user_profiles (id, impact_score_total) VALUES (?, 10.50), (?, NULL)",
+            scored.getValue(), unscored.getValue());
+        adapter = new JdbcImpactScoreAdapter(jdbcTemplate);
+    }
+
+    @Test
+    void incrementTotal_ShouldAddInPlace_AndReturnNewTotal() {
+        // Act
+        Optional<ImpactScore> scoredTotal = adapter.incrementTotal(scored, new ImpactScore(new BigDecimal("2.25")));
+        Optional<ImpactScore> unscoredTotal = adapter.incrementTotal(unscored, ImpactScore.of(5));
+
+        // Assert
+        assertEquals(new BigDecimal("12.75"), scoredTotal.orElseThrow().getValue());
+        assertEquals(0, new BigDecimal("5").compareTo(unscoredTotal.orElseThrow().getValue()));
+        assertEquals(0, new BigDecimal("12.75").compareTo(totalOf(scored)));
+    }
+
+    @Test
+    void incrementTotal_ShouldReturnEmpty_WhenUserProfileDoesNotExist() {
+        // Act & Assert
+        assertTrue(adapter.incrementTotal(UserId.generate(), ImpactScore.of(1)).isEmpty());
+    }
+
+    @Test
+    void incrementTotal_ShouldNotLoseConcurrentUpdates() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act
+        for (int i = 0; i < 200; i++) {
+            executor.submit(() -> adapter.incrementTotal(scored, ImpactScore.of(1)));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        // Assert
+        assertEquals(0, new BigDecimal("210.50").compareTo(totalOf(scored)));
+    }
+
+    @Test
+    void findAllTotals_ShouldReturnEveryProfile_WithMissingTotalsAsZero() {
+        // Act
+        Map<UserId, ImpactScore> scores = adapter.findAllTotals();
+
+        // Assert
+        assertEquals(2, scores.size());
+        assertEquals(0, new BigDecimal("10.50").compareTo(scores.get(scored).getValue()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(scores.get(unscored).getValue()));
+    }
+
+    private BigDecimal totalOf(UserId userId) {
+        return jdbcTemplate.queryForObject(
+            "SELECT impact_score_total FROM user_profiles WHERE id = ?", BigDecimal.class, userId.getValue());
+    }
+}
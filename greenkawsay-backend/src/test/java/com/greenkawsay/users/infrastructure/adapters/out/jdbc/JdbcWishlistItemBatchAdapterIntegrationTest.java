@@ -0,0 +1,142 @@
+package com.greenkawsay.users.infrastructure.adapters.out.jdbc;
+
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.users.domain.valueobjects.WishlistId;
+import com.greenkawsay.users.domain.valueobjects.WishlistItemOutcome;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for JdbcWishlistItemBatchAdapter against a PostgreSQL container
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class JdbcWishlistItemBatchAdapterIntegrationTest {
+
+    @Container
+    private static final GenericContainer<?> POSTGRES =
+        new GenericContainer<>(DockerImageName.parse("postgres:16-alpine"))
+            .withEnv("POSTGRES_PASSWORD", "test")
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*\\s", 2));
+
+    private static JdbcTemplate jdbcTemplate;
+
+    private JdbcWishlistItemBatchAdapter adapter;
+    private final UUID userId = UUID.randomUUID();
+    private final WishlistId source = WishlistId.generate();
+    private final WishlistId target = WishlistId.generate();
+    private final ProductId first = ProductId.generate();
+    private final ProductId second = ProductId.generate();
+
+    @BeforeAll
+    static void createSchema() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+            "jdbc:postgresql://" + POSTGRES.getHost() + ":" + POSTGRES.getMappedPort(5432) + "/postgres",
+            "postgres", "test"));
+        jdbcTemplate.execute("""
+            CREATE TABLE products (id UUID PRIMARY KEY);
+            CREATE TABLE wishlists (id UUID PRIMARY KEY, user_id UUID NOT NULL);
+            CREATE TABLE wishlist_items (
+                id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+                wishlist_id UUID NOT NULL REFERENCES wishlists(id) ON DELETE CASCADE,
+                product_id UUID NOT NULL REFERENCES products(id),
+                added_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                UNIQUE (wishlist_id, product_id)
+            )""");
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE wishlist_items, wishlists, products");
+        jdbcTemplate.update("INSERT INTO products (id) VALUES (?), (?)", first.getValue(), second.getValue());
+        jdbcTemplate.update("INSERT INTO wishlists (id, user_id) VALUES (?, ?), (?, ?)",
+            source.getValue(), userId, target.getValue(), userId);
+        adapter = new JdbcWishlistItemBatchAdapter(jdbcTemplate);
+    }
+
+    @Test
+    void addAll_ShouldReportAddedPresentAndUnknownProducts() {
+        // Arrange
+        adapter.addAll(source, List.of(first));
+        ProductId unknown = ProductId.generate();
+
+        // Act
+        Map<ProductId, WishlistItemOutcome> outcomes = adapter.addAll(source, List.of(first, second, unknown));
+
+        // Assert
+        assertEquals(WishlistItemOutcome.ALREADY_PRESENT, outcomes.get(first));
+        assertEquals(WishlistItemOutcome.ADDED, outcomes.get(second));
+        assertEquals(WishlistItemOutcome.PRODUCT_NOT_FOUND, outcomes.get(unknown));
+        assertEquals(2, countItems(source));
+    }
+
+    @Test
+    void addAll_ShouldReturnEmpty_WhenWishlistDoesNotExist() {
+        // Act & Assert
+        assertTrue(adapter.addAll(WishlistId.generate(), List.of(first)).isEmpty());
+    }
+
+    @Test
+    void removeAll_ShouldDeleteOnlyRequestedItems() {
+        // Arrange
+        adapter.addAll(source, List.of(first));
+
+        // Act
+        Map<ProductId, WishlistItemOutcome> outcomes = adapter.removeAll(source, List.of(first, second));
+
+        // Assert
+        assertEquals(WishlistItemOutcome.REMOVED, outcomes.get(first));
+        assertEquals(WishlistItemOutcome.NOT_IN_WISHLIST, outcomes.get(second));
+        assertEquals(0, countItems(source));
+    }
+
+    @Test
+    void moveAll_ShouldMoveAndKeepTargetDuplicatesOnce() {
+        // Arrange
+        adapter.addAll(source, List.of(first, second));
+        adapter.addAll(target, List.of(second));
+
+        // Act
+        Map<ProductId, WishlistItemOutcome> outcomes = adapter.moveAll(source, target, List.of(first, second));
+
+        // Assert
+        assertEquals(WishlistItemOutcome.MOVED, outcomes.get(first));
+        assertEquals(WishlistItemOutcome.ALREADY_IN_TARGET, outcomes.get(second));
+        assertEquals(0, countItems(source));
+        assertEquals(2, countItems(target));
+    }
+
+    @Test
+    void moveAll_ShouldReturnEmpty_WhenWishlistsBelongToDifferentUsers() {
+        // Arrange
+        WishlistId foreign = WishlistId.generate();
+        jdbcTemplate.update("INSERT INTO wishlists (id, user_id) VALUES (?, ?)", foreign.getValue(), UUID.randomUUID());
+        adapter.addAll(source, List.of(first));
+
+        // Act
+        Map<ProductId, WishlistItemOutcome> outcomes = adapter.moveAll(source, foreign, List.of(first));
+
+        // Assert
+        assertTrue(outcomes.isEmpty());
+        assertEquals(1, countItems(source));
+    }
+
+    private int countItems(WishlistId wishlistId) {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM wishlist_items WHERE wishlist_id = ?", Integer.class, wishlistId.getValue());
+    }
+}
@@ -0,0 +1,92 @@
+package com.greenkawsay.users.infrastructure.adapters.out.jdbc;
+
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.users.domain.models.WishlistMembership;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import com.greenkawsay.users.domain.valueobjects.WishlistId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JdbcWishlistMembershipAdapter against an embedded database
+ */
+class JdbcWishlistMembershipAdapterTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private JdbcWishlistMembershipAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("""
+            CREATE TABLE wishlists (id UUID PRIMARY KEY, user_id UUID NOT NULL);
+            CREATE TABLE wishlist_items (
+                id UUID PRIMARY KEY, wishlist_id UUID NOT NULL, product_id UUID NOT NULL,
+                UNIQUE (wishlist_id, product_id))
+            """);
+        adapter = new JdbcWishlistMembershipAdapter(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void loadMembership_ShouldCoverAllWishlistsOfUser_IncludingEmptyOnes() {
+        // Arrange
+        UserId userId = UserId.generate();
+        WishlistId gifts = insertWishlist(userId);
+        WishlistId empty = insertWishlist(userId);
+        WishlistId foreign = insertWishlist(UserId.generate());
+        ProductId shared = ProductId.generate();
+        ProductId other = ProductId.generate();
+        insertItem(gifts, shared);
+        insertItem(foreign, other);
+
+        // Act
+        WishlistMembership membership = adapter.loadMembership(userId);
+
+        // Assert
+        assertTrue(membership.contains(shared));
+        assertFalse(membership.contains(other));
+        assertTrue(membership.getWishlistIds().containsAll(List.of(gifts, empty)));
+        assertEquals(2, membership.getWishlistIds().size());
+    }
+
+    @Test
+    void loadMembership_ShouldReturnEmpty_WhenUserHasNoWishlists() {
+        // Act
+        WishlistMembership membership = adapter.loadMembership(UserId.generate());
+
+        // Assert
+        assertEquals(0, membership.size());
+        assertTrue(membership.getWishlistIds().isEmpty());
+    }
+
+    private WishlistId insertWishlist(UserId userId) {
+        WishlistId wishlistId = WishlistId.generate();
+        jdbcTemplate.update("INSERT INTO wishlists (id, user_id) VALUES (?, ?)", wishlistId.getValue(), userId.getValue());
+        return wishlistId;
+    }
+
+    private void insertItem(WishlistId wishlistId, ProductId productId) {
+        jdbcTemplate.update("INSERT INTO wishlist_items (id, wishlist_id, product_id) VALUES (?, ?, ?)",
+            UUID.randomUUID(), wishlistId.getValue(), productId.getValue());
+    }
+}
@@ -0,0 +1,109 @@
+package com.greenkawsay.users.infrastructure.adapters.out.leaderboard;
+
+import com.greenkawsay.users.domain.models.LeaderboardEntry;
+import com.greenkawsay.users.domain.valueobjects.ImpactScore;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for InMemoryLeaderboardAdapter
+ */
+class InMemoryLeaderboardAdapterTest {
+
+    private final InMemoryLeaderboardAdapter leaderboard = new InMemoryLeaderboardAdapter();
+
+    @Test
+    void increment_ShouldSeedWithTotal_WhenUserNotRanked() {
+        // Arrange
+        UserId userId = UserId.generate();
+
+        // Act
+        leaderboard.increment(userId, ImpactScore.of(5), ImpactScore.of(42.5));
+        leaderboard.increment(userId, ImpactScore.of(2.25), ImpactScore.of(44.75));
+
+        // Assert
+        LeaderboardEntry entry = leaderboard.findEntry(userId).orElseThrow();
+        assertEquals(new ImpactScore(new BigDecimal("44.75")), entry.score());
+        assertEquals(1, entry.rank());
+    }
+
+    @Test
+    void top_ShouldMatchFullSort_WhenManyUsersRanked() {
+        // Arrange
+        Random random = new Random(7);
+        Map<UserId, ImpactScore> scores = new HashMap<>();
+        for (int i = 0; i < 2000; i++) {
+            scores.put(UserId.generate(), new ImpactScore(BigDecimal.valueOf(random.nextInt(5000), 2)));
+        }
+        leaderboard.replaceAll(scores);
+        List<Map.Entry<UserId, ImpactScore>> expected = scores.entrySet().stream()
+            .sorted(Comparator.<Map.Entry<UserId, ImpactScore>, BigDecimal>comparing(e -> e.getValue().getValue())
+                .thenComparing(e -> e.getKey().getValueAsString())
+                .reversed())
+            .toList();
+
+        // Act
+        List<LeaderboardEntry> top = leaderboard.top(50);
+
+        // Assert
+        assertEquals(2000, leaderboard.size());
+        assertEquals(50, top.size());
+        for (int i = 0; i < top.size(); i++) {
+            assertEquals(expected.get(i).getKey(), top.get(i).userId());
+            assertEquals(i + 1, top.get(i).rank());
+        }
+        UserId middle = expected.get(1234).getKey();
+        assertEquals(1235, leaderboard.findEntry(middle).orElseThrow().rank());
+    }
+
+    @Test
+    void around_ShouldReturnNeighborsClampedAtTop() {
+        // Arrange
+        UserId first = UserId.generate();
+        UserId second = UserId.generate();
+        UserId third = UserId.generate();
+        UserId fourth = UserId.generate();
+        leaderboard.replaceAll(Map.of(
+            first, ImpactScore.of(40), second, ImpactScore.of(30),
+            third, ImpactScore.of(20), fourth, ImpactScore.of(10)));
+
+        // Act
+        List<LeaderboardEntry> aroundSecond = leaderboard.around(second, 1);
+        List<LeaderboardEntry> aroundFirst = leaderboard.around(first, 2);
+
+        // Assert
+        assertEquals(List.of(first, second, third), aroundSecond.stream().map(LeaderboardEntry::userId).toList());
+        assertEquals(List.of(first, second, third), aroundFirst.stream().map(LeaderboardEntry::userId).toList());
+        assertTrue(leaderboard.around(UserId.generate(), 1).isEmpty());
+    }
+
+    @Test
+    void increment_ShouldNotLoseUpdates_WhenCalledConcurrently() throws InterruptedException {
+        // Arrange
+        UserId userId = UserId.generate();
+        leaderboard.replaceAll(Map.of(userId, ImpactScore.zero()));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(() -> leaderboard.increment(userId, ImpactScore.of(1), ImpactScore.of(1)));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Assert
+        assertEquals(new ImpactScore(new BigDecimal("1000")), leaderboard.findEntry(userId).orElseThrow().score());
+    }
+}
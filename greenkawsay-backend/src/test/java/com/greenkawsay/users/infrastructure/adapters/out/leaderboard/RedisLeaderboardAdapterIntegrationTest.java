@@ -0,0 +1,89 @@
+package com.greenkawsay.users.infrastructure.adapters.out.leaderboard;
+
+import com.greenkawsay.users.domain.models.LeaderboardEntry;
+import com.greenkawsay.users.domain.valueobjects.ImpactScore;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for RedisLeaderboardAdapter against a Redis container
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisLeaderboardAdapterIntegrationTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+        new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RedisLeaderboardAdapter leaderboard;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+            new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete("test:leaderboard");
+        leaderboard = new RedisLeaderboardAdapter(redisTemplate, "test:leaderboard");
+    }
+
+    @Test
+    void increment_ShouldSeedThenAddAtomically() {
+        // Arrange
+        UserId userId = UserId.generate();
+
+        // Act
+        leaderboard.increment(userId, ImpactScore.of(5), ImpactScore.of(20));
+        leaderboard.increment(userId, ImpactScore.of(2.5), ImpactScore.of(22.5));
+
+        // Assert
+        assertEquals(new ImpactScore(new BigDecimal("22.50")), leaderboard.findEntry(userId).orElseThrow().score());
+    }
+
+    @Test
+    void replaceAll_ShouldRankUsersAndAnswerNeighbors() {
+        // Arrange
+        UserId first = UserId.generate();
+        UserId second = UserId.generate();
+        UserId third = UserId.generate();
+        leaderboard.replaceAll(Map.of(first, ImpactScore.of(30), second, ImpactScore.of(20), third, ImpactScore.of(10)));
+
+        // Act
+        List<LeaderboardEntry> top = leaderboard.top(2);
+        List<LeaderboardEntry> aroundThird = leaderboard.around(third, 1);
+
+        // Assert
+        assertEquals(3, leaderboard.size());
+        assertEquals(List.of(first, second), top.stream().map(LeaderboardEntry::userId).toList());
+        assertEquals(List.of(second, third), aroundThird.stream().map(LeaderboardEntry::userId).toList());
+        assertEquals(3, leaderboard.findEntry(third).orElseThrow().rank());
+    }
+}
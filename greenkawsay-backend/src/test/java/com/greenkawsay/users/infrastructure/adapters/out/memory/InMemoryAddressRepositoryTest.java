@@ -0,0 +1,112 @@
+package com.greenkawsay.users.infrastructure.adapters.out.memory;
+
+import com.greenkawsay.shared.domain.valueobjects.Address;
+import com.greenkawsay.users.domain.models.UserAddress;
+import com.greenkawsay.users.domain.valueobjects.AddressId;
+import com.greenkawsay.users.domain.valueobjects.ShippingRegion;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for InMemoryAddressRepository
+ */
+class InMemoryAddressRepositoryTest {
+
+    private InMemoryAddressRepository repository;
+    private UserId userId;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryAddressRepository(new InMemoryUserStore());
+        userId = UserId.generate();
+    }
+
+    @Test
+    void save_ShouldReject_SecondDefaultAddressOfUser() {
+        // Arrange
+        repository.save(newAddress(userId, "Lima", true));
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class, () -> repository.save(newAddress(userId, "Cusco", true)));
+    }
+
+    @Test
+    void swapDefault_ShouldMakeTargetTheOnlyDefault() {
+        // Arrange
+        UserAddress first = repository.save(newAddress(userId, "Lima", true));
+        UserAddress second = repository.save(newAddress(userId, "Cusco", false));
+
+        // Act
+        boolean swapped = repository.swapDefault(userId, second.getId());
+
+        // Assert
+        assertTrue(swapped);
+        assertEquals(second.getId(), repository.findDefaultByUserId(userId).orElseThrow().getId());
+        assertFalse(repository.findById(first.getId()).orElseThrow().isDefault());
+    }
+
+    @Test
+    void swapDefault_ShouldReturnFalse_WhenAddressBelongsToAnotherUser() {
+        // Arrange
+        UserAddress other = repository.save(newAddress(UserId.generate(), "Lima", false));
+
+        // Act & Assert
+        assertFalse(repository.swapDefault(userId, other.getId()));
+    }
+
+    @Test
+    void findByRegion_ShouldWalkMatchesByKeyset_InIdOrder() {
+        // Arrange
+        for (int i = 0; i < 7; i++) {
+            repository.save(newAddress(UserId.generate(), " lima ", false));
+        }
+        repository.save(newAddress(UserId.generate(), "Cusco", false));
+        ShippingRegion region = new ShippingRegion("PE", null, "LIMA", null);
+
+        // Act
+        List<UserAddress> walked = new ArrayList<>();
+        List<UserAddress> batch = repository.findByRegion(region, null, 3);
+        while (!batch.isEmpty()) {
+            walked.addAll(batch);
+            batch = repository.findByRegion(region, batch.get(batch.size() - 1).getId(), 3);
+        }
+
+        // Assert
+        assertEquals(7, walked.size());
+        assertEquals(7, walked.stream().map(UserAddress::getId).distinct().count());
+        List<UserAddress> all = new ArrayList<>();
+        repository.forEachInRegion(region, all::add);
+        assertEquals(all.stream().map(UserAddress::getId).toList(), walked.stream().map(UserAddress::getId).toList());
+    }
+
+    @Test
+    void findByRegion_ShouldPage_WithTotalOfAllMatches() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            repository.save(newAddress(UserId.generate(), "Arequipa", false));
+        }
+
+        // Act
+        Page<UserAddress> page = repository.findByRegion(new ShippingRegion("PE", null, "Arequipa", null),
+                PageRequest.of(1, 2));
+
+        // Assert
+        assertEquals(5, page.getTotalElements());
+        assertEquals(2, page.getContent().size());
+    }
+
+    private UserAddress newAddress(UserId owner, String city, boolean isDefault) {
+        return new UserAddress(AddressId.generate(), owner, new Address("Av. Sol 100", city, "PE"), isDefault,
+                LocalDateTime.now(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,110 @@
+package com.greenkawsay.users.infrastructure.adapters.out.persistence;
+
+import com.greenkawsay.shared.domain.valueobjects.Address;
+import com.greenkawsay.shared.infrastructure.persistence.PrimaryReads;
+import com.greenkawsay.users.domain.models.UserAddress;
+import com.greenkawsay.users.domain.repositories.AddressRepository;
+import com.greenkawsay.users.domain.valueobjects.AddressId;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CachingAddressRepository
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingAddressRepositoryTest {
+
+    @Mock
+    private AddressRepository delegate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CachingAddressRepository repository;
+    private UserId userId;
+    private UserAddress defaultAddress;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingAddressRepository(delegate, 1_000, Duration.ofMinutes(10),
+            new PrimaryReads(transactionManager));
+        userId = UserId.generate();
+        defaultAddress = new UserAddress(AddressId.generate(), userId,
+            new Address("Av. Arequipa 123", "Lima", "PE"), true, LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    @Test
+    void findDefaultByUserId_ShouldQueryOnce_AndServeRepeatsFromCache() {
+        // Arrange
+        when(delegate.findDefaultByUserId(userId)).thenReturn(Optional.of(defaultAddress));
+
+        // Act
+        Optional<UserAddress> first = repository.findDefaultByUserId(userId);
+        Optional<UserAddress> second = repository.findDefaultByUserId(userId);
+
+        // Assert
+        assertEquals(Optional.of(defaultAddress), first);
+        assertEquals(first, second);
+        verify(delegate, times(1)).findDefaultByUserId(userId);
+    }
+
+    @Test
+    void findDefaultByUserId_ShouldCacheAbsence() {
+        // Arrange
+        when(delegate.findDefaultByUserId(userId)).thenReturn(Optional.empty());
+
+        // Act
+        repository.findDefaultByUserId(userId);
+        Optional<UserAddress> result = repository.findDefaultByUserId(userId);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(delegate, times(1)).findDefaultByUserId(userId);
+    }
+
+    @Test
+    void swapDefault_ShouldEvictUserEntry() {
+        // Arrange
+        AddressId otherAddress = AddressId.generate();
+        when(delegate.findDefaultByUserId(userId)).thenReturn(Optional.empty()).thenReturn(Optional.of(defaultAddress));
+        when(delegate.swapDefault(userId, otherAddress)).thenReturn(true);
+        repository.findDefaultByUserId(userId);
+
+        // Act
+        boolean swapped = repository.swapDefault(userId, otherAddress);
+        Optional<UserAddress> result = repository.findDefaultByUserId(userId);
+
+        // Assert
+        assertTrue(swapped);
+        assertEquals(Optional.of(defaultAddress), result);
+        verify(delegate, times(2)).findDefaultByUserId(userId);
+    }
+
+    @Test
+    void deleteById_ShouldEvictOwnerEntry() {
+        // Arrange
+        when(delegate.findDefaultByUserId(userId)).thenReturn(Optional.of(defaultAddress)).thenReturn(Optional.empty());
+        when(delegate.findById(defaultAddress.getId())).thenReturn(Optional.of(defaultAddress));
+        repository.findDefaultByUserId(userId);
+
+        // Act
+        repository.deleteById(defaultAddress.getId());
+        Optional<UserAddress> result = repository.findDefaultByUserId(userId);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(delegate).deleteById(defaultAddress.getId());
+    }
+}
@@ -0,0 +1,101 @@
+package com.greenkawsay.users.infrastructure.adapters.out.persistence;
+
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.shared.infrastructure.persistence.PrimaryReads;
+import com.greenkawsay.shared.infrastructure.persistence.ReplicaFallbackDataSource;
+import com.greenkawsay.shared.infrastructure.persistence.ReplicaLagMonitor;
+import com.greenkawsay.users.domain.events.WishlistChangedEvent;
+import com.greenkawsay.users.domain.models.WishlistMembership;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import com.greenkawsay.users.domain.valueobjects.WishlistId;
+import com.greenkawsay.users.infrastructure.adapters.out.jdbc.JdbcWishlistMembershipAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests that CachingWishlistMembershipAdapter reloads from the primary when reads are routed to a lagging replica
+ */
+class CachingWishlistMembershipAdapterReplicaTest {
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private CachingWishlistMembershipAdapter adapter;
+    private TransactionTemplate readOnly;
+    private UserId userId;
+    private WishlistId wishlistId;
+
+    @BeforeEach
+    void setUp() {
+        primary = database();
+        replica = database();
+        ReplicaLagMonitor monitor = mock(ReplicaLagMonitor.class);
+        when(monitor.isReplicaUsable()).thenReturn(true);
+
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primary);
+        routing.setReadOnlyDataSource(new ReplicaFallbackDataSource(replica, primary, monitor,
+            new SimpleMeterRegistry().counter("fallbacks")));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        adapter = new CachingWishlistMembershipAdapter(new JdbcWishlistMembershipAdapter(new JdbcTemplate(routing)),
+            1_000, Duration.ofMinutes(10), new PrimaryReads(transactionManager));
+        userId = UserId.generate();
+        wishlistId = WishlistId.generate();
+        for (EmbeddedDatabase database : new EmbeddedDatabase[] {primary, replica}) {
+            new JdbcTemplate(database).update("INSERT INTO wishlists (id, user_id) VALUES (?, ?)",
+                wishlistId.getValue(), userId.getValue());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    void loadMembership_ShouldReloadCommittedChangeFromPrimary_WhenReplicaLagsBehind() {
+        // Arrange
+        ProductId productId = ProductId.generate();
+        assertFalse(readOnly.execute(status -> adapter.loadMembership(userId)).contains(productId));
+        new JdbcTemplate(primary).update("INSERT INTO wishlist_items (id, wishlist_id, product_id) VALUES (?, ?, ?)",
+            UUID.randomUUID(), wishlistId.getValue(), productId.getValue());
+
+        // Act
+        adapter.onWishlistChanged(new WishlistChangedEvent(wishlistId.getValue(), userId.getValue()));
+        WishlistMembership reloaded = readOnly.execute(status -> adapter.loadMembership(userId));
+
+        // Assert
+        assertTrue(reloaded.contains(productId));
+    }
+
+    private static EmbeddedDatabase database() {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+        new JdbcTemplate(database).execute("""
+            CREATE TABLE wishlists (id UUID PRIMARY KEY, user_id UUID NOT NULL);
+            CREATE TABLE wishlist_items (
+                id UUID PRIMARY KEY, wishlist_id UUID NOT NULL, product_id UUID NOT NULL,
+                UNIQUE (wishlist_id, product_id))
+            """);
+        return database;
+    }
+}
@@ -0,0 +1,113 @@
+package com.greenkawsay.users.infrastructure.adapters.out.persistence;
+
+import com.greenkawsay.catalog.domain.valueobjects.ProductId;
+import com.greenkawsay.shared.infrastructure.persistence.PrimaryReads;
+import com.greenkawsay.users.application.ports.out.WishlistMembershipPort;
+import com.greenkawsay.users.domain.events.WishlistChangedEvent;
+import com.greenkawsay.users.domain.models.WishlistMembership;
+import com.greenkawsay.users.domain.valueobjects.UserId;
+import com.greenkawsay.users.domain.valueobjects.WishlistId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CachingWishlistMembershipAdapter
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingWishlistMembershipAdapterTest {
+
+    @Mock
+    private WishlistMembershipPort delegate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CachingWishlistMembershipAdapter adapter;
+    private UserId userId;
+    private WishlistId wishlistId;
+    private ProductId productId;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new CachingWishlistMembershipAdapter(delegate, 1_000, Duration.ofMinutes(10),
+            new PrimaryReads(transactionManager));
+        userId = UserId.generate();
+        wishlistId = WishlistId.generate();
+        productId = ProductId.generate();
+    }
+
+    @Test
+    void loadMembership_ShouldQueryOnce_AndServeRepeatsFromCache() {
+        // Arrange
+        when(delegate.loadMembership(userId))
+            .thenReturn(WishlistMembership.of(List.of(wishlistId), List.of(productId.getValue())));
+
+        // Act
+        WishlistMembership first = adapter.loadMembership(userId);
+        WishlistMembership second = adapter.loadMembership(userId);
+
+        // Assert
+        assertTrue(first.contains(productId));
+        assertSame(first, second);
+        verify(delegate, times(1)).loadMembership(userId);
+    }
+
+    @Test
+    void onWishlistChanged_ShouldEvictOwner_WhenOnlyWishlistIsKnown() {
+        // Arrange
+        when(delegate.loadMembership(userId))
+            .thenReturn(WishlistMembership.of(List.of(wishlistId), List.of()))
+            .thenReturn(WishlistMembership.of(List.of(wishlistId), List.of(productId.getValue())));
+        adapter.loadMembership(userId);
+
+        // Act
+        adapter.onWishlistChanged(new WishlistChangedEvent(wishlistId.getValue(), null));
+        WishlistMembership reloaded = adapter.loadMembership(userId);
+
+        // Assert
+        assertTrue(reloaded.contains(productId));
+        verify(delegate, times(2)).loadMembership(userId);
+    }
+
+    @Test
+    void onWishlistChanged_ShouldEvictOwner_WhenWishlistIsNewerThanCachedSet() {
+        // Arrange
+        WishlistId created = WishlistId.generate();
+        when(delegate.loadMembership(userId)).thenReturn(WishlistMembership.empty());
+        adapter.loadMembership(userId);
+
+        // Act
+        adapter.onWishlistChanged(new WishlistChangedEvent(created.getValue(), userId.getValue()));
+        adapter.loadMembership(userId);
+
+        // Assert
+        verify(delegate, times(2)).loadMembership(userId);
+    }
+
+    @Test
+    void onWishlistChanged_ShouldKeepOtherUsersCached() {
+        // Arrange
+        UserId otherUser = UserId.generate();
+        when(delegate.loadMembership(userId)).thenReturn(WishlistMembership.of(List.of(wishlistId), List.of()));
+        when(delegate.loadMembership(otherUser)).thenReturn(WishlistMembership.empty());
+        adapter.loadMembership(userId);
+        adapter.loadMembership(otherUser);
+
+        // Act
+        adapter.onWishlistChanged(new WishlistChangedEvent(wishlistId.getValue(), null));
+        adapter.loadMembership(otherUser);
+
+        // Assert
+        verify(delegate, times(1)).loadMembership(otherUser);
+    }
+}
@@ -0,0 +1,18 @@
+#!/bin/sh
+# Clones the primary with pg_basebackup on first start and runs it as a hot standby
+set -e
+
+if [ ! -s "$PGDATA/PG_VERSION" ]; then
+    until pg_isready -h postgres -p 5432; do
+        echo "Waiting for primary..."
+        sleep 2
+    done
+    mkdir -p "$PGDATA"
+    chmod 700 "$PGDATA"
+    PGPASSWORD="$REPLICATION_PASSWORD" pg_basebackup \
+        -h postgres -p 5432 -U "$REPLICATION_USER" \
+        -D "$PGDATA" -Fp -Xs -P -R
+    chown -R postgres:postgres "$PGDATA"
+fi
+
+exec docker-entrypoint.sh postgres -c hot_standby=on -c hot_standby_feedback=on